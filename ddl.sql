@@ -192,7 +192,8 @@ CREATE TABLE store (
     INDEX idx_view_count (view_count),
     INDEX idx_store_type (store_type),
     INDEX idx_store_type_name (store_type, name(10)),
-    INDEX idx_registered_at (registered_at)
+    INDEX idx_registered_at (registered_at),
+    INDEX idx_store_updated_at (updated_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='음식을 판매하는 음식점(가게)의 정보를 관리하는 테이블';
 -- 가게와 카테고리의 N:N 관계를 나타내는 중간 테이블
 CREATE TABLE store_category (
@@ -358,10 +359,23 @@ CREATE TABLE expenditure (
                              INDEX idx_member_id (member_id),
                              INDEX idx_store_id (store_id),
                              INDEX idx_expended_date (expended_date),
-                             INDEX idx_expenditure_member_date (member_id, deleted, expended_date, expended_time, category_id),
+                             INDEX idx_expenditure_member_date (member_id, deleted, expended_date, expended_time, expenditure_id),
                              INDEX idx_category_id (category_id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='회원의 음식 관련 지출 내역을 기록하는 테이블';
 
+-- 회원별 일간 지출 집계 테이블
+CREATE TABLE expenditure_daily_rollup (
+                                          expenditure_daily_rollup_id BIGINT      NOT NULL AUTO_INCREMENT COMMENT '집계 셀의 고유 식별자',
+                                          member_id                   BIGINT      NOT NULL COMMENT '회원 식별자',
+                                          rollup_date                 DATE        NOT NULL COMMENT '지출 날짜',
+                                          category_id                 BIGINT      NOT NULL DEFAULT 0 COMMENT '카테고리 식별자 (0: 카테고리 없음)',
+                                          meal_type                   VARCHAR(20) NOT NULL DEFAULT 'NONE' COMMENT '식사 유형 (NONE: 식사 유형 없음)',
+                                          total_amount                BIGINT      NOT NULL DEFAULT 0 COMMENT '지출 금액 합계',
+                                          expenditure_count           BIGINT      NOT NULL DEFAULT 0 COMMENT '지출 건수',
+                                          PRIMARY KEY (expenditure_daily_rollup_id),
+                                          UNIQUE KEY uk_expenditure_daily_rollup_cell (member_id, rollup_date, category_id, meal_type)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='지출 등록/수정/삭제 시 갱신되는 회원별 일간 지출 집계';
+
 -- 지출 항목 테이블
 CREATE TABLE expenditure_item (
                                   expenditure_item_id BIGINT        NOT NULL AUTO_INCREMENT COMMENT '지출 항목의 고유 식별자',
@@ -413,6 +427,11 @@ CREATE TABLE monthly_budget (
                                 monthly_food_budget INT          NOT NULL COMMENT '회원이 설정한 한 달 식비 예산 금액',
                                 monthly_used_amount INT          NOT NULL DEFAULT 0 COMMENT '해당 월에 현재까지 사용한 금액',
                                 budget_month        VARCHAR(7)   NOT NULL COMMENT '예산이 적용되는 년월 (YYYY-MM)',
+                                default_daily_budget     INT     NULL     COMMENT '일일 예산 기본값 (일일 예산 행이 없는 날에 적용)',
+                                default_breakfast_budget INT     NULL     COMMENT '아침 예산 기본값 (NULL이면 아침 예산 없음)',
+                                default_lunch_budget     INT     NULL     COMMENT '점심 예산 기본값 (NULL이면 점심 예산 없음)',
+                                default_dinner_budget    INT     NULL     COMMENT '저녁 예산 기본값 (NULL이면 저녁 예산 없음)',
+                                default_other_budget     INT     NULL     COMMENT '기타 예산 기본값 (NULL이면 기타 예산 없음)',
                                 created_at          DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '감사 필드 (도메인에 노출 안 함)',
                                 updated_at          DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '감사 필드 (도메인에 노출 안 함)',
                                 PRIMARY KEY (monthly_budget_id),
@@ -421,6 +440,18 @@ CREATE TABLE monthly_budget (
                                 UNIQUE KEY uq_monthly_budget_member_month (member_id, budget_month)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='회원이 설정한 월별 식비 예산을 관리하는 테이블';
 
+-- 일일 예산 기본값 변경 이력 테이블
+CREATE TABLE daily_budget_default (
+                                      daily_budget_default_id BIGINT   NOT NULL AUTO_INCREMENT COMMENT '기본값 변경 이력의 고유 식별자',
+                                      member_id               BIGINT   NOT NULL COMMENT '예산을 설정한 회원의 식별자',
+                                      effective_date          DATE     NOT NULL COMMENT '적용 시작일 (그 달 말일 또는 다음 변경 전날까지 적용)',
+                                      daily_food_budget       INT      NOT NULL COMMENT '일일 예산 기본값',
+                                      created_at              DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '감사 필드 (도메인에 노출 안 함)',
+                                      updated_at              DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '감사 필드 (도메인에 노출 안 함)',
+                                      PRIMARY KEY (daily_budget_default_id),
+                                      UNIQUE KEY uq_daily_budget_default_member_date (member_id, effective_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='월 중간에 바뀐 일일 예산 기본값 (가상 일일 예산용, 그 달의 첫 기본값은 monthly_budget)';
+
 -- 일일 예산 테이블
 CREATE TABLE daily_budget (
                               budget_id         BIGINT   NOT NULL AUTO_INCREMENT COMMENT '일일 예산의 고유 식별자',
@@ -5,11 +5,14 @@ import com.stdev.smartmealtable.core.exception.BusinessException;
 import com.stdev.smartmealtable.domain.food.Food;
 import com.stdev.smartmealtable.domain.food.FoodPageResult;
 import com.stdev.smartmealtable.domain.food.FoodRepository;
+import com.stdev.smartmealtable.domain.store.StoreRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 import static com.stdev.smartmealtable.core.error.ErrorType.*;
 
 /**
@@ -24,6 +27,7 @@ import static com.stdev.smartmealtable.core.error.ErrorType.*;
 public class FoodApplicationService {
 
     private final FoodRepository foodRepository;
+    private final StoreRepository storeRepository;
 
     /**
      * 음식 목록 조회 (페이징)
@@ -82,6 +86,7 @@ public class FoodApplicationService {
         );
         
         Food savedFood = foodRepository.save(food);
+        markStoreUpdated(savedFood.getStoreId());
         
         log.info("[ADMIN] 음식 생성 완료 - foodId: {}, name: {}, isMain: {}, displayOrder: {}", 
                 savedFood.getFoodId(), savedFood.getFoodName(), savedFood.getIsMain(), savedFood.getDisplayOrder());
@@ -116,6 +121,7 @@ public class FoodApplicationService {
         );
         
         Food savedFood = foodRepository.save(updatedFood);
+        markStoreUpdated(savedFood.getStoreId());
         
         log.info("[ADMIN] 음식 수정 완료 - foodId: {}, name: {}, isMain: {}, displayOrder: {}", 
                 savedFood.getFoodId(), savedFood.getFoodName(), savedFood.getIsMain(), savedFood.getDisplayOrder());
@@ -137,8 +143,18 @@ public class FoodApplicationService {
         // 현재는 soft delete만 수행
         
         foodRepository.softDelete(foodId);
+        markStoreUpdated(food.getStoreId());
         
         log.info("[ADMIN] 음식 삭제 완료 - foodId: {}, name: {}", 
                 food.getFoodId(), food.getFoodName());
     }
+
+    /**
+     * 메뉴 변경을 store.updated_at으로 알림 (API 서버의 가게 상세 캐시 무효화용)
+     */
+    private void markStoreUpdated(Long storeId) {
+        if (storeId != null) {
+            storeRepository.touchUpdatedAt(List.of(storeId));
+        }
+    }
 }
@@ -199,6 +199,8 @@ public class StoreApplicationService {
                 .build();
         
         Store savedStore = storeRepository.save(updatedStore);
+        // 카테고리만 바뀐 경우에도 store.updated_at이 갱신되도록 함
+        markStoreUpdated(storeId);
         
         log.info("[ADMIN] 음식점 수정 완료 - storeId: {}", storeId);
         
@@ -268,6 +270,7 @@ public class StoreApplicationService {
         );
         
         StoreOpeningHour saved = storeRepository.saveOpeningHour(openingHour);
+        markStoreUpdated(storeId);
         
         log.info("[ADMIN] 영업시간 추가 완료 - openingHourId: {}", saved.storeOpeningHourId());
         
@@ -304,6 +307,7 @@ public class StoreApplicationService {
         );
         
         StoreOpeningHour saved = storeRepository.saveOpeningHour(updated);
+        markStoreUpdated(storeId);
         
         log.info("[ADMIN] 영업시간 수정 완료 - openingHourId: {}", openingHourId);
         
@@ -325,6 +329,7 @@ public class StoreApplicationService {
         }
         
         storeRepository.deleteOpeningHourById(openingHourId);
+        markStoreUpdated(storeId);
         
         log.info("[ADMIN] 영업시간 삭제 완료 - openingHourId: {}", openingHourId);
     }
@@ -374,6 +379,7 @@ public class StoreApplicationService {
         );
         
         StoreTemporaryClosure saved = storeRepository.saveTemporaryClosure(closure);
+        markStoreUpdated(storeId);
         
         log.info("[ADMIN] 임시 휴무 등록 완료 - closureId: {}", saved.storeTemporaryClosureId());
         
@@ -395,7 +401,16 @@ public class StoreApplicationService {
         }
         
         storeRepository.deleteTemporaryClosureById(closureId);
+        markStoreUpdated(storeId);
         
         log.info("[ADMIN] 임시 휴무 삭제 완료 - closureId: {}", closureId);
     }
+
+    /**
+     * 가게 상세 구성 요소(카테고리, 영업시간, 임시 휴무) 변경을 store.updated_at으로 알림
+     * API 서버의 가게 상세 캐시가 updated_at 기준으로 무효화합니다.
+     */
+    private void markStoreUpdated(Long storeId) {
+        storeRepository.touchUpdatedAt(List.of(storeId));
+    }
 }
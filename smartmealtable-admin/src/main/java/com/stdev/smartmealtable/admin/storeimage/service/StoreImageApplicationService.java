@@ -51,7 +51,10 @@ public class StoreImageApplicationService {
                 .displayOrder(displayOrder)
                 .build();
         
-        return storeImageService.createImage(storeImage);
+        StoreImage created = storeImageService.createImage(storeImage);
+        // API 서버의 가게 상세 캐시 무효화용
+        storeRepository.touchUpdatedAt(List.of(storeId));
+        return created;
     }
     
     /**
@@ -73,7 +76,9 @@ public class StoreImageApplicationService {
         storeRepository.findById(storeId)
                 .orElseThrow(() -> new BusinessException(STORE_NOT_FOUND));
         
-        return storeImageService.updateImage(storeImageId, storeId, imageUrl, isMain, displayOrder);
+        StoreImage updated = storeImageService.updateImage(storeImageId, storeId, imageUrl, isMain, displayOrder);
+        storeRepository.touchUpdatedAt(List.of(storeId));
+        return updated;
     }
     
     /**
@@ -86,6 +91,7 @@ public class StoreImageApplicationService {
         log.info("[ADMIN] 가게 이미지 삭제 요청 - storeId: {}, imageId: {}", storeId, storeImageId);
         
         storeImageService.deleteImage(storeImageId, storeId);
+        storeRepository.touchUpdatedAt(List.of(storeId));
     }
     
     /**
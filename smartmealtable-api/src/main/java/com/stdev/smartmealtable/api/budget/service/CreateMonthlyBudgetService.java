@@ -4,11 +4,14 @@ import com.stdev.smartmealtable.core.error.ErrorType;
 import com.stdev.smartmealtable.core.exception.BusinessException;
 import com.stdev.smartmealtable.domain.budget.MonthlyBudget;
 import com.stdev.smartmealtable.domain.budget.MonthlyBudgetRepository;
+import com.stdev.smartmealtable.domain.budget.service.VirtualDailyBudgetService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.YearMonth;
+
 /**
  * 월별 예산 등록 Application Service
  */
@@ -18,9 +21,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class CreateMonthlyBudgetService {
 
     private final MonthlyBudgetRepository monthlyBudgetRepository;
+    private final VirtualDailyBudgetService virtualDailyBudgetService;
 
     /**
      * 월별 예산 등록
+     * 직전 월별 예산의 일일/식사별 기본값을 이어받아 가상 일일 예산 모드에서 날짜별 행 없이 새 달 예산을 계산합니다.
+     * 일일 예산 기본값은 직전 월 말일에 적용되던 값(월 중간 변경 반영)을 이어받습니다.
      */
     public CreateMonthlyBudgetServiceResponse createMonthlyBudget(Long memberId, CreateMonthlyBudgetServiceRequest request) {
         monthlyBudgetRepository.findByMemberIdAndBudgetMonth(memberId, request.getBudgetMonth())
@@ -33,6 +39,13 @@ public class CreateMonthlyBudgetService {
                 request.getMonthlyFoodBudget(),
                 request.getBudgetMonth()
         );
+        monthlyBudgetRepository.findLatestByMemberId(memberId)
+                .filter(MonthlyBudget::hasDefaults)
+                .ifPresent(previous -> monthlyBudget.changeDefaults(
+                        virtualDailyBudgetService.defaultDailyBudget(memberId, previous,
+                                YearMonth.parse(previous.getBudgetMonth()).atEndOfMonth()),
+                        previous.getDefaultMealBudgets()
+                ));
 
         try {
             MonthlyBudget saved = monthlyBudgetRepository.save(monthlyBudget);
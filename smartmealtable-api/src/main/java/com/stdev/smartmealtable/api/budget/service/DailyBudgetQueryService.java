@@ -2,12 +2,15 @@ package com.stdev.smartmealtable.api.budget.service;
 
 import com.stdev.smartmealtable.api.budget.service.dto.DailyBudgetQueryServiceResponse;
 import com.stdev.smartmealtable.api.budget.service.dto.DailyBudgetQueryServiceResponse.MealBudgetInfo;
+import com.stdev.smartmealtable.api.expenditure.service.SpendingRollupService;
 import com.stdev.smartmealtable.core.error.ErrorType;
 import com.stdev.smartmealtable.core.exception.BusinessException;
 import com.stdev.smartmealtable.domain.budget.DailyBudget;
 import com.stdev.smartmealtable.domain.budget.DailyBudgetRepository;
 import com.stdev.smartmealtable.domain.budget.MealBudget;
 import com.stdev.smartmealtable.domain.budget.MealBudgetRepository;
+import com.stdev.smartmealtable.domain.budget.service.VirtualDailyBudgetService;
+import com.stdev.smartmealtable.domain.expenditure.SpendingSummary;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +28,8 @@ public class DailyBudgetQueryService {
 
     private final DailyBudgetRepository dailyBudgetRepository;
     private final MealBudgetRepository mealBudgetRepository;
+    private final VirtualDailyBudgetService virtualDailyBudgetService;
+    private final SpendingRollupService spendingRollupService;
 
     /**
      * 일별 예산 조회
@@ -34,6 +39,10 @@ public class DailyBudgetQueryService {
      * @return 일별 예산 정보 (끼니별 포함)
      */
     public DailyBudgetQueryServiceResponse getDailyBudget(Long memberId, LocalDate date) {
+        if (virtualDailyBudgetService.isEnabled()) {
+            return getVirtualDailyBudget(memberId, date, spendingRollupService.getSummary(memberId, date, date));
+        }
+
         // 일일 예산 조회
         DailyBudget dailyBudget = dailyBudgetRepository.findByMemberIdAndBudgetDate(memberId, date)
                 .orElseThrow(() -> new BusinessException(ErrorType.DAILY_BUDGET_NOT_FOUND));
@@ -62,4 +71,50 @@ public class DailyBudgetQueryService {
                 mealBudgetInfos
         );
     }
+
+    /**
+     * 일별 예산 조회 (그날의 지출 요약을 호출 측에서 전달)
+     * 기간 통계처럼 여러 날짜를 조회할 때 일간 집계를 기간 단위로 한 번만 읽기 위해 사용합니다.
+     * 가상 일일 예산 모드가 아니면 사용 금액을 예산 행에서 읽으므로 daySpending은 사용하지 않습니다.
+     *
+     * @param daySpending 해당 날짜의 지출 요약
+     */
+    public DailyBudgetQueryServiceResponse getDailyBudget(Long memberId, LocalDate date, SpendingSummary daySpending) {
+        if (virtualDailyBudgetService.isEnabled()) {
+            return getVirtualDailyBudget(memberId, date, daySpending);
+        }
+        return getDailyBudget(memberId, date);
+    }
+
+    /**
+     * 가상 일일 예산 조회
+     * 예산은 수정한 날짜의 행 또는 월별 예산 기본값, 사용 금액은 일간 지출 집계에서 계산합니다.
+     */
+    private DailyBudgetQueryServiceResponse getVirtualDailyBudget(Long memberId, LocalDate date, SpendingSummary summary) {
+        VirtualDailyBudgetService.ResolvedDailyBudget resolved = virtualDailyBudgetService.resolve(memberId, date)
+                .orElseThrow(() -> new BusinessException(ErrorType.DAILY_BUDGET_NOT_FOUND));
+
+        List<MealBudgetInfo> mealBudgetInfos = resolved.mealBudgets().stream()
+                .map(mb -> {
+                    int usedAmount = summary.amountByMealType().getOrDefault(mb.getMealType(), 0L).intValue();
+                    return new MealBudgetInfo(
+                            mb.getMealType(),
+                            mb.getMealBudget(),
+                            usedAmount,
+                            mb.getMealBudget() - usedAmount
+                    );
+                })
+                .toList();
+
+        Integer dailyFoodBudget = resolved.dailyBudget().getDailyFoodBudget();
+        int usedAmount = (int) summary.totalAmount();
+
+        return new DailyBudgetQueryServiceResponse(
+                date,
+                dailyFoodBudget,
+                usedAmount,
+                dailyFoodBudget - usedAmount,
+                mealBudgetInfos
+        );
+    }
 }
@@ -4,11 +4,14 @@ import com.stdev.smartmealtable.core.error.ErrorType;
 import com.stdev.smartmealtable.core.exception.BusinessException;
 import com.stdev.smartmealtable.domain.budget.DailyBudget;
 import com.stdev.smartmealtable.domain.budget.DailyBudgetRepository;
+import com.stdev.smartmealtable.domain.budget.service.VirtualDailyBudgetService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 /**
@@ -20,6 +23,7 @@ import java.util.List;
 public class UpdateDailyBudgetService {
 
     private final DailyBudgetRepository dailyBudgetRepository;
+    private final VirtualDailyBudgetService virtualDailyBudgetService;
 
     /**
      * 일별 예산 수정
@@ -35,6 +39,10 @@ public class UpdateDailyBudgetService {
     public UpdateDailyBudgetServiceResponse updateDailyBudget(
             Long memberId, LocalDate date, Integer newBudget, Boolean applyForward
     ) {
+        if (virtualDailyBudgetService.isEnabled()) {
+            return updateVirtualDailyBudget(memberId, date, newBudget, applyForward);
+        }
+
         // 해당 날짜의 예산 조회
         DailyBudget dailyBudget = dailyBudgetRepository.findByMemberIdAndBudgetDate(memberId, date)
                 .orElseThrow(() -> new BusinessException(ErrorType.DAILY_BUDGET_NOT_FOUND));
@@ -66,4 +74,33 @@ public class UpdateDailyBudgetService {
                 updatedCount
         );
     }
+
+    /**
+     * 가상 일일 예산 모드의 일별 예산 수정
+     * - 해당 날짜에 행이 없으면 월별 예산 기본값으로 행을 만든 뒤 수정 (수정한 날짜만 행으로 저장)
+     * - applyForward가 true이면 해당 날짜부터 적용되는 기본값을 저장 (이전 날짜는 행 없이 기존 기본값 유지)
+     *   적용 범위는 해당 날짜부터 그 달 말일까지 (다음 달 예산은 월별 예산 생성 시 정해짐)
+     */
+    private UpdateDailyBudgetServiceResponse updateVirtualDailyBudget(
+            Long memberId, LocalDate date, Integer newBudget, Boolean applyForward
+    ) {
+        DailyBudget dailyBudget = dailyBudgetRepository.findByMemberIdAndBudgetDate(memberId, date)
+                .or(() -> virtualDailyBudgetService.materialize(memberId, date, date).stream().findFirst())
+                .orElseThrow(() -> new BusinessException(ErrorType.DAILY_BUDGET_NOT_FOUND));
+
+        if (!applyForward) {
+            dailyBudget.changeDailyFoodBudget(newBudget);
+            dailyBudgetRepository.save(dailyBudget);
+            return new UpdateDailyBudgetServiceResponse(dailyBudget.getBudgetId(), newBudget, date, false, 1);
+        }
+
+        YearMonth month = YearMonth.from(date);
+        LocalDate endOfMonth = month.atEndOfMonth();
+
+        dailyBudgetRepository.updateDailyFoodBudgetInRange(memberId, date, endOfMonth, newBudget);
+        virtualDailyBudgetService.changeDefaultDailyBudget(memberId, date, newBudget);
+
+        int updatedCount = (int) ChronoUnit.DAYS.between(date, endOfMonth) + 1;
+        return new UpdateDailyBudgetServiceResponse(dailyBudget.getBudgetId(), newBudget, date, true, updatedCount);
+    }
 }
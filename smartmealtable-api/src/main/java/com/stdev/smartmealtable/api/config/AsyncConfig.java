@@ -3,9 +3,9 @@ package com.stdev.smartmealtable.api.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * 비동기 실행 환경 설정
@@ -14,15 +14,15 @@ import java.util.concurrent.Executor;
 @EnableAsync
 public class AsyncConfig {
 
-    @Bean(name = "searchKeywordEventExecutor")
-    public Executor searchKeywordEventExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(4);
-        executor.setQueueCapacity(1000);
-        executor.setThreadNamePrefix("search-event-");
-        executor.setAwaitTerminationSeconds(5);
-        executor.initialize();
-        return executor;
+    /**
+     * 통합 자동완성 하위 검색 병렬 실행용 (가상 스레드)
+     *
+     * 하위 검색은 대부분 DB/Redis 대기 시간이므로 요청마다 가상 스레드를 사용합니다.
+     * 실행기 자체는 개수 제한이 없으므로 동시 실행 수는 UnifiedAutocompleteService가
+     * search.autocomplete.unified.max-concurrent-stages로 커넥션 풀보다 작게 제한합니다.
+     */
+    @Bean(name = "autocompleteFanOutExecutor", destroyMethod = "shutdown")
+    public ExecutorService autocompleteFanOutExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("autocomplete-", 0).factory());
     }
 }
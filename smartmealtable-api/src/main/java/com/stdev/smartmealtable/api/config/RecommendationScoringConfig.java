@@ -0,0 +1,65 @@
+package com.stdev.smartmealtable.api.config;
+
+import com.stcom.smartmealtable.recommendation.domain.service.RecommendationScoringPool;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 추천 점수 병렬 계산 풀 설정
+ *
+ * <p>{@code recommendation.parallel-scoring.enabled=false}(기본값)이면 항상 순차 계산합니다.
+ * 반경 내 후보 가게는 최대 1000건(RecommendationDataRepositoryImpl)이므로 임계값은 그보다 작아야 병렬 경로가 실행됩니다.
+ * 활성화 시 전용 ForkJoinPool의 포화 지표(active/queued/steals)와 병렬 처리·포화 대체 횟수를 메트릭으로 노출합니다.</p>
+ */
+@Configuration
+public class RecommendationScoringConfig {
+
+    private static final String METRIC_NAME = "recommendation.scoring";
+
+    @Value("${recommendation.parallel-scoring.enabled:false}")
+    private boolean enabled;
+
+    @Value("${recommendation.parallel-scoring.parallelism:0}")
+    private int parallelism;
+
+    @Value("${recommendation.parallel-scoring.threshold:500}")
+    private int threshold;
+
+    @Value("${recommendation.parallel-scoring.chunk-size:250}")
+    private int chunkSize;
+
+    @Value("${recommendation.parallel-scoring.max-concurrent-requests:2}")
+    private int maxConcurrentRequests;
+
+    @Bean(destroyMethod = "shutdown")
+    public RecommendationScoringPool recommendationScoringPool(MeterRegistry meterRegistry) {
+        if (!enabled) {
+            return RecommendationScoringPool.sequential();
+        }
+
+        // 0 이하이면 코어의 절반만 사용하여 요청 처리 스레드의 CPU 몫을 남겨둠
+        int resolvedParallelism = parallelism > 0
+                ? parallelism
+                : Math.max(Runtime.getRuntime().availableProcessors() / 2, 1);
+        RecommendationScoringPool scoringPool =
+                new RecommendationScoringPool(resolvedParallelism, threshold, chunkSize, maxConcurrentRequests);
+
+        new ExecutorServiceMetrics(scoringPool.getPool(), METRIC_NAME, Tags.empty()).bindTo(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".permits.available", scoringPool, RecommendationScoringPool::getAvailablePermits)
+                .description("남은 병렬 계산 허가 수")
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_NAME + ".parallel", scoringPool, RecommendationScoringPool::getParallelExecutions)
+                .description("병렬 경로로 처리한 추천 요청 수")
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_NAME + ".saturated", scoringPool, RecommendationScoringPool::getSaturatedFallbacks)
+                .description("풀 포화로 순차 계산으로 대체한 추천 요청 수")
+                .register(meterRegistry);
+        return scoringPool;
+    }
+}
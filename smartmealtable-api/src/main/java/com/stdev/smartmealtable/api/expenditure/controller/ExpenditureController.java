@@ -158,6 +158,7 @@ public class ExpenditureController {
     /**
      * 지출 내역 목록 조회
      * GET /api/v1/expenditures?startDate=2025-10-01&endDate=2025-10-31&mealType=LUNCH&categoryId=5&page=0&size=20
+     * 무한 스크롤: 다음 페이지부터 이전 응답의 마지막 expenditureId를 lastId로 전달 (page 무시)
      */
     @GetMapping
     public ApiResponse<GetExpenditureListResponse> getExpenditureList(
@@ -166,6 +167,7 @@ public class ExpenditureController {
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @RequestParam(required = false) MealType mealType,
             @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long lastId,
             @PageableDefault(size = 20) Pageable pageable
     ) {
         // Service 호출
@@ -175,6 +177,7 @@ public class ExpenditureController {
                 endDate,
                 mealType,
                 categoryId,
+                lastId,
                 pageable
         );
         
@@ -2,18 +2,24 @@ package com.stdev.smartmealtable.api.expenditure.service;
 
 import com.stdev.smartmealtable.api.expenditure.service.dto.CreateExpenditureServiceRequest;
 import com.stdev.smartmealtable.api.expenditure.service.dto.CreateExpenditureServiceResponse;
+import com.stdev.smartmealtable.api.recommendation.service.UserProfileCacheService;
 import com.stdev.smartmealtable.core.error.ErrorType;
 import com.stdev.smartmealtable.core.exception.BusinessException;
-import com.stdev.smartmealtable.domain.budget.DailyBudget;
 import com.stdev.smartmealtable.domain.budget.DailyBudgetRepository;
-import com.stdev.smartmealtable.domain.budget.MealBudget;
 import com.stdev.smartmealtable.domain.budget.MealBudgetRepository;
-import com.stdev.smartmealtable.domain.budget.MonthlyBudget;
 import com.stdev.smartmealtable.domain.budget.MonthlyBudgetRepository;
+import com.stdev.smartmealtable.domain.budget.service.VirtualDailyBudgetService;
 import com.stdev.smartmealtable.domain.expenditure.service.ExpenditureDomainService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.YearMonth;
 import java.util.List;
@@ -23,6 +29,7 @@ import java.util.stream.Collectors;
  * 지출 내역 등록 Application Service
  * 유즈케이스 orchestration에 집중
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -32,13 +39,43 @@ public class CreateExpenditureService {
     private final DailyBudgetRepository dailyBudgetRepository;
     private final MealBudgetRepository mealBudgetRepository;
     private final MonthlyBudgetRepository monthlyBudgetRepository;
+    private final UserProfileCacheService userProfileCacheService;
+    private final SpendingRollupService spendingRollupService;
+    private final VirtualDailyBudgetService virtualDailyBudgetService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${expenditure.create.lock-retry-max-attempts:3}")
+    private int lockRetryMaxAttempts = 3;
     
     /**
      * 지출 내역 등록
      * Domain Service를 통한 비즈니스 로직 처리
+     *
+     * 같은 날짜의 집계 셀이 아직 없을 때 동시에 등록되면 INSERT ... ON DUPLICATE KEY UPDATE끼리
+     * 교착 상태가 날 수 있으므로, 직접 연 트랜잭션이면 교착/잠금 실패 시 트랜잭션 전체를 제한된 횟수만큼 다시 실행합니다.
+     * 호출 측 트랜잭션(장바구니 결제 등)에 참여한 경우에는 일부만 다시 실행할 수 없으므로 그대로 전파합니다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public CreateExpenditureServiceResponse createExpenditure(CreateExpenditureServiceRequest request) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return doCreateExpenditure(request);
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> doCreateExpenditure(request));
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= lockRetryMaxAttempts) {
+                    throw e;
+                }
+                log.warn("지출 등록 잠금 충돌로 재시도: memberId={}, attempt={}, cause={}",
+                        request.memberId(), attempt, e.getMessage());
+            }
+        }
+    }
+
+    private CreateExpenditureServiceResponse doCreateExpenditure(CreateExpenditureServiceRequest request) {
         // storeId 여부에 따라 다른 Domain Service 메서드 호출
         if (request.storeId() != null) {
             // 장바구니 시나리오: storeId + foodId 포함
@@ -68,7 +105,9 @@ public class CreateExpenditureService {
             );
 
             var response = CreateExpenditureServiceResponse.from(result.expenditure(), result.categoryName());
+            spendingRollupService.recordCreated(result.expenditure());
             updateBudgetUsedAmounts(request.memberId(), request.amount(), request.expendedDate(), request.mealType());
+            applyToUserProfileCache(request);
             return response;
         } else {
             // 수기 입력 시나리오: storeId 없음
@@ -96,41 +135,55 @@ public class CreateExpenditureService {
             );
 
             var response = CreateExpenditureServiceResponse.from(result.expenditure(), result.categoryName());
+            spendingRollupService.recordCreated(result.expenditure());
             updateBudgetUsedAmounts(request.memberId(), request.amount(), request.expendedDate(), request.mealType());
+            applyToUserProfileCache(request);
             return response;
         }
     }
 
+    /**
+     * 추천용 사용자 프로필 캐시에 신규 지출 반영
+     */
+    private void applyToUserProfileCache(CreateExpenditureServiceRequest request) {
+        userProfileCacheService.applyExpenditureCreated(
+                request.memberId(),
+                request.expendedDate(),
+                request.amount(),
+                request.categoryId()
+        );
+    }
+
     /**
      * 지출 생성 후 예산 사용액 업데이트
      * 일별, 월별, 식사별 예산의 사용액을 증가시킵니다
+     * 가상 일일 예산 모드에서는 일별/식사별 사용액을 일간 지출 집계에서 계산하므로 월별 예산만 증가시킵니다
+     *
+     * 예산 행을 읽어 수정한 뒤 저장하지 않고 UPDATE ... SET used = used + ? 로 증가분만 반영합니다.
+     * 같은 회원의 지출이 동시에 등록되어도 사용액이 누락되지 않습니다.
+     * 예산 행 잠금은 트랜잭션 마지막 단계에서 잡히므로 커밋까지 짧게 유지되고, 항상 일별 → 식사별 → 월별 순서로 잡습니다.
      */
     private void updateBudgetUsedAmounts(Long memberId, Integer amount, java.time.LocalDate expendedDate, com.stdev.smartmealtable.domain.expenditure.MealType mealType) {
         if (amount == null || amount <= 0) {
             return;
         }
 
-        // 일일 예산 업데이트
-        DailyBudget dailyBudget = dailyBudgetRepository.findByMemberIdAndBudgetDate(memberId, expendedDate)
-                .orElseThrow(() -> new BusinessException(ErrorType.DAILY_BUDGET_NOT_FOUND));
-        dailyBudget.addUsedAmount(amount);
-        dailyBudgetRepository.save(dailyBudget);
-
-        // 식사별 예산 업데이트 (mealType이 null이 아닐 경우만 처리)
-        if (mealType != null) {
-            MealBudget mealBudget = mealBudgetRepository.findByDailyBudgetIdAndMealType(dailyBudget.getBudgetId(), mealType);
-            if (mealBudget != null) {
-                mealBudget.addUsedAmount(amount);
-                mealBudgetRepository.save(mealBudget);
+        if (!virtualDailyBudgetService.isEnabled()) {
+            // 일일 예산 업데이트
+            if (dailyBudgetRepository.addUsedAmount(memberId, expendedDate, amount) == 0) {
+                throw new BusinessException(ErrorType.DAILY_BUDGET_NOT_FOUND);
+            }
+
+            // 식사별 예산 업데이트 (mealType이 null이 아닐 경우만 처리, 식사별 예산이 없으면 무시)
+            if (mealType != null) {
+                mealBudgetRepository.addUsedAmount(memberId, expendedDate, mealType, amount);
             }
         }
 
         // 월별 예산 업데이트
-        YearMonth expenditureMonth = YearMonth.from(expendedDate);
-        String budgetMonth = String.format("%04d-%02d", expenditureMonth.getYear(), expenditureMonth.getMonthValue());
-        MonthlyBudget monthlyBudget = monthlyBudgetRepository.findByMemberIdAndBudgetMonth(memberId, budgetMonth)
-                .orElseThrow(() -> new BusinessException(ErrorType.MONTHLY_BUDGET_NOT_FOUND));
-        monthlyBudget.addUsedAmount(amount);
-        monthlyBudgetRepository.save(monthlyBudget);
+        String budgetMonth = YearMonth.from(expendedDate).toString();
+        if (monthlyBudgetRepository.addUsedAmount(memberId, budgetMonth, amount) == 0) {
+            throw new BusinessException(ErrorType.MONTHLY_BUDGET_NOT_FOUND);
+        }
     }
 }
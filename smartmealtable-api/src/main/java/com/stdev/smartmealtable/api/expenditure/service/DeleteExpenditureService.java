@@ -1,5 +1,6 @@
 package com.stdev.smartmealtable.api.expenditure.service;
 
+import com.stdev.smartmealtable.api.recommendation.service.UserProfileCacheService;
 import com.stdev.smartmealtable.domain.expenditure.Expenditure;
 import com.stdev.smartmealtable.domain.expenditure.ExpenditureRepository;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteExpenditureService {
 
     private final ExpenditureRepository expenditureRepository;
+    private final UserProfileCacheService userProfileCacheService;
+    private final SpendingRollupService spendingRollupService;
 
     /**
      * 지출 내역 삭제 (소프트 삭제)
@@ -33,10 +36,16 @@ public class DeleteExpenditureService {
             throw new SecurityException("해당 지출 내역에 접근할 권한이 없습니다.");
         }
 
-        // 3. 도메인 로직으로 삭제 (소프트 삭제)
-        expenditure.delete();
+        // 3. 소프트 삭제 (삭제되지 않은 행만 변경하는 조건부 UPDATE)
+        // 같은 지출을 동시에 삭제하면 둘 다 조회에 성공하므로, 실제로 행을 바꾼 요청만 집계에서 뺌
+        if (expenditureRepository.softDelete(expenditureId) != 1) {
+            throw new IllegalArgumentException("지출 내역을 찾을 수 없습니다.");
+        }
+
+        // 4. 일간 지출 집계 반영
+        spendingRollupService.recordDeleted(expenditure);
 
-        // 4. 저장 (변경 감지를 통해 자동 저장)
-        expenditureRepository.save(expenditure);
+        // 5. 추천용 사용자 프로필 캐시 무효화
+        userProfileCacheService.evict(memberId);
     }
 }
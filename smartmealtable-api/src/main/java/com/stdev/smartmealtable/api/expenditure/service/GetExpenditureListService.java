@@ -2,8 +2,12 @@ package com.stdev.smartmealtable.api.expenditure.service;
 
 import com.stdev.smartmealtable.api.expenditure.service.dto.ExpenditureListServiceResponse;
 import com.stdev.smartmealtable.api.expenditure.service.dto.ExpenditureSummaryServiceResponse;
+import com.stdev.smartmealtable.core.error.ErrorType;
+import com.stdev.smartmealtable.core.exception.BusinessException;
 import com.stdev.smartmealtable.domain.expenditure.Expenditure;
 import com.stdev.smartmealtable.domain.expenditure.ExpenditureRepository;
+import com.stdev.smartmealtable.domain.expenditure.ExpenditureRepository.ExpenditureCursor;
+import com.stdev.smartmealtable.domain.expenditure.ExpenditureRepository.ExpenditureSummary;
 import com.stdev.smartmealtable.domain.expenditure.MealType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -19,6 +23,7 @@ import java.util.stream.Collectors;
 /**
  * 지출 내역 목록 조회 Application Service
  * - 유즈케이스: 사용자의 지출 내역을 필터링하여 페이징된 목록으로 조회
+ * - page/size(offset) 또는 lastId(키셋) 페이징 지원
  */
 @Service
 @RequiredArgsConstructor
@@ -29,12 +34,15 @@ public class GetExpenditureListService {
     
     /**
      * 지출 내역 목록 조회
+     * 필터/정렬/페이징과 요약 집계를 모두 DB에서 처리하므로 회원의 지출 이력 길이와 무관하게
+     * 페이지 크기만큼만 읽습니다.
      * 
      * @param memberId 회원 ID
      * @param startDate 조회 시작 날짜
      * @param endDate 조회 종료 날짜
      * @param mealType 식사 유형 필터 (optional)
      * @param categoryId 카테고리 ID 필터 (optional)
+     * @param lastId 커서 (이전 페이지 마지막 지출 ID, optional - 있으면 page 대신 키셋 페이징)
      * @param pageable 페이징 정보
      * @return 지출 내역 목록 및 요약 정보
      */
@@ -44,50 +52,49 @@ public class GetExpenditureListService {
             LocalDate endDate,
             MealType mealType,
             Long categoryId,
+            Long lastId,
             Pageable pageable
     ) {
-        // 1. Repository에서 지출 내역 조회 (삭제되지 않은 것만)
-        List<Expenditure> expenditures = expenditureRepository.findByMemberIdAndDateRange(
-                memberId,
-                startDate,
-                endDate
-        );
-        
-        // 2. 필터 적용 (식사 유형, 카테고리)
-        List<Expenditure> filteredExpenditures = expenditures.stream()
-                .filter(e -> !e.getDeleted())
-                .filter(e -> mealType == null || e.getMealType() == mealType)
-                .filter(e -> categoryId == null || e.getCategoryId().equals(categoryId))
-                .collect(Collectors.toList());
+        // 1. 요약 정보 (합계/건수 단일 집계 쿼리)
+        ExpenditureSummary summary = expenditureRepository.summarize(
+                memberId, startDate, endDate, mealType, categoryId);
         
-        // 3. 요약 정보 계산
-        ExpenditureSummaryServiceResponse summary = calculateSummary(filteredExpenditures);
+        // 2. 페이지 조회 (커서가 있으면 키셋, 없으면 offset)
+        List<Expenditure> pagedExpenditures = List.of();
+        if (summary.totalCount() > 0) {
+            ExpenditureCursor cursor = lastId != null ? resolveCursor(memberId, lastId) : null;
+            long offset = cursor != null ? 0 : pageable.getOffset();
+            pagedExpenditures = expenditureRepository.findPage(
+                    memberId, startDate, endDate, mealType, categoryId, cursor, offset, pageable.getPageSize());
+        }
         
-        // 4. 페이징 처리
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), filteredExpenditures.size());
-        List<Expenditure> pagedExpenditures = filteredExpenditures.subList(start, end);
-        
-        // 5. DTO 변환
+        // 3. DTO 변환
         List<ExpenditureListServiceResponse.ExpenditureInfo> expenditureInfos = pagedExpenditures.stream()
                 .map(this::toExpenditureInfo)
                 .collect(Collectors.toList());
         
         Page<ExpenditureListServiceResponse.ExpenditureInfo> expenditurePage = 
-                new PageImpl<>(expenditureInfos, pageable, filteredExpenditures.size());
+                new PageImpl<>(expenditureInfos, pageable, summary.totalCount());
         
-        return new ExpenditureListServiceResponse(summary, expenditurePage);
+        return new ExpenditureListServiceResponse(toSummaryResponse(summary), expenditurePage);
     }
     
     /**
-     * 요약 정보 계산
+     * 커서 지출의 정렬 위치 조회 (삭제된 지출도 위치로는 사용 가능)
      */
-    private ExpenditureSummaryServiceResponse calculateSummary(List<Expenditure> expenditures) {
-        int totalAmount = expenditures.stream()
-                .mapToInt(Expenditure::getAmount)
-                .sum();
-        
-        int totalCount = expenditures.size();
+    private ExpenditureCursor resolveCursor(Long memberId, Long lastId) {
+        return expenditureRepository.findById(lastId)
+                .filter(expenditure -> expenditure.getMemberId().equals(memberId))
+                .map(ExpenditureCursor::of)
+                .orElseThrow(() -> new BusinessException(ErrorType.EXPENDITURE_NOT_FOUND));
+    }
+    
+    /**
+     * 요약 정보 변환
+     */
+    private ExpenditureSummaryServiceResponse toSummaryResponse(ExpenditureSummary summary) {
+        int totalAmount = (int) summary.totalAmount();
+        int totalCount = (int) summary.totalCount();
         
         int averageAmount = totalCount > 0 ? totalAmount / totalCount : 0;
         
@@ -6,9 +6,12 @@ import com.stdev.smartmealtable.api.expenditure.service.dto.ExpenditureStatistic
 import com.stdev.smartmealtable.core.error.ErrorType;
 import com.stdev.smartmealtable.core.exception.BusinessException;
 import com.stdev.smartmealtable.domain.category.Category;
+import com.stdev.smartmealtable.domain.budget.service.VirtualDailyBudgetService;
 import com.stdev.smartmealtable.domain.category.CategoryRepository;
 import com.stdev.smartmealtable.domain.expenditure.ExpenditureRepository;
 import com.stdev.smartmealtable.domain.expenditure.MealType;
+import com.stdev.smartmealtable.domain.expenditure.SpendingRollupCell;
+import com.stdev.smartmealtable.domain.expenditure.SpendingSummary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -34,6 +37,8 @@ public class GetExpenditureStatisticsService {
     private final ExpenditureRepository expenditureRepository;
     private final CategoryRepository categoryRepository;
     private final DailyBudgetQueryService dailyBudgetQueryService;
+    private final SpendingRollupService spendingRollupService;
+    private final VirtualDailyBudgetService virtualDailyBudgetService;
 
     /**
      * 지출 통계 조회 (캘린더 뷰용)
@@ -46,28 +51,43 @@ public class GetExpenditureStatisticsService {
     ) {
         log.info("지출 통계 조회 - memberId: {}, startDate: {}, endDate: {}", memberId, startDate, endDate);
 
-        // 1. 총 지출 금액 조회
-        Long totalAmount = expenditureRepository.getTotalAmountByPeriod(memberId, startDate, endDate);
+        // 1. 기간 지출 집계 조회 (일간 집계 사용 시 한 번의 조회로 모두 계산)
+        // 가상 일일 예산 모드에서는 날짜별 사용 금액도 같은 집계 셀에서 계산
+        boolean virtualDailyBudget = virtualDailyBudgetService.isEnabled();
+        List<SpendingRollupCell> rollupCells = spendingRollupService.isReadEnabled() || virtualDailyBudget
+                ? spendingRollupService.getCells(memberId, startDate, endDate)
+                : List.of();
+
+        Long totalAmount;
+        Map<Long, Long> categoryAmounts;
+        Map<LocalDate, Long> dailyExpenditureAmounts;
+        Map<MealType, Long> mealTypeStatistics;
+        if (spendingRollupService.isReadEnabled()) {
+            SpendingSummary summary = SpendingSummary.from(rollupCells);
+            totalAmount = summary.totalAmount();
+            categoryAmounts = summary.amountByCategory();
+            dailyExpenditureAmounts = summary.dailyAmount();
+            mealTypeStatistics = summary.amountByMealType();
+        } else {
+            totalAmount = expenditureRepository.getTotalAmountByPeriod(memberId, startDate, endDate);
+            categoryAmounts = expenditureRepository.getAmountByCategoryForPeriod(memberId, startDate, endDate);
+            dailyExpenditureAmounts = expenditureRepository.getDailyAmountForPeriod(memberId, startDate, endDate);
+            mealTypeStatistics = expenditureRepository.getAmountByMealTypeForPeriod(memberId, startDate, endDate);
+        }
 
-        // 2. 카테고리별 지출 금액 집계 조회
-        Map<Long, Long> categoryAmounts = expenditureRepository.getAmountByCategoryForPeriod(memberId, startDate, endDate);
+        // 2. 카테고리별 통계 (카테고리 이름 포함)
         Map<Long, ExpenditureStatisticsServiceResponse.CategoryStatistics> categoryStatistics =
                 buildCategoryStatistics(categoryAmounts);
 
-        // 3. 일별 지출 금액 집계 조회
-        Map<LocalDate, Long> dailyExpenditureAmounts = expenditureRepository.getDailyAmountForPeriod(memberId, startDate, endDate);
-
-        // 4. 일별 예산 정보를 조회하여 balance 계산
+        // 3. 일별 예산 정보를 조회하여 balance 계산
         List<ExpenditureStatisticsServiceResponse.DailyStatistics> dailyStatistics = buildDailyStatistics(
                 memberId,
                 startDate,
                 endDate,
-                dailyExpenditureAmounts
+                dailyExpenditureAmounts,
+                virtualDailyBudget ? SpendingSummary.byDate(rollupCells) : null
         );
 
-        // 5. 식사 유형별 지출 금액 집계 조회
-        Map<MealType, Long> mealTypeStatistics = expenditureRepository.getAmountByMealTypeForPeriod(memberId, startDate, endDate);
-
         return new ExpenditureStatisticsServiceResponse(
                 totalAmount,
                 categoryStatistics,
@@ -79,12 +99,15 @@ public class GetExpenditureStatisticsService {
     /**
      * 일별 통계 구축 (예산 정보 포함)
      * 각 날짜에 대해 예산과 지출액을 비교하여 balance와 overBudget을 계산합니다.
+     *
+     * @param dailySpending 날짜별 지출 요약 (가상 일일 예산 모드에서만 전달, 아니면 null)
      */
     private List<ExpenditureStatisticsServiceResponse.DailyStatistics> buildDailyStatistics(
             Long memberId,
             LocalDate startDate,
             LocalDate endDate,
-            Map<LocalDate, Long> dailyExpenditureAmounts
+            Map<LocalDate, Long> dailyExpenditureAmounts,
+            Map<LocalDate, SpendingSummary> dailySpending
     ) {
         List<ExpenditureStatisticsServiceResponse.DailyStatistics> result = new ArrayList<>();
 
@@ -99,7 +122,10 @@ public class GetExpenditureStatisticsService {
 
             try {
                 // 해당 날짜의 일일 예산 조회
-                DailyBudgetQueryServiceResponse budgetInfo = dailyBudgetQueryService.getDailyBudget(memberId, currentDate);
+                DailyBudgetQueryServiceResponse budgetInfo = dailySpending != null
+                        ? dailyBudgetQueryService.getDailyBudget(memberId, currentDate,
+                                dailySpending.getOrDefault(currentDate, SpendingSummary.empty()))
+                        : dailyBudgetQueryService.getDailyBudget(memberId, currentDate);
                 long resolvedBudget = budgetInfo.totalBudget() != null ? budgetInfo.totalBudget().longValue() : 0L;
                 budget = resolvedBudget;
                 balance = resolvedBudget - spentAmount;
@@ -0,0 +1,112 @@
+package com.stdev.smartmealtable.api.expenditure.service;
+
+import com.stdev.smartmealtable.domain.expenditure.Expenditure;
+import com.stdev.smartmealtable.domain.expenditure.MealType;
+import com.stdev.smartmealtable.domain.expenditure.SpendingRollupCell;
+import com.stdev.smartmealtable.domain.expenditure.SpendingRollupRepository;
+import com.stdev.smartmealtable.domain.expenditure.SpendingSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 회원별 일간 지출 집계 서비스
+ *
+ * 쓰기: 지출 등록/수정/삭제 서비스가 같은 트랜잭션 안에서 호출하여 집계 셀에 증감분을 반영합니다.
+ * 플래그와 무관하게 항상 반영하므로, 읽기를 켜기 전에도 집계가 원본과 어긋나지 않습니다.
+ *
+ * 읽기: expenditure.rollup.read-enabled=true이면 통계/홈 대시보드가 기간의 집계 셀만 읽습니다.
+ * 기존 데이터는 scheduler의 SpendingRollupRebuildJob으로 채운 뒤 읽기를 켭니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SpendingRollupService {
+
+    private final SpendingRollupRepository spendingRollupRepository;
+
+    @Value("${expenditure.rollup.read-enabled:false}")
+    private boolean readEnabled;
+
+    public boolean isReadEnabled() {
+        return readEnabled;
+    }
+
+    /**
+     * 기간 지출 요약 (집계 셀 기준)
+     */
+    public SpendingSummary getSummary(Long memberId, LocalDate startDate, LocalDate endDate) {
+        return SpendingSummary.from(getCells(memberId, startDate, endDate));
+    }
+
+    /**
+     * 기간 집계 셀 조회 (같은 셀로 기간 요약과 날짜별 요약을 함께 만들 때 사용)
+     */
+    public List<SpendingRollupCell> getCells(Long memberId, LocalDate startDate, LocalDate endDate) {
+        return spendingRollupRepository.findCells(memberId, startDate, endDate);
+    }
+
+    /**
+     * 지출 등록 반영
+     */
+    public void recordCreated(Expenditure expenditure) {
+        apply(RollupKey.of(expenditure), 1);
+    }
+
+    /**
+     * 지출 수정 반영
+     *
+     * @param before 수정 전 지출의 집계 키 ({@link RollupKey#of}로 수정 전에 만들어 둠)
+     * @param after 수정된 지출
+     */
+    public void recordUpdated(RollupKey before, Expenditure after) {
+        RollupKey updated = RollupKey.of(after);
+        if (before.sameCell(updated)) {
+            long amountDelta = updated.amount() - before.amount();
+            if (amountDelta != 0) {
+                spendingRollupRepository.apply(updated.memberId(), updated.date(), updated.categoryId(),
+                        updated.mealType(), amountDelta, 0);
+            }
+            return;
+        }
+        apply(before, -1);
+        apply(updated, 1);
+    }
+
+    /**
+     * 지출 삭제 반영
+     */
+    public void recordDeleted(Expenditure expenditure) {
+        apply(RollupKey.of(expenditure), -1);
+    }
+
+    private void apply(RollupKey key, int sign) {
+        spendingRollupRepository.apply(key.memberId(), key.date(), key.categoryId(), key.mealType(),
+                sign * key.amount(), sign);
+    }
+
+    /**
+     * 지출이 속한 집계 셀과 금액
+     */
+    public record RollupKey(Long memberId, LocalDate date, Long categoryId, MealType mealType, long amount) {
+
+        public static RollupKey of(Expenditure expenditure) {
+            return new RollupKey(
+                    expenditure.getMemberId(),
+                    expenditure.getExpendedDate(),
+                    expenditure.getCategoryId(),
+                    expenditure.getMealType(),
+                    expenditure.getAmount() != null ? expenditure.getAmount() : 0L
+            );
+        }
+
+        boolean sameCell(RollupKey other) {
+            return date.equals(other.date)
+                    && Objects.equals(categoryId, other.categoryId)
+                    && mealType == other.mealType;
+        }
+    }
+}
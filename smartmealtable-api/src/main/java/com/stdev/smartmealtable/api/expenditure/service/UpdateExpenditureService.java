@@ -1,6 +1,7 @@
 package com.stdev.smartmealtable.api.expenditure.service;
 
 import com.stdev.smartmealtable.api.expenditure.service.dto.UpdateExpenditureServiceRequest;
+import com.stdev.smartmealtable.api.recommendation.service.UserProfileCacheService;
 import com.stdev.smartmealtable.domain.expenditure.Expenditure;
 import com.stdev.smartmealtable.domain.expenditure.ExpenditureItem;
 import com.stdev.smartmealtable.domain.expenditure.ExpenditureRepository;
@@ -20,6 +21,8 @@ import java.util.stream.Collectors;
 public class UpdateExpenditureService {
 
     private final ExpenditureRepository expenditureRepository;
+    private final UserProfileCacheService userProfileCacheService;
+    private final SpendingRollupService spendingRollupService;
 
     /**
      * 지출 내역 수정
@@ -55,6 +58,7 @@ public class UpdateExpenditureService {
                 : List.of();
 
         // 4. 도메인 로직으로 수정 (검증 포함)
+        SpendingRollupService.RollupKey before = SpendingRollupService.RollupKey.of(expenditure);
         expenditure.update(
                 request.storeName(),
                 request.amount(),
@@ -69,5 +73,11 @@ public class UpdateExpenditureService {
 
         // 5. 저장 (변경 감지를 통해 자동 저장)
         expenditureRepository.save(expenditure);
+
+        // 6. 일간 지출 집계 반영
+        spendingRollupService.recordUpdated(before, expenditure);
+
+        // 7. 추천용 사용자 프로필 캐시 무효화
+        userProfileCacheService.evict(memberId);
     }
 }
@@ -4,12 +4,12 @@ import com.stdev.smartmealtable.api.food.service.dto.FoodAutocompleteResponse;
 import com.stdev.smartmealtable.api.food.service.dto.FoodAutocompleteResponse.FoodSuggestion;
 import com.stdev.smartmealtable.api.food.service.dto.FoodTrendingKeywordsResponse;
 import com.stdev.smartmealtable.api.food.service.dto.FoodTrendingKeywordsResponse.TrendingKeyword;
-import com.stdev.smartmealtable.domain.category.Category;
-import com.stdev.smartmealtable.domain.category.CategoryRepository;
+import com.stdev.smartmealtable.api.search.service.AutocompleteSuggestionHydrator;
+import com.stdev.smartmealtable.api.search.service.AutocompleteTrieIndex;
+import com.stdev.smartmealtable.api.search.service.TrendingKeywordService;
 import com.stdev.smartmealtable.domain.food.Food;
 import com.stdev.smartmealtable.domain.food.FoodRepository;
 import com.stdev.smartmealtable.domain.store.Store;
-import com.stdev.smartmealtable.domain.store.StoreRepository;
 import com.stdev.smartmealtable.storage.cache.ChosungIndexBuilder;
 import com.stdev.smartmealtable.storage.cache.KeywordRankingCacheService;
 import com.stdev.smartmealtable.storage.cache.SearchCacheService;
@@ -48,11 +48,12 @@ import java.util.stream.Collectors;
 public class FoodAutocompleteService {
     
     private final FoodRepository foodRepository;
-    private final StoreRepository storeRepository;
-    private final CategoryRepository categoryRepository;
     private final SearchCacheService searchCacheService;
     private final ChosungIndexBuilder chosungIndexBuilder;
     private final KeywordRankingCacheService keywordRankingCacheService;
+    private final AutocompleteTrieIndex autocompleteTrieIndex;
+    private final AutocompleteSuggestionHydrator suggestionHydrator;
+    private final TrendingKeywordService trendingKeywordService;
     
     private static final String DOMAIN = "food";
     private static final int MAX_TYPO_DISTANCE = 2;
@@ -87,7 +88,7 @@ public class FoodAutocompleteService {
             String normalizedKeyword = keyword.trim();
             
             // 2. 검색 횟수 증가 (인기 검색어 집계)
-            searchCacheService.incrementSearchCount(DOMAIN, normalizedKeyword);
+            trendingKeywordService.record(DOMAIN, normalizedKeyword);
             
             // 3. 다단계 검색 전략 실행
             List<Food> results = performMultiStageSearch(normalizedKeyword, limit * 2); // 더 많이 조회 후 정렬
@@ -95,11 +96,8 @@ public class FoodAutocompleteService {
             // 4. 관련성 기준으로 재정렬
             List<Food> sortedResults = sortByRelevance(normalizedKeyword, results, limit);
 
-            // 5. DTO 변환 (Store 정보 포함)
-            List<FoodSuggestion> suggestions = sortedResults.stream()
-                .map(this::toSuggestion)
-                .filter(Objects::nonNull) // Store 조회 실패한 경우 제외
-                .collect(Collectors.toList());
+            // 5. DTO 변환 (Store/Category 정보는 응답 단위로 일괄 조회)
+            List<FoodSuggestion> suggestions = toSuggestions(sortedResults);
 
             RankingResult rankingResult = applyKeywordRanking(normalizedKeyword, suggestions);
             List<FoodSuggestion> orderedSuggestions = rankingResult.suggestions();
@@ -132,9 +130,11 @@ public class FoodAutocompleteService {
     private List<Food> performMultiStageSearch(String keyword, int limit) {
         Set<Long> foodIds = new LinkedHashSet<>();
         
-        // Stage 1: Prefix 검색 (Redis Sorted Set)
+        // Stage 1: Prefix 검색 (인메모리 트라이, 없으면 Redis Sorted Set)
+        Optional<List<Long>> inMemoryResults = autocompleteTrieIndex.search(DOMAIN, keyword, limit);
         try {
-            List<Long> prefixResults = searchCacheService.getAutocompleteResults(DOMAIN, keyword, limit);
+            List<Long> prefixResults = inMemoryResults
+                .orElseGet(() -> searchCacheService.getAutocompleteResults(DOMAIN, keyword, limit));
             foodIds.addAll(prefixResults);
             
             if (foodIds.size() >= limit) {
@@ -145,8 +145,8 @@ public class FoodAutocompleteService {
             log.warn("Stage 1 (Prefix) 검색 실패, Stage 2로 진행", e);
         }
         
-        // Stage 2: 초성 검색 (초성 인덱스)
-        if (KoreanSearchUtil.isChosung(keyword)) {
+        // Stage 2: 초성 검색 (초성 인덱스, 트라이는 초성 prefix까지 이미 조회함)
+        if (inMemoryResults.isEmpty() && KoreanSearchUtil.isChosung(keyword)) {
             try {
                 Set<String> chosungResults = chosungIndexBuilder.findIdsByChosung(DOMAIN, keyword);
                 chosungResults.stream()
@@ -187,7 +187,7 @@ public class FoodAutocompleteService {
      *
      * 검색 전략:
      * 1. 키워드를 포함하는 음식명 substring 검색
-     * 2. 편집 거리 기반 검색 (첫 2글자 prefix)
+     * 2. 편집 거리 기반 검색 (자모 단위, 오타 허용 인덱스 우선)
      * 3. 결과를 관련성으로 정렬
      *
      * @param keyword 검색 키워드
@@ -211,21 +211,16 @@ public class FoodAutocompleteService {
             log.warn("Substring 검색 실패: keyword={}", keyword, e);
         }
 
-        // Stage 2: 편집 거리 기반 검색 (첫 2글자)
-        // 예: "고추장" 입력 시 "고추"로 시작하는 음식들 중 거리 2 이내
+        // Stage 2: 편집 거리 기반 검색 (자모 단위, 오타 허용 인덱스 또는 첫 2글자 prefix 후보)
+        // 예: "김치찌게" 입력 시 "김치찌개" 매칭 (모음 하나 오타 = 거리 1)
         if (resultIds.size() < limit && keyword.length() >= 2) {
             try {
-                String prefix = keyword.substring(0, Math.min(2, keyword.length()));
-                List<Food> typoCandidates = foodRepository.findByNameStartsWith(prefix, limit * 3);
-
-                typoCandidates.stream()
-                    .filter(food -> {
-                        int distance = KoreanSearchUtil.calculateEditDistance(keyword, food.getFoodName());
-                        return distance <= MAX_TYPO_DISTANCE && !resultIds.contains(food.getFoodId());
-                    })
-                    .forEach(food -> resultIds.add(food.getFoodId()));
+                List<Long> typoIds = autocompleteTrieIndex
+                    .searchWithinDistance(DOMAIN, keyword, MAX_TYPO_DISTANCE, limit * 3)
+                    .orElseGet(() -> findTypoCandidateIds(keyword, limit * 3));
+                resultIds.addAll(typoIds);
 
-                log.debug("편집 거리 검색 추가 결과: {}", typoCandidates.size());
+                log.debug("편집 거리 검색 추가 결과: {}", typoIds.size());
             } catch (Exception e) {
                 log.warn("편집 거리 검색 실패: keyword={}", keyword, e);
             }
@@ -235,6 +230,28 @@ public class FoodAutocompleteService {
         return fetchFoods(new ArrayList<>(resultIds));
     }
     
+    /**
+     * 오타 허용 인덱스가 없을 때: 첫 2글자 prefix 후보를 자모 편집 거리로 필터링
+     *
+     * 후보마다 거리를 한 번만 계산하며, 허용 거리를 넘으면 계산을 조기 종료합니다.
+     *
+     * @param keyword 검색 키워드
+     * @param candidateLimit 조회할 후보 수
+     * @return 허용 거리 이내 Food ID 목록 (거리 가까운 순)
+     */
+    private List<Long> findTypoCandidateIds(String keyword, int candidateLimit) {
+        String prefix = keyword.substring(0, Math.min(2, keyword.length()));
+        List<Food> candidates = foodRepository.findByNameStartsWith(prefix, candidateLimit);
+
+        return candidates.stream()
+            .map(food -> Map.entry(food.getFoodId(),
+                KoreanSearchUtil.calculateJamoEditDistance(keyword, food.getFoodName(), MAX_TYPO_DISTANCE)))
+            .filter(entry -> entry.getValue() <= MAX_TYPO_DISTANCE)
+            .sorted(Map.Entry.comparingByValue())
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toList());
+    }
+
     /**
      * Food ID 목록으로 Food 엔티티 조회
      *
@@ -362,11 +379,9 @@ public class FoodAutocompleteService {
                 foods = foodRepository.findByNameStartsWith(keyword, limit);
             }
             
-            List<FoodSuggestion> suggestions = foods.stream()
+            List<FoodSuggestion> suggestions = toSuggestions(foods.stream()
                 .limit(limit)
-                .map(this::toSuggestion)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
 
             RankingResult rankingResult = applyKeywordRanking(keyword != null ? keyword.trim() : "", suggestions);
             return new FoodAutocompleteResponse(rankingResult.suggestions(), rankingResult.keywordRecommendations());
@@ -388,7 +403,7 @@ public class FoodAutocompleteService {
         
         try {
             List<SearchCacheService.TrendingKeyword> trending = 
-                searchCacheService.getTrendingKeywords(DOMAIN, limit);
+                trendingKeywordService.getTrendingKeywords(DOMAIN, limit);
             
             List<TrendingKeyword> keywords = new ArrayList<>();
             for (int i = 0; i < trending.size(); i++) {
@@ -448,52 +463,59 @@ public class FoodAutocompleteService {
         return ordered;
     }
 
+    /**
+     * Food 목록 → FoodSuggestion 목록 변환
+     *
+     * 응답에 필요한 Store/Category를 모아 종류별로 한 번씩만 조회한 뒤 맵에서 조립합니다.
+     *
+     * @param foods Food 엔티티 목록 (순서 유지)
+     * @return FoodSuggestion DTO 목록 (Store 조회 실패한 Food는 제외)
+     */
+    private List<FoodSuggestion> toSuggestions(List<Food> foods) {
+        if (foods.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Store> stores = suggestionHydrator.loadStores(
+            foods.stream().map(Food::getStoreId).collect(Collectors.toList()));
+        Map<Long, String> categoryNames = suggestionHydrator.loadCategoryNames(
+            foods.stream().map(Food::getCategoryId).collect(Collectors.toList()));
+
+        return foods.stream()
+            .map(food -> toSuggestion(food, stores, categoryNames))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
     /**
      * Food → FoodSuggestion 변환
      * 
      * @param food Food 엔티티
+     * @param stores 미리 조회한 Store 맵
+     * @param categoryNames 미리 조회한 카테고리 이름 맵
      * @return FoodSuggestion DTO (Store 조회 실패 시 null)
      */
-    private FoodSuggestion toSuggestion(Food food) {
-        try {
-            // Store 정보 조회 (필수)
-            Store store = storeRepository.findById(food.getStoreId())
-                .orElse(null);
-            
-            if (store == null) {
-                log.warn("Store 조회 실패, Food 제외: foodId={}, storeId={}", 
-                    food.getFoodId(), food.getStoreId());
-                return null;
-            }
-            
-            // Category 이름 조회 (선택)
-            String categoryName = null;
-            if (food.getCategoryId() != null) {
-                try {
-                    Category category = categoryRepository.findById(food.getCategoryId())
-                        .orElse(null);
-                    if (category != null) {
-                        categoryName = category.getName();
-                    }
-                } catch (Exception e) {
-                    log.warn("카테고리 조회 실패: categoryId={}", food.getCategoryId(), e);
-                }
-            }
-            
-            return new FoodSuggestion(
-                food.getFoodId(),
-                food.getFoodName(),
-                store.getStoreId(),
-                store.getName(),
-                categoryName,
-                food.getAveragePrice(),
-                food.getIsMain()
-            );
-            
-        } catch (Exception e) {
-            log.error("FoodSuggestion 변환 실패: foodId={}", food.getFoodId(), e);
+    private FoodSuggestion toSuggestion(Food food, Map<Long, Store> stores, Map<Long, String> categoryNames) {
+        // Store 정보 (필수)
+        Store store = stores.get(food.getStoreId());
+        if (store == null) {
+            log.warn("Store 조회 실패, Food 제외: foodId={}, storeId={}", 
+                food.getFoodId(), food.getStoreId());
             return null;
         }
+
+        // Category 이름 (선택)
+        String categoryName = food.getCategoryId() != null ? categoryNames.get(food.getCategoryId()) : null;
+
+        return new FoodSuggestion(
+            food.getFoodId(),
+            food.getFoodName(),
+            store.getStoreId(),
+            store.getName(),
+            categoryName,
+            food.getAveragePrice(),
+            food.getIsMain()
+        );
     }
 
     private RankingResult applyKeywordRanking(String keyword, List<FoodSuggestion> suggestions) {
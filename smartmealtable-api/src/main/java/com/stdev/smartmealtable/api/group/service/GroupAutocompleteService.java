@@ -4,11 +4,14 @@ import com.stdev.smartmealtable.api.group.service.dto.GroupAutocompleteResponse;
 import com.stdev.smartmealtable.api.group.service.dto.GroupAutocompleteResponse.GroupSuggestion;
 import com.stdev.smartmealtable.api.group.service.dto.TrendingKeywordsResponse;
 import com.stdev.smartmealtable.api.group.service.dto.TrendingKeywordsResponse.TrendingKeyword;
+import com.stdev.smartmealtable.api.search.service.AutocompleteTrieIndex;
+import com.stdev.smartmealtable.api.search.service.TrendingKeywordService;
 import com.stdev.smartmealtable.domain.member.entity.Group;
 import com.stdev.smartmealtable.domain.member.repository.GroupRepository;
 import com.stdev.smartmealtable.storage.cache.ChosungIndexBuilder;
 import com.stdev.smartmealtable.storage.cache.SearchCacheService;
 import com.stdev.smartmealtable.support.search.korean.KoreanSearchUtil;
+import com.stdev.smartmealtable.support.search.korean.SearchableName;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -42,6 +45,8 @@ public class GroupAutocompleteService {
     private final GroupRepository groupRepository;
     private final SearchCacheService searchCacheService;
     private final ChosungIndexBuilder chosungIndexBuilder;
+    private final AutocompleteTrieIndex autocompleteTrieIndex;
+    private final TrendingKeywordService trendingKeywordService;
     
     private static final String DOMAIN = "group";
     private static final int MAX_TYPO_DISTANCE = 2;
@@ -74,7 +79,7 @@ public class GroupAutocompleteService {
             String normalizedKeyword = keyword.trim();
             
             // 2. 검색 횟수 증가 (인기 검색어 집계)
-            searchCacheService.incrementSearchCount(DOMAIN, normalizedKeyword);
+            trendingKeywordService.record(DOMAIN, normalizedKeyword);
             
             // 3. 다단계 검색 전략 실행
             List<Group> results = performMultiStageSearch(normalizedKeyword, limit);
@@ -111,9 +116,11 @@ public class GroupAutocompleteService {
      * @return 검색 결과 (limit만큼 제한됨)
      */
     private List<Group> performMultiStageSearch(String keyword, int limit) {
-        // Stage 1: Redis 캐시에서 Prefix 검색 (popularity 순으로 이미 정렬됨) - 최고 우선순위
+        // Stage 1: 인메모리 트라이(없으면 Redis 캐시)에서 Prefix 검색 (popularity 순으로 이미 정렬됨) - 최고 우선순위
+        Optional<List<Long>> inMemoryResults = autocompleteTrieIndex.search(DOMAIN, keyword, limit);
         try {
-            List<Long> cachedIds = searchCacheService.getAutocompleteResults(DOMAIN, keyword, limit);
+            List<Long> cachedIds = inMemoryResults
+                .orElseGet(() -> searchCacheService.getAutocompleteResults(DOMAIN, keyword, limit));
 
             if (!cachedIds.isEmpty()) {
                 log.debug("캐시에서 결과 조회: keyword={}, results={}", keyword, cachedIds.size());
@@ -137,8 +144,8 @@ public class GroupAutocompleteService {
             log.warn("캐시 검색 실패", e);
         }
 
-        // Stage 2: 초성 검색 시도
-        if (KoreanSearchUtil.isChosung(keyword)) {
+        // Stage 2: 초성 검색 시도 (트라이는 초성 prefix까지 이미 조회함)
+        if (inMemoryResults.isEmpty() && KoreanSearchUtil.isChosung(keyword)) {
             try {
                 Set<String> chosungResults = chosungIndexBuilder.findIdsByChosung(DOMAIN, keyword);
                 if (!chosungResults.isEmpty()) {
@@ -168,15 +175,8 @@ public class GroupAutocompleteService {
             log.warn("DB 기반 검색 실패", e);
         }
 
-        // 최후의 fallback: fallbackSearch
-        return fallbackSearch(keyword, limit).suggestions().stream()
-            .map(suggestion -> {
-                // TODO: GroupSuggestion → Group 변환 로직 개선 필요
-                List<Group> groups = groupRepository.findAllByIdIn(List.of(suggestion.groupId()));
-                return groups.isEmpty() ? null : groups.get(0);
-            })
-            .filter(Objects::nonNull)
-            .collect(Collectors.toList());
+        // 최후의 fallback: fallbackSearch와 같은 검색 (이미 조회한 Group을 그대로 사용)
+        return searchFallbackGroups(keyword, limit);
     }
     
     /**
@@ -235,20 +235,16 @@ public class GroupAutocompleteService {
             }
         }
 
-        // Stage 3: Edit Distance 기반 검색 (오타 허용)
+        // Stage 3: Edit Distance 기반 검색 (오타 허용, 자모 단위)
         if (results.size() < limit && keyword.length() >= 2) {
             try {
-                String prefix = keyword.substring(0, Math.min(2, keyword.length()));
-                List<Group> candidates = groupRepository.findByNameStartsWith(prefix);
-
-                candidates.stream()
-                    .filter(group -> {
-                        int distance = KoreanSearchUtil.calculateEditDistance(keyword, group.getName());
-                        return distance <= MAX_TYPO_DISTANCE && !resultIds.contains(group.getGroupId());
-                    })
-                    .sorted(Comparator.comparingInt(group ->
-                        KoreanSearchUtil.calculateEditDistance(keyword, group.getName())
-                    ))
+                List<Group> typoResults = autocompleteTrieIndex
+                    .searchWithinDistance(DOMAIN, keyword, MAX_TYPO_DISTANCE, limit * 2)
+                    .map(this::fetchGroups)
+                    .orElseGet(() -> findTypoCandidates(keyword));
+
+                typoResults.stream()
+                    .filter(group -> !resultIds.contains(group.getGroupId()))
                     .limit(limit - results.size())
                     .forEach(group -> {
                         if (resultIds.add(group.getGroupId())) {
@@ -256,7 +252,7 @@ public class GroupAutocompleteService {
                         }
                     });
 
-                log.debug("Edit Distance 검색 추가 결과: {}", candidates.size());
+                log.debug("Edit Distance 검색 추가 결과: {}", typoResults.size());
             } catch (Exception e) {
                 log.warn("Edit Distance 검색 실패", e);
             }
@@ -265,6 +261,27 @@ public class GroupAutocompleteService {
         return results;
     }
 
+    /**
+     * 오타 허용 인덱스가 없을 때: 첫 2글자 prefix 후보를 자모 편집 거리로 필터링
+     *
+     * 후보마다 거리를 한 번만 계산하며, 허용 거리를 넘으면 계산을 조기 종료합니다.
+     *
+     * @param keyword 검색 키워드
+     * @return 허용 거리 이내 그룹 목록 (거리 가까운 순)
+     */
+    private List<Group> findTypoCandidates(String keyword) {
+        String prefix = keyword.substring(0, Math.min(2, keyword.length()));
+        List<Group> candidates = groupRepository.findByNameStartsWith(prefix);
+
+        return candidates.stream()
+            .map(group -> Map.entry(group,
+                KoreanSearchUtil.calculateJamoEditDistance(keyword, group.getName(), MAX_TYPO_DISTANCE)))
+            .filter(entry -> entry.getValue() <= MAX_TYPO_DISTANCE)
+            .sorted(Map.Entry.comparingByValue())
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toList());
+    }
+
     private boolean shouldSortByKeywordRelevance(String keyword) {
         String normalizedKeyword = normalizeForComparison(keyword);
         // Prefix 캐시 키 길이(최대 2글자)를 초과하는 입력에 대해서만 재정렬
@@ -286,28 +303,38 @@ public class GroupAutocompleteService {
 
         String normalizedKeyword = normalizeForComparison(keyword);
 
-        Comparator<Group> comparator = Comparator
-            .comparingDouble((Group group) -> calculateKeywordInclusionRatio(group.getName(), normalizedKeyword))
+        // 비교마다 정규화/편집 거리를 다시 계산하지 않도록 그룹마다 정렬 키를 한 번만 계산
+        Comparator<RelevanceKey> comparator = Comparator
+            .comparingDouble(RelevanceKey::inclusionRatio)
             .reversed()
-            .thenComparingInt(group -> calculateKeywordPositionScore(group.getName(), keyword))
-            .thenComparingInt(group -> KoreanSearchUtil.calculateEditDistance(keyword, group.getName()))
-            .thenComparingInt(group -> group.getName().length());
-
-        if (originalOrder != null && !originalOrder.isEmpty()) {
-            comparator = comparator.thenComparingInt(group -> originalOrder.getOrDefault(group.getGroupId(), Integer.MAX_VALUE));
-        }
+            .thenComparingInt(RelevanceKey::position)
+            .thenComparingInt(RelevanceKey::editDistance)
+            .thenComparingInt(RelevanceKey::nameLength)
+            .thenComparingInt(RelevanceKey::originalOrder);
 
         return groups.stream()
+            .map(group -> {
+                SearchableName name = SearchableName.of(group.getName());
+                return new RelevanceKey(
+                    group,
+                    calculateKeywordInclusionRatio(name, normalizedKeyword),
+                    calculateKeywordPositionScore(name, keyword, normalizedKeyword),
+                    KoreanSearchUtil.calculateEditDistance(keyword, name.original()),
+                    name.original().length(),
+                    originalOrder == null ? Integer.MAX_VALUE : originalOrder.getOrDefault(group.getGroupId(), Integer.MAX_VALUE)
+                );
+            })
             .sorted(comparator)
+            .map(RelevanceKey::group)
             .collect(Collectors.toList());
     }
 
-    private double calculateKeywordInclusionRatio(String name, String normalizedKeyword) {
-        if (name == null || normalizedKeyword.isEmpty()) {
+    private double calculateKeywordInclusionRatio(SearchableName name, String normalizedKeyword) {
+        if (normalizedKeyword.isEmpty()) {
             return 0.0;
         }
 
-        String normalizedName = normalizeForComparison(name);
+        String normalizedName = name.normalized();
         if (normalizedName.isEmpty()) {
             return 0.0;
         }
@@ -324,27 +351,22 @@ public class GroupAutocompleteService {
         return (double) longestMatch / normalizedKeyword.length();
     }
 
-    private int calculateKeywordPositionScore(String name, String keyword) {
-        if (name == null || keyword == null || keyword.isEmpty()) {
+    private int calculateKeywordPositionScore(SearchableName name, String keyword, String normalizedKeyword) {
+        if (keyword == null || keyword.isEmpty()) {
             return Integer.MAX_VALUE;
         }
 
-        int originalIndex = name.indexOf(keyword);
+        int originalIndex = name.original().indexOf(keyword);
         if (originalIndex >= 0) {
             return originalIndex;
         }
 
-        String normalizedName = normalizeForComparison(name);
-        String normalizedKeyword = normalizeForComparison(keyword);
-        int normalizedIndex = normalizedName.indexOf(normalizedKeyword);
+        int normalizedIndex = name.normalized().indexOf(normalizedKeyword);
         return normalizedIndex >= 0 ? normalizedIndex + 1000 : Integer.MAX_VALUE;
     }
 
     private String normalizeForComparison(String text) {
-        if (text == null) {
-            return "";
-        }
-        return text.replaceAll("\\s+", "").toLowerCase();
+        return KoreanSearchUtil.normalize(text);
     }
 
     private int longestCommonSubstringLength(String text, String other) {
@@ -352,16 +374,19 @@ public class GroupAutocompleteService {
             return 0;
         }
 
+        // 직전 행만 필요하므로 1차원 배열을 뒤에서부터 갱신
         int maxLength = 0;
-        int[][] dp = new int[text.length() + 1][other.length() + 1];
+        int[] lengths = new int[other.length() + 1];
 
         for (int i = 1; i <= text.length(); i++) {
-            for (int j = 1; j <= other.length(); j++) {
+            for (int j = other.length(); j >= 1; j--) {
                 if (text.charAt(i - 1) == other.charAt(j - 1)) {
-                    dp[i][j] = dp[i - 1][j - 1] + 1;
-                    if (dp[i][j] > maxLength) {
-                        maxLength = dp[i][j];
+                    lengths[j] = lengths[j - 1] + 1;
+                    if (lengths[j] > maxLength) {
+                        maxLength = lengths[j];
                     }
+                } else {
+                    lengths[j] = 0;
                 }
             }
         }
@@ -369,6 +394,18 @@ public class GroupAutocompleteService {
         return maxLength;
     }
 
+    /**
+     * 키워드 관련도 정렬 키 (그룹마다 한 번만 계산)
+     */
+    private record RelevanceKey(
+        Group group,
+        double inclusionRatio,
+        int position,
+        int editDistance,
+        int nameLength,
+        int originalOrder
+    ) {}
+
     /**
      * Contains 검색 결과를 정확도순으로 정렬
      *
@@ -479,14 +516,18 @@ public class GroupAutocompleteService {
      * @param groups Group 목록
      */
     private void cacheGroups(List<Group> groups) {
+        Map<Long, Map<String, String>> attributesById = new HashMap<>();
         for (Group group : groups) {
             Map<String, String> attributes = new HashMap<>();
             attributes.put("name", group.getName());
             attributes.put("type", group.getType().name());
             attributes.put("address", group.getAddress() != null ? group.getAddress().getFullAddress() : "");
 
-            searchCacheService.cacheDetailData(DOMAIN, group.getGroupId(), attributes);
+            attributesById.put(group.getGroupId(), attributes);
         }
+
+        // 그룹 수와 무관하게 파이프라인 한 번으로 저장
+        searchCacheService.cacheDetailDataBatch(DOMAIN, attributesById);
     }
     
     /**
@@ -504,45 +545,7 @@ public class GroupAutocompleteService {
         log.warn("Fallback 검색 실행: keyword={}", keyword);
 
         try {
-            List<Group> groups;
-
-            // 초성 검색 여부 확인
-            if (KoreanSearchUtil.isChosung(keyword)) {
-                // 초성 검색: DB에서 모든 그룹 조회 후 필터링
-                groups = groupRepository.findByNameStartsWith(keyword.substring(0, 1));
-                groups = groups.stream()
-                    .filter(group -> KoreanSearchUtil.matchesChosung(keyword, group.getName()))
-                    .sorted(Comparator.comparingInt(group -> group.getName().length())) // 이름 길이순 정렬
-                    .limit(limit)
-                    .collect(Collectors.toList());
-            } else {
-                // 일반 검색: 정확한 매칭 → 부분 매칭 순서
-                groups = new ArrayList<>();
-
-                // Stage 1: Prefix 검색 (정확한 매칭 우선)
-                List<Group> prefixResults = groupRepository.findByNameStartsWith(keyword);
-                groups.addAll(prefixResults);
-
-                if (groups.size() < limit) {
-                    // Stage 2: Contains 검색 (정확도 기반 정렬)
-                    List<Group> containsResults = groupRepository.findByNameContainsOrderByLength(keyword);
-
-                    // 결과를 정확도순으로 다시 정렬: 위치 → 포함도 → 길이
-                    List<Group> sortedContainsResults = sortByMatchPrecision(containsResults, keyword);
-
-                    // 중복 제거 후 추가
-                    Set<Long> existingIds = groups.stream()
-                        .map(Group::getGroupId)
-                        .collect(Collectors.toSet());
-
-                    sortedContainsResults.stream()
-                        .filter(group -> !existingIds.contains(group.getGroupId()))
-                        .forEach(groups::add);
-                }
-            }
-
-            List<GroupSuggestion> suggestions = groups.stream()
-                .limit(limit)
+            List<GroupSuggestion> suggestions = searchFallbackGroups(keyword, limit).stream()
                 .map(this::toSuggestion)
                 .collect(Collectors.toList());
 
@@ -554,6 +557,56 @@ public class GroupAutocompleteService {
             return new GroupAutocompleteResponse(Collections.emptyList());
         }
     }
+
+    /**
+     * Fallback 검색 대상 그룹 조회 (DB 직접 검색)
+     *
+     * @param keyword 검색 키워드
+     * @param limit 결과 개수
+     * @return 그룹 목록 (최대 limit개)
+     */
+    private List<Group> searchFallbackGroups(String keyword, int limit) {
+        List<Group> groups;
+
+        // 초성 검색 여부 확인
+        if (KoreanSearchUtil.isChosung(keyword)) {
+            // 초성 검색: DB에서 모든 그룹 조회 후 필터링
+            groups = groupRepository.findByNameStartsWith(keyword.substring(0, 1));
+            groups = groups.stream()
+                .filter(group -> KoreanSearchUtil.matchesChosung(keyword, group.getName()))
+                .sorted(Comparator.comparingInt(group -> group.getName().length())) // 이름 길이순 정렬
+                .limit(limit)
+                .collect(Collectors.toList());
+        } else {
+            // 일반 검색: 정확한 매칭 → 부분 매칭 순서
+            groups = new ArrayList<>();
+
+            // Stage 1: Prefix 검색 (정확한 매칭 우선)
+            List<Group> prefixResults = groupRepository.findByNameStartsWith(keyword);
+            groups.addAll(prefixResults);
+
+            if (groups.size() < limit) {
+                // Stage 2: Contains 검색 (정확도 기반 정렬)
+                List<Group> containsResults = groupRepository.findByNameContainsOrderByLength(keyword);
+
+                // 결과를 정확도순으로 다시 정렬: 위치 → 포함도 → 길이
+                List<Group> sortedContainsResults = sortByMatchPrecision(containsResults, keyword);
+
+                // 중복 제거 후 추가
+                Set<Long> existingIds = groups.stream()
+                    .map(Group::getGroupId)
+                    .collect(Collectors.toSet());
+
+                sortedContainsResults.stream()
+                    .filter(group -> !existingIds.contains(group.getGroupId()))
+                    .forEach(groups::add);
+            }
+        }
+
+        return groups.stream()
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
     
     /**
      * 두 결과 목록을 병합 (중복 제거)
@@ -596,7 +649,7 @@ public class GroupAutocompleteService {
         
         try {
             List<SearchCacheService.TrendingKeyword> trending = 
-                searchCacheService.getTrendingKeywords(DOMAIN, limit);
+                trendingKeywordService.getTrendingKeywords(DOMAIN, limit);
             
             List<TrendingKeyword> keywords = new ArrayList<>();
             for (int i = 0; i < trending.size(); i++) {
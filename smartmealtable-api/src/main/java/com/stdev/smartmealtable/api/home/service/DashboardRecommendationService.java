@@ -5,6 +5,7 @@ import com.stdev.smartmealtable.domain.category.Category;
 import com.stdev.smartmealtable.domain.category.CategoryRepository;
 import com.stdev.smartmealtable.domain.food.Food;
 import com.stdev.smartmealtable.domain.food.FoodRepository;
+import com.stdev.smartmealtable.domain.home.DashboardRecommendationSnapshot;
 import com.stdev.smartmealtable.domain.store.Store;
 import com.stdev.smartmealtable.domain.store.StoreRepository;
 import com.stdev.smartmealtable.domain.store.StoreWithDistance;
@@ -16,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -139,6 +141,116 @@ public class DashboardRecommendationService {
         }
     }
 
+    /**
+     * 스냅샷 기반 추천 메뉴 생성
+     *
+     * 순위는 미리 계산한 스냅샷을 따르고, 태그와 가게 정보는 조회 시점 기준으로 구성합니다.
+     * 스냅샷 생성 이후 삭제된 메뉴는 제외합니다.
+     *
+     * @param memberId 사용자 ID
+     * @param dailyBudget 일일 예산
+     * @param snapshot 추천 스냅샷
+     * @param referenceLatitude 기준 위도
+     * @param referenceLongitude 기준 경도
+     * @param limit 추천 개수 제한
+     * @return 추천 메뉴 목록
+     */
+    public List<HomeDashboardServiceResponse.RecommendedMenuInfo> getRecommendedMenusFromSnapshot(
+            Long memberId,
+            BigDecimal dailyBudget,
+            DashboardRecommendationSnapshot snapshot,
+            Double referenceLatitude,
+            Double referenceLongitude,
+            int limit
+    ) {
+        try {
+            List<Long> foodIds = snapshot.menus().stream()
+                    .map(DashboardRecommendationSnapshot.RankedMenu::foodId)
+                    .toList();
+            Map<Long, Food> foodsById = foodIds.isEmpty()
+                    ? Map.of()
+                    : foodRepository.findByIdIn(foodIds).stream()
+                            .filter(food -> !food.isDeleted())
+                            .collect(Collectors.toMap(Food::getFoodId, Function.identity(), (first, second) -> first));
+
+            List<HomeDashboardServiceResponse.RecommendedMenuInfo> recommendations = foodIds.stream()
+                    .map(foodsById::get)
+                    .filter(Objects::nonNull)
+                    .limit(limit)
+                    .map(food -> buildRecommendedMenuInfo(
+                            food,
+                            memberId,
+                            dailyBudget,
+                            referenceLatitude,
+                            referenceLongitude
+                    ))
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+
+            log.debug("Built {} recommended menus from snapshot for member {}", recommendations.size(), memberId);
+            return recommendations;
+
+        } catch (Exception e) {
+            log.error("Error building recommended menus from snapshot", e);
+            return List.of();
+        }
+    }
+
+    /**
+     * 스냅샷 기반 추천 가게 생성
+     *
+     * 기준 좌표가 스냅샷 좌표와 같으면 저장된 거리를 그대로 사용하고,
+     * 다르면 기준 좌표로 거리를 다시 계산합니다. 스냅샷 생성 이후 삭제된 가게는 제외합니다.
+     *
+     * @param memberId 사용자 ID
+     * @param snapshot 추천 스냅샷
+     * @param referenceLatitude 기준 위도
+     * @param referenceLongitude 기준 경도
+     * @param limit 추천 개수 제한
+     * @return 추천 가게 목록
+     */
+    public List<HomeDashboardServiceResponse.RecommendedStoreInfo> getRecommendedStoresFromSnapshot(
+            Long memberId,
+            DashboardRecommendationSnapshot snapshot,
+            Double referenceLatitude,
+            Double referenceLongitude,
+            int limit
+    ) {
+        try {
+            List<Long> storeIds = snapshot.stores().stream()
+                    .map(DashboardRecommendationSnapshot.RankedStore::storeId)
+                    .toList();
+            Map<Long, Store> storesById = storeIds.isEmpty()
+                    ? Map.of()
+                    : storeRepository.findByIdIn(storeIds).stream()
+                            .collect(Collectors.toMap(Store::getStoreId, Function.identity(), (first, second) -> first));
+            boolean atSnapshotLocation = referenceLatitude != null && referenceLongitude != null
+                    && referenceLatitude == snapshot.latitude()
+                    && referenceLongitude == snapshot.longitude();
+
+            List<HomeDashboardServiceResponse.RecommendedStoreInfo> recommendations = snapshot.stores().stream()
+                    .filter(ranked -> storesById.containsKey(ranked.storeId()))
+                    .limit(limit)
+                    .map(ranked -> buildRecommendedStoreInfo(
+                            StoreWithDistance.of(
+                                    storesById.get(ranked.storeId()),
+                                    atSnapshotLocation ? ranked.distance() : null
+                            ),
+                            referenceLatitude,
+                            referenceLongitude
+                    ))
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+
+            log.debug("Built {} recommended stores from snapshot for member {}", recommendations.size(), memberId);
+            return recommendations;
+
+        } catch (Exception e) {
+            log.error("Error building recommended stores from snapshot", e);
+            return List.of();
+        }
+    }
+
     /**
      * 추천 메뉴 정보 구성
      */
@@ -0,0 +1,102 @@
+package com.stdev.smartmealtable.api.home.service;
+
+import com.stdev.smartmealtable.domain.home.DashboardRecommendationRanker;
+import com.stdev.smartmealtable.domain.home.DashboardRecommendationSnapshot;
+import com.stdev.smartmealtable.storage.cache.DashboardSnapshotCacheService;
+import com.stdev.smartmealtable.support.location.DistanceCalculator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 홈 대시보드 추천 스냅샷 조회 서비스
+ *
+ * <p>scheduler 모듈이 기본 주소 기준으로 미리 계산해 둔 추천 순위를 찾아 반환합니다.
+ * 스냅샷이 없는 콜드 회원은 이 자리에서 순위를 계산해 저장하므로 다음 조회부터 바로 사용됩니다.</p>
+ *
+ * <p>다음 경우에는 스냅샷을 사용하지 않으며(empty), 호출자는 실시간 추천으로 처리합니다.</p>
+ * <ul>
+ *   <li>기능이 비활성화된 경우 ({@code dashboard.snapshot.enabled=false}, 기본값)</li>
+ *   <li>기본 주소에 좌표가 없는 경우</li>
+ *   <li>요청 좌표가 기본 주소에서 허용 거리 이상 떨어진 경우</li>
+ * </ul>
+ * <p>기본 주소가 바뀌어 스냅샷 기준 좌표와 달라진 경우에는 새로 계산합니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardRecommendationSnapshotService {
+
+    private final DashboardSnapshotCacheService dashboardSnapshotCacheService;
+    private final DashboardRecommendationRanker dashboardRecommendationRanker;
+    private final DistanceCalculator distanceCalculator;
+
+    @Value("${dashboard.snapshot.enabled:false}")
+    private boolean enabled;
+
+    @Value("${dashboard.snapshot.max-location-drift-meters:300}")
+    private int maxLocationDriftMeters;
+
+    @Value("${dashboard.snapshot.candidate-limit:10}")
+    private int candidateLimit;
+
+    @Value("${dashboard.snapshot.ttl-hours:26}")
+    private long ttlHours;
+
+    /**
+     * 사용할 수 있는 추천 스냅샷 조회
+     *
+     * @param memberId 회원 ID
+     * @param primaryLatitude 기본 주소 위도
+     * @param primaryLongitude 기본 주소 경도
+     * @param requestLatitude 요청 위도 (nullable)
+     * @param requestLongitude 요청 경도 (nullable)
+     * @return 스냅샷 (실시간 추천이 필요하면 empty)
+     */
+    public Optional<DashboardRecommendationSnapshot> findServableSnapshot(
+            Long memberId,
+            Double primaryLatitude,
+            Double primaryLongitude,
+            Double requestLatitude,
+            Double requestLongitude
+    ) {
+        if (!enabled || primaryLatitude == null || primaryLongitude == null) {
+            return Optional.empty();
+        }
+
+        try {
+            boolean hasRequestLocation = requestLatitude != null && requestLongitude != null;
+            if (hasRequestLocation
+                    && !isNear(primaryLatitude, primaryLongitude, requestLatitude, requestLongitude)) {
+                return Optional.empty();
+            }
+
+            Optional<DashboardRecommendationSnapshot> cached = dashboardSnapshotCacheService.find(memberId)
+                    .filter(snapshot -> isNear(primaryLatitude, primaryLongitude, snapshot.latitude(), snapshot.longitude()));
+            if (cached.isPresent()) {
+                return cached;
+            }
+
+            // 콜드 회원 또는 기본 주소 변경: 기본 주소 기준으로 계산 후 저장
+            DashboardRecommendationSnapshot snapshot = dashboardRecommendationRanker.rank(
+                    memberId, primaryLatitude, primaryLongitude, candidateLimit);
+            dashboardSnapshotCacheService.save(snapshot, Duration.ofHours(ttlHours));
+            return Optional.of(snapshot);
+
+        } catch (Exception e) {
+            log.warn("대시보드 추천 스냅샷 조회 실패 - 실시간 추천으로 대체합니다. memberId: {}, reason: {}",
+                    memberId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private boolean isNear(double latitude1, double longitude1, double latitude2, double longitude2) {
+        BigDecimal distanceKm = distanceCalculator.calculateDistanceKm(latitude1, longitude1, latitude2, longitude2);
+        return distanceKm.multiply(BigDecimal.valueOf(1000)).compareTo(BigDecimal.valueOf(maxLocationDriftMeters)) <= 0;
+    }
+}
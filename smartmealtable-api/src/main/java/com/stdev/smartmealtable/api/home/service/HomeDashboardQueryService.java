@@ -1,5 +1,6 @@
 package com.stdev.smartmealtable.api.home.service;
 
+import com.stdev.smartmealtable.api.expenditure.service.SpendingRollupService;
 import com.stdev.smartmealtable.api.home.service.dto.HomeDashboardServiceResponse;
 import com.stdev.smartmealtable.core.error.ErrorType;
 import com.stdev.smartmealtable.core.exception.ResourceNotFoundException;
@@ -7,8 +8,11 @@ import com.stdev.smartmealtable.domain.budget.DailyBudget;
 import com.stdev.smartmealtable.domain.budget.DailyBudgetRepository;
 import com.stdev.smartmealtable.domain.budget.MealBudget;
 import com.stdev.smartmealtable.domain.budget.MealBudgetRepository;
+import com.stdev.smartmealtable.domain.budget.service.VirtualDailyBudgetService;
 import com.stdev.smartmealtable.domain.expenditure.ExpenditureRepository;
 import com.stdev.smartmealtable.domain.expenditure.MealType;
+import com.stdev.smartmealtable.domain.expenditure.SpendingSummary;
+import com.stdev.smartmealtable.domain.home.DashboardRecommendationSnapshot;
 import com.stdev.smartmealtable.domain.member.entity.AddressHistory;
 import com.stdev.smartmealtable.domain.member.repository.AddressHistoryRepository;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +25,7 @@ import java.time.Clock;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * 홈 대시보드 조회 서비스
@@ -43,8 +48,11 @@ public class HomeDashboardQueryService {
     private final AddressHistoryRepository addressHistoryRepository;
     private final DailyBudgetRepository dailyBudgetRepository;
     private final MealBudgetRepository mealBudgetRepository;
+    private final VirtualDailyBudgetService virtualDailyBudgetService;
     private final ExpenditureRepository expenditureRepository;
+    private final SpendingRollupService spendingRollupService;
     private final DashboardRecommendationService dashboardRecommendationService;
+    private final DashboardRecommendationSnapshotService dashboardRecommendationSnapshotService;
     private final Clock clock;
 
     private static final int DEFAULT_RECOMMENDATION_LIMIT = 5;
@@ -86,17 +94,34 @@ public class HomeDashboardQueryService {
 
         LocalDate today = LocalDate.now(clock);
 
-        DailyBudget dailyBudget = dailyBudgetRepository.findByMemberIdAndBudgetDate(memberId, today)
-                .orElse(null);
-
-        List<MealBudget> mealBudgets = mealBudgetRepository.findByMemberIdAndBudgetDate(memberId, today);
+        DailyBudget dailyBudget;
+        List<MealBudget> mealBudgets;
+        if (virtualDailyBudgetService.isEnabled()) {
+            // 수정한 날짜의 행이 있으면 그 행, 없으면 월별 예산 기본값으로 계산
+            VirtualDailyBudgetService.ResolvedDailyBudget resolved = virtualDailyBudgetService
+                    .resolve(memberId, today)
+                    .orElse(null);
+            dailyBudget = resolved != null ? resolved.dailyBudget() : null;
+            mealBudgets = resolved != null ? resolved.mealBudgets() : List.of();
+        } else {
+            dailyBudget = dailyBudgetRepository.findByMemberIdAndBudgetDate(memberId, today)
+                    .orElse(null);
+            mealBudgets = mealBudgetRepository.findByMemberIdAndBudgetDate(memberId, today);
+        }
 
-        Long todaySpentLong = expenditureRepository.getTotalAmountByPeriod(memberId, today, today);
+        // 오늘 지출 합계와 식사 유형별 지출 조회
+        Long todaySpentLong;
+        Map<MealType, Long> mealTypeSpent;
+        if (spendingRollupService.isReadEnabled()) {
+            SpendingSummary todaySummary = spendingRollupService.getSummary(memberId, today, today);
+            todaySpentLong = todaySummary.totalAmount();
+            mealTypeSpent = todaySummary.amountByMealType();
+        } else {
+            todaySpentLong = expenditureRepository.getTotalAmountByPeriod(memberId, today, today);
+            mealTypeSpent = expenditureRepository.getAmountByMealTypeForPeriod(memberId, today, today);
+        }
         BigDecimal todaySpent = todaySpentLong != null ? BigDecimal.valueOf(todaySpentLong) : BigDecimal.ZERO;
 
-        // 식사 유형별 지출 조회
-        Map<MealType, Long> mealTypeSpent = expenditureRepository.getAmountByMealTypeForPeriod(memberId, today, today);
-
         BigDecimal breakfastSpent = mealTypeSpent.containsKey(MealType.BREAKFAST)
                 ? BigDecimal.valueOf(mealTypeSpent.get(MealType.BREAKFAST))
                 : BigDecimal.ZERO;
@@ -112,23 +137,46 @@ public class HomeDashboardQueryService {
 
         BigDecimal todayBudget = dailyBudget != null ? BigDecimal.valueOf(dailyBudget.getDailyFoodBudget()) : BigDecimal.ZERO;
 
-        // 추천 메뉴와 가게 조회
-        List<HomeDashboardServiceResponse.RecommendedMenuInfo> recommendedMenus =
-                dashboardRecommendationService.getRecommendedMenus(
+        // 추천 메뉴와 가게 조회 (기본 주소 기준 스냅샷 우선, 먼 위치 요청은 실시간 계산)
+        Optional<DashboardRecommendationSnapshot> snapshot = dashboardRecommendationSnapshotService.findServableSnapshot(
+                memberId,
+                primaryLatitude,
+                primaryLongitude,
+                userLatitude,
+                userLongitude
+        );
+
+        List<HomeDashboardServiceResponse.RecommendedMenuInfo> recommendedMenus = snapshot
+                .map(s -> dashboardRecommendationService.getRecommendedMenusFromSnapshot(
                         memberId,
                         todayBudget,
+                        s,
                         recommendationLatitude,
                         recommendationLongitude,
                         DEFAULT_RECOMMENDATION_LIMIT
-                );
+                ))
+                .orElseGet(() -> dashboardRecommendationService.getRecommendedMenus(
+                        memberId,
+                        todayBudget,
+                        recommendationLatitude,
+                        recommendationLongitude,
+                        DEFAULT_RECOMMENDATION_LIMIT
+                ));
 
-        List<HomeDashboardServiceResponse.RecommendedStoreInfo> recommendedStores =
-                dashboardRecommendationService.getRecommendedStores(
+        List<HomeDashboardServiceResponse.RecommendedStoreInfo> recommendedStores = snapshot
+                .map(s -> dashboardRecommendationService.getRecommendedStoresFromSnapshot(
+                        memberId,
+                        s,
+                        recommendationLatitude,
+                        recommendationLongitude,
+                        DEFAULT_RECOMMENDATION_LIMIT
+                ))
+                .orElseGet(() -> dashboardRecommendationService.getRecommendedStores(
                         memberId,
                         recommendationLatitude,
                         recommendationLongitude,
                         DEFAULT_RECOMMENDATION_LIMIT
-                );
+                ));
 
         return HomeDashboardServiceResponse.builder()
                 .location(new HomeDashboardServiceResponse.LocationInfo(
@@ -2,6 +2,7 @@ package com.stdev.smartmealtable.api.member.service;
 
 import com.stdev.smartmealtable.api.member.dto.AddressServiceRequest;
 import com.stdev.smartmealtable.api.member.dto.AddressServiceResponse;
+import com.stdev.smartmealtable.api.recommendation.service.UserProfileCacheService;
 import com.stdev.smartmealtable.domain.member.entity.AddressHistory;
 import com.stdev.smartmealtable.domain.member.repository.AddressHistoryRepository;
 import com.stdev.smartmealtable.domain.member.service.AddressDomainService;
@@ -25,6 +26,7 @@ public class AddressService {
     
     private final AddressHistoryRepository addressHistoryRepository;
     private final AddressDomainService addressDomainService;
+    private final UserProfileCacheService userProfileCacheService;
     
     /**
      * 회원의 주소 목록 조회
@@ -56,6 +58,7 @@ public class AddressService {
                 memberId,
                 request.toAddress()
         );
+        evictUserProfileCache(memberId);
         
         return AddressServiceResponse.from(savedAddress);
     }
@@ -82,6 +85,7 @@ public class AddressService {
                 addressHistoryId,
                 request.toAddress()
         );
+        evictUserProfileCache(memberId);
         
         return AddressServiceResponse.from(updatedAddress);
     }
@@ -97,6 +101,7 @@ public class AddressService {
     public void deleteAddress(Long memberId, Long addressHistoryId) {
         // Domain Service를 통한 주소 삭제 (검증 + 도메인 로직 포함)
         addressDomainService.deleteAddress(memberId, addressHistoryId);
+        evictUserProfileCache(memberId);
     }
     
     /**
@@ -111,7 +116,15 @@ public class AddressService {
     public AddressServiceResponse setPrimaryAddress(Long memberId, Long addressHistoryId) {
         // Domain Service를 통한 기본 주소 설정 (검증 + 도메인 로직 포함)
         AddressHistory updatedAddress = addressDomainService.setPrimaryAddress(memberId, addressHistoryId);
+        evictUserProfileCache(memberId);
         
         return AddressServiceResponse.from(updatedAddress);
     }
+    
+    /**
+     * 기본 주소(추천 기본 위치)가 바뀔 수 있으므로 추천용 사용자 프로필 캐시 무효화
+     */
+    private void evictUserProfileCache(Long memberId) {
+        userProfileCacheService.evict(memberId);
+    }
 }
@@ -1,5 +1,6 @@
 package com.stdev.smartmealtable.api.member.service.preference;
 
+import com.stdev.smartmealtable.api.recommendation.service.UserProfileCacheService;
 import com.stdev.smartmealtable.domain.preference.Preference;
 import com.stdev.smartmealtable.domain.preference.service.PreferenceDomainService;
 import lombok.RequiredArgsConstructor;
@@ -8,6 +9,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * 카테고리 선호도 수정 Application Service
@@ -19,6 +21,7 @@ import java.util.List;
 public class UpdateCategoryPreferencesService {
 
     private final PreferenceDomainService preferenceDomainService;
+    private final UserProfileCacheService userProfileCacheService;
 
     @Transactional
     public UpdateCategoryPreferencesServiceResponse execute(Long memberId, UpdateCategoryPreferencesServiceRequest request) {
@@ -29,7 +32,14 @@ public class UpdateCategoryPreferencesService {
 
         List<Preference> updatedPreferences = preferenceDomainService.updateOrCreatePreferences(memberId, preferenceItems);
 
-        // 2. 응답 생성
+        // 2. 추천용 사용자 프로필 캐시에 변경된 선호도 반영
+        userProfileCacheService.applyCategoryPreferencesUpdated(
+                memberId,
+                updatedPreferences.stream()
+                        .collect(Collectors.toMap(Preference::getCategoryId, Preference::getWeight, (a, b) -> b))
+        );
+
+        // 3. 응답 생성
         return new UpdateCategoryPreferencesServiceResponse(updatedPreferences.size(), LocalDateTime.now());
     }
 }
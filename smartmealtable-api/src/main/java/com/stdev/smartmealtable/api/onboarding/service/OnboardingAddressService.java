@@ -2,6 +2,7 @@ package com.stdev.smartmealtable.api.onboarding.service;
 
 import com.stdev.smartmealtable.api.onboarding.service.dto.OnboardingAddressServiceRequest;
 import com.stdev.smartmealtable.api.onboarding.service.dto.OnboardingAddressServiceResponse;
+import com.stdev.smartmealtable.api.recommendation.service.UserProfileCacheService;
 import com.stdev.smartmealtable.domain.member.entity.AddressHistory;
 import com.stdev.smartmealtable.domain.member.repository.AddressHistoryRepository;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class OnboardingAddressService {
     
     private final AddressHistoryRepository addressHistoryRepository;
+    private final UserProfileCacheService userProfileCacheService;
     
     /**
      * 주소 등록
@@ -40,6 +42,11 @@ public class OnboardingAddressService {
         );
         
         AddressHistory savedAddress = addressHistoryRepository.save(newAddress);
+
+        // 기본 주소가 바뀌면 추천 기본 위치도 바뀌므로 프로필 캐시 무효화
+        if (isPrimary) {
+            userProfileCacheService.evict(request.memberId());
+        }
         
         return OnboardingAddressServiceResponse.from(savedAddress);
     }
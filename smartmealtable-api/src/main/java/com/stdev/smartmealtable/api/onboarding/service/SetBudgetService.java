@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -40,9 +41,10 @@ public class SetBudgetService {
         );
 
         // 응답 DTO 생성: 첫 번째 날(오늘)의 식사별 예산만 포함
-        Long firstDailyBudgetId = result.dailyBudget().getBudgetId();
+        // 가상 일일 예산 모드에서는 ID가 없으므로 날짜로 구분
+        LocalDate firstBudgetDate = result.dailyBudget().getBudgetDate();
         List<SetBudgetServiceResponse.MealBudgetInfo> mealBudgetInfos = result.mealBudgets().stream()
-                .filter(mb -> mb.getDailyBudgetId().equals(firstDailyBudgetId)) // 첫 번째 날의 식사 예산만
+                .filter(mb -> firstBudgetDate.equals(mb.getBudgetDate())) // 첫 번째 날의 식사 예산만
                 .map(mb -> new SetBudgetServiceResponse.MealBudgetInfo(
                         mb.getMealType(),
                         mb.getMealBudget()
@@ -2,6 +2,7 @@ package com.stdev.smartmealtable.api.onboarding.service;
 
 import com.stdev.smartmealtable.api.onboarding.service.dto.SetPreferencesServiceRequest;
 import com.stdev.smartmealtable.api.onboarding.service.dto.SetPreferencesServiceResponse;
+import com.stdev.smartmealtable.api.recommendation.service.UserProfileCacheService;
 import com.stdev.smartmealtable.domain.category.Category;
 import com.stdev.smartmealtable.domain.category.CategoryRepository;
 import com.stdev.smartmealtable.domain.member.entity.RecommendationType;
@@ -29,6 +30,7 @@ public class SetPreferencesService {
     private final ProfileDomainService profileDomainService;
     private final PreferenceDomainService preferenceDomainService;
     private final CategoryRepository categoryRepository;
+    private final UserProfileCacheService userProfileCacheService;
 
     /**
      * 회원의 취향 설정 (추천 유형 + 카테고리별 선호도)
@@ -45,6 +47,9 @@ public class SetPreferencesService {
 
         List<Preference> preferences = preferenceDomainService.resetPreferences(memberId, preferenceItems);
 
+        // 추천 유형과 선호도가 모두 바뀌므로 추천용 사용자 프로필 캐시 무효화
+        userProfileCacheService.evict(memberId);
+
         // 3. 응답 생성 (카테고리 이름 포함)
         Map<Long, String> categoryNameMap = categoryRepository.findAll().stream()
                 .collect(Collectors.toMap(Category::getCategoryId, Category::getName));
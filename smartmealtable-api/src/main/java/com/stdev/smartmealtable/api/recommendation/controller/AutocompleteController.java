@@ -67,7 +67,8 @@ public class AutocompleteController {
      *         "imageUrl": "https://...",
      *         "isOpen": true
      *       }
-     *     ]
+     *     ],
+     *     "partial": false
      *   }
      * }
      *
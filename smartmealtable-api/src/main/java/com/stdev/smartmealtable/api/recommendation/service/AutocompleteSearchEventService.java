@@ -1,47 +1,55 @@
 package com.stdev.smartmealtable.api.recommendation.service;
 
+import com.stdev.smartmealtable.api.search.service.StreamingKeywordAggregator;
 import com.stdev.smartmealtable.domain.search.SearchKeywordEvent;
-import com.stdev.smartmealtable.domain.search.SearchKeywordEventRepository;
 import com.stdev.smartmealtable.storage.db.search.SearchKeywordSupport;
 import lombok.Builder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 /**
  * 자동완성 검색 이벤트 로깅 서비스
+ *
+ * 이벤트는 {@link SearchKeywordEventSink}에 넣기만 하고 저장은 일괄로 처리되므로,
+ * 요청 스레드에서 바로 호출해도 DB를 기다리지 않습니다.
+ * 인기 검색어 순위는 저장 여부(배압으로 버려졌는지)와 무관하게 {@link StreamingKeywordAggregator}에 바로 누적합니다.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AutocompleteSearchEventService {
 
-    private final SearchKeywordEventRepository searchKeywordEventRepository;
+    private final SearchKeywordEventSink searchKeywordEventSink;
+    private final StreamingKeywordAggregator streamingKeywordAggregator;
 
-    @Async("searchKeywordEventExecutor")
     public void logSearchEvent(AutocompleteSearchEventCommand command) {
         Assert.notNull(command, "command must not be null");
 
         try {
             String normalizedKeyword = normalizeKeyword(command.rawKeyword());
 
-            SearchKeywordEvent event = SearchKeywordEvent.of(
-                    command.memberId(),
-                    command.rawKeyword(),
-                    normalizedKeyword,
-                    command.clickedFoodId(),
-                    command.latitude(),
-                    command.longitude()
-            );
+            SearchKeywordEvent event = SearchKeywordEvent.builder()
+                    .memberId(command.memberId())
+                    .rawKeyword(command.rawKeyword())
+                    .normalizedKeyword(normalizedKeyword)
+                    .clickedFoodId(command.clickedFoodId())
+                    .latitude(command.latitude())
+                    .longitude(command.longitude())
+                    .createdAt(LocalDateTime.now())
+                    .build();
 
-            searchKeywordEventRepository.save(event);
-            log.debug("자동완성 검색 이벤트 저장 완료 - keyword: {}", normalizedKeyword);
+            streamingKeywordAggregator.record(normalizedKeyword, command.clickedFoodId() != null);
+
+            if (searchKeywordEventSink.offer(event)) {
+                log.debug("자동완성 검색 이벤트 적재 완료 - keyword: {}", normalizedKeyword);
+            }
         } catch (Exception e) {
-            log.warn("자동완성 검색 이벤트 저장 실패 - keyword: {}, reason: {}", command.rawKeyword(), e.getMessage());
+            log.warn("자동완성 검색 이벤트 적재 실패 - keyword: {}, reason: {}", command.rawKeyword(), e.getMessage());
         }
     }
 
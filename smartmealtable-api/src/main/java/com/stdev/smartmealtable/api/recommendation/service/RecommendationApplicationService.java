@@ -1,6 +1,7 @@
 package com.stdev.smartmealtable.api.recommendation.service;
 
 import com.stcom.smartmealtable.recommendation.domain.model.RecommendationResult;
+import com.stcom.smartmealtable.recommendation.domain.model.RecommendationSortType;
 import com.stcom.smartmealtable.recommendation.domain.model.ScoreDetail;
 import com.stcom.smartmealtable.recommendation.domain.model.UserProfile;
 import com.stcom.smartmealtable.recommendation.domain.repository.RecommendationDataRepository;
@@ -45,6 +46,7 @@ public class RecommendationApplicationService {
     private final FavoriteRepository favoriteRepository;
     private final BusinessHoursService businessHoursService;
     private final CategoryRepository categoryRepository;
+    private final UserProfileCacheService userProfileCacheService;
 
     /**
      * 추천 목록 조회
@@ -60,20 +62,12 @@ public class RecommendationApplicationService {
         log.info("추천 목록 조회 시작 - memberId: {}, useCursor: {}, lastId: {}, limit: {}, page: {}, size: {}", 
                 memberId, request.useCursorPagination(), request.getLastId(), request.getLimit(), request.getPage(), request.getSize());
 
-        // 1. 사용자 프로필 조회 (Repository 사용)
-        UserProfile userProfile = recommendationDataRepository.loadUserProfile(memberId);
+        // 1. 사용자 프로필 조회 (캐시 우선)
+        UserProfile userProfile = userProfileCacheService.getUserProfile(memberId);
         
         // 2. 요청에서 위도/경도가 제공된 경우 프로필 오버라이드
         if (request.getLatitude() != null && request.getLongitude() != null) {
-            userProfile = UserProfile.builder()
-                    .memberId(userProfile.getMemberId())
-                    .recommendationType(userProfile.getRecommendationType())
-                    .currentLatitude(request.getLatitude())
-                    .currentLongitude(request.getLongitude())
-                    .categoryPreferences(userProfile.getCategoryPreferences())
-                    .recentExpenditures(userProfile.getRecentExpenditures())
-                    .storeLastVisitDates(userProfile.getStoreLastVisitDates())
-                    .build();
+            userProfile = userProfile.withLocation(request.getLatitude(), request.getLongitude());
         }
 
         // 3. 가게 목록 필터링 (위치, 반경, 불호 카테고리 등)
@@ -109,19 +103,13 @@ public class RecommendationApplicationService {
             log.debug("필터링된 가게 수: {}", filteredStores.size());
         }
 
-        // 4. 추천 점수 계산
-        List<RecommendationResult> results = recommendationDomainService.calculateRecommendations(
-                filteredStores,
-                userProfile
-        );
-
-        // 5. 정렬
-        List<RecommendationResult> sortedResults = sortResults(results, request.getSortBy());
-
-        // 6. 페이징 (커서 또는 오프셋)
+        // 4. 추천 점수 계산 + 정렬 + 페이징 (커서 또는 오프셋) - 페이지 구간만 결과 생성
+        RecommendationSortType sortType = resolveSortType(request.getSortBy());
         List<RecommendationResult> paginatedResults = request.useCursorPagination()
-                ? paginateByCursor(sortedResults, request.getLastId(), request.getLimit())
-                : paginateByOffset(sortedResults, request.getPage(), request.getSize());
+                ? recommendationDomainService.calculateTopRecommendations(
+                        filteredStores, userProfile, sortType, request.getLastId(), 0, request.getLimit())
+                : recommendationDomainService.calculateTopRecommendations(
+                        filteredStores, userProfile, sortType, null, request.getPage() * request.getSize(), request.getSize());
 
         Map<Long, String> categoryNameMap = loadCategoryNames(paginatedResults);
         Set<Long> favoriteStoreIds = findFavoriteStoreIds(memberId, paginatedResults);
@@ -212,102 +200,22 @@ public class RecommendationApplicationService {
     }
 
     /**
-     * 결과 정렬
+     * 요청 정렬 기준 → 도메인 정렬 기준 변환
+     * 별도 집계가 필요한 정렬(즐겨찾기, 관심도)은 추천 점수순으로 처리합니다.
      */
-    private List<RecommendationResult> sortResults(
-            List<RecommendationResult> results,
-            RecommendationRequestDto.SortBy sortBy
-    ) {
-        return results.stream()
-                .sorted(getComparator(sortBy))
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * 정렬 기준에 따른 Comparator 생성
-     */
-    private Comparator<RecommendationResult> getComparator(RecommendationRequestDto.SortBy sortBy) {
+    private RecommendationSortType resolveSortType(RecommendationRequestDto.SortBy sortBy) {
+        if (sortBy == null) {
+            return RecommendationSortType.SCORE;
+        }
         return switch (sortBy) {
-            case SCORE -> Comparator.comparing(RecommendationResult::getFinalScore).reversed();
-            case DISTANCE -> Comparator.comparing(RecommendationResult::getDistance);
-            case REVIEW -> Comparator.comparing(RecommendationResult::getReviewCount).reversed();
-            case PRICE_LOW -> Comparator.comparing(RecommendationResult::getAveragePrice);
-            case PRICE_HIGH -> Comparator.comparing(RecommendationResult::getAveragePrice).reversed();
-            default -> Comparator.comparing(RecommendationResult::getFinalScore).reversed();
+            case DISTANCE -> RecommendationSortType.DISTANCE;
+            case REVIEW -> RecommendationSortType.REVIEW;
+            case PRICE_LOW -> RecommendationSortType.PRICE_LOW;
+            case PRICE_HIGH -> RecommendationSortType.PRICE_HIGH;
+            default -> RecommendationSortType.SCORE;
         };
     }
 
-    /**
-     * 커서 기반 페이징 처리
-     *
-     * <p>마지막 항목 ID를 기준으로 다음 데이터를 조회합니다 (무한 스크롤용).</p>
-     *
-     * @param results 정렬된 결과 목록
-     * @param lastId 마지막 항목의 ID (null이면 처음부터 시작)
-     * @param limit 조회할 항목 수
-     * @return 커서 기반 페이징된 결과 (limit + 1개를 조회하여 hasMore 판단)
-     */
-    private List<RecommendationResult> paginateByCursor(
-            List<RecommendationResult> results,
-            Long lastId,
-            Integer limit
-    ) {
-        // lastId 이후의 항목들을 찾기 위해 시작 인덱스 결정
-        int startIndex = 0;
-        if (lastId != null) {
-            // lastId와 일치하는 항목을 찾고 그 다음부터 시작
-            for (int i = 0; i < results.size(); i++) {
-                if (results.get(i).getStoreId().equals(lastId)) {
-                    startIndex = i + 1;
-                    break;
-                }
-            }
-        }
-
-        // limit + 1개를 조회하여 hasMore 판단 (클라이언트가 hasMore로 판단)
-        int endIndex = Math.min(startIndex + limit, results.size());
-        
-        if (startIndex >= results.size()) {
-            return Collections.emptyList();
-        }
-
-        return results.subList(startIndex, endIndex);
-    }
-
-    /**
-     * 오프셋 기반 페이징 처리 (하위 호환성)
-     *
-     * @param results 정렬된 결과 목록
-     * @param page 페이지 번호 (0부터 시작)
-     * @param size 페이지 크기
-     * @return 오프셋 기반 페이징된 결과
-     */
-    private List<RecommendationResult> paginateByOffset(
-            List<RecommendationResult> results,
-            int page,
-            int size
-    ) {
-        int fromIndex = page * size;
-        int toIndex = Math.min(fromIndex + size, results.size());
-        
-        if (fromIndex >= results.size()) {
-            return Collections.emptyList();
-        }
-        
-        return results.subList(fromIndex, toIndex);
-    }
-
-    /**
-     * 페이징 처리 (하위 호환성 - 구 메서드)
-     */
-    private List<RecommendationResult> paginateResults(
-            List<RecommendationResult> results,
-            int page,
-            int size
-    ) {
-        return paginateByOffset(results, page, size);
-    }
-
     /**
      * 특정 가게의 점수 상세 조회 (DTO 반환)
      * 
@@ -329,20 +237,12 @@ public class RecommendationApplicationService {
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new IllegalArgumentException("가게를 찾을 수 없습니다. storeId: " + storeId));
 
-        // 2. 사용자 프로필 조회
-        UserProfile userProfile = recommendationDataRepository.loadUserProfile(memberId);
+        // 2. 사용자 프로필 조회 (캐시 우선)
+        UserProfile userProfile = userProfileCacheService.getUserProfile(memberId);
         
         // 3. 위도/경도 오버라이드
         if (latitude != null && longitude != null) {
-            userProfile = UserProfile.builder()
-                    .memberId(userProfile.getMemberId())
-                    .recommendationType(userProfile.getRecommendationType())
-                    .currentLatitude(latitude)
-                    .currentLongitude(longitude)
-                    .categoryPreferences(userProfile.getCategoryPreferences())
-                    .recentExpenditures(userProfile.getRecentExpenditures())
-                    .storeLastVisitDates(userProfile.getStoreLastVisitDates())
-                    .build();
+            userProfile = userProfile.withLocation(latitude, longitude);
         }
 
         // 4. 단일 가게에 대한 추천 점수 계산
@@ -395,20 +295,12 @@ public class RecommendationApplicationService {
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new IllegalArgumentException("가게를 찾을 수 없습니다. storeId: " + storeId));
 
-        // 2. 사용자 프로필 조회
-        UserProfile userProfile = recommendationDataRepository.loadUserProfile(memberId);
+        // 2. 사용자 프로필 조회 (캐시 우선)
+        UserProfile userProfile = userProfileCacheService.getUserProfile(memberId);
         
         // 3. 위도/경도 오버라이드
         if (latitude != null && longitude != null) {
-            userProfile = UserProfile.builder()
-                    .memberId(userProfile.getMemberId())
-                    .recommendationType(userProfile.getRecommendationType())
-                    .currentLatitude(latitude)
-                    .currentLongitude(longitude)
-                    .categoryPreferences(userProfile.getCategoryPreferences())
-                    .recentExpenditures(userProfile.getRecentExpenditures())
-                    .storeLastVisitDates(userProfile.getStoreLastVisitDates())
-                    .build();
+            userProfile = userProfile.withLocation(latitude, longitude);
         }
 
         // 4. 단일 가게에 대한 추천 점수 계산
@@ -448,6 +340,9 @@ public class RecommendationApplicationService {
         // 3. 저장
         Member updatedMember = memberRepository.save(member);
 
+        // 4. 추천용 사용자 프로필 캐시 무효화
+        userProfileCacheService.evict(memberId);
+
         log.info("추천 유형 변경 완료 - memberId: {}, newType: {}", memberId, newType);
         
         return updatedMember;
@@ -0,0 +1,203 @@
+package com.stdev.smartmealtable.api.recommendation.service;
+
+import com.stdev.smartmealtable.domain.search.SearchKeywordEvent;
+import com.stdev.smartmealtable.domain.search.SearchKeywordEventRepository;
+import com.stdev.smartmealtable.support.concurrent.MpscRingBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 검색 키워드 이벤트 지연 일괄 저장 (write-behind)
+ *
+ * 요청 스레드는 이벤트를 링 버퍼에 넣기만 하고, 전용 스레드 하나가 모아서 다중 행 INSERT로 저장합니다.
+ * 검색량이 몰려도 DB 쓰기는 "batch-size건마다 또는 flush-interval-ms마다 한 번"으로 제한됩니다.
+ *
+ * 저장 시점:
+ * - 모인 이벤트가 batch-size에 도달하면 즉시
+ * - 그 전이라도 첫 이벤트가 들어온 뒤 flush-interval-ms가 지나면
+ * - 애플리케이션 종료 시 남은 이벤트 전부
+ *
+ * 배압(backpressure):
+ * - 버퍼 사용률이 sampling-threshold 이상이면 sampling-rate 비율만 받고 나머지는 버림
+ * - 버퍼가 가득 차면 버림
+ * - 버린 건수는 search.event.sink.dropped{reason=sampled|full} 메트릭으로 집계
+ *
+ * 검색 이벤트는 인기 검색어 집계용 통계 데이터이므로 저장 실패 시 재시도하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchKeywordEventSink {
+
+    private static final String METRIC_NAME = "search.event.sink";
+
+    private final SearchKeywordEventRepository searchKeywordEventRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${search.event.sink.capacity:8192}")
+    private int capacity = 8192;
+
+    @Value("${search.event.sink.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${search.event.sink.flush-interval-ms:1000}")
+    private long flushIntervalMillis = 1000;
+
+    @Value("${search.event.sink.sampling-threshold:0.75}")
+    private double samplingThreshold = 0.75;
+
+    @Value("${search.event.sink.sampling-rate:0.25}")
+    private double samplingRate = 0.25;
+
+    private MpscRingBuffer<SearchKeywordEvent> buffer;
+    private Thread flusher;
+    private volatile boolean running;
+
+    private Counter writtenCounter;
+    private Counter failedCounter;
+    private Counter sampledDropCounter;
+    private Counter fullDropCounter;
+
+    @PostConstruct
+    void init() {
+        buffer = new MpscRingBuffer<>(capacity);
+
+        writtenCounter = Counter.builder(METRIC_NAME + ".written")
+                .description("저장한 검색 이벤트 수")
+                .register(meterRegistry);
+        failedCounter = Counter.builder(METRIC_NAME + ".failed")
+                .description("저장에 실패하여 버린 검색 이벤트 수")
+                .register(meterRegistry);
+        sampledDropCounter = Counter.builder(METRIC_NAME + ".dropped")
+                .tag("reason", "sampled")
+                .description("버퍼 사용률이 높아 샘플링으로 버린 검색 이벤트 수")
+                .register(meterRegistry);
+        fullDropCounter = Counter.builder(METRIC_NAME + ".dropped")
+                .tag("reason", "full")
+                .description("버퍼가 가득 차서 버린 검색 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".buffered", buffer, MpscRingBuffer::size)
+                .description("저장 대기 중인 검색 이벤트 수")
+                .register(meterRegistry);
+
+        running = true;
+        flusher = new Thread(this::runFlushLoop, "search-event-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * 이벤트 추가 (요청 스레드에서 호출, 대기하지 않음)
+     *
+     * @param event 저장할 이벤트
+     * @return 버퍼에 들어갔으면 true, 배압으로 버렸으면 false
+     */
+    public boolean offer(SearchKeywordEvent event) {
+        int buffered = buffer.size();
+        if (buffered >= buffer.capacity() * samplingThreshold
+                && ThreadLocalRandom.current().nextDouble() >= samplingRate) {
+            sampledDropCounter.increment();
+            return false;
+        }
+
+        if (!buffer.offer(event)) {
+            fullDropCounter.increment();
+            return false;
+        }
+
+        // 빈 버퍼에 처음 들어온 이벤트: 저장 스레드가 대기 시간을 재기 시작하도록 깨움
+        // 한 배치 분량이 모였을 때: 시간 조건을 기다리지 않고 저장하도록 깨움
+        if (buffered == 0 || buffered + 1 >= batchSize) {
+            LockSupport.unpark(flusher);
+        }
+        return true;
+    }
+
+    /**
+     * 남은 이벤트를 모두 저장하고 저장 스레드 종료
+     */
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (flusher.isAlive()) {
+            log.warn("검색 이벤트 저장 스레드가 종료되지 않음: buffered={}", buffer.size());
+            return;
+        }
+        log.info("검색 이벤트 저장 종료: remaining={}", buffer.size());
+    }
+
+    /**
+     * 이벤트는 저장 직전까지 링 버퍼에 그대로 두고, 크기/시간 조건을 만족할 때만 꺼내서 저장
+     * (버퍼 크기만 보고 배치 완성 여부를 판단할 수 있도록)
+     */
+    private void runFlushLoop() {
+        List<SearchKeywordEvent> batch = new ArrayList<>(batchSize);
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        long pendingSince = -1;
+
+        while (running) {
+            if (buffer.size() == 0) {
+                pendingSince = -1;
+                LockSupport.parkNanos(this, intervalNanos);
+                continue;
+            }
+
+            long now = System.nanoTime();
+            if (pendingSince < 0) {
+                pendingSince = now;
+            }
+
+            long waited = now - pendingSince;
+            if (buffer.size() >= batchSize || waited >= intervalNanos) {
+                buffer.drain(batch::add, batchSize);
+                flush(batch);
+                pendingSince = buffer.size() > 0 ? System.nanoTime() : -1;
+                continue;
+            }
+
+            LockSupport.parkNanos(this, intervalNanos - waited);
+        }
+
+        // 종료: 남은 이벤트를 배치 단위로 모두 저장
+        while (buffer.drain(batch::add, batchSize) > 0) {
+            flush(batch);
+        }
+    }
+
+    private void flush(List<SearchKeywordEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            int inserted = searchKeywordEventRepository.saveAll(batch);
+            writtenCounter.increment(inserted);
+            log.debug("검색 이벤트 일괄 저장: count={}", inserted);
+        } catch (Exception e) {
+            failedCounter.increment(batch.size());
+            log.warn("검색 이벤트 일괄 저장 실패: count={}, reason={}", batch.size(), e.getMessage());
+        } finally {
+            batch.clear();
+        }
+    }
+}
@@ -8,12 +8,22 @@ import com.stdev.smartmealtable.api.recommendation.service.dto.UnifiedAutocomple
 import com.stdev.smartmealtable.api.recommendation.service.dto.UnifiedAutocompleteResponse.StoreShortcut;
 import com.stdev.smartmealtable.domain.store.Store;
 import com.stdev.smartmealtable.domain.store.StoreRepository;
+import com.stdev.smartmealtable.storage.cache.RedisCommandDeadline;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -25,8 +35,19 @@ import java.util.stream.Collectors;
  * 3. 검색 결과의 가게들에 대한 바로가기 정보 제공
  *
  * 성능:
- * - 두 서비스를 병렬로 호출하여 응답 시간 최소화
- * - 응답 시간 = max(food_time, store_time) + merge_time
+ * - search.autocomplete.unified.parallel-enabled=true이면 음식/가게 검색을 가상 스레드로 동시에 실행하고,
+ *   가게 바로가기는 가게 검색이 끝나는 즉시 이어서 조회
+ * - 응답 시간 = min(max(food_time, store_time + shortcut_time), deadline) + merge_time
+ * - 제한 시간(deadline-ms)이 지나면 그때까지 끝난 결과만 병합하고 partial=true로 응답
+ * - 늦은 하위 검색은 인터럽트하지 않습니다. 가상 스레드가 소켓 I/O 중에 인터럽트되면 소켓이 닫혀
+ *   풀의 DB/Redis 커넥션이 버려지기 때문입니다. 대신 하위 검색마다 남은 시간으로 DB 쿼리 타임아웃
+ *   (읽기 전용 트랜잭션 timeout, JDBC 특성상 초 단위로 올림)과 Redis 명령 타임아웃({@link RedisCommandDeadline})을 걸고,
+ *   아직 시작하지 않은 작업만 취소
+ * - 가상 스레드 실행기는 개수 제한이 없으므로 동시에 실행되는 하위 검색 수를
+ *   max-concurrent-stages(커넥션 풀보다 작게)로 제한하고, 제한 시간 안에 자리가 나지 않으면 건너뜀
+ *
+ * 클래스 레벨 트랜잭션을 두지 않습니다. 하위 검색 스레드에서만 트랜잭션을 열기 때문에,
+ * 요청 스레드가 대기하는 동안 커넥션을 하나 더 점유할 필요가 없습니다.
  *
  * @author SmartMealTable Team
  * @since 2025-11-12
@@ -34,21 +55,43 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional(readOnly = true)
 public class UnifiedAutocompleteService {
 
     private final FoodAutocompleteService foodAutocompleteService;
     private final StoreAutocompleteService storeAutocompleteService;
     private final StoreRepository storeRepository;
+    private final ExecutorService autocompleteFanOutExecutor;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${search.autocomplete.unified.parallel-enabled:false}")
+    private boolean parallelEnabled;
+
+    @Value("${search.autocomplete.unified.deadline-ms:80}")
+    private long deadlineMillis = 80;
+
+    @Value("${search.autocomplete.unified.max-concurrent-stages:16}")
+    private int maxConcurrentStages = 16;
+
+    /**
+     * 동시에 실행 중인 하위 검색 수 제한 (하위 검색마다 커넥션을 하나씩 점유할 수 있음)
+     */
+    private Semaphore stagePermits;
+
+    @PostConstruct
+    void init() {
+        stagePermits = new Semaphore(maxConcurrentStages);
+    }
 
     /**
      * 통합 자동완성
      *
      * 검색 전략:
-     * 1. 음식 자동완성과 가게 자동완성을 병렬로 호출
-     * 2. 결과를 번갈아가며 섞어서 키워드 반환
+     * 1. 음식 자동완성과 가게 자동완성(+ 가게 바로가기)을 동시에 실행
+     * 2. 제한 시간까지 끝난 결과를 번갈아가며 섞어서 키워드 반환
      * 3. 검색 결과의 가게들에 대한 바로가기 정보 제공
      *
+     * 하위 검색 하나가 늦거나 실패해도 나머지 결과는 그대로 반환하고 partial=true로 표시합니다.
+     *
      * @param keyword 검색 키워드
      * @param limit 결과 개수
      * @param storeShortcutsLimit 가게 바로가기 개수
@@ -67,9 +110,29 @@ public class UnifiedAutocompleteService {
 
             String normalizedKeyword = keyword.trim();
 
-            // 병렬로 음식과 가게 자동완성 호출
-            FoodAutocompleteResponse foodResults = foodAutocompleteService.autocomplete(normalizedKeyword, limit);
-            StoreAutocompleteResponse storeResults = storeAutocompleteService.autocomplete(normalizedKeyword, limit);
+            CompletableFuture<FoodAutocompleteResponse> foodFuture = new CompletableFuture<>();
+            CompletableFuture<StoreAutocompleteResponse> storeFuture = new CompletableFuture<>();
+            CompletableFuture<List<StoreShortcut>> shortcutsFuture = new CompletableFuture<>();
+
+            // 가게 바로가기는 가게 검색 결과가 필요하므로 같은 작업에서 이어서 조회
+            List<Future<?>> tasks = List.of(
+                submitStage(startTime, () -> runStage("food", foodFuture,
+                    () -> foodAutocompleteService.autocomplete(normalizedKeyword, limit)), foodFuture),
+                submitStage(startTime, () -> {
+                    StoreAutocompleteResponse stores = runStage("store", storeFuture,
+                        () -> storeAutocompleteService.autocomplete(normalizedKeyword, limit));
+                    runStage("shortcuts", shortcutsFuture, () -> buildStoreShortcuts(stores, storeShortcutsLimit));
+                }, storeFuture, shortcutsFuture)
+            );
+
+            awaitUntilDeadline(startTime, foodFuture, shortcutsFuture);
+            // 아직 시작하지 않은 작업만 취소 (실행 중인 작업은 쿼리/명령 타임아웃으로 끝남)
+            tasks.forEach(task -> task.cancel(false));
+
+            FoodAutocompleteResponse foodResults = foodFuture.getNow(null);
+            StoreAutocompleteResponse storeResults = storeFuture.getNow(null);
+            List<StoreShortcut> storeShortcuts = shortcutsFuture.getNow(null);
+            boolean partial = foodResults == null || storeResults == null || storeShortcuts == null;
 
             // 결과 병합: 키워드 목록 (음식/가게명 번갈아가며)
             List<String> suggestions = mergeKeywordsInterleaved(
@@ -78,19 +141,116 @@ public class UnifiedAutocompleteService {
                 limit
             );
 
-            // 가게 바로가기 정보 생성 (storeShortcutsLimit 적용)
-            List<StoreShortcut> storeShortcuts = buildStoreShortcuts(storeResults, storeShortcutsLimit);
-
             long elapsedTime = System.currentTimeMillis() - startTime;
+            if (partial) {
+                log.warn("통합 자동완성 부분 응답: keyword={}, food={}, store={}, shortcuts={}, time={}ms",
+                    normalizedKeyword, foodResults != null, storeResults != null, storeShortcuts != null, elapsedTime);
+            }
             log.info("통합 자동완성 완료: keyword={}, keywords={}, stores={}, time={}ms",
-                normalizedKeyword, suggestions.size(), storeShortcuts.size(), elapsedTime);
+                normalizedKeyword, suggestions.size(), storeShortcuts != null ? storeShortcuts.size() : 0, elapsedTime);
 
-            return new UnifiedAutocompleteResponse(suggestions, storeShortcuts);
+            return new UnifiedAutocompleteResponse(
+                suggestions,
+                storeShortcuts != null ? storeShortcuts : Collections.emptyList(),
+                partial
+            );
 
         } catch (Exception e) {
             log.error("통합 자동완성 실패: keyword={}", keyword, e);
-            return new UnifiedAutocompleteResponse(Collections.emptyList(), Collections.emptyList());
+            return new UnifiedAutocompleteResponse(Collections.emptyList(), Collections.emptyList(), true);
+        }
+    }
+
+    /**
+     * 하위 검색 작업 제출
+     *
+     * 비활성화 시 호출 스레드에서 바로 실행합니다.
+     * 활성화 시 제한 시간 안에 실행 자리를 얻지 못하면 검색하지 않고 결과를 null로 완료합니다.
+     * 자리를 얻으면 남은 시간을 DB 쿼리/Redis 명령 타임아웃으로 걸고 실행합니다.
+     *
+     * @param startTime 요청 시작 시각
+     * @param stage 하위 검색 작업
+     * @param results 작업이 완료할 결과 (건너뛸 때 null로 완료)
+     * @return 취소용 Future
+     */
+    private Future<?> submitStage(long startTime, Runnable stage, CompletableFuture<?>... results) {
+        if (!parallelEnabled) {
+            stage.run();
+            return CompletableFuture.completedFuture(null);
+        }
+        return autocompleteFanOutExecutor.submit(() -> {
+            boolean acquired = false;
+            try {
+                long remaining = deadlineMillis - (System.currentTimeMillis() - startTime);
+                acquired = stagePermits.tryAcquire(Math.max(remaining, 0), TimeUnit.MILLISECONDS);
+                if (!acquired) {
+                    log.warn("통합 자동완성 하위 검색 건너뜀: 동시 실행 제한 초과 (max={})", maxConcurrentStages);
+                    return;
+                }
+                runWithinDeadline(startTime, stage);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                // 하위 검색 중 쿼리 타임아웃으로 트랜잭션이 rollback-only가 된 경우 등
+                log.debug("통합 자동완성 하위 검색 종료 실패: {}", e.getMessage());
+            } finally {
+                if (acquired) {
+                    stagePermits.release();
+                }
+                for (CompletableFuture<?> result : results) {
+                    result.complete(null);
+                }
+            }
+        });
+    }
+
+    /**
+     * 요청 시작 시각 기준 제한 시간 안에서 하위 검색 실행
+     *
+     * 하위 서비스의 읽기 전용 트랜잭션이 이 트랜잭션에 참여하므로 모든 쿼리에 남은 시간이 쿼리 타임아웃으로 적용됩니다.
+     */
+    private void runWithinDeadline(long startTime, Runnable stage) {
+        long remainingMillis = deadlineMillis - (System.currentTimeMillis() - startTime);
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.setTimeout((int) Math.max(1, (remainingMillis + 999) / 1000));
+
+        RedisCommandDeadline.run(deadlineNanos, () -> transactionTemplate.executeWithoutResult(status -> stage.run()));
+    }
+
+    /**
+     * 하위 검색 실행
+     *
+     * 실패는 null 결과로 바꿔 다른 하위 검색의 결과를 버리지 않도록 합니다.
+     *
+     * @return 검색 결과 (실패 시 null)
+     */
+    private <T> T runStage(String stage, CompletableFuture<T> result, Supplier<T> search) {
+        T value = null;
+        try {
+            value = search.get();
+        } catch (Exception e) {
+            log.warn("통합 자동완성 하위 검색 실패: stage={}", stage, e);
+        }
+        result.complete(value);
+        return value;
+    }
+
+    /**
+     * 요청 시작 시각 기준 제한 시간까지 대기
+     *
+     * 제한 시간이 지나면 더 기다리지 않습니다. 끝나지 않은 하위 검색은 각자의 타임아웃으로 끝난 뒤 버려집니다.
+     */
+    private void awaitUntilDeadline(long startTime, CompletableFuture<?>... futures) {
+        long remaining = deadlineMillis - (System.currentTimeMillis() - startTime);
+        if (remaining <= 0) {
+            return;
         }
+        CompletableFuture.allOf(futures)
+            .completeOnTimeout(null, remaining, TimeUnit.MILLISECONDS)
+            .join();
     }
 
     /**
@@ -0,0 +1,255 @@
+package com.stdev.smartmealtable.api.recommendation.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.stcom.smartmealtable.recommendation.domain.model.ExpenditureRecord;
+import com.stcom.smartmealtable.recommendation.domain.model.UserProfile;
+import com.stcom.smartmealtable.recommendation.domain.repository.RecommendationDataRepository;
+import com.stdev.smartmealtable.domain.member.entity.RecommendationType;
+import com.stdev.smartmealtable.storage.cache.UserProfileCacheStore;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 추천용 사용자 프로필 캐시
+ *
+ * <p>loadUserProfile은 회원, 선호도, 6개월 지출 내역, 기본 주소 등 여러 쿼리를 실행하므로
+ * memberId 단위로 프로필을 캐시합니다.</p>
+ * <ul>
+ *   <li>1차: Caffeine (인스턴스 로컬, 크기/TTL 제한)</li>
+ *   <li>2차: Redis (선택, 인스턴스 간 공유)</li>
+ * </ul>
+ *
+ * <p>지출 등록과 선호도 수정은 캐시된 프로필을 증분 갱신하고, 그 밖의 변경(지출 수정/삭제, 주소, 추천 유형)은
+ * 항목을 무효화합니다. 갱신/무효화는 트랜잭션 커밋 이후에 반영하여 커밋 전 데이터가 다시 캐시되지 않도록 합니다.
+ * 2차 캐시는 변경 시 항상 삭제하며, 다른 인스턴스의 1차 캐시는 local-ttl 이내로만 stale 할 수 있습니다.</p>
+ *
+ * <p>{@code recommendation.profile-cache.enabled=false}(기본값)이면 항상 DB에서 조회합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserProfileCacheService {
+
+    private final RecommendationDataRepository recommendationDataRepository;
+    private final UserProfileCacheStore userProfileCacheStore;
+    private final ObjectMapper objectMapper;
+
+    @Value("${recommendation.profile-cache.enabled:false}")
+    private boolean enabled;
+
+    @Value("${recommendation.profile-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${recommendation.profile-cache.local-ttl-seconds:60}")
+    private long localTtlSeconds;
+
+    @Value("${recommendation.profile-cache.redis-enabled:false}")
+    private boolean redisEnabled;
+
+    @Value("${recommendation.profile-cache.redis-ttl-seconds:600}")
+    private long redisTtlSeconds;
+
+    private Cache<Long, UserProfile> localCache;
+
+    @PostConstruct
+    void init() {
+        localCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+    }
+
+    /**
+     * 사용자 프로필 조회 (1차 → 2차 → DB)
+     *
+     * @param memberId 회원 ID
+     * @return 사용자 프로필 (공유 객체이므로 수정하지 말고 with* 메서드로 복사해서 사용)
+     */
+    public UserProfile getUserProfile(Long memberId) {
+        if (!enabled) {
+            return recommendationDataRepository.loadUserProfile(memberId);
+        }
+        return localCache.get(memberId, this::loadFromRemoteOrDatabase);
+    }
+
+    /**
+     * 지출 등록 반영 (캐시된 프로필에 지출 레코드 추가)
+     */
+    public void applyExpenditureCreated(Long memberId, LocalDate expendedDate, Integer amount, Long categoryId) {
+        if (!enabled || memberId == null || expendedDate == null || amount == null) {
+            return;
+        }
+
+        // loadUserProfile과 같은 기간(최근 6개월)의 지출만 프로필에 포함
+        LocalDate today = LocalDate.now();
+        if (expendedDate.isBefore(today.minusMonths(6)) || expendedDate.isAfter(today)) {
+            return;
+        }
+
+        ExpenditureRecord record = ExpenditureRecord.builder()
+                .expendedAt(expendedDate)
+                .amount(amount)
+                .categoryId(categoryId)
+                .storeId(null)
+                .build();
+        afterCommit(() -> {
+            localCache.asMap().computeIfPresent(memberId, (id, profile) -> profile.withExpenditure(record));
+            evictRemote(memberId);
+        });
+    }
+
+    /**
+     * 카테고리 선호도 수정 반영 (캐시된 프로필의 선호도 병합)
+     */
+    public void applyCategoryPreferencesUpdated(Long memberId, Map<Long, Integer> preferences) {
+        if (!enabled || memberId == null) {
+            return;
+        }
+        Map<Long, Integer> updates = Map.copyOf(preferences);
+        afterCommit(() -> {
+            localCache.asMap().computeIfPresent(memberId, (id, profile) -> profile.withCategoryPreferences(updates));
+            evictRemote(memberId);
+        });
+    }
+
+    /**
+     * 프로필 무효화 (지출 수정/삭제, 주소 변경, 추천 유형 변경 등)
+     */
+    public void evict(Long memberId) {
+        if (!enabled || memberId == null) {
+            return;
+        }
+        afterCommit(() -> {
+            localCache.invalidate(memberId);
+            evictRemote(memberId);
+        });
+    }
+
+    private UserProfile loadFromRemoteOrDatabase(Long memberId) {
+        if (redisEnabled) {
+            Optional<UserProfile> cached = userProfileCacheStore.get(memberId).flatMap(this::deserialize);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+
+        UserProfile userProfile = recommendationDataRepository.loadUserProfile(memberId);
+        if (redisEnabled) {
+            serialize(userProfile).ifPresent(json ->
+                    userProfileCacheStore.put(memberId, json, Duration.ofSeconds(redisTtlSeconds)));
+        }
+        return userProfile;
+    }
+
+    private void evictRemote(Long memberId) {
+        if (redisEnabled) {
+            userProfileCacheStore.evict(memberId);
+        }
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 이후, 아니면 즉시 실행
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private Optional<String> serialize(UserProfile userProfile) {
+        try {
+            return Optional.of(objectMapper.writeValueAsString(CachedUserProfile.from(userProfile)));
+        } catch (JsonProcessingException e) {
+            log.warn("사용자 프로필 직렬화 실패 - memberId: {}, reason: {}", userProfile.getMemberId(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Optional<UserProfile> deserialize(String json) {
+        try {
+            return Optional.of(objectMapper.readValue(json, CachedUserProfile.class).toUserProfile());
+        } catch (JsonProcessingException e) {
+            log.warn("사용자 프로필 역직렬화 실패 - reason: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Redis 저장용 프로필 표현
+     */
+    record CachedUserProfile(
+            Long memberId,
+            RecommendationType recommendationType,
+            BigDecimal currentLatitude,
+            BigDecimal currentLongitude,
+            Map<Long, Integer> categoryPreferences,
+            List<CachedExpenditure> expenditures,
+            Map<Long, LocalDate> storeLastVisitDates
+    ) {
+        static CachedUserProfile from(UserProfile profile) {
+            return new CachedUserProfile(
+                    profile.getMemberId(),
+                    profile.getRecommendationType(),
+                    profile.getCurrentLatitude(),
+                    profile.getCurrentLongitude(),
+                    profile.getCategoryPreferences(),
+                    profile.getRecentExpenditures().values().stream()
+                            .map(record -> new CachedExpenditure(
+                                    record.getExpendedAt(),
+                                    record.getAmount(),
+                                    record.getCategoryId(),
+                                    record.getStoreId()
+                            ))
+                            .toList(),
+                    profile.getStoreLastVisitDates()
+            );
+        }
+
+        UserProfile toUserProfile() {
+            Map<LocalDate, ExpenditureRecord> recentExpenditures = new HashMap<>();
+            for (CachedExpenditure expenditure : expenditures) {
+                recentExpenditures.put(expenditure.expendedAt(), ExpenditureRecord.builder()
+                        .expendedAt(expenditure.expendedAt())
+                        .amount(expenditure.amount())
+                        .categoryId(expenditure.categoryId())
+                        .storeId(expenditure.storeId())
+                        .build());
+            }
+            return UserProfile.builder()
+                    .memberId(memberId)
+                    .recommendationType(recommendationType)
+                    .currentLatitude(currentLatitude)
+                    .currentLongitude(currentLongitude)
+                    .categoryPreferences(new HashMap<>(categoryPreferences))
+                    .recentExpenditures(recentExpenditures)
+                    .storeLastVisitDates(new HashMap<>(storeLastVisitDates))
+                    .build();
+        }
+    }
+
+    record CachedExpenditure(LocalDate expendedAt, Integer amount, Long categoryId, Long storeId) {
+    }
+}
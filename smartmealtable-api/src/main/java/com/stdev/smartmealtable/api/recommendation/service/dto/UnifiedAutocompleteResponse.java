@@ -11,12 +11,18 @@ import java.util.List;
  *
  * @param suggestions 자동완성 키워드 목록 (음식명 + 가게명 혼합)
  * @param storeShortcuts 가게 바로가기 목록 (가게 ID, 이름, 대표 이미지, 영업 상태 등)
+ * @param partial 일부 하위 검색이 제한 시간 내에 끝나지 않았거나 실패하여 결과가 불완전한지 여부
  */
 public record UnifiedAutocompleteResponse(
     List<String> suggestions,
-    List<StoreShortcut> storeShortcuts
+    List<StoreShortcut> storeShortcuts,
+    boolean partial
 ) {
 
+    public UnifiedAutocompleteResponse(List<String> suggestions, List<StoreShortcut> storeShortcuts) {
+        this(suggestions, storeShortcuts, false);
+    }
+
     /**
      * 가게 바로가기 정보
      *
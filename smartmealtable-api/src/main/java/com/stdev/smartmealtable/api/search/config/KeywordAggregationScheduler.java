@@ -1,6 +1,8 @@
 package com.stdev.smartmealtable.api.search.config;
 
 import com.stdev.smartmealtable.api.search.service.KeywordAggregationService;
+import com.stdev.smartmealtable.api.search.service.StreamingKeywordAggregator;
+import com.stdev.smartmealtable.api.search.service.TrendingKeywordService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
@@ -9,6 +11,10 @@ import org.springframework.stereotype.Component;
 
 /**
  * 검색 키워드 집계 스케줄러
+ *
+ * 실시간 집계(keyword.aggregation.streaming.enabled)가 켜져 있으면 이벤트 테이블 집계는 건너뛰고
+ * 메모리 누적분만 주기적으로 반영합니다.
+ * 시간 감쇠 인기 검색어(search.trending.windowed.enabled)도 같은 방식으로 누적분을 반영합니다.
  */
 @Component
 @Profile("!test")
@@ -17,13 +23,42 @@ import org.springframework.stereotype.Component;
 public class KeywordAggregationScheduler {
 
     private final KeywordAggregationService keywordAggregationService;
+    private final StreamingKeywordAggregator streamingKeywordAggregator;
+    private final TrendingKeywordService trendingKeywordService;
 
     @Scheduled(fixedDelayString = "${keyword.aggregation.fixed-delay-ms:300000}")
     public void aggregate() {
+        if (streamingKeywordAggregator.isEnabled()) {
+            return;
+        }
         try {
             keywordAggregationService.aggregateRecentEvents();
         } catch (Exception e) {
             log.error("Keyword aggregation job failed", e);
         }
     }
+
+    @Scheduled(fixedDelayString = "${keyword.aggregation.streaming.flush-interval-ms:5000}")
+    public void flushStreaming() {
+        if (!streamingKeywordAggregator.isEnabled()) {
+            return;
+        }
+        try {
+            streamingKeywordAggregator.flush();
+        } catch (Exception e) {
+            log.error("Streaming keyword aggregation flush failed", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${search.trending.windowed.flush-interval-ms:5000}")
+    public void flushTrending() {
+        if (!trendingKeywordService.isEnabled()) {
+            return;
+        }
+        try {
+            trendingKeywordService.flush();
+        } catch (Exception e) {
+            log.error("Trending keyword flush failed", e);
+        }
+    }
 }
@@ -0,0 +1,119 @@
+package com.stdev.smartmealtable.api.search.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.stdev.smartmealtable.domain.category.Category;
+import com.stdev.smartmealtable.domain.category.CategoryRepository;
+import com.stdev.smartmealtable.domain.store.Store;
+import com.stdev.smartmealtable.domain.store.StoreRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 자동완성 제안(Suggestion) DTO 조립에 필요한 연관 데이터 일괄 조회
+ *
+ * <p>제안 하나마다 가게/카테고리를 조회하면 응답 하나에 수십 번의 쿼리가 발생하므로,
+ * 응답에 필요한 ID를 모두 모은 뒤 종류별로 한 번씩만 조회합니다.</p>
+ * <ul>
+ *   <li>가게: DB {@code IN} 조회 한 번</li>
+ *   <li>카테고리 이름: 인스턴스 로컬 캐시(Caffeine) 우선, 없는 ID만 DB {@code IN} 조회 한 번</li>
+ * </ul>
+ *
+ * <p>카테고리는 거의 바뀌지 않는 작은 테이블이므로 이름을 {@code search.autocomplete.hydration.category-ttl-seconds} 동안 보관합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AutocompleteSuggestionHydrator {
+
+    private final StoreRepository storeRepository;
+    private final CategoryRepository categoryRepository;
+
+    @Value("${search.autocomplete.hydration.category-ttl-seconds:300}")
+    private long categoryTtlSeconds = 300;
+
+    @Value("${search.autocomplete.hydration.category-maximum-size:1000}")
+    private long categoryMaximumSize = 1000;
+
+    private Cache<Long, String> categoryNames;
+
+    @PostConstruct
+    void init() {
+        categoryNames = Caffeine.newBuilder()
+                .maximumSize(categoryMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(categoryTtlSeconds))
+                .build();
+    }
+
+    /**
+     * 가게 일괄 조회
+     *
+     * @param storeIds 가게 ID 목록 (null, 중복 허용)
+     * @return 가게 ID → 가게 (조회되지 않은 ID는 포함되지 않음)
+     */
+    public Map<Long, Store> loadStores(Collection<Long> storeIds) {
+        List<Long> ids = distinct(storeIds);
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, Store> stores = new HashMap<>();
+        for (Store store : storeRepository.findAllByIdIn(ids)) {
+            stores.put(store.getStoreId(), store);
+        }
+        return stores;
+    }
+
+    /**
+     * 카테고리 이름 일괄 조회 (로컬 캐시 → DB)
+     *
+     * @param categoryIds 카테고리 ID 목록 (null, 중복 허용)
+     * @return 카테고리 ID → 이름 (조회되지 않은 ID는 포함되지 않음)
+     */
+    public Map<Long, String> loadCategoryNames(Collection<Long> categoryIds) {
+        List<Long> ids = distinct(categoryIds);
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        try {
+            return categoryNames.getAll(ids, this::findCategoryNames);
+        } catch (Exception e) {
+            log.warn("카테고리 이름 조회 실패: categoryIds={}", ids, e);
+            return Collections.emptyMap();
+        }
+    }
+
+    private Map<Long, String> findCategoryNames(Set<? extends Long> missingIds) {
+        Map<Long, String> names = new HashMap<>();
+        for (Category category : categoryRepository.findByIdIn(new ArrayList<>(missingIds))) {
+            if (category.getName() != null) {
+                names.put(category.getCategoryId(), category.getName());
+            }
+        }
+        return names;
+    }
+
+    private List<Long> distinct(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Set<Long> unique = new LinkedHashSet<>(ids);
+        unique.remove(null);
+        return new ArrayList<>(unique);
+    }
+}
@@ -0,0 +1,107 @@
+package com.stdev.smartmealtable.api.search.service;
+
+import com.stdev.smartmealtable.support.search.autocomplete.AutocompleteTrie;
+import com.stdev.smartmealtable.support.search.autocomplete.TypoCandidateIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 도메인별 인메모리 자동완성 트라이 보관소
+ * <p>
+ * SearchCacheWarmingService가 Redis 캐시와 같은 데이터로 트라이와 오타 허용 인덱스(BK-tree)를 만들어 교체(publish)하고,
+ * 자동완성 서비스는 Redis/DB 조회 전에 이 트라이에서 prefix와 초성을 먼저 조회합니다.
+ * 오타 허용 단계에서는 DB 후보를 편집 거리로 걸러내는 대신 오타 허용 인덱스를 조회합니다.
+ * 인덱스는 생성 후 변경되지 않으므로 교체 중에도 조회는 이전 인덱스 또는 새 인덱스 중 하나를 온전히 사용합니다.
+ * </p>
+ *
+ * <p>
+ * 기능이 비활성화되었거나({@code search.autocomplete.in-memory.enabled=false}, 기본값)
+ * 아직 트라이가 만들어지지 않은 도메인은 empty를 반환하며, 호출자는 기존 Redis 경로를 사용합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AutocompleteTrieIndex {
+
+    @Value("${search.autocomplete.in-memory.enabled:false}")
+    private boolean enabled;
+
+    @Value("${search.autocomplete.in-memory.top-k:50}")
+    private int topK;
+
+    private final Map<String, DomainIndex> indexes = new ConcurrentHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 설정된 topK로 트라이 빌더 생성
+     */
+    public AutocompleteTrie.Builder newBuilder() {
+        return AutocompleteTrie.builder(topK);
+    }
+
+    /**
+     * 오타 허용 인덱스 빌더 생성
+     */
+    public TypoCandidateIndex.Builder newTypoBuilder() {
+        return TypoCandidateIndex.builder();
+    }
+
+    /**
+     * 도메인 트라이와 오타 허용 인덱스 교체
+     *
+     * @param domain 도메인
+     * @param trie 새로 만든 트라이
+     * @param typoIndex 새로 만든 오타 허용 인덱스
+     */
+    public void publish(String domain, AutocompleteTrie trie, TypoCandidateIndex typoIndex) {
+        indexes.put(domain, new DomainIndex(trie, typoIndex));
+        log.info("인메모리 자동완성 트라이 교체: domain={}, entities={}, nodes={}, typoKeys={}",
+                domain, trie.size(), trie.nodeCount(), typoIndex.size());
+    }
+
+    /**
+     * Prefix(초성 포함) 자동완성 조회
+     *
+     * @param domain 도메인
+     * @param keyword 검색 키워드
+     * @param limit 결과 개수
+     * @return Entity ID 목록 (인기도 높은 순), 트라이를 사용할 수 없으면 empty
+     */
+    public Optional<List<Long>> search(String domain, String keyword, int limit) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        DomainIndex index = indexes.get(domain);
+        return index == null ? Optional.empty() : Optional.of(index.trie().search(keyword, limit));
+    }
+
+    /**
+     * 오타 허용 조회 (자모 단위 편집 거리)
+     *
+     * @param domain 도메인
+     * @param keyword 검색 키워드
+     * @param maxDistance 허용 편집 거리
+     * @param limit 결과 개수
+     * @return Entity ID 목록 (거리 가까운 순), 인덱스를 사용할 수 없으면 empty
+     */
+    public Optional<List<Long>> searchWithinDistance(String domain, String keyword, int maxDistance, int limit) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        DomainIndex index = indexes.get(domain);
+        return index == null ? Optional.empty() : Optional.of(index.typoIndex().search(keyword, maxDistance, limit));
+    }
+
+    private record DomainIndex(AutocompleteTrie trie, TypoCandidateIndex typoIndex) {}
+}
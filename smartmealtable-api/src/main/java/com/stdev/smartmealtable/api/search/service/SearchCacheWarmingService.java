@@ -6,18 +6,25 @@ import com.stdev.smartmealtable.domain.member.entity.Group;
 import com.stdev.smartmealtable.domain.member.repository.GroupRepository;
 import com.stdev.smartmealtable.domain.store.Store;
 import com.stdev.smartmealtable.domain.store.StoreRepository;
+import com.stdev.smartmealtable.storage.cache.AutocompleteGenerationRegistry;
 import com.stdev.smartmealtable.storage.cache.ChosungIndexBuilder;
 import com.stdev.smartmealtable.storage.cache.ChosungIndexBuilder.SearchableEntity;
 import com.stdev.smartmealtable.storage.cache.SearchCacheService;
 import com.stdev.smartmealtable.storage.cache.SearchCacheService.AutocompleteEntity;
+import com.stdev.smartmealtable.support.search.autocomplete.AutocompleteTrie;
+import com.stdev.smartmealtable.support.search.autocomplete.TypoCandidateIndex;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 검색 캐시 워밍 서비스 (단순화 버전)
@@ -31,6 +38,9 @@ import java.util.List;
  * - Repository 페이징 조회로 메모리 효율성 확보
  * - SearchCacheService와 ChosungIndexBuilder 직접 호출
  * - 단순한 Entity → DTO 변환 로직
+ * - 새 세대에 구축한 뒤 활성 세대를 교체하여(blue/green) 재구축 중에도 조회는 완성된 인덱스를 사용
+ * - 같은 데이터로 인메모리 자동완성 트라이와 오타 허용 인덱스(AutocompleteTrieIndex)도 함께 구축 (활성화 시)
+ * - 도메인별 소요 시간(search.cache.warming)과 Redis 파이프라인 왕복 횟수(search.cache.warming.round.trips)를 메트릭으로 기록
  * </p>
  */
 @Slf4j
@@ -43,6 +53,12 @@ public class SearchCacheWarmingService {
     private final GroupRepository groupRepository;
     private final SearchCacheService searchCacheService;
     private final ChosungIndexBuilder chosungIndexBuilder;
+    private final AutocompleteGenerationRegistry generationRegistry;
+    private final AutocompleteTrieIndex autocompleteTrieIndex;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${search.cache.generation-retire-grace-minutes:10}")
+    private long retireGraceMinutes;
 
     /**
      * 전체 도메인의 캐시 워밍을 수행합니다.
@@ -76,6 +92,8 @@ public class SearchCacheWarmingService {
         log.info("Store 캐시 워밍 시작 (배치 크기: {})", batchSize);
 
         long startTime = System.currentTimeMillis();
+        long roundTripsBefore = currentWriteRoundTrips();
+        long generation = AutocompleteGenerationRegistry.LEGACY_GENERATION;
 
         try {
             // 전체 개수 조회
@@ -85,6 +103,13 @@ public class SearchCacheWarmingService {
                 return;
             }
 
+            // 새 세대에 구축 (완료 전까지 조회는 기존 세대 사용)
+            generation = generationRegistry.beginBuild("store");
+            AutocompleteTrie.Builder trieBuilder =
+                    autocompleteTrieIndex.isEnabled() ? autocompleteTrieIndex.newBuilder() : null;
+            TypoCandidateIndex.Builder typoBuilder =
+                    autocompleteTrieIndex.isEnabled() ? autocompleteTrieIndex.newTypoBuilder() : null;
+
             // 페이징 처리 - 배치 단위로 저장하여 메모리 효율화
             int totalPages = (int) Math.ceil((double) totalCount / batchSize);
 
@@ -108,19 +133,36 @@ public class SearchCacheWarmingService {
                             store.getStoreId(),
                             store.getName()
                     ));
+
+                    if (trieBuilder != null) {
+                        // 인기도: 즐겨찾기 수
+                        int favoriteCount = store.getFavoriteCount() != null ? store.getFavoriteCount() : 0;
+                        trieBuilder.add(store.getStoreId(), store.getName(), favoriteCount);
+                        typoBuilder.add(store.getStoreId(), store.getName());
+                    }
                 }
 
                 // Redis에 배치 단위로 저장
-                searchCacheService.cacheAutocompleteData("store", batchAutocompleteEntities);
-                chosungIndexBuilder.buildChosungIndex("store", batchSearchableEntities);
+                searchCacheService.cacheAutocompleteData("store", generation, batchAutocompleteEntities);
+                chosungIndexBuilder.buildChosungIndex("store", generation, batchSearchableEntities);
 
                 log.debug("Store 캐시 워밍 진행 중: {}/{} 페이지 완료", page + 1, totalPages);
             }
 
+            activateGeneration("store", generation);
+            if (trieBuilder != null) {
+                autocompleteTrieIndex.publish("store", trieBuilder.build(), typoBuilder.build());
+            }
+
             long elapsed = System.currentTimeMillis() - startTime;
-            log.info("Store 캐시 워밍 완료 (개수: {}, 소요 시간: {}ms)", totalCount, elapsed);
+            long roundTrips = currentWriteRoundTrips() - roundTripsBefore;
+            recordWarmup("store", elapsed, roundTrips);
+            log.info("Store 캐시 워밍 완료 (개수: {}, Redis 왕복: {}회, 소요 시간: {}ms)", totalCount, roundTrips, elapsed);
 
         } catch (Exception e) {
+            if (generation != AutocompleteGenerationRegistry.LEGACY_GENERATION) {
+                generationRegistry.abortBuild("store");
+            }
             log.error("Store 캐시 워밍 실패", e);
             throw new RuntimeException("Store 캐시 워밍 실패", e);
         }
@@ -136,6 +178,8 @@ public class SearchCacheWarmingService {
         log.info("Food 캐시 워밍 시작 (배치 크기: {})", batchSize);
 
         long startTime = System.currentTimeMillis();
+        long roundTripsBefore = currentWriteRoundTrips();
+        long generation = AutocompleteGenerationRegistry.LEGACY_GENERATION;
 
         try {
             // 전체 개수 조회
@@ -145,6 +189,13 @@ public class SearchCacheWarmingService {
                 return;
             }
 
+            // 새 세대에 구축 (완료 전까지 조회는 기존 세대 사용)
+            generation = generationRegistry.beginBuild("food");
+            AutocompleteTrie.Builder trieBuilder =
+                    autocompleteTrieIndex.isEnabled() ? autocompleteTrieIndex.newBuilder() : null;
+            TypoCandidateIndex.Builder typoBuilder =
+                    autocompleteTrieIndex.isEnabled() ? autocompleteTrieIndex.newTypoBuilder() : null;
+
             // 페이징 처리 - 배치 단위로 저장하여 메모리 효율화
             int totalPages = (int) Math.ceil((double) totalCount / batchSize);
 
@@ -168,19 +219,36 @@ public class SearchCacheWarmingService {
                             food.getFoodId(),
                             food.getFoodName()
                     ));
+
+                    if (trieBuilder != null) {
+                        // 인기도: 대표 메뉴 우선 (FoodAutocompleteService와 동일 기준)
+                        int popularity = Boolean.TRUE.equals(food.getIsMain()) ? 500 : 0;
+                        trieBuilder.add(food.getFoodId(), food.getFoodName(), popularity);
+                        typoBuilder.add(food.getFoodId(), food.getFoodName());
+                    }
                 }
 
                 // Redis에 배치 단위로 저장
-                searchCacheService.cacheAutocompleteData("food", batchAutocompleteEntities);
-                chosungIndexBuilder.buildChosungIndex("food", batchSearchableEntities);
+                searchCacheService.cacheAutocompleteData("food", generation, batchAutocompleteEntities);
+                chosungIndexBuilder.buildChosungIndex("food", generation, batchSearchableEntities);
 
                 log.debug("Food 캐시 워밍 진행 중: {}/{} 페이지 완료", page + 1, totalPages);
             }
 
+            activateGeneration("food", generation);
+            if (trieBuilder != null) {
+                autocompleteTrieIndex.publish("food", trieBuilder.build(), typoBuilder.build());
+            }
+
             long elapsed = System.currentTimeMillis() - startTime;
-            log.info("Food 캐시 워밍 완료 (개수: {}, 소요 시간: {}ms)", totalCount, elapsed);
+            long roundTrips = currentWriteRoundTrips() - roundTripsBefore;
+            recordWarmup("food", elapsed, roundTrips);
+            log.info("Food 캐시 워밍 완료 (개수: {}, Redis 왕복: {}회, 소요 시간: {}ms)", totalCount, roundTrips, elapsed);
 
         } catch (Exception e) {
+            if (generation != AutocompleteGenerationRegistry.LEGACY_GENERATION) {
+                generationRegistry.abortBuild("food");
+            }
             log.error("Food 캐시 워밍 실패", e);
             throw new RuntimeException("Food 캐시 워밍 실패", e);
         }
@@ -196,6 +264,8 @@ public class SearchCacheWarmingService {
         log.info("Group 캐시 워밍 시작 (배치 크기: {})", batchSize);
 
         long startTime = System.currentTimeMillis();
+        long roundTripsBefore = currentWriteRoundTrips();
+        long generation = AutocompleteGenerationRegistry.LEGACY_GENERATION;
 
         try {
             // 전체 개수 조회
@@ -205,6 +275,13 @@ public class SearchCacheWarmingService {
                 return;
             }
 
+            // 새 세대에 구축 (완료 전까지 조회는 기존 세대 사용)
+            generation = generationRegistry.beginBuild("group");
+            AutocompleteTrie.Builder trieBuilder =
+                    autocompleteTrieIndex.isEnabled() ? autocompleteTrieIndex.newBuilder() : null;
+            TypoCandidateIndex.Builder typoBuilder =
+                    autocompleteTrieIndex.isEnabled() ? autocompleteTrieIndex.newTypoBuilder() : null;
+
             // 페이징 처리 - 배치 단위로 저장하여 메모리 효율화
             int totalPages = (int) Math.ceil((double) totalCount / batchSize);
 
@@ -228,21 +305,68 @@ public class SearchCacheWarmingService {
                             group.getGroupId(),
                             group.getName()
                     ));
+
+                    if (trieBuilder != null) {
+                        trieBuilder.add(group.getGroupId(), group.getName(), 1.0);
+                        typoBuilder.add(group.getGroupId(), group.getName());
+                    }
                 }
 
                 // Redis에 배치 단위로 저장
-                searchCacheService.cacheAutocompleteData("group", batchAutocompleteEntities);
-                chosungIndexBuilder.buildChosungIndex("group", batchSearchableEntities);
+                searchCacheService.cacheAutocompleteData("group", generation, batchAutocompleteEntities);
+                chosungIndexBuilder.buildChosungIndex("group", generation, batchSearchableEntities);
 
                 log.debug("Group 캐시 워밍 진행 중: {}/{} 페이지 완료", page + 1, totalPages);
             }
 
+            activateGeneration("group", generation);
+            if (trieBuilder != null) {
+                autocompleteTrieIndex.publish("group", trieBuilder.build(), typoBuilder.build());
+            }
+
             long elapsed = System.currentTimeMillis() - startTime;
-            log.info("Group 캐시 워밍 완료 (개수: {}, 소요 시간: {}ms)", totalCount, elapsed);
+            long roundTrips = currentWriteRoundTrips() - roundTripsBefore;
+            recordWarmup("group", elapsed, roundTrips);
+            log.info("Group 캐시 워밍 완료 (개수: {}, Redis 왕복: {}회, 소요 시간: {}ms)", totalCount, roundTrips, elapsed);
 
         } catch (Exception e) {
+            if (generation != AutocompleteGenerationRegistry.LEGACY_GENERATION) {
+                generationRegistry.abortBuild("group");
+            }
             log.error("Group 캐시 워밍 실패", e);
             throw new RuntimeException("Group 캐시 워밍 실패", e);
         }
     }
+
+    /**
+     * 구축을 마친 세대로 교체하고, 이전 세대는 유예 시간 뒤 만료되도록 합니다.
+     * <p>
+     * 다른 인스턴스가 이전 세대 번호를 잠시 보관하고 있을 수 있으므로 즉시 삭제하지 않습니다.
+     * </p>
+     */
+    private void activateGeneration(String domain, long generation) {
+        long previous = generationRegistry.activate(domain, generation);
+        if (previous != generation) {
+            Duration grace = Duration.ofMinutes(retireGraceMinutes);
+            searchCacheService.retireGeneration(domain, previous, grace);
+            chosungIndexBuilder.retireGeneration(domain, previous, grace);
+        }
+    }
+
+    /**
+     * 자동완성 캐시와 초성 인덱스의 일괄 쓰기 왕복 횟수 합계 (누적)
+     */
+    private long currentWriteRoundTrips() {
+        return searchCacheService.getWriteRoundTrips() + chosungIndexBuilder.getWriteRoundTrips();
+    }
+
+    /**
+     * 도메인별 워밍 소요 시간과 Redis 왕복 횟수를 메트릭으로 기록합니다.
+     */
+    private void recordWarmup(String domain, long elapsedMillis, long roundTrips) {
+        meterRegistry.timer("search.cache.warming", "domain", domain)
+                .record(elapsedMillis, TimeUnit.MILLISECONDS);
+        meterRegistry.counter("search.cache.warming.round.trips", "domain", domain)
+                .increment(roundTrips);
+    }
 }
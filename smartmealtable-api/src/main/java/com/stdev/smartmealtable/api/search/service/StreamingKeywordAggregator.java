@@ -0,0 +1,154 @@
+package com.stdev.smartmealtable.api.search.service;
+
+import com.stdev.smartmealtable.storage.cache.KeywordRankingCacheService;
+import com.stdev.smartmealtable.support.search.ranking.SpaceSavingCounter;
+import com.stdev.smartmealtable.support.search.ranking.SpaceSavingCounter.HeavyHitter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검색 키워드 실시간 집계
+ *
+ * 이벤트 테이블을 주기적으로 GROUP BY 하는 대신, 검색 이벤트가 들어올 때마다 prefix별
+ * {@link SpaceSavingCounter}에 점수를 누적하고 flush-interval-ms마다 증가분을 Redis에 한 번에 반영합니다.
+ *
+ * 특징:
+ * - prefix별 카운터 수가 고정되어 있어 검색량/키워드 종류와 무관하게 메모리 사용량이 일정
+ * - Redis에는 실제 누적이 보장되는 값(count - error)만 반영하여 긴 꼬리 키워드가 순위에 끼어들지 않음
+ * - 반영은 파이프라인 한 번 ({@link KeywordRankingCacheService#incrementScoresBatch})
+ *
+ * keyword.aggregation.streaming.enabled=true이면 기존 SQL 집계 작업은 실행하지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StreamingKeywordAggregator {
+
+    private final KeywordRankingCacheService keywordRankingCacheService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${keyword.aggregation.streaming.enabled:false}")
+    private boolean enabled;
+
+    @Value("${keyword.aggregation.streaming.counters-per-prefix:64}")
+    private int countersPerPrefix = 64;
+
+    @Value("${keyword.aggregation.prefix-length:2}")
+    private int prefixLength = 2;
+
+    @Value("${keyword.aggregation.score.search-weight:0.7}")
+    private double searchWeight = 0.7;
+
+    @Value("${keyword.aggregation.score.click-weight:1.3}")
+    private double clickWeight = 1.3;
+
+    @Value("${keyword.aggregation.max-keywords-per-prefix:200}")
+    private int maxKeywordsPerPrefix = 200;
+
+    @Value("${keyword.aggregation.redis-ttl-hours:12}")
+    private long redisTtlHours = 12;
+
+    private final Map<String, SpaceSavingCounter> counters = new ConcurrentHashMap<>();
+
+    private Counter recordedCounter;
+    private Counter flushedKeywordsCounter;
+
+    @PostConstruct
+    void init() {
+        recordedCounter = meterRegistry.counter("keyword_aggregation_streamed_events");
+        flushedKeywordsCounter = meterRegistry.counter("keyword_aggregation_streamed_keywords_flushed");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 검색 이벤트 누적 (요청 스레드에서 호출)
+     *
+     * @param normalizedKeyword 정규화된 검색 키워드
+     * @param clicked 검색 결과 클릭 이벤트 여부
+     */
+    public void record(String normalizedKeyword, boolean clicked) {
+        if (!enabled || normalizedKeyword == null || normalizedKeyword.isBlank()) {
+            return;
+        }
+
+        String prefix = normalizedKeyword.substring(0, Math.min(prefixLength, normalizedKeyword.length())).trim();
+        if (prefix.isEmpty()) {
+            return;
+        }
+
+        // SQL 집계와 같은 점수: 검색 1건당 search-weight, 그중 클릭 이벤트는 click-weight 추가
+        double score = searchWeight + (clicked ? clickWeight : 0.0);
+        // compute는 prefix 단위로 원자적으로 실행되므로 flush의 꺼내기/제거와 겹치지 않음
+        counters.compute(prefix, (key, counter) -> {
+            SpaceSavingCounter target = counter != null ? counter : new SpaceSavingCounter(countersPerPrefix);
+            target.add(normalizedKeyword, score);
+            return target;
+        });
+        recordedCounter.increment();
+    }
+
+    /**
+     * 누적된 증가분을 Redis 순위에 반영하고 카운터 초기화
+     */
+    @SuppressWarnings("unchecked")
+    public void flush() {
+        if (counters.isEmpty()) {
+            return;
+        }
+
+        Map<String, Map<String, Double>> prefixScores = new HashMap<>();
+        int keywords = 0;
+        for (String prefix : counters.keySet()) {
+            // 꺼내면서 제거: 다음 이벤트는 새 카운터에 누적되고, 검색이 끊긴 prefix는 남지 않음
+            List<HeavyHitter>[] drained = new List[1];
+            counters.computeIfPresent(prefix, (key, counter) -> {
+                drained[0] = counter.drain();
+                return null;
+            });
+            if (drained[0] == null) {
+                continue;
+            }
+
+            Map<String, Double> scores = new HashMap<>();
+            for (HeavyHitter hitter : drained[0]) {
+                if (hitter.guaranteedCount() > 0) {
+                    scores.put(hitter.key(), hitter.guaranteedCount());
+                }
+            }
+            if (!scores.isEmpty()) {
+                prefixScores.put(prefix, scores);
+                keywords += scores.size();
+            }
+        }
+
+        if (prefixScores.isEmpty()) {
+            return;
+        }
+
+        keywordRankingCacheService.incrementScoresBatch(prefixScores, Duration.ofHours(redisTtlHours), maxKeywordsPerPrefix);
+        flushedKeywordsCounter.increment(keywords);
+        log.debug("Streaming keyword aggregation flushed prefixes={}, keywords={}", prefixScores.size(), keywords);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (enabled) {
+            flush();
+        }
+    }
+}
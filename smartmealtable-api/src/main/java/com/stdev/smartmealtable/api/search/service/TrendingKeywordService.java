@@ -0,0 +1,145 @@
+package com.stdev.smartmealtable.api.search.service;
+
+import com.stdev.smartmealtable.storage.cache.SearchCacheService;
+import com.stdev.smartmealtable.storage.cache.SearchCacheService.TrendingKeyword;
+import com.stdev.smartmealtable.support.search.ranking.SpaceSavingCounter;
+import com.stdev.smartmealtable.support.search.ranking.SpaceSavingCounter.HeavyHitter;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인기 검색어 집계/조회 서비스 (시간 감쇠 슬라이딩 윈도우)
+ *
+ * 자동완성 요청마다 Redis에 ZINCRBY/EXPIRE를 보내는 대신 노드 메모리의 도메인별 {@link SpaceSavingCounter}에
+ * 누적하고, flush-interval-ms마다 분 단위 버킷에 한 번에 반영합니다.
+ * 반영할 때 최근 window-minutes개 버킷을 반감기 half-life-minutes로 감쇠 합산한 상위 N개 스냅샷을 다시 만들고,
+ * 조회는 노드가 들고 있는 스냅샷을 그대로 사용합니다.
+ *
+ * 특징:
+ * - 오래된 검색은 점수가 점점 줄어들어 "지금 많이 찾는" 검색어가 위로 올라옴 (24시간 TTL로 한꺼번에 사라지지 않음)
+ * - Redis 쓰기는 검색 수가 아니라 (도메인 수 × flush 횟수) 파이프라인으로 제한
+ * - 다른 노드의 검색량은 스냅샷 재계산 시 버킷을 통해 합쳐짐
+ *
+ * search.trending.windowed.enabled=false이면 기존처럼 trending:{domain} 누적 방식으로 동작합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TrendingKeywordService {
+
+    private final SearchCacheService searchCacheService;
+    private final Clock clock;
+
+    @Value("${search.trending.windowed.enabled:false}")
+    private boolean enabled;
+
+    @Value("${search.trending.windowed.window-minutes:60}")
+    private int windowMinutes = 60;
+
+    @Value("${search.trending.windowed.half-life-minutes:15}")
+    private double halfLifeMinutes = 15;
+
+    @Value("${search.trending.windowed.snapshot-size:50}")
+    private int snapshotSize = 50;
+
+    @Value("${search.trending.windowed.counters-per-domain:1024}")
+    private int countersPerDomain = 1024;
+
+    private final Map<String, SpaceSavingCounter> pending = new ConcurrentHashMap<>();
+    private final Map<String, List<TrendingKeyword>> snapshots = new ConcurrentHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 검색어 집계 (요청 스레드에서 호출)
+     *
+     * @param domain 도메인
+     * @param keyword 검색어
+     */
+    public void record(String domain, String keyword) {
+        if (!enabled) {
+            searchCacheService.incrementSearchCount(domain, keyword);
+            return;
+        }
+
+        // compute는 도메인 단위로 원자적으로 실행되므로 flush의 꺼내기/제거와 겹치지 않음
+        pending.compute(domain, (key, counter) -> {
+            SpaceSavingCounter target = counter != null ? counter : new SpaceSavingCounter(countersPerDomain);
+            target.add(keyword, 1.0);
+            return target;
+        });
+    }
+
+    /**
+     * 인기 검색어 조회
+     *
+     * @param domain 도메인
+     * @param limit 결과 개수 (윈도우 모드에서는 snapshot-size까지)
+     * @return 인기 검색어 목록
+     */
+    public List<TrendingKeyword> getTrendingKeywords(String domain, int limit) {
+        if (!enabled) {
+            return searchCacheService.getTrendingKeywords(domain, limit);
+        }
+
+        // 아직 flush 전이면 다른 노드가 만든 스냅샷을 읽어 두고, 이후 flush 때 함께 갱신
+        List<TrendingKeyword> snapshot = snapshots.computeIfAbsent(
+                domain, key -> List.copyOf(searchCacheService.getTrendingSnapshot(key, snapshotSize)));
+        return snapshot.size() <= limit ? snapshot : snapshot.subList(0, limit);
+    }
+
+    /**
+     * 누적된 검색 횟수를 현재 분 버킷에 반영하고 도메인별 스냅샷 갱신
+     */
+    public void flush() {
+        Set<String> domains = new HashSet<>(pending.keySet());
+        domains.addAll(snapshots.keySet());
+        if (domains.isEmpty()) {
+            return;
+        }
+
+        long epochMinute = clock.millis() / 60_000L;
+        for (String domain : domains) {
+            Map<String, Double> counts = drain(domain);
+            List<TrendingKeyword> snapshot = searchCacheService.refreshTrendingSnapshot(
+                    domain, counts, epochMinute, windowMinutes, halfLifeMinutes, snapshotSize);
+            snapshots.put(domain, List.copyOf(snapshot));
+            log.debug("Trending keywords flushed domain={}, keywords={}, snapshot={}",
+                    domain, counts.size(), snapshot.size());
+        }
+    }
+
+    private Map<String, Double> drain(String domain) {
+        Map<String, Double> counts = new HashMap<>();
+        // 꺼내면서 제거: 다음 검색은 새 카운터에 누적
+        pending.computeIfPresent(domain, (key, counter) -> {
+            for (HeavyHitter hitter : counter.drain()) {
+                if (hitter.guaranteedCount() > 0) {
+                    counts.put(hitter.key(), hitter.guaranteedCount());
+                }
+            }
+            return null;
+        });
+        return counts;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (enabled) {
+            flush();
+        }
+    }
+}
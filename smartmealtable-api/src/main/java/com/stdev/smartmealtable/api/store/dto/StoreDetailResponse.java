@@ -42,8 +42,13 @@ public record StoreDetailResponse(
         Boolean isOpen,
         LocalDateTime registeredAt
 ) {
+    /**
+     * @param store 가게 (캐시된 공유 객체일 수 있으므로 수정하지 않음)
+     * @param viewCount 응답에 표시할 조회수 (이번 조회 포함)
+     */
     public static StoreDetailResponse from(
             Store store,
+            Integer viewCount,
             List<StoreImage> images,
             List<StoreOpeningHour> openingHours,
             List<StoreTemporaryClosure> temporaryClosures,
@@ -65,7 +70,7 @@ public record StoreDetailResponse(
                 store.getDescription(),
                 store.getAveragePrice(),
                 store.getReviewCount(),
-                store.getViewCount(),
+                viewCount,
                 store.getFavoriteCount(),
                 store.getStoreType(),
                 store.getImageUrl(),
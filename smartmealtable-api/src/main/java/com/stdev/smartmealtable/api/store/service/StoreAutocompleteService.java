@@ -1,10 +1,12 @@
 package com.stdev.smartmealtable.api.store.service;
 
+import com.stdev.smartmealtable.api.search.service.AutocompleteSuggestionHydrator;
+import com.stdev.smartmealtable.api.search.service.AutocompleteTrieIndex;
+import com.stdev.smartmealtable.api.search.service.TrendingKeywordService;
 import com.stdev.smartmealtable.api.store.service.dto.StoreAutocompleteResponse;
 import com.stdev.smartmealtable.api.store.service.dto.StoreAutocompleteResponse.StoreSuggestion;
 import com.stdev.smartmealtable.api.store.service.dto.StoreTrendingKeywordsResponse;
 import com.stdev.smartmealtable.api.store.service.dto.StoreTrendingKeywordsResponse.TrendingKeyword;
-import com.stdev.smartmealtable.domain.category.Category;
 import com.stdev.smartmealtable.domain.category.CategoryRepository;
 import com.stdev.smartmealtable.domain.store.Store;
 import com.stdev.smartmealtable.domain.store.StoreRepository;
@@ -49,6 +51,9 @@ public class StoreAutocompleteService {
     private final SearchCacheService searchCacheService;
     private final ChosungIndexBuilder chosungIndexBuilder;
     private final KeywordRankingCacheService keywordRankingCacheService;
+    private final AutocompleteTrieIndex autocompleteTrieIndex;
+    private final AutocompleteSuggestionHydrator suggestionHydrator;
+    private final TrendingKeywordService trendingKeywordService;
     
     private static final String DOMAIN = "store";
     private static final int MAX_TYPO_DISTANCE = 2;
@@ -83,7 +88,7 @@ public class StoreAutocompleteService {
             String normalizedKeyword = keyword.trim();
             
             // 2. 검색 횟수 증가 (인기 검색어 집계)
-            searchCacheService.incrementSearchCount(DOMAIN, normalizedKeyword);
+            trendingKeywordService.record(DOMAIN, normalizedKeyword);
             
             // 3. 다단계 검색 전략 실행
             List<Store> results = performMultiStageSearch(normalizedKeyword, limit * 2); // 더 많이 조회 후 정렬
@@ -91,10 +96,8 @@ public class StoreAutocompleteService {
             // 4. 관련성 기준으로 재정렬
             List<Store> sortedResults = sortByRelevance(normalizedKeyword, results, limit);
 
-            // 5. DTO 변환 (카테고리 이름 포함)
-            List<StoreSuggestion> suggestions = sortedResults.stream()
-                .map(this::toSuggestion)
-                .collect(Collectors.toList());
+            // 5. DTO 변환 (카테고리 이름은 응답 단위로 일괄 조회)
+            List<StoreSuggestion> suggestions = toSuggestions(sortedResults);
 
             RankingResult rankingResult = applyKeywordRanking(normalizedKeyword, suggestions);
             List<StoreSuggestion> orderedSuggestions = rankingResult.suggestions();
@@ -127,9 +130,11 @@ public class StoreAutocompleteService {
     private List<Store> performMultiStageSearch(String keyword, int limit) {
         Set<Long> storeIds = new LinkedHashSet<>();
         
-        // Stage 1: Prefix 검색 (Redis Sorted Set)
+        // Stage 1: Prefix 검색 (인메모리 트라이, 없으면 Redis Sorted Set)
+        Optional<List<Long>> inMemoryResults = autocompleteTrieIndex.search(DOMAIN, keyword, limit);
         try {
-            List<Long> prefixResults = searchCacheService.getAutocompleteResults(DOMAIN, keyword, limit);
+            List<Long> prefixResults = inMemoryResults
+                .orElseGet(() -> searchCacheService.getAutocompleteResults(DOMAIN, keyword, limit));
             storeIds.addAll(prefixResults);
             
             if (storeIds.size() >= limit) {
@@ -140,8 +145,8 @@ public class StoreAutocompleteService {
             log.warn("Stage 1 (Prefix) 검색 실패, DB Fallback으로 진행", e);
         }
         
-        // Stage 2: 초성 검색 (초성 인덱스)
-        if (KoreanSearchUtil.isChosung(keyword)) {
+        // Stage 2: 초성 검색 (초성 인덱스, 트라이는 초성 prefix까지 이미 조회함)
+        if (inMemoryResults.isEmpty() && KoreanSearchUtil.isChosung(keyword)) {
             try {
                 Set<String> chosungResults = chosungIndexBuilder.findIdsByChosung(DOMAIN, keyword);
                 chosungResults.stream()
@@ -224,36 +229,45 @@ public class StoreAutocompleteService {
             }
         }
 
-        // Stage 4: 편집 거리 기반 검색 (Fallback)
+        // Stage 4: 편집 거리 기반 검색 (Fallback, 자모 단위)
         if (resultIds.size() < limit) {
-            String prefix = keyword.substring(0, Math.min(2, keyword.length()));
-            List<Store> typoCandidates = storeRepository.findByNameStartsWith(prefix, limit * 3);
-
-            typoCandidates.stream()
-                .filter(store -> {
-                    int distance = KoreanSearchUtil.calculateEditDistance(keyword, store.getName());
-                    return distance <= MAX_TYPO_DISTANCE;
-                })
-                .sorted(Comparator.comparingInt(store ->
-                    KoreanSearchUtil.calculateEditDistance(keyword, store.getName())
-                ))
-                .forEach(store -> {
-                    if (resultIds.size() >= limit) return;
-                    resultIds.add(store.getStoreId());
-                });
+            List<Long> typoIds = autocompleteTrieIndex
+                .searchWithinDistance(DOMAIN, keyword, MAX_TYPO_DISTANCE, limit * 3)
+                .orElseGet(() -> findTypoCandidateIds(keyword, limit * 3));
+            for (Long storeId : typoIds) {
+                if (resultIds.size() >= limit) break;
+                resultIds.add(storeId);
+            }
         }
 
-        // 결과 조회
-        return resultIds.stream()
+        // 결과 조회 (IN 조회 한 번, 순서 유지)
+        return fetchStores(resultIds.stream()
             .limit(limit)
-            .map(storeId -> {
-                var storeOpt = storeRepository.findById(storeId);
-                return storeOpt.orElse(null);
-            })
-            .filter(store -> store != null)
-            .collect(Collectors.toList());
+            .collect(Collectors.toList()));
     }
     
+    /**
+     * 오타 허용 인덱스가 없을 때: 첫 2글자 prefix 후보를 자모 편집 거리로 필터링
+     *
+     * 후보마다 거리를 한 번만 계산하며, 허용 거리를 넘으면 계산을 조기 종료합니다.
+     *
+     * @param keyword 검색 키워드
+     * @param candidateLimit 조회할 후보 수
+     * @return 허용 거리 이내 Store ID 목록 (거리 가까운 순)
+     */
+    private List<Long> findTypoCandidateIds(String keyword, int candidateLimit) {
+        String prefix = keyword.substring(0, Math.min(2, keyword.length()));
+        List<Store> candidates = storeRepository.findByNameStartsWith(prefix, candidateLimit);
+
+        return candidates.stream()
+            .map(store -> Map.entry(store.getStoreId(),
+                KoreanSearchUtil.calculateJamoEditDistance(keyword, store.getName(), MAX_TYPO_DISTANCE)))
+            .filter(entry -> entry.getValue() <= MAX_TYPO_DISTANCE)
+            .sorted(Map.Entry.comparingByValue())
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toList());
+    }
+
     /**
      * Store ID 목록으로 Store 엔티티 조회
      * 
@@ -310,10 +324,9 @@ public class StoreAutocompleteService {
                 stores = storeRepository.findByNameStartsWith(keyword, limit);
             }
             
-            List<StoreSuggestion> suggestions = stores.stream()
+            List<StoreSuggestion> suggestions = toSuggestions(stores.stream()
                 .limit(limit)
-                .map(this::toSuggestion)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
 
             RankingResult rankingResult = applyKeywordRanking(keyword != null ? keyword.trim() : "", suggestions);
             return new StoreAutocompleteResponse(rankingResult.suggestions(), rankingResult.keywordRecommendations());
@@ -335,7 +348,7 @@ public class StoreAutocompleteService {
         
         try {
             List<SearchCacheService.TrendingKeyword> trending = 
-                searchCacheService.getTrendingKeywords(DOMAIN, limit);
+                trendingKeywordService.getTrendingKeywords(DOMAIN, limit);
             
             List<TrendingKeyword> keywords = new ArrayList<>();
             for (int i = 0; i < trending.size(); i++) {
@@ -470,24 +483,45 @@ public class StoreAutocompleteService {
         return normalized.substring(0, Math.min(RANKING_PREFIX_LENGTH, normalized.length()));
     }
 
+    /**
+     * Store 목록 → StoreSuggestion 목록 변환
+     *
+     * 응답에 포함된 모든 가게의 카테고리 ID를 모아 이름을 한 번에 조회한 뒤 맵에서 조립합니다.
+     *
+     * @param stores Store 엔티티 목록 (순서 유지)
+     * @return StoreSuggestion DTO 목록
+     */
+    private List<StoreSuggestion> toSuggestions(List<Store> stores) {
+        if (stores.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> categoryIds = stores.stream()
+            .filter(store -> store.getCategoryIds() != null)
+            .flatMap(store -> store.getCategoryIds().stream())
+            .collect(Collectors.toList());
+        Map<Long, String> categoryNames = suggestionHydrator.loadCategoryNames(categoryIds);
+
+        return stores.stream()
+            .map(store -> toSuggestion(store, categoryNames))
+            .collect(Collectors.toList());
+    }
+
     /**
      * Store → StoreSuggestion 변환
      *
      * @param store Store 엔티티
+     * @param categoryNames 미리 조회한 카테고리 이름 맵
      * @return StoreSuggestion DTO
      */
-    private StoreSuggestion toSuggestion(Store store) {
+    private StoreSuggestion toSuggestion(Store store, Map<Long, String> categoryNames) {
         // Category ID -> Category Name 변환
-        List<String> categoryNames = Collections.emptyList();
+        List<String> names = Collections.emptyList();
         if (store.getCategoryIds() != null && !store.getCategoryIds().isEmpty()) {
-            try {
-                List<Category> categories = categoryRepository.findByIdIn(store.getCategoryIds());
-                categoryNames = categories.stream()
-                    .map(Category::getName)
-                    .collect(Collectors.toList());
-            } catch (Exception e) {
-                log.warn("카테고리 조회 실패: storeId={}", store.getStoreId(), e);
-            }
+            names = store.getCategoryIds().stream()
+                .map(categoryNames::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
         }
         
         return new StoreSuggestion(
@@ -495,7 +529,7 @@ public class StoreAutocompleteService {
             store.getName(),
             store.getStoreType(),
             store.getAddress(),
-            categoryNames
+            names
         );
     }
 
@@ -0,0 +1,204 @@
+package com.stdev.smartmealtable.api.store.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.stdev.smartmealtable.domain.food.Food;
+import com.stdev.smartmealtable.domain.food.FoodRepository;
+import com.stdev.smartmealtable.domain.store.Store;
+import com.stdev.smartmealtable.domain.store.StoreImage;
+import com.stdev.smartmealtable.domain.store.StoreImageRepository;
+import com.stdev.smartmealtable.domain.store.StoreOpeningHour;
+import com.stdev.smartmealtable.domain.store.StoreOpeningHourRepository;
+import com.stdev.smartmealtable.domain.store.StoreRepository;
+import com.stdev.smartmealtable.domain.store.StoreTemporaryClosure;
+import com.stdev.smartmealtable.domain.store.StoreTemporaryClosureRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 가게 상세 읽기 모델 캐시
+ *
+ * 가게 상세는 회원과 무관한 부분(가게, 이미지, 영업시간, 임시 휴무, 메뉴)이 대부분이므로
+ * 가게 ID 단위로 묶어서 노드 메모리(Caffeine)에 보관합니다.
+ * 캐시 적중 시 상세 조회에 필요한 DB 조회는 즐겨찾기 여부 하나만 남습니다.
+ *
+ * 무효화:
+ * - admin(StoreApplicationService 등)과 crawler(StoreDataWriter)는 별도 프로세스이므로
+ *   가게 또는 상세 구성 요소를 바꿀 때 store.updated_at을 갱신합니다 ({@link StoreRepository#touchUpdatedAt})
+ * - 이 캐시는 refresh-delay-ms마다 updated_at이 워터마크 이후인 가게를 조회하여 무효화합니다
+ *   (위치 인덱스 증분 동기화와 같은 방식)
+ * - updated_at은 DB 시계(time_zone)로 기록되므로 워터마크도 애플리케이션 시계가 아닌
+ *   시작 시점의 MAX(updated_at)에서 시작하고, 이후에는 조회된 updated_at으로만 전진합니다
+ * - updated_at은 초 단위이고 크롤러의 일괄 touch는 같은 시각을 공유하므로, 같은 초에 늦게 커밋된 변경을 놓치지 않도록
+ *   워터마크 이상(>=)을 조회하되 워터마크 시각에 이미 무효화한 가게는 다시 무효화하지 않습니다
+ *   (조회는 idx_store_updated_at 인덱스 범위 스캔)
+ * - ttl-seconds는 커밋 순서 등으로 놓친 변경에 대한 안전장치입니다
+ *
+ * 조회수는 {@link StoreViewRecorder}가 updated_at을 바꾸지 않고 반영하므로 캐시된 조회수는 최대 ttl-seconds만큼 늦을 수 있습니다.
+ * 캐시된 객체는 여러 요청이 공유하므로 호출 측에서 수정하면 안 됩니다.
+ *
+ * store.detail-cache.enabled=false(기본값)이면 항상 DB에서 조회합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreDetailCache {
+
+    /**
+     * 메뉴 정렬: 대표 메뉴 우선, displayOrder 오름차순 (null은 맨 뒤)
+     */
+    private static final Comparator<Food> MENU_ORDER = Comparator
+            .comparing((Food food) -> !Boolean.TRUE.equals(food.getIsMain()))
+            .thenComparing(Food::getDisplayOrder, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    /**
+     * 가게가 하나도 없을 때의 워터마크 시작값
+     */
+    private static final LocalDateTime EMPTY_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final StoreRepository storeRepository;
+    private final StoreImageRepository storeImageRepository;
+    private final StoreOpeningHourRepository storeOpeningHourRepository;
+    private final StoreTemporaryClosureRepository storeTemporaryClosureRepository;
+    private final FoodRepository foodRepository;
+
+    @Value("${store.detail-cache.enabled:false}")
+    private boolean enabled;
+
+    @Value("${store.detail-cache.maximum-size:5000}")
+    private long maximumSize = 5000;
+
+    @Value("${store.detail-cache.ttl-seconds:600}")
+    private long ttlSeconds = 600;
+
+    private Cache<Long, StoreDetail> cache;
+
+    /**
+     * 마지막으로 반영한 updated_at (DB 시계 기준, 아직 정하지 못했으면 null)
+     */
+    private volatile LocalDateTime watermark;
+
+    /**
+     * 워터마크 시각에 이미 무효화한 가게 ID
+     */
+    private Set<Long> evictedAtWatermark = Set.of();
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        if (!enabled) {
+            return;
+        }
+        try {
+            watermark = loadInitialWatermark();
+        } catch (Exception e) {
+            // 첫 무효화 주기에서 다시 시도
+            watermark = null;
+            log.warn("가게 상세 캐시 워터마크 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 가게 상세 조회 (캐시 → DB)
+     *
+     * @param storeId 가게 ID
+     * @return 가게 상세 (삭제되었거나 없는 가게면 empty)
+     */
+    public Optional<StoreDetail> get(Long storeId) {
+        if (!enabled) {
+            return Optional.ofNullable(load(storeId));
+        }
+        // 로더가 null을 반환하면 캐시에 저장하지 않음
+        return Optional.ofNullable(cache.get(storeId, this::load));
+    }
+
+    /**
+     * 다른 프로세스에서 변경된 가게의 캐시 무효화
+     */
+    @Scheduled(fixedDelayString = "${store.detail-cache.refresh-delay-ms:5000}")
+    public void evictUpdatedStores() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (watermark == null) {
+                // 워터마크가 없는 동안 적재된 상세는 변경 여부를 알 수 없으므로 모두 비움
+                watermark = loadInitialWatermark();
+                evictedAtWatermark = Set.of();
+                cache.invalidateAll();
+                return;
+            }
+            LocalDateTime since = watermark;
+            Map<Long, LocalDateTime> updated = storeRepository.findUpdatedAtSince(since);
+            Set<Long> changed = updated.entrySet().stream()
+                    .filter(entry -> !(entry.getValue().equals(since) && evictedAtWatermark.contains(entry.getKey())))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toSet());
+            if (changed.isEmpty()) {
+                return;
+            }
+            cache.invalidateAll(changed);
+
+            LocalDateTime latest = Collections.max(updated.values());
+            watermark = latest;
+            evictedAtWatermark = updated.entrySet().stream()
+                    .filter(entry -> entry.getValue().equals(latest))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toUnmodifiableSet());
+            log.debug("가게 상세 캐시 무효화: stores={}, watermark={}", changed.size(), watermark);
+        } catch (Exception e) {
+            log.error("가게 상세 캐시 무효화 실패", e);
+        }
+    }
+
+    private LocalDateTime loadInitialWatermark() {
+        return storeRepository.findMaxUpdatedAt().orElse(EMPTY_WATERMARK);
+    }
+
+    private StoreDetail load(Long storeId) {
+        return storeRepository.findByIdAndDeletedAtIsNull(storeId)
+                .map(store -> new StoreDetail(
+                        store,
+                        List.copyOf(storeImageRepository.findByStoreId(storeId)),
+                        List.copyOf(storeOpeningHourRepository.findByStoreId(storeId)),
+                        List.copyOf(storeTemporaryClosureRepository.findByStoreId(storeId)),
+                        foodRepository.findByStoreId(storeId).stream().sorted(MENU_ORDER).toList()
+                ))
+                .orElse(null);
+    }
+
+    /**
+     * 가게 상세 읽기 모델 (회원과 무관한 부분)
+     *
+     * @param store 가게
+     * @param images 가게 이미지
+     * @param openingHours 영업시간
+     * @param temporaryClosures 임시 휴무
+     * @param foods 메뉴 (대표 메뉴 우선, displayOrder 순)
+     */
+    public record StoreDetail(
+            Store store,
+            List<StoreImage> images,
+            List<StoreOpeningHour> openingHours,
+            List<StoreTemporaryClosure> temporaryClosures,
+            List<Food> foods
+    ) {
+    }
+}
@@ -29,7 +29,7 @@ import java.util.List;
 /**
  * 가게 관리 Application Service
  * - 가게 목록 조회 (위치 기반 필터링, 정렬)
- * - 가게 상세 조회 (조회 이력 기록, 조회수 증가)
+ * - 가게 상세 조회 (가게 단위 상세는 {@link StoreDetailCache}, 조회 이력/조회수는 {@link StoreViewRecorder}가 일괄 저장)
  * - 가게 자동완성 검색
  */
 @Service
@@ -38,10 +38,8 @@ import java.util.List;
 public class StoreService {
     
     private final StoreRepository storeRepository;
-    private final StoreImageRepository storeImageRepository;
-    private final StoreOpeningHourRepository storeOpeningHourRepository;
-    private final StoreTemporaryClosureRepository storeTemporaryClosureRepository;
-    private final StoreViewHistoryRepository storeViewHistoryRepository;
+    private final StoreDetailCache storeDetailCache;
+    private final StoreViewRecorder storeViewRecorder;
     private final AddressHistoryRepository addressHistoryRepository;
     private final FoodRepository foodRepository;
     private final FavoriteRepository favoriteRepository;
@@ -132,63 +130,27 @@ public class StoreService {
     
     /**
      * 가게 상세 조회
-     * - 조회 이력 기록
-     * - 조회수 증가
+     * - 조회 이력 기록, 조회수 증가 (메모리에 기록 후 일괄 저장, 요청 중 DB 쓰기 없음)
      * - 메뉴 정보 포함 (isMain, displayOrder 기준 정렬)
      * - 이미지 정보 포함 (isMain 우선, displayOrder 순 정렬)
      */
-    @Transactional
     public StoreDetailResponse getStoreDetail(Long memberId, Long storeId) {
-        // 가게 조회
-        Store store = storeRepository.findByIdAndDeletedAtIsNull(storeId)
+        // 가게/이미지/영업시간/임시 휴무/메뉴 (가게 단위 캐시, 메뉴는 정렬된 상태)
+        StoreDetailCache.StoreDetail detail = storeDetailCache.get(storeId)
                 .orElseThrow(() -> new BusinessException(ErrorType.STORE_NOT_FOUND));
+        Store store = detail.store();
         
-        // 조회 이력 기록
-        StoreViewHistory viewHistory = storeViewHistoryRepository.createViewHistory(storeId, memberId);
-        storeViewHistoryRepository.save(viewHistory);
-        
-        // 조회수 증가
-        store.incrementViewCount();
-        storeRepository.save(store);
-        
-        // 가게 이미지 조회 (isMain 우선, displayOrder 순 정렬)
-        List<StoreImage> images = storeImageRepository.findByStoreId(storeId);
+        // 조회 이력 기록 및 조회수 증가 (저장은 StoreViewRecorder가 일괄 처리)
+        storeViewRecorder.record(storeId, memberId, LocalDateTime.now(clock));
         
-        // 영업시간 조회
-        List<StoreOpeningHour> openingHours = storeOpeningHourRepository.findByStoreId(storeId);
-        
-        // 임시 휴무 조회
-        List<StoreTemporaryClosure> temporaryClosures = storeTemporaryClosureRepository.findByStoreId(storeId);
-        
-        // 메뉴(음식) 조회 및 정렬 (isMain 우선, displayOrder 순)
-        var foods = foodRepository.findByStoreId(storeId).stream()
-                .sorted((f1, f2) -> {
-                    // isMain 우선 정렬 (true가 먼저)
-                    int mainCompare = Boolean.compare(
-                            f2.getIsMain() != null && f2.getIsMain(),
-                            f1.getIsMain() != null && f1.getIsMain()
-                    );
-                    if (mainCompare != 0) {
-                        return mainCompare;
-                    }
-                    // displayOrder 오름차순 정렬 (null은 맨 뒤)
-                    if (f1.getDisplayOrder() == null && f2.getDisplayOrder() == null) {
-                        return 0;
-                    }
-                    if (f1.getDisplayOrder() == null) {
-                        return 1;
-                    }
-                    if (f2.getDisplayOrder() == null) {
-                        return -1;
-                    }
-                    return Integer.compare(f1.getDisplayOrder(), f2.getDisplayOrder());
-                })
-                .toList();
+        // 응답에는 이번 조회를 포함한 조회수 표시 (캐시된 가게 객체는 수정하지 않음)
+        int viewCount = (store.getViewCount() == null ? 0 : store.getViewCount()) + 1;
         
         boolean isFavorite = favoriteRepository.existsByMemberIdAndStoreId(memberId, storeId);
-        boolean isOpen = isStoreOpenNow(openingHours, temporaryClosures);
+        boolean isOpen = isStoreOpenNow(detail.openingHours(), detail.temporaryClosures());
         
-        return StoreDetailResponse.from(store, images, openingHours, temporaryClosures, foods, isFavorite, isOpen);
+        return StoreDetailResponse.from(store, viewCount, detail.images(), detail.openingHours(),
+                detail.temporaryClosures(), detail.foods(), isFavorite, isOpen);
     }
     
     /**
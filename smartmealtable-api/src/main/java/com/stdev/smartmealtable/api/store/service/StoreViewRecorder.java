@@ -0,0 +1,183 @@
+package com.stdev.smartmealtable.api.store.service;
+
+import com.stdev.smartmealtable.domain.store.StoreRepository;
+import com.stdev.smartmealtable.domain.store.StoreViewHistory;
+import com.stdev.smartmealtable.domain.store.StoreViewHistoryRepository;
+import com.stdev.smartmealtable.support.concurrent.MpscRingBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가게 조회수/조회 이력 지연 일괄 저장 (write-behind)
+ *
+ * 가게 상세 조회 요청 스레드는 메모리에 기록만 하고, 전용 스레드가 flush-interval-ms마다 모아서 저장합니다.
+ * - 조회수: 가게별 {@link LongAdder}에 누적 → UPDATE store SET view_count = view_count + ? 배치 한 번
+ * - 조회 이력: 링 버퍼에 적재 → 다중 행 INSERT
+ *
+ * 인기 가게에 조회가 몰려도 요청마다 같은 행을 잠그지 않으므로 상세 조회 지연 시간이 조회량과 무관해집니다.
+ *
+ * 실패 처리:
+ * - 조회수 반영 실패 시 증가분을 다시 누적하여 다음 주기에 재시도
+ * - 조회 이력은 통계용이므로 저장 실패/버퍼 초과 시 버리고 store.view.recorder.dropped 메트릭으로 집계
+ *
+ * 조회수 카운터는 조회된 가게 ID마다 하나씩 유지합니다 (가게 수만큼만 늘어남).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreViewRecorder {
+
+    private static final String METRIC_NAME = "store.view.recorder";
+
+    private final StoreRepository storeRepository;
+    private final StoreViewHistoryRepository storeViewHistoryRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${store.view.recorder.history-capacity:8192}")
+    private int historyCapacity = 8192;
+
+    @Value("${store.view.recorder.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${store.view.recorder.flush-interval-ms:1000}")
+    private long flushIntervalMillis = 1000;
+
+    private final Map<Long, LongAdder> pendingViewCounts = new ConcurrentHashMap<>();
+    private MpscRingBuffer<StoreViewHistory> historyBuffer;
+    private ScheduledExecutorService flusher;
+
+    private Counter viewCountFailedCounter;
+    private Counter historyWrittenCounter;
+    private Counter historyFailedCounter;
+    private Counter historyDroppedCounter;
+
+    @PostConstruct
+    void init() {
+        historyBuffer = new MpscRingBuffer<>(historyCapacity);
+
+        viewCountFailedCounter = Counter.builder(METRIC_NAME + ".count.failed")
+                .description("조회수 반영에 실패하여 다음 주기로 미룬 횟수")
+                .register(meterRegistry);
+        historyWrittenCounter = Counter.builder(METRIC_NAME + ".history.written")
+                .description("저장한 가게 조회 이력 수")
+                .register(meterRegistry);
+        historyFailedCounter = Counter.builder(METRIC_NAME + ".history.failed")
+                .description("저장에 실패하여 버린 가게 조회 이력 수")
+                .register(meterRegistry);
+        historyDroppedCounter = Counter.builder(METRIC_NAME + ".dropped")
+                .description("버퍼가 가득 차서 버린 가게 조회 이력 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".history.buffered", historyBuffer, MpscRingBuffer::size)
+                .description("저장 대기 중인 가게 조회 이력 수")
+                .register(meterRegistry);
+
+        flusher = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("store-view-flusher").daemon().factory());
+        flusher.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 가게 조회 기록 (요청 스레드에서 호출, 대기하지 않음)
+     *
+     * @param storeId 가게 ID
+     * @param memberId 조회한 회원 ID
+     * @param viewedAt 조회 시각
+     */
+    public void record(Long storeId, Long memberId, LocalDateTime viewedAt) {
+        pendingViewCounts.computeIfAbsent(storeId, key -> new LongAdder()).increment();
+
+        if (!historyBuffer.offer(new StoreViewHistory(null, storeId, memberId, viewedAt))) {
+            historyDroppedCounter.increment();
+        }
+    }
+
+    /**
+     * 누적된 조회수와 조회 이력 저장 (저장 스레드에서 주기적으로 호출)
+     */
+    void flush() {
+        try {
+            flushViewCounts();
+            flushHistories();
+        } catch (Exception e) {
+            // 예외가 전파되면 이후 주기 실행이 취소되므로 여기서 끊음
+            log.error("가게 조회 기록 저장 실패", e);
+        }
+    }
+
+    private void flushViewCounts() {
+        Map<Long, Long> deltas = new HashMap<>();
+        // sumThenReset은 셀 단위로 값을 꺼내므로 동시에 들어온 증가분은 이번 또는 다음 주기에 반영됨
+        pendingViewCounts.forEach((storeId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(storeId, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            int updated = storeRepository.incrementViewCounts(deltas);
+            log.debug("가게 조회수 일괄 반영: stores={}, updated={}", deltas.size(), updated);
+        } catch (Exception e) {
+            viewCountFailedCounter.increment();
+            deltas.forEach((storeId, delta) ->
+                    pendingViewCounts.computeIfAbsent(storeId, key -> new LongAdder()).add(delta));
+            log.warn("가게 조회수 일괄 반영 실패, 다음 주기에 재시도: stores={}, reason={}", deltas.size(), e.getMessage());
+        }
+    }
+
+    private void flushHistories() {
+        List<StoreViewHistory> batch = new ArrayList<>(batchSize);
+        while (historyBuffer.drain(batch::add, batchSize) > 0) {
+            try {
+                int inserted = storeViewHistoryRepository.saveAll(batch);
+                historyWrittenCounter.increment(inserted);
+                log.debug("가게 조회 이력 일괄 저장: count={}", inserted);
+            } catch (Exception e) {
+                historyFailedCounter.increment(batch.size());
+                log.warn("가게 조회 이력 일괄 저장 실패: count={}, reason={}", batch.size(), e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 저장 스레드를 멈추고 남은 기록을 모두 저장
+     */
+    @PreDestroy
+    void shutdown() {
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("가게 조회 기록 저장 스레드가 종료되지 않음");
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        flush();
+        log.info("가게 조회 기록 저장 종료");
+    }
+}
@@ -4,6 +4,7 @@ import com.stdev.smartmealtable.core.error.ErrorType;
 import com.stdev.smartmealtable.core.exception.BusinessException;
 import com.stdev.smartmealtable.domain.budget.DailyBudget;
 import com.stdev.smartmealtable.domain.budget.DailyBudgetRepository;
+import com.stdev.smartmealtable.domain.budget.service.VirtualDailyBudgetService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -21,6 +22,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 /**
@@ -33,6 +35,9 @@ class UpdateDailyBudgetServiceTest {
     @Mock
     private DailyBudgetRepository dailyBudgetRepository;
 
+    @Mock
+    private VirtualDailyBudgetService virtualDailyBudgetService;
+
     @InjectMocks
     private UpdateDailyBudgetService updateDailyBudgetService;
 
@@ -230,5 +235,69 @@ class UpdateDailyBudgetServiceTest {
                 then(dailyBudgetRepository).should(times(1)).save(any(DailyBudget.class));
             }
         }
+    
+        @Nested
+        @DisplayName("가상 일일 예산 모드에서 해당 날짜의 행이 없으면")
+        class Context_with_virtual_daily_budget_and_no_row {
+
+            @Test
+            @DisplayName("월별 기본값으로 해당 날짜의 행을 만든 뒤 그 행만 수정한다")
+            void it_materializes_and_updates_only_that_date() {
+                // Given
+                Long memberId = 1L;
+                LocalDate date = LocalDate.of(2025, 10, 16);
+                DailyBudget materialized = DailyBudget.reconstitute(100L, memberId, 10000, 0, date);
+
+                given(virtualDailyBudgetService.isEnabled()).willReturn(true);
+                given(dailyBudgetRepository.findByMemberIdAndBudgetDate(memberId, date))
+                        .willReturn(Optional.empty());
+                given(virtualDailyBudgetService.materialize(memberId, date, date))
+                        .willReturn(List.of(materialized));
+
+                // When
+                UpdateDailyBudgetServiceResponse response = updateDailyBudgetService.updateDailyBudget(
+                        memberId, date, 15000, false
+                );
+
+                // Then
+                assertThat(response.getBudgetId()).isEqualTo(100L);
+                assertThat(response.getUpdatedCount()).isEqualTo(1);
+                assertThat(materialized.getDailyFoodBudget()).isEqualTo(15000);
+                then(dailyBudgetRepository).should(times(1)).save(materialized);
+            }
+        }
+
+        @Nested
+        @DisplayName("가상 일일 예산 모드에서 applyForward가 true이면")
+        class Context_with_virtual_daily_budget_and_applyForward_true {
+
+            @Test
+            @DisplayName("이전 날짜의 행을 만들지 않고 월말까지 한 번의 UPDATE와 기본값 변경 이력으로 반영한다")
+            void it_changes_default_from_date_without_materializing_past_days() {
+                // Given
+                Long memberId = 1L;
+                LocalDate date = LocalDate.of(2025, 10, 16);
+                Integer newBudget = 15000;
+                DailyBudget dailyBudget = DailyBudget.reconstitute(100L, memberId, 10000, 0, date);
+
+                given(virtualDailyBudgetService.isEnabled()).willReturn(true);
+                given(dailyBudgetRepository.findByMemberIdAndBudgetDate(memberId, date))
+                        .willReturn(Optional.of(dailyBudget));
+
+                // When
+                UpdateDailyBudgetServiceResponse response = updateDailyBudgetService.updateDailyBudget(
+                        memberId, date, newBudget, true
+                );
+
+                // Then
+                assertThat(response.getUpdatedCount()).isEqualTo(16); // 10/16 ~ 10/31
+                then(virtualDailyBudgetService).should(never()).materialize(any(), any(), any());
+                then(dailyBudgetRepository).should(times(1))
+                        .updateDailyFoodBudgetInRange(memberId, date, LocalDate.of(2025, 10, 31), newBudget);
+                then(virtualDailyBudgetService).should(times(1)).changeDefaultDailyBudget(memberId, date, newBudget);
+                then(dailyBudgetRepository).should(never())
+                        .findByMemberIdAndBudgetDateGreaterThanEqual(any(), any());
+            }
+        }
     }
 }
@@ -200,6 +200,53 @@ class GetExpenditureListControllerTest extends AbstractContainerTest {
                 .andExpect(jsonPath("$.data.expenditures.totalElements").value(0));
     }
     
+    @Test
+    @DisplayName("지출 내역 목록 조회 성공 - lastId 커서로 다음 페이지 조회")
+    void getExpenditureList_WithLastIdCursor_Success() throws Exception {
+        // given - 정렬: 10/8 12:30 → 10/8 시각 없음 → 10/7 12:00
+        Expenditure latest = expenditureRepository.save(Expenditure.create(
+                testMember.getMemberId(), "맘스터치강남점", 13500,
+                LocalDate.of(2025, 10, 8), LocalTime.of(12, 30),
+                testCategory.getCategoryId(), MealType.LUNCH, null, 0L, new ArrayList<>()));
+        Expenditure withoutTime = expenditureRepository.save(Expenditure.create(
+                testMember.getMemberId(), "편의점", 3000,
+                LocalDate.of(2025, 10, 8), null,
+                testCategory.getCategoryId(), MealType.OTHER, null, 0L, new ArrayList<>()));
+        Expenditure oldest = expenditureRepository.save(Expenditure.create(
+                testMember.getMemberId(), "서브웨이역삼점", 8500,
+                LocalDate.of(2025, 10, 7), LocalTime.of(12, 0),
+                testCategory.getCategoryId(), MealType.LUNCH, null, 0L, new ArrayList<>()));
+        
+        // when & then - 첫 페이지
+        mockMvc.perform(get("/api/v1/expenditures")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .param("startDate", "2025-10-01")
+                        .param("endDate", "2025-10-31")
+                        .param("size", "2")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.expenditures.content.length()").value(2))
+                .andExpect(jsonPath("$.data.expenditures.content[0].expenditureId").value(latest.getExpenditureId()))
+                .andExpect(jsonPath("$.data.expenditures.content[1].expenditureId").value(withoutTime.getExpenditureId()))
+                .andExpect(jsonPath("$.data.expenditures.totalElements").value(3));
+        
+        // when & then - 다음 페이지 (요약은 전체 기준 유지)
+        mockMvc.perform(get("/api/v1/expenditures")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .param("startDate", "2025-10-01")
+                        .param("endDate", "2025-10-31")
+                        .param("lastId", String.valueOf(withoutTime.getExpenditureId()))
+                        .param("size", "2")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.summary.totalAmount").value(25000))
+                .andExpect(jsonPath("$.data.summary.totalCount").value(3))
+                .andExpect(jsonPath("$.data.expenditures.content.length()").value(1))
+                .andExpect(jsonPath("$.data.expenditures.content[0].expenditureId").value(oldest.getExpenditureId()));
+    }
+    
     @Test
     @DisplayName("지출 내역 목록 조회 실패 - 필수 파라미터 누락 (startDate)")
     void getExpenditureList_MissingStartDate_Fail() throws Exception {
@@ -0,0 +1,156 @@
+package com.stdev.smartmealtable.api.expenditure.service;
+
+import com.stdev.smartmealtable.api.common.AbstractContainerTest;
+import com.stdev.smartmealtable.api.expenditure.service.dto.CreateExpenditureServiceRequest;
+import com.stdev.smartmealtable.domain.budget.DailyBudget;
+import com.stdev.smartmealtable.domain.budget.DailyBudgetRepository;
+import com.stdev.smartmealtable.domain.budget.MealBudget;
+import com.stdev.smartmealtable.domain.budget.MealBudgetRepository;
+import com.stdev.smartmealtable.domain.budget.MonthlyBudget;
+import com.stdev.smartmealtable.domain.budget.MonthlyBudgetRepository;
+import com.stdev.smartmealtable.domain.expenditure.ExpenditureRepository;
+import com.stdev.smartmealtable.domain.expenditure.MealType;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 회원의 지출 동시 등록 시 예산 사용액 반영 검증
+ *
+ * 요청마다 별도 트랜잭션으로 실행되어야 하므로 테스트 클래스에 @Transactional을 붙이지 않고 직접 정리합니다.
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("CreateExpenditureService 동시성 테스트")
+class CreateExpenditureServiceConcurrencyTest extends AbstractContainerTest {
+
+    private static final Long MEMBER_ID = 990_001L;
+    private static final LocalDate EXPENDED_DATE = LocalDate.of(2025, 10, 16);
+    private static final String BUDGET_MONTH = YearMonth.from(EXPENDED_DATE).toString();
+    private static final int AMOUNT = 1000;
+    private static final int REQUEST_COUNT = 300;
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    private CreateExpenditureService createExpenditureService;
+
+    @Autowired
+    private MonthlyBudgetRepository monthlyBudgetRepository;
+
+    @Autowired
+    private DailyBudgetRepository dailyBudgetRepository;
+
+    @Autowired
+    private MealBudgetRepository mealBudgetRepository;
+
+    @Autowired
+    private ExpenditureRepository expenditureRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long dailyBudgetId;
+
+    @BeforeEach
+    void setUp() {
+        monthlyBudgetRepository.save(MonthlyBudget.create(MEMBER_ID, 10_000_000, BUDGET_MONTH));
+        DailyBudget dailyBudget = dailyBudgetRepository.save(DailyBudget.create(MEMBER_ID, 1_000_000, EXPENDED_DATE));
+        dailyBudgetId = dailyBudget.getBudgetId();
+        mealBudgetRepository.save(MealBudget.create(dailyBudgetId, 500_000, MealType.LUNCH, EXPENDED_DATE));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM expenditure WHERE member_id = ?", MEMBER_ID);
+        jdbcTemplate.update("DELETE FROM expenditure_daily_rollup WHERE member_id = ?", MEMBER_ID);
+        jdbcTemplate.update("DELETE FROM meal_budget WHERE daily_budget_id = ?", dailyBudgetId);
+        jdbcTemplate.update("DELETE FROM daily_budget WHERE member_id = ?", MEMBER_ID);
+        jdbcTemplate.update("DELETE FROM monthly_budget WHERE member_id = ?", MEMBER_ID);
+    }
+
+    @Test
+    @DisplayName("집계 셀이 없는 날짜에 같은 회원의 지출을 동시에 등록해도 일별/식사별/월별 사용액이 모두 반영된다")
+    void createExpenditure_concurrently_appliesEveryAmount() throws Exception {
+        // 미리 등록하지 않으므로 첫 요청들이 같은 집계 셀을 동시에 INSERT ... ON DUPLICATE KEY UPDATE 함
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM expenditure_daily_rollup WHERE member_id = ?", Integer.class, MEMBER_ID))
+                .isZero();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(REQUEST_COUNT);
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return createExpenditureService.createExpenditure(request());
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        executor.shutdown();
+
+        long expectedTotal = (long) REQUEST_COUNT * AMOUNT;
+        log.info("동시 지출 등록 {}건: {}ms ({} 건/초)", REQUEST_COUNT, elapsed.toMillis(),
+                REQUEST_COUNT * 1000L / Math.max(1, elapsed.toMillis()));
+
+        assertThat(expenditureRepository.getTotalAmountByPeriod(MEMBER_ID, EXPENDED_DATE, EXPENDED_DATE))
+                .isEqualTo(expectedTotal);
+        assertThat(dailyBudgetRepository.findByMemberIdAndBudgetDate(MEMBER_ID, EXPENDED_DATE).orElseThrow()
+                .getDailyUsedAmount()).isEqualTo((int) expectedTotal);
+        assertThat(mealBudgetRepository.findByDailyBudgetIdAndMealType(dailyBudgetId, MealType.LUNCH)
+                .getUsedAmount()).isEqualTo((int) expectedTotal);
+        assertThat(monthlyBudgetRepository.findByMemberIdAndBudgetMonth(MEMBER_ID, BUDGET_MONTH).orElseThrow()
+                .getMonthlyUsedAmount()).isEqualTo((int) expectedTotal);
+
+        // 카테고리 없는 점심 지출이므로 집계 셀은 (category_id = 0, meal_type = 'LUNCH') 하나
+        Map<String, Object> rollupCell = jdbcTemplate.queryForMap(
+                "SELECT total_amount, expenditure_count FROM expenditure_daily_rollup "
+                        + "WHERE member_id = ? AND rollup_date = ? AND category_id = 0 AND meal_type = 'LUNCH'",
+                MEMBER_ID, EXPENDED_DATE);
+        assertThat(((Number) rollupCell.get("total_amount")).longValue()).isEqualTo(expectedTotal);
+        assertThat(((Number) rollupCell.get("expenditure_count")).longValue()).isEqualTo(REQUEST_COUNT);
+    }
+
+    private static CreateExpenditureServiceRequest request() {
+        return new CreateExpenditureServiceRequest(
+                MEMBER_ID,
+                null,
+                "동시성식당",
+                AMOUNT,
+                EXPENDED_DATE,
+                LocalTime.of(12, 30),
+                null,
+                MealType.LUNCH,
+                null,
+                0L,
+                List.of()
+        );
+    }
+}
@@ -0,0 +1,86 @@
+package com.stdev.smartmealtable.api.expenditure.service;
+
+import com.stdev.smartmealtable.api.recommendation.service.UserProfileCacheService;
+import com.stdev.smartmealtable.domain.expenditure.Expenditure;
+import com.stdev.smartmealtable.domain.expenditure.ExpenditureRepository;
+import com.stdev.smartmealtable.domain.expenditure.MealType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeleteExpenditureService")
+class DeleteExpenditureServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final Long EXPENDITURE_ID = 10L;
+
+    @Mock
+    private ExpenditureRepository expenditureRepository;
+
+    @Mock
+    private UserProfileCacheService userProfileCacheService;
+
+    @Mock
+    private SpendingRollupService spendingRollupService;
+
+    @InjectMocks
+    private DeleteExpenditureService deleteExpenditureService;
+
+    @Test
+    @DisplayName("조건부 UPDATE로 행을 삭제한 경우에만 집계에서 뺀다")
+    void deleteExpenditure_appliesRollupWhenRowDeleted() {
+        Expenditure expenditure = expenditure();
+        given(expenditureRepository.findByIdAndNotDeleted(EXPENDITURE_ID)).willReturn(Optional.of(expenditure));
+        given(expenditureRepository.softDelete(EXPENDITURE_ID)).willReturn(1);
+
+        deleteExpenditureService.deleteExpenditure(EXPENDITURE_ID, MEMBER_ID);
+
+        verify(spendingRollupService).recordDeleted(expenditure);
+        verify(userProfileCacheService).evict(MEMBER_ID);
+        verify(expenditureRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("동시 요청이 먼저 삭제해 변경된 행이 없으면 집계를 다시 빼지 않는다")
+    void deleteExpenditure_concurrentlyDeleted() {
+        given(expenditureRepository.findByIdAndNotDeleted(EXPENDITURE_ID)).willReturn(Optional.of(expenditure()));
+        given(expenditureRepository.softDelete(EXPENDITURE_ID)).willReturn(0);
+
+        assertThatThrownBy(() -> deleteExpenditureService.deleteExpenditure(EXPENDITURE_ID, MEMBER_ID))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(spendingRollupService, never()).recordDeleted(any());
+    }
+
+    @Test
+    @DisplayName("다른 회원의 지출은 삭제하지 않는다")
+    void deleteExpenditure_notOwner() {
+        given(expenditureRepository.findByIdAndNotDeleted(EXPENDITURE_ID)).willReturn(Optional.of(expenditure()));
+
+        assertThatThrownBy(() -> deleteExpenditureService.deleteExpenditure(EXPENDITURE_ID, 2L))
+                .isInstanceOf(SecurityException.class);
+
+        verify(expenditureRepository, never()).softDelete(any());
+        verify(spendingRollupService, never()).recordDeleted(any());
+    }
+
+    private Expenditure expenditure() {
+        return Expenditure.reconstruct(EXPENDITURE_ID, MEMBER_ID, null, "가게", 8_000, 0L,
+                LocalDate.of(2025, 11, 21), LocalTime.NOON, 3L, MealType.LUNCH, null, List.of(), null, false);
+    }
+}
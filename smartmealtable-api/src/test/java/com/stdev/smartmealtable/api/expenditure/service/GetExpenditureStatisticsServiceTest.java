@@ -5,8 +5,12 @@ import com.stdev.smartmealtable.api.budget.service.dto.DailyBudgetQueryServiceRe
 import com.stdev.smartmealtable.api.expenditure.service.dto.ExpenditureStatisticsServiceResponse;
 import com.stdev.smartmealtable.core.error.ErrorType;
 import com.stdev.smartmealtable.core.exception.BusinessException;
+import com.stdev.smartmealtable.domain.budget.service.VirtualDailyBudgetService;
 import com.stdev.smartmealtable.domain.category.CategoryRepository;
 import com.stdev.smartmealtable.domain.expenditure.ExpenditureRepository;
+import com.stdev.smartmealtable.domain.expenditure.MealType;
+import com.stdev.smartmealtable.domain.expenditure.SpendingRollupCell;
+import com.stdev.smartmealtable.domain.expenditure.SpendingSummary;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,7 +23,12 @@ import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("GetExpenditureStatisticsService")
@@ -34,6 +43,12 @@ class GetExpenditureStatisticsServiceTest {
     @Mock
     private DailyBudgetQueryService dailyBudgetQueryService;
 
+    @Mock
+    private SpendingRollupService spendingRollupService;
+
+    @Mock
+    private VirtualDailyBudgetService virtualDailyBudgetService;
+
     @InjectMocks
     private GetExpenditureStatisticsService getExpenditureStatisticsService;
 
@@ -97,4 +112,81 @@ class GetExpenditureStatisticsServiceTest {
         assertThat(second.balance()).isEqualTo(8_000L);
         assertThat(second.overBudget()).isFalse();
     }
+
+    @Test
+    @DisplayName("일간 집계 읽기가 켜져 있으면 집계 셀로 통계를 계산한다")
+    void getStatistics_usesRollupWhenReadEnabled() {
+        // given
+        Long memberId = 1L;
+        LocalDate startDate = LocalDate.of(2025, 11, 1);
+        LocalDate endDate = startDate.plusDays(1);
+
+        given(spendingRollupService.isReadEnabled()).willReturn(true);
+        given(spendingRollupService.getCells(memberId, startDate, endDate))
+                .willReturn(List.of(
+                        new SpendingRollupCell(startDate, null, MealType.LUNCH, 1_000L, 1L),
+                        new SpendingRollupCell(endDate, null, null, 2_000L, 2L)
+                ));
+        given(dailyBudgetQueryService.getDailyBudget(any(), any()))
+                .willThrow(new BusinessException(ErrorType.DAILY_BUDGET_NOT_FOUND));
+
+        // when
+        ExpenditureStatisticsServiceResponse response = getExpenditureStatisticsService.getStatistics(
+                memberId,
+                startDate,
+                endDate
+        );
+
+        // then
+        assertThat(response.totalAmount()).isEqualTo(3_000L);
+        assertThat(response.mealTypeStatistics()).containsExactlyEntriesOf(Map.of(MealType.LUNCH, 1_000L));
+        assertThat(response.dailyStatistics())
+                .extracting(ExpenditureStatisticsServiceResponse.DailyStatistics::totalSpentAmount)
+                .containsExactly(1_000L, 2_000L);
+        verify(expenditureRepository, never()).getTotalAmountByPeriod(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("가상 일일 예산 모드이면 집계 셀을 기간 단위로 한 번만 읽어 날짜별 예산 조회에 전달한다")
+    void getStatistics_loadsRollupOnceForVirtualDailyBudget() {
+        // given
+        Long memberId = 1L;
+        LocalDate startDate = LocalDate.of(2025, 11, 1);
+        LocalDate endDate = startDate.plusDays(2);
+
+        given(virtualDailyBudgetService.isEnabled()).willReturn(true);
+        given(spendingRollupService.getCells(memberId, startDate, endDate))
+                .willReturn(List.of(new SpendingRollupCell(startDate, null, MealType.LUNCH, 1_000L, 1L)));
+        given(expenditureRepository.getTotalAmountByPeriod(memberId, startDate, endDate)).willReturn(1_000L);
+        given(expenditureRepository.getAmountByCategoryForPeriod(memberId, startDate, endDate)).willReturn(Map.of());
+        given(expenditureRepository.getDailyAmountForPeriod(memberId, startDate, endDate))
+                .willReturn(Map.of(startDate, 1_000L));
+        given(expenditureRepository.getAmountByMealTypeForPeriod(memberId, startDate, endDate)).willReturn(Map.of());
+        given(dailyBudgetQueryService.getDailyBudget(eq(memberId), any(), any(SpendingSummary.class)))
+                .willAnswer(invocation -> {
+                    LocalDate date = invocation.getArgument(1);
+                    SpendingSummary daySpending = invocation.getArgument(2);
+                    int spent = (int) daySpending.totalAmount();
+                    return new DailyBudgetQueryServiceResponse(date, 10_000, spent, 10_000 - spent, List.of());
+                });
+
+        // when
+        ExpenditureStatisticsServiceResponse response = getExpenditureStatisticsService.getStatistics(
+                memberId,
+                startDate,
+                endDate
+        );
+
+        // then
+        assertThat(response.dailyStatistics()).hasSize(3);
+        assertThat(response.dailyStatistics())
+                .extracting(ExpenditureStatisticsServiceResponse.DailyStatistics::budget)
+                .containsOnly(10_000L);
+        verify(spendingRollupService, times(1)).getCells(memberId, startDate, endDate);
+        verify(spendingRollupService, never()).getSummary(any(), any(), any());
+        verify(dailyBudgetQueryService, never()).getDailyBudget(any(), any());
+        verify(dailyBudgetQueryService).getDailyBudget(memberId, startDate,
+                SpendingSummary.from(List.of(new SpendingRollupCell(startDate, null, MealType.LUNCH, 1_000L, 1L))));
+        verify(dailyBudgetQueryService).getDailyBudget(memberId, endDate, SpendingSummary.empty());
+    }
 }
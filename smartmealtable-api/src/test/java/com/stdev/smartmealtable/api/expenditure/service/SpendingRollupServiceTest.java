@@ -0,0 +1,87 @@
+package com.stdev.smartmealtable.api.expenditure.service;
+
+import com.stdev.smartmealtable.domain.expenditure.Expenditure;
+import com.stdev.smartmealtable.domain.expenditure.MealType;
+import com.stdev.smartmealtable.domain.expenditure.SpendingRollupRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SpendingRollupService")
+class SpendingRollupServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final LocalDate DATE = LocalDate.of(2025, 11, 21);
+
+    @Mock
+    private SpendingRollupRepository spendingRollupRepository;
+
+    @InjectMocks
+    private SpendingRollupService spendingRollupService;
+
+    @Test
+    @DisplayName("지출 등록/삭제는 해당 셀에 금액과 건수를 더하고 뺀다")
+    void recordCreatedAndDeleted() {
+        Expenditure expenditure = expenditure(8_000, 3L, MealType.LUNCH);
+
+        spendingRollupService.recordCreated(expenditure);
+        spendingRollupService.recordDeleted(expenditure);
+
+        verify(spendingRollupRepository).apply(MEMBER_ID, DATE, 3L, MealType.LUNCH, 8_000L, 1L);
+        verify(spendingRollupRepository).apply(MEMBER_ID, DATE, 3L, MealType.LUNCH, -8_000L, -1L);
+    }
+
+    @Test
+    @DisplayName("같은 셀 안에서 금액만 바뀌면 차액만 반영한다")
+    void recordUpdated_sameCell() {
+        Expenditure expenditure = expenditure(8_000, 3L, MealType.LUNCH);
+        SpendingRollupService.RollupKey before = SpendingRollupService.RollupKey.of(expenditure);
+
+        expenditure.update("가게", 9_500, 0L, DATE, LocalTime.NOON, 3L, MealType.LUNCH, null, List.of());
+        spendingRollupService.recordUpdated(before, expenditure);
+
+        verify(spendingRollupRepository).apply(MEMBER_ID, DATE, 3L, MealType.LUNCH, 1_500L, 0L);
+        verifyNoMoreInteractions(spendingRollupRepository);
+    }
+
+    @Test
+    @DisplayName("날짜/카테고리/식사 유형이 바뀌면 이전 셀에서 빼고 새 셀에 더한다")
+    void recordUpdated_movesCell() {
+        Expenditure expenditure = expenditure(8_000, 3L, MealType.LUNCH);
+        SpendingRollupService.RollupKey before = SpendingRollupService.RollupKey.of(expenditure);
+
+        expenditure.update("가게", 8_000, 0L, DATE.plusDays(1), LocalTime.NOON, null, MealType.DINNER, null, List.of());
+        spendingRollupService.recordUpdated(before, expenditure);
+
+        verify(spendingRollupRepository).apply(MEMBER_ID, DATE, 3L, MealType.LUNCH, -8_000L, -1L);
+        verify(spendingRollupRepository).apply(MEMBER_ID, DATE.plusDays(1), null, MealType.DINNER, 8_000L, 1L);
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 집계를 건드리지 않는다")
+    void recordUpdated_noChange() {
+        Expenditure expenditure = expenditure(8_000, null, null);
+        SpendingRollupService.RollupKey before = SpendingRollupService.RollupKey.of(expenditure);
+
+        spendingRollupService.recordUpdated(before, expenditure);
+
+        verifyNoInteractions(spendingRollupRepository);
+    }
+
+    private Expenditure expenditure(int amount, Long categoryId, MealType mealType) {
+        return Expenditure.reconstruct(10L, MEMBER_ID, null, "가게", amount, 0L, DATE, LocalTime.NOON,
+                categoryId, mealType, null, List.of(), null, false);
+    }
+}
@@ -0,0 +1,148 @@
+package com.stdev.smartmealtable.api.home.service;
+
+import com.stdev.smartmealtable.domain.home.DashboardRecommendationRanker;
+import com.stdev.smartmealtable.domain.home.DashboardRecommendationSnapshot;
+import com.stdev.smartmealtable.domain.home.DashboardRecommendationSnapshot.RankedMenu;
+import com.stdev.smartmealtable.domain.home.DashboardRecommendationSnapshot.RankedStore;
+import com.stdev.smartmealtable.storage.cache.DashboardSnapshotCacheService;
+import com.stdev.smartmealtable.support.location.DistanceCalculator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * DashboardRecommendationSnapshotService 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardRecommendationSnapshotService 테스트")
+class DashboardRecommendationSnapshotServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    // 강남역 (기본 주소)
+    private static final double PRIMARY_LATITUDE = 37.4979;
+    private static final double PRIMARY_LONGITUDE = 127.0276;
+
+    // 기본 주소에서 약 110m
+    private static final double NEAR_LATITUDE = 37.4989;
+
+    // 기본 주소에서 약 1km
+    private static final double FAR_LATITUDE = 37.5069;
+
+    @Mock
+    private DashboardSnapshotCacheService dashboardSnapshotCacheService;
+
+    @Mock
+    private DashboardRecommendationRanker dashboardRecommendationRanker;
+
+    @Spy
+    private DistanceCalculator distanceCalculator = new DistanceCalculator();
+
+    @InjectMocks
+    private DashboardRecommendationSnapshotService dashboardRecommendationSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(dashboardRecommendationSnapshotService, "enabled", true);
+        ReflectionTestUtils.setField(dashboardRecommendationSnapshotService, "maxLocationDriftMeters", 300);
+        ReflectionTestUtils.setField(dashboardRecommendationSnapshotService, "candidateLimit", 10);
+        ReflectionTestUtils.setField(dashboardRecommendationSnapshotService, "ttlHours", 26L);
+    }
+
+    @Test
+    @DisplayName("기능이 비활성화되면 스냅샷을 조회하지 않고 실시간 추천으로 처리한다")
+    void findServableSnapshot_disabled() {
+        ReflectionTestUtils.setField(dashboardRecommendationSnapshotService, "enabled", false);
+
+        Optional<DashboardRecommendationSnapshot> result = dashboardRecommendationSnapshotService.findServableSnapshot(
+                MEMBER_ID, PRIMARY_LATITUDE, PRIMARY_LONGITUDE, PRIMARY_LATITUDE, PRIMARY_LONGITUDE);
+
+        assertThat(result).isEmpty();
+        verifyNoInteractions(dashboardSnapshotCacheService, dashboardRecommendationRanker);
+    }
+
+    @Test
+    @DisplayName("요청 좌표가 기본 주소에서 허용 거리 이상 떨어지면 실시간 추천으로 처리한다")
+    void findServableSnapshot_requestLocationDrifted() {
+        Optional<DashboardRecommendationSnapshot> result = dashboardRecommendationSnapshotService.findServableSnapshot(
+                MEMBER_ID, PRIMARY_LATITUDE, PRIMARY_LONGITUDE, FAR_LATITUDE, PRIMARY_LONGITUDE);
+
+        assertThat(result).isEmpty();
+        verifyNoInteractions(dashboardSnapshotCacheService, dashboardRecommendationRanker);
+    }
+
+    @Test
+    @DisplayName("요청 좌표가 기본 주소 근처이면 저장된 스냅샷을 반환한다")
+    void findServableSnapshot_nearRequestLocation() {
+        DashboardRecommendationSnapshot cached = snapshot(PRIMARY_LATITUDE);
+        when(dashboardSnapshotCacheService.find(MEMBER_ID)).thenReturn(Optional.of(cached));
+
+        Optional<DashboardRecommendationSnapshot> result = dashboardRecommendationSnapshotService.findServableSnapshot(
+                MEMBER_ID, PRIMARY_LATITUDE, PRIMARY_LONGITUDE, NEAR_LATITUDE, PRIMARY_LONGITUDE);
+
+        assertThat(result).contains(cached);
+        verify(dashboardRecommendationRanker, never()).rank(anyLong(), anyDouble(), anyDouble(), anyInt());
+    }
+
+    @Test
+    @DisplayName("기본 주소가 바뀌어 스냅샷 기준 좌표와 멀어지면 새로 계산해 저장한다")
+    void findServableSnapshot_primaryAddressChanged() {
+        DashboardRecommendationSnapshot stale = snapshot(FAR_LATITUDE);
+        DashboardRecommendationSnapshot ranked = snapshot(PRIMARY_LATITUDE);
+        when(dashboardSnapshotCacheService.find(MEMBER_ID)).thenReturn(Optional.of(stale));
+        when(dashboardRecommendationRanker.rank(MEMBER_ID, PRIMARY_LATITUDE, PRIMARY_LONGITUDE, 10)).thenReturn(ranked);
+
+        Optional<DashboardRecommendationSnapshot> result = dashboardRecommendationSnapshotService.findServableSnapshot(
+                MEMBER_ID, PRIMARY_LATITUDE, PRIMARY_LONGITUDE, null, null);
+
+        assertThat(result).contains(ranked);
+        verify(dashboardSnapshotCacheService).save(ranked, Duration.ofHours(26));
+    }
+
+    @Test
+    @DisplayName("스냅샷 조회 중 오류가 나면 실시간 추천으로 처리한다")
+    void findServableSnapshot_failure() {
+        when(dashboardSnapshotCacheService.find(MEMBER_ID)).thenReturn(Optional.empty());
+        when(dashboardRecommendationRanker.rank(MEMBER_ID, PRIMARY_LATITUDE, PRIMARY_LONGITUDE, 10))
+                .thenThrow(new IllegalStateException("DB 연결 실패"));
+
+        Optional<DashboardRecommendationSnapshot> result = dashboardRecommendationSnapshotService.findServableSnapshot(
+                MEMBER_ID, PRIMARY_LATITUDE, PRIMARY_LONGITUDE, null, null);
+
+        assertThat(result).isEmpty();
+        verify(dashboardSnapshotCacheService, never()).save(any(), any());
+    }
+
+    private DashboardRecommendationSnapshot snapshot(double latitude) {
+        return new DashboardRecommendationSnapshot(
+                MEMBER_ID,
+                latitude,
+                PRIMARY_LONGITUDE,
+                List.of(new RankedStore(10L, new BigDecimal("0.35"))),
+                List.of(new RankedMenu(100L, 10L)),
+                LocalDateTime.of(2025, 11, 23, 4, 30)
+        );
+    }
+}
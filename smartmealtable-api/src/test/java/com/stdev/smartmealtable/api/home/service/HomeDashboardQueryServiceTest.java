@@ -1,5 +1,6 @@
 package com.stdev.smartmealtable.api.home.service;
 
+import com.stdev.smartmealtable.api.expenditure.service.SpendingRollupService;
 import com.stdev.smartmealtable.api.home.service.dto.HomeDashboardServiceResponse;
 import com.stdev.smartmealtable.core.error.ErrorType;
 import com.stdev.smartmealtable.core.exception.ResourceNotFoundException;
@@ -7,10 +8,12 @@ import com.stdev.smartmealtable.domain.budget.DailyBudget;
 import com.stdev.smartmealtable.domain.budget.DailyBudgetRepository;
 import com.stdev.smartmealtable.domain.budget.MealBudget;
 import com.stdev.smartmealtable.domain.budget.MealBudgetRepository;
+import com.stdev.smartmealtable.domain.budget.service.VirtualDailyBudgetService;
 import com.stdev.smartmealtable.domain.common.vo.Address;
 import com.stdev.smartmealtable.domain.common.vo.AddressType;
 import com.stdev.smartmealtable.domain.expenditure.ExpenditureRepository;
 import com.stdev.smartmealtable.domain.expenditure.MealType;
+import com.stdev.smartmealtable.domain.home.DashboardRecommendationSnapshot;
 import com.stdev.smartmealtable.domain.member.entity.AddressHistory;
 import com.stdev.smartmealtable.domain.member.repository.AddressHistoryRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +27,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +37,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -56,12 +61,21 @@ class HomeDashboardQueryServiceTest {
     @Mock
     private MealBudgetRepository mealBudgetRepository;
 
+    @Mock
+    private VirtualDailyBudgetService virtualDailyBudgetService;
+
     @Mock
     private ExpenditureRepository expenditureRepository;
 
+    @Mock
+    private SpendingRollupService spendingRollupService;
+
     @Mock
     private DashboardRecommendationService dashboardRecommendationService;
 
+    @Mock
+    private DashboardRecommendationSnapshotService dashboardRecommendationSnapshotService;
+
     @Mock
     private Clock clock;
 
@@ -488,4 +502,98 @@ class HomeDashboardQueryServiceTest {
         assertThat(response.budget().remaining()).isEqualTo(-5000); // 음수
         assertThat(response.budget().utilizationRate()).isEqualTo(150); // 150%
     }
+
+    @Test
+    @DisplayName("홈 대시보드 조회 - 사전 계산된 추천 스냅샷이 있으면 실시간 추천을 계산하지 않는다")
+    void getHomeDashboard_UsesRecommendationSnapshot() {
+        // given
+        Long memberId = 1L;
+        LocalDate today = LocalDate.now(clock);
+
+        Address address = Address.of(
+                "우리집", null, "서울특별시 강남구",
+                "101동", 37.5, 127.0, AddressType.HOME
+        );
+        AddressHistory primaryAddress = AddressHistory.reconstitute(
+                1L, memberId, address, true, null
+        );
+        DashboardRecommendationSnapshot snapshot = new DashboardRecommendationSnapshot(
+                memberId, 37.5, 127.0, List.of(), List.of(), LocalDateTime.now(clock)
+        );
+
+        given(addressHistoryRepository.findPrimaryByMemberId(memberId))
+                .willReturn(Optional.of(primaryAddress));
+        given(dailyBudgetRepository.findByMemberIdAndBudgetDate(memberId, today))
+                .willReturn(Optional.empty());
+        given(mealBudgetRepository.findByMemberIdAndBudgetDate(memberId, today))
+                .willReturn(List.of());
+        given(expenditureRepository.getTotalAmountByPeriod(memberId, today, today))
+                .willReturn(null);
+        given(expenditureRepository.getAmountByMealTypeForPeriod(memberId, today, today))
+                .willReturn(Map.of());
+        given(dashboardRecommendationSnapshotService.findServableSnapshot(memberId, 37.5, 127.0, null, null))
+                .willReturn(Optional.of(snapshot));
+        given(dashboardRecommendationService.getRecommendedMenusFromSnapshot(
+                eq(memberId), any(), eq(snapshot), eq(37.5), eq(127.0), anyInt()))
+                .willReturn(List.of());
+        given(dashboardRecommendationService.getRecommendedStoresFromSnapshot(
+                eq(memberId), eq(snapshot), eq(37.5), eq(127.0), anyInt()))
+                .willReturn(List.of());
+
+        // when
+        HomeDashboardServiceResponse response = homeDashboardQueryService.getHomeDashboard(memberId);
+
+        // then
+        assertThat(response.recommendedMenus()).isEmpty();
+        verify(dashboardRecommendationService, never()).getRecommendedMenus(anyLong(), any(), any(), any(), anyInt());
+        verify(dashboardRecommendationService, never()).getRecommendedStores(anyLong(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("홈 대시보드 조회 - 가상 일일 예산 모드이면 월별 예산 기본값으로 오늘 예산을 계산한다")
+    void getHomeDashboard_UsesVirtualDailyBudget() {
+        // given
+        Long memberId = 1L;
+        LocalDate today = LocalDate.now(clock);
+
+        Address address = Address.of(
+                "우리집", null, "서울특별시 강남구",
+                "101동", 37.5, 127.0, AddressType.HOME
+        );
+        AddressHistory primaryAddress = AddressHistory.reconstitute(
+                1L, memberId, address, true, null
+        );
+        VirtualDailyBudgetService.ResolvedDailyBudget resolved = new VirtualDailyBudgetService.ResolvedDailyBudget(
+                DailyBudget.create(memberId, 20000, today),
+                List.of(MealBudget.create(null, 7000, MealType.LUNCH, today)),
+                false
+        );
+
+        given(addressHistoryRepository.findPrimaryByMemberId(memberId))
+                .willReturn(Optional.of(primaryAddress));
+        given(virtualDailyBudgetService.isEnabled()).willReturn(true);
+        given(virtualDailyBudgetService.resolve(memberId, today)).willReturn(Optional.of(resolved));
+        given(expenditureRepository.getTotalAmountByPeriod(memberId, today, today))
+                .willReturn(6000L);
+        given(expenditureRepository.getAmountByMealTypeForPeriod(memberId, today, today))
+                .willReturn(Map.of(MealType.LUNCH, 6000L));
+        given(dashboardRecommendationService.getRecommendedMenus(anyLong(), any(), any(), any(), anyInt()))
+                .willReturn(List.of());
+        given(dashboardRecommendationService.getRecommendedStores(anyLong(), any(), any(), anyInt()))
+                .willReturn(List.of());
+
+        // when
+        HomeDashboardServiceResponse response = homeDashboardQueryService.getHomeDashboard(memberId);
+
+        // then
+        assertThat(response.budget().todayBudget()).isEqualTo(20000);
+        assertThat(response.budget().remaining()).isEqualTo(14000);
+        var lunchInfo = response.budget().mealBudgets().stream()
+                .filter(mb -> mb.mealType().equals("LUNCH"))
+                .findFirst().orElseThrow();
+        assertThat(lunchInfo.budget()).isEqualTo(7000);
+        assertThat(lunchInfo.remaining()).isEqualTo(1000);
+        verify(dailyBudgetRepository, never()).findByMemberIdAndBudgetDate(anyLong(), any());
+        verify(mealBudgetRepository, never()).findByMemberIdAndBudgetDate(anyLong(), any());
+    }
 }
@@ -2,6 +2,7 @@ package com.stdev.smartmealtable.api.member.service;
 
 import com.stdev.smartmealtable.api.member.dto.AddressServiceRequest;
 import com.stdev.smartmealtable.api.member.dto.AddressServiceResponse;
+import com.stdev.smartmealtable.api.recommendation.service.UserProfileCacheService;
 import com.stdev.smartmealtable.core.error.ErrorType;
 import com.stdev.smartmealtable.core.exception.BusinessException;
 import com.stdev.smartmealtable.domain.common.vo.Address;
@@ -43,6 +44,9 @@ class AddressServiceTest {
     @Mock
     private AddressDomainService addressDomainService;
     
+    @Mock
+    private UserProfileCacheService userProfileCacheService;
+    
     @Test
     @DisplayName("주소 목록 조회 - 성공")
     void getAddresses_Success() {
@@ -137,6 +137,7 @@ class AutocompleteControllerRestDocsTest extends AbstractRestDocsTest {
                                 fieldWithPath("data.storeShortcuts[].name").description("가게 이름"),
                                 fieldWithPath("data.storeShortcuts[].imageUrl").description("대표 이미지 URL"),
                                 fieldWithPath("data.storeShortcuts[].isOpen").description("영업 중 여부"),
+                                fieldWithPath("data.partial").description("일부 하위 검색이 제한 시간 내에 끝나지 않아 결과가 불완전한지 여부"),
                                 fieldWithPath("error").description("에러 정보 (성공 시 null)")
                         )
                 ));
@@ -173,6 +174,7 @@ class AutocompleteControllerRestDocsTest extends AbstractRestDocsTest {
                                 fieldWithPath("data.storeShortcuts[].name").description("가게 이름"),
                                 fieldWithPath("data.storeShortcuts[].imageUrl").description("대표 이미지 URL"),
                                 fieldWithPath("data.storeShortcuts[].isOpen").description("영업 중 여부"),
+                                fieldWithPath("data.partial").description("일부 하위 검색이 제한 시간 내에 끝나지 않아 결과가 불완전한지 여부"),
                                 fieldWithPath("error").description("에러 정보 (성공 시 null)")
                         )
                 ));
@@ -1,7 +1,7 @@
 package com.stdev.smartmealtable.api.recommendation.service;
 
+import com.stdev.smartmealtable.api.search.service.StreamingKeywordAggregator;
 import com.stdev.smartmealtable.domain.search.SearchKeywordEvent;
-import com.stdev.smartmealtable.domain.search.SearchKeywordEventRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -18,20 +18,21 @@ import static org.mockito.Mockito.when;
 class AutocompleteSearchEventServiceTest {
 
     @Mock
-    private SearchKeywordEventRepository searchKeywordEventRepository;
+    private SearchKeywordEventSink searchKeywordEventSink;
+    @Mock
+    private StreamingKeywordAggregator streamingKeywordAggregator;
 
     private AutocompleteSearchEventService service;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        service = new AutocompleteSearchEventService(searchKeywordEventRepository);
+        service = new AutocompleteSearchEventService(searchKeywordEventSink, streamingKeywordAggregator);
     }
 
     @Test
-    void logSearchEvent_normalizesKeywordAndPersists() {
-        when(searchKeywordEventRepository.save(any(SearchKeywordEvent.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+    void logSearchEvent_normalizesKeywordAndEnqueues() {
+        when(searchKeywordEventSink.offer(any(SearchKeywordEvent.class))).thenReturn(true);
 
         AutocompleteSearchEventService.AutocompleteSearchEventCommand command =
                 AutocompleteSearchEventService.AutocompleteSearchEventCommand.builder()
@@ -44,7 +45,7 @@ class AutocompleteSearchEventServiceTest {
         service.logSearchEvent(command);
 
         ArgumentCaptor<SearchKeywordEvent> captor = ArgumentCaptor.forClass(SearchKeywordEvent.class);
-        verify(searchKeywordEventRepository).save(captor.capture());
+        verify(searchKeywordEventSink).offer(captor.capture());
 
         SearchKeywordEvent saved = captor.getValue();
         assertThat(saved.getMemberId()).isEqualTo(42L);
@@ -52,5 +53,7 @@ class AutocompleteSearchEventServiceTest {
         assertThat(saved.getNormalizedKeyword()).isEqualTo("김치찌개");
         assertThat(saved.getLatitude()).isEqualTo(new BigDecimal("37.1234567"));
         assertThat(saved.getLongitude()).isEqualTo(new BigDecimal("127.1234567"));
+        assertThat(saved.getCreatedAt()).isNotNull();
+        verify(streamingKeywordAggregator).record("김치찌개", false);
     }
 }
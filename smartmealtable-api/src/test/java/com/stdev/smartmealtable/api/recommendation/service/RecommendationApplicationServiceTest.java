@@ -42,6 +42,7 @@ class RecommendationApplicationServiceTest {
     @Mock private FavoriteRepository favoriteRepository;
     @Mock private BusinessHoursService businessHoursService;
     @Mock private CategoryRepository categoryRepository;
+    @Mock private UserProfileCacheService userProfileCacheService;
 
     @InjectMocks
     private RecommendationApplicationService recommendationApplicationService;
@@ -77,7 +78,7 @@ class RecommendationApplicationServiceTest {
         RecommendationResult favoriteOpenResult = createResult(101L, 11L, 95.0);
         RecommendationResult normalClosedResult = createResult(202L, 22L, 82.0);
 
-        given(recommendationDataRepository.loadUserProfile(MEMBER_ID)).willReturn(baseProfile);
+        given(userProfileCacheService.getUserProfile(MEMBER_ID)).willReturn(baseProfile);
         given(recommendationDataRepository.findStoresInRadius(
                 any(BigDecimal.class),
                 any(BigDecimal.class),
@@ -86,7 +87,8 @@ class RecommendationApplicationServiceTest {
                 anyBoolean(),
                 any()
         )).willReturn(List.of());
-        given(recommendationDomainService.calculateRecommendations(anyList(), any(UserProfile.class)))
+        given(recommendationDomainService.calculateTopRecommendations(
+                anyList(), any(UserProfile.class), any(), any(), anyInt(), anyInt()))
                 .willReturn(List.of(favoriteOpenResult, normalClosedResult));
         given(categoryRepository.findByIdIn(anyList()))
                 .willReturn(List.of(
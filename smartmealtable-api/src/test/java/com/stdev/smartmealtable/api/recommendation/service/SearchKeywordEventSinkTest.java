@@ -0,0 +1,155 @@
+package com.stdev.smartmealtable.api.recommendation.service;
+
+import com.stdev.smartmealtable.domain.search.SearchKeywordEvent;
+import com.stdev.smartmealtable.domain.search.SearchKeywordEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SearchKeywordEventSinkTest {
+
+    @Mock
+    private SearchKeywordEventRepository searchKeywordEventRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Integer> batchSizes = new ArrayList<>();
+
+    private SearchKeywordEventSink sink;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(searchKeywordEventRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<?> events = invocation.getArgument(0);
+            synchronized (batchSizes) {
+                batchSizes.add(events.size());
+            }
+            return events.size();
+        });
+
+        sink = new SearchKeywordEventSink(searchKeywordEventRepository, meterRegistry);
+        ReflectionTestUtils.setField(sink, "capacity", 16);
+        ReflectionTestUtils.setField(sink, "batchSize", 4);
+        ReflectionTestUtils.setField(sink, "flushIntervalMillis", 60_000L);
+        ReflectionTestUtils.setField(sink, "samplingThreshold", 1.0);
+        ReflectionTestUtils.setField(sink, "samplingRate", 1.0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sink.shutdown();
+    }
+
+    @Test
+    void offer_flushesWhenBatchSizeReached() {
+        sink.init();
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(sink.offer(event("김치" + i))).isTrue();
+        }
+
+        verify(searchKeywordEventRepository, timeout(2_000)).saveAll(anyList());
+        assertThat(batchSizes).containsExactly(4);
+        assertThat(meterRegistry.get("search.event.sink.written").counter().count()).isEqualTo(4.0);
+    }
+
+    @Test
+    void offer_flushesPartialBatchAfterInterval() {
+        ReflectionTestUtils.setField(sink, "flushIntervalMillis", 50L);
+        sink.init();
+
+        sink.offer(event("김치"));
+
+        verify(searchKeywordEventRepository, timeout(2_000)).saveAll(anyList());
+        assertThat(batchSizes).containsExactly(1);
+    }
+
+    @Test
+    void shutdown_flushesRemainingEvents() {
+        sink.init();
+        sink.offer(event("김치"));
+        sink.offer(event("된장"));
+        verify(searchKeywordEventRepository, never()).saveAll(anyList());
+
+        sink.shutdown();
+
+        verify(searchKeywordEventRepository).saveAll(anyList());
+        assertThat(batchSizes).containsExactly(2);
+    }
+
+    @Test
+    void offer_dropsAndCountsWhenBufferIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(searchKeywordEventRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return ((List<?>) invocation.getArgument(0)).size();
+        });
+        sink.init();
+
+        int accepted = 0;
+        for (int i = 0; i < 40; i++) {
+            if (sink.offer(event("김치" + i))) {
+                accepted++;
+            }
+        }
+        release.countDown();
+
+        // 저장 스레드가 한 배치(4건)를 꺼낸 뒤 멈춰 있으므로 버퍼(16건)를 넘는 이벤트는 버려짐
+        assertThat(accepted).isLessThanOrEqualTo(20);
+        double dropped = meterRegistry.get("search.event.sink.dropped").tag("reason", "full").counter().count();
+        assertThat(dropped).isEqualTo(40 - accepted);
+        verify(searchKeywordEventRepository, atLeastOnce()).saveAll(anyList());
+    }
+
+    @Test
+    void offer_samplesWhenBufferIsUnderPressure() throws Exception {
+        ReflectionTestUtils.setField(sink, "samplingThreshold", 0.5);
+        ReflectionTestUtils.setField(sink, "samplingRate", 0.0);
+        ReflectionTestUtils.setField(sink, "batchSize", 100);
+        sink.init();
+        awaitFlusherParked();
+
+        int accepted = 0;
+        for (int i = 0; i < 16; i++) {
+            if (sink.offer(event("김치" + i))) {
+                accepted++;
+            }
+        }
+
+        assertThat(accepted).isEqualTo(8);
+        assertThat(meterRegistry.get("search.event.sink.dropped").tag("reason", "sampled").counter().count())
+                .isEqualTo(8.0);
+    }
+
+    /**
+     * 저장 스레드가 빈 버퍼를 보고 대기에 들어갈 때까지 기다림 (이후 offer가 버퍼에 그대로 쌓이도록)
+     */
+    private void awaitFlusherParked() throws InterruptedException {
+        Thread flusher = (Thread) ReflectionTestUtils.getField(sink, "flusher");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (flusher.getState() != Thread.State.TIMED_WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private SearchKeywordEvent event(String keyword) {
+        return SearchKeywordEvent.of(null, keyword, keyword, null, null, null);
+    }
+}
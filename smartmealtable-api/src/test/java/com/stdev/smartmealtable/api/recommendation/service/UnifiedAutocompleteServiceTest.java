@@ -0,0 +1,209 @@
+package com.stdev.smartmealtable.api.recommendation.service;
+
+import com.stdev.smartmealtable.api.food.service.FoodAutocompleteService;
+import com.stdev.smartmealtable.api.food.service.dto.FoodAutocompleteResponse;
+import com.stdev.smartmealtable.api.food.service.dto.FoodAutocompleteResponse.FoodSuggestion;
+import com.stdev.smartmealtable.api.recommendation.service.dto.UnifiedAutocompleteResponse;
+import com.stdev.smartmealtable.api.store.service.StoreAutocompleteService;
+import com.stdev.smartmealtable.api.store.service.dto.StoreAutocompleteResponse;
+import com.stdev.smartmealtable.api.store.service.dto.StoreAutocompleteResponse.StoreSuggestion;
+import com.stdev.smartmealtable.domain.store.Store;
+import com.stdev.smartmealtable.domain.store.StoreRepository;
+import com.stdev.smartmealtable.domain.store.StoreType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UnifiedAutocompleteServiceTest {
+
+    private static final String KEYWORD = "김치";
+
+    @Mock
+    private FoodAutocompleteService foodAutocompleteService;
+    @Mock
+    private StoreAutocompleteService storeAutocompleteService;
+    @Mock
+    private StoreRepository storeRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private UnifiedAutocompleteService service;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        service = new UnifiedAutocompleteService(foodAutocompleteService, storeAutocompleteService, storeRepository, executor,
+            transactionManager);
+        ReflectionTestUtils.setField(service, "parallelEnabled", true);
+        ReflectionTestUtils.setField(service, "deadlineMillis", 200L);
+        service.init();
+
+        Store store = mock(Store.class);
+        when(store.getStoreId()).thenReturn(10L);
+        when(store.getName()).thenReturn("김치나라");
+        when(store.getImageUrl()).thenReturn("https://cdn/store.jpg");
+        when(storeRepository.findAllByIdIn(anyList())).thenReturn(List.of(store));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("하위 검색이 모두 제한 시간 안에 끝나면 결과를 섞어서 완전한 응답을 반환한다")
+    void autocomplete_mergesAllStages() {
+        when(foodAutocompleteService.autocomplete(KEYWORD, 10)).thenReturn(foodResponse("김치찜"));
+        when(storeAutocompleteService.autocomplete(KEYWORD, 10)).thenReturn(storeResponse("김치나라"));
+
+        UnifiedAutocompleteResponse response = service.autocomplete(KEYWORD, 10, 5);
+
+        assertThat(response.partial()).isFalse();
+        assertThat(response.suggestions()).containsExactly("김치찜", "김치나라");
+        assertThat(response.storeShortcuts()).extracting(UnifiedAutocompleteResponse.StoreShortcut::storeId)
+            .containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘긴 하위 검색은 기다리지 않고 끝난 결과만 partial로 반환한다")
+    void autocomplete_returnsPartialAfterDeadline() {
+        when(foodAutocompleteService.autocomplete(KEYWORD, 10)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return foodResponse("김치찜");
+        });
+        when(storeAutocompleteService.autocomplete(KEYWORD, 10)).thenReturn(storeResponse("김치나라"));
+
+        long start = System.currentTimeMillis();
+        UnifiedAutocompleteResponse response = service.autocomplete(KEYWORD, 10, 5);
+        long elapsed = System.currentTimeMillis() - start;
+
+        assertThat(elapsed).isLessThan(2_000L);
+        assertThat(response.partial()).isTrue();
+        assertThat(response.suggestions()).containsExactly("김치나라");
+        assertThat(response.storeShortcuts()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘긴 하위 검색은 인터럽트하지 않고 마저 끝나게 둔다")
+    void autocomplete_doesNotInterruptLateStages() throws InterruptedException {
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        when(foodAutocompleteService.autocomplete(KEYWORD, 10)).thenAnswer(invocation -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+            finished.countDown();
+            return foodResponse("김치찜");
+        });
+        when(storeAutocompleteService.autocomplete(KEYWORD, 10)).thenReturn(storeResponse("김치나라"));
+
+        UnifiedAutocompleteResponse response = service.autocomplete(KEYWORD, 10, 5);
+        release.countDown();
+
+        assertThat(response.partial()).isTrue();
+        assertThat(finished.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(interrupted).isFalse();
+    }
+
+    @Test
+    @DisplayName("하위 검색은 남은 시간을 타임아웃으로 건 읽기 전용 트랜잭션에서 실행한다")
+    void autocomplete_runsStagesInReadOnlyTransactionWithTimeout() {
+        when(foodAutocompleteService.autocomplete(KEYWORD, 10)).thenReturn(foodResponse("김치찜"));
+        when(storeAutocompleteService.autocomplete(KEYWORD, 10)).thenReturn(storeResponse("김치나라"));
+
+        service.autocomplete(KEYWORD, 10, 5);
+
+        // deadline 200ms → JDBC 쿼리 타임아웃 최소 단위인 1초
+        verify(transactionManager, times(2)).getTransaction(argThat(definition ->
+            definition.isReadOnly() && definition.getTimeout() == 1));
+    }
+
+    @Test
+    @DisplayName("동시 실행 제한에 걸리면 하위 검색을 실행하지 않고 제한 시간 안에 partial로 반환한다")
+    void autocomplete_skipsStagesWhenConcurrencyLimitReached() {
+        ReflectionTestUtils.setField(service, "stagePermits", new Semaphore(0));
+
+        long start = System.currentTimeMillis();
+        UnifiedAutocompleteResponse response = service.autocomplete(KEYWORD, 10, 5);
+        long elapsed = System.currentTimeMillis() - start;
+
+        assertThat(elapsed).isLessThan(2_000L);
+        assertThat(response.partial()).isTrue();
+        assertThat(response.suggestions()).isEmpty();
+        verify(foodAutocompleteService, never()).autocomplete(anyString(), anyInt());
+        verify(storeAutocompleteService, never()).autocomplete(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("하위 검색 하나가 실패해도 나머지 결과는 반환한다")
+    void autocomplete_keepsOtherStagesOnFailure() {
+        when(foodAutocompleteService.autocomplete(KEYWORD, 10)).thenThrow(new IllegalStateException("redis down"));
+        when(storeAutocompleteService.autocomplete(KEYWORD, 10)).thenReturn(storeResponse("김치나라"));
+
+        UnifiedAutocompleteResponse response = service.autocomplete(KEYWORD, 10, 5);
+
+        assertThat(response.partial()).isTrue();
+        assertThat(response.suggestions()).containsExactly("김치나라");
+    }
+
+    @Test
+    @DisplayName("병렬 실행이 비활성화되면 호출 스레드에서 순서대로 실행한다")
+    void autocomplete_runsInlineWhenDisabled() {
+        ReflectionTestUtils.setField(service, "parallelEnabled", false);
+        Thread caller = Thread.currentThread();
+        when(foodAutocompleteService.autocomplete(KEYWORD, 10)).thenAnswer(invocation -> {
+            assertThat(Thread.currentThread()).isSameAs(caller);
+            return foodResponse("김치찜");
+        });
+        when(storeAutocompleteService.autocomplete(KEYWORD, 10)).thenReturn(storeResponse("김치나라"));
+
+        UnifiedAutocompleteResponse response = service.autocomplete(KEYWORD, 10, 5);
+
+        assertThat(response.partial()).isFalse();
+        assertThat(response.suggestions()).containsExactly("김치찜", "김치나라");
+    }
+
+    private FoodAutocompleteResponse foodResponse(String foodName) {
+        return new FoodAutocompleteResponse(
+            List.of(new FoodSuggestion(1L, foodName, 10L, "김치나라", "한식", 9000, true)),
+            List.of()
+        );
+    }
+
+    private StoreAutocompleteResponse storeResponse(String storeName) {
+        return new StoreAutocompleteResponse(
+            List.of(new StoreSuggestion(10L, storeName, StoreType.RESTAURANT, "서울", List.of("한식"))),
+            List.of()
+        );
+    }
+}
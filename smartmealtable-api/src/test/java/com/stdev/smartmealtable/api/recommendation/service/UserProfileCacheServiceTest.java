@@ -0,0 +1,164 @@
+package com.stdev.smartmealtable.api.recommendation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.stcom.smartmealtable.recommendation.domain.model.ExpenditureRecord;
+import com.stcom.smartmealtable.recommendation.domain.model.UserProfile;
+import com.stcom.smartmealtable.recommendation.domain.repository.RecommendationDataRepository;
+import com.stdev.smartmealtable.domain.member.entity.RecommendationType;
+import com.stdev.smartmealtable.storage.cache.UserProfileCacheStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserProfileCacheServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    @Mock
+    private RecommendationDataRepository recommendationDataRepository;
+    @Mock
+    private UserProfileCacheStore userProfileCacheStore;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private UserProfileCacheService service;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        service = new UserProfileCacheService(recommendationDataRepository, userProfileCacheStore, objectMapper);
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "maximumSize", 100L);
+        ReflectionTestUtils.setField(service, "localTtlSeconds", 60L);
+        ReflectionTestUtils.setField(service, "redisEnabled", false);
+        ReflectionTestUtils.setField(service, "redisTtlSeconds", 600L);
+        service.init();
+
+        when(recommendationDataRepository.loadUserProfile(MEMBER_ID)).thenReturn(createProfile());
+    }
+
+    @Test
+    @DisplayName("같은 회원의 반복 조회는 DB를 다시 조회하지 않는다")
+    void getUserProfile_cachesPerMember() {
+        UserProfile first = service.getUserProfile(MEMBER_ID);
+        UserProfile second = service.getUserProfile(MEMBER_ID);
+
+        assertThat(second).isSameAs(first);
+        verify(recommendationDataRepository, times(1)).loadUserProfile(MEMBER_ID);
+    }
+
+    @Test
+    @DisplayName("지출 등록은 캐시된 프로필에 증분 반영된다")
+    void applyExpenditureCreated_updatesCachedProfile() {
+        service.getUserProfile(MEMBER_ID);
+        LocalDate today = LocalDate.now();
+
+        service.applyExpenditureCreated(MEMBER_ID, today, 9000, 3L);
+
+        UserProfile updated = service.getUserProfile(MEMBER_ID);
+        assertThat(updated.getRecentExpenditures()).containsKey(today);
+        assertThat(updated.getRecentExpenditures().get(today).getCategoryId()).isEqualTo(3L);
+        verify(recommendationDataRepository, times(1)).loadUserProfile(MEMBER_ID);
+    }
+
+    @Test
+    @DisplayName("선호도 수정은 캐시된 프로필의 선호도에 병합된다")
+    void applyCategoryPreferencesUpdated_mergesPreferences() {
+        service.getUserProfile(MEMBER_ID);
+
+        service.applyCategoryPreferencesUpdated(MEMBER_ID, Map.of(2L, -100));
+
+        UserProfile updated = service.getUserProfile(MEMBER_ID);
+        assertThat(updated.getCategoryPreferences()).containsEntry(1L, 100).containsEntry(2L, -100);
+        verify(recommendationDataRepository, times(1)).loadUserProfile(MEMBER_ID);
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 DB에서 다시 조회한다")
+    void evict_reloadsFromDatabase() {
+        service.getUserProfile(MEMBER_ID);
+
+        service.evict(MEMBER_ID);
+        service.getUserProfile(MEMBER_ID);
+
+        verify(recommendationDataRepository, times(2)).loadUserProfile(MEMBER_ID);
+    }
+
+    @Test
+    @DisplayName("Redis 2차 캐시에 있으면 DB를 조회하지 않고 복원한다")
+    void getUserProfile_readsThroughRedis() {
+        ReflectionTestUtils.setField(service, "redisEnabled", true);
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        when(userProfileCacheStore.get(MEMBER_ID)).thenReturn(Optional.empty());
+
+        // 첫 조회: DB 로드 후 Redis 저장
+        UserProfile loaded = service.getUserProfile(MEMBER_ID);
+        verify(userProfileCacheStore).put(eq(MEMBER_ID), json.capture(), eq(Duration.ofSeconds(600)));
+
+        // 다른 인스턴스 시나리오: 로컬 캐시가 비어 있고 Redis에는 있음
+        service.init();
+        when(userProfileCacheStore.get(MEMBER_ID)).thenReturn(Optional.of(json.getValue()));
+        UserProfile restored = service.getUserProfile(MEMBER_ID);
+
+        verify(recommendationDataRepository, times(1)).loadUserProfile(MEMBER_ID);
+        assertThat(restored.getRecommendationType()).isEqualTo(loaded.getRecommendationType());
+        assertThat(restored.getCategoryPreferences()).isEqualTo(loaded.getCategoryPreferences());
+        assertThat(restored.getRecentExpenditures().keySet()).isEqualTo(loaded.getRecentExpenditures().keySet());
+    }
+
+    @Test
+    @DisplayName("캐시가 비활성화되면 항상 DB에서 조회한다")
+    void getUserProfile_disabled() {
+        ReflectionTestUtils.setField(service, "enabled", false);
+
+        service.getUserProfile(MEMBER_ID);
+        service.getUserProfile(MEMBER_ID);
+
+        verify(recommendationDataRepository, times(2)).loadUserProfile(MEMBER_ID);
+        verify(userProfileCacheStore, never()).put(any(), anyString(), any());
+    }
+
+    private UserProfile createProfile() {
+        Map<LocalDate, ExpenditureRecord> expenditures = new HashMap<>();
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        expenditures.put(yesterday, ExpenditureRecord.builder()
+                .expendedAt(yesterday)
+                .amount(8000)
+                .categoryId(1L)
+                .build());
+
+        Map<Long, Integer> preferences = new HashMap<>();
+        preferences.put(1L, 100);
+
+        return UserProfile.builder()
+                .memberId(MEMBER_ID)
+                .recommendationType(RecommendationType.SAVER)
+                .currentLatitude(new BigDecimal("37.5665"))
+                .currentLongitude(new BigDecimal("126.9780"))
+                .categoryPreferences(preferences)
+                .recentExpenditures(expenditures)
+                .storeLastVisitDates(new HashMap<>())
+                .build();
+    }
+}
@@ -0,0 +1,111 @@
+package com.stdev.smartmealtable.api.search.service;
+
+import com.stdev.smartmealtable.domain.category.Category;
+import com.stdev.smartmealtable.domain.category.CategoryRepository;
+import com.stdev.smartmealtable.domain.store.Store;
+import com.stdev.smartmealtable.domain.store.StoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class AutocompleteSuggestionHydratorTest {
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    private AutocompleteSuggestionHydrator hydrator;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        hydrator = new AutocompleteSuggestionHydrator(storeRepository, categoryRepository);
+        hydrator.init();
+    }
+
+    @Test
+    void loadStores_queriesOnceWithDistinctIdsInInputOrder() {
+        // DB는 IN 조회 결과를 입력 순서와 다르게 반환할 수 있음
+        given(storeRepository.findAllByIdIn(List.of(30L, 10L, 20L)))
+                .willReturn(List.of(store(20L, "분식집"), store(10L, "한식당"), store(30L, "중식당")));
+
+        List<Long> storeIds = Arrays.asList(30L, 10L, null, 30L, 20L, 10L);
+        Map<Long, Store> stores = hydrator.loadStores(storeIds);
+
+        verify(storeRepository, times(1)).findAllByIdIn(List.of(30L, 10L, 20L));
+        assertThat(storeIds.stream().filter(stores::containsKey).map(id -> stores.get(id).getName()))
+                .containsExactly("중식당", "한식당", "중식당", "분식집", "한식당");
+    }
+
+    @Test
+    void loadStores_omitsIdsMissingFromResult() {
+        given(storeRepository.findAllByIdIn(List.of(10L, 99L, 20L)))
+                .willReturn(List.of(store(10L, "한식당"), store(20L, "분식집")));
+
+        Map<Long, Store> stores = hydrator.loadStores(List.of(10L, 99L, 20L));
+
+        assertThat(stores).containsOnlyKeys(10L, 20L);
+        assertThat(stores).doesNotContainKey(99L);
+    }
+
+    @Test
+    void loadStores_skipsQueryForEmptyInput() {
+        assertThat(hydrator.loadStores(List.of())).isEmpty();
+        assertThat(hydrator.loadStores(null)).isEmpty();
+        assertThat(hydrator.loadStores(Arrays.asList((Long) null))).isEmpty();
+
+        verify(storeRepository, never()).findAllByIdIn(anyList());
+    }
+
+    @Test
+    void loadCategoryNames_queriesOnlyIdsNotInCache() {
+        given(categoryRepository.findByIdIn(anyList()))
+                .willReturn(List.of(Category.reconstitute(1L, "한식"), Category.reconstitute(2L, "중식")))
+                .willReturn(List.of(Category.reconstitute(3L, "일식")));
+
+        Map<Long, String> first = hydrator.loadCategoryNames(List.of(1L, 2L, 1L));
+        Map<Long, String> second = hydrator.loadCategoryNames(List.of(2L, 3L, 1L));
+
+        assertThat(first).containsOnly(Map.entry(1L, "한식"), Map.entry(2L, "중식"));
+        assertThat(second).containsOnly(Map.entry(1L, "한식"), Map.entry(2L, "중식"), Map.entry(3L, "일식"));
+        // 캐시 적재 순서는 보장되지 않으므로 ID 집합만 확인
+        verify(categoryRepository).findByIdIn(argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(1L, 2L))));
+        verify(categoryRepository).findByIdIn(List.of(3L));
+    }
+
+    @Test
+    void loadCategoryNames_omitsIdsMissingFromResult() {
+        given(categoryRepository.findByIdIn(anyList()))
+                .willReturn(List.of(Category.reconstitute(1L, "한식")));
+
+        Map<Long, String> names = hydrator.loadCategoryNames(List.of(1L, 404L));
+
+        assertThat(names).containsOnly(Map.entry(1L, "한식"));
+    }
+
+    @Test
+    void loadCategoryNames_returnsEmptyWhenLookupFails() {
+        given(categoryRepository.findByIdIn(anyList())).willThrow(new IllegalStateException("DB 연결 실패"));
+
+        assertThat(hydrator.loadCategoryNames(List.of(1L))).isEmpty();
+    }
+
+    private Store store(Long storeId, String name) {
+        return Store.builder().storeId(storeId).name(name).build();
+    }
+}
@@ -13,6 +13,7 @@ import com.stdev.smartmealtable.domain.member.repository.GroupRepository;
 import com.stdev.smartmealtable.domain.store.Store;
 import com.stdev.smartmealtable.domain.store.StoreRepository;
 import com.stdev.smartmealtable.domain.store.StoreType;
+import com.stdev.smartmealtable.storage.cache.AutocompleteGenerationRegistry;
 import com.stdev.smartmealtable.storage.cache.ChosungIndexBuilder;
 import com.stdev.smartmealtable.storage.cache.SearchCacheService;
 import org.junit.jupiter.api.*;
@@ -27,6 +28,7 @@ import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
 
@@ -72,14 +74,17 @@ class SearchCacheWarmingServiceIntegrationTest extends AbstractContainerTest {
     @MockBean
     private ChosungIndexBuilder chosungIndexBuilder;
 
+    @MockBean
+    private AutocompleteGenerationRegistry generationRegistry;
+
     // 테스트 데이터
     private Category savedCategory;
 
     @BeforeEach
     void setUp() {
         // Redis Mock 설정
-        doNothing().when(searchCacheService).cacheAutocompleteData(anyString(), anyList());
-        doNothing().when(chosungIndexBuilder).buildChosungIndex(anyString(), anyList());
+        doNothing().when(searchCacheService).cacheAutocompleteData(anyString(), anyLong(), anyList());
+        doNothing().when(chosungIndexBuilder).buildChosungIndex(anyString(), anyLong(), anyList());
 
         // 테스트 카테고리 생성
         savedCategory = categoryRepository.save(Category.create("한식"));
@@ -9,17 +9,27 @@ import com.stdev.smartmealtable.domain.member.entity.Group;
 import com.stdev.smartmealtable.domain.member.repository.GroupRepository;
 import com.stdev.smartmealtable.domain.store.Store;
 import com.stdev.smartmealtable.domain.store.StoreRepository;
+import com.stdev.smartmealtable.storage.cache.AutocompleteGenerationRegistry;
 import com.stdev.smartmealtable.storage.cache.ChosungIndexBuilder;
 import com.stdev.smartmealtable.storage.cache.SearchCacheService;
+import com.stdev.smartmealtable.support.search.autocomplete.AutocompleteTrie;
+import com.stdev.smartmealtable.support.search.autocomplete.TypoCandidateIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
@@ -50,6 +60,15 @@ class SearchCacheWarmingServiceTest {
     @Mock
     private ChosungIndexBuilder chosungIndexBuilder;
 
+    @Mock
+    private AutocompleteGenerationRegistry generationRegistry;
+
+    @Mock
+    private AutocompleteTrieIndex autocompleteTrieIndex;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private SearchCacheWarmingService searchCacheWarmingService;
 
@@ -84,8 +103,8 @@ class SearchCacheWarmingServiceTest {
         then(groupRepository).should(times(1)).count();
         then(groupRepository).should(times(1)).findAll(anyInt(), anyInt());
 
-        then(searchCacheService).should(times(3)).cacheAutocompleteData(anyString(), anyList());
-        then(chosungIndexBuilder).should(times(3)).buildChosungIndex(anyString(), anyList());
+        then(searchCacheService).should(times(3)).cacheAutocompleteData(anyString(), anyLong(), anyList());
+        then(chosungIndexBuilder).should(times(3)).buildChosungIndex(anyString(), anyLong(), anyList());
     }
 
     @Test
@@ -95,6 +114,8 @@ class SearchCacheWarmingServiceTest {
         Store store = createMockStore(1L, "교촌치킨 강남점");
         given(storeRepository.count()).willReturn(1L);
         given(storeRepository.findAll(0, 100)).willReturn(List.of(store));
+        given(searchCacheService.getWriteRoundTrips()).willReturn(10L, 13L);
+        given(chosungIndexBuilder.getWriteRoundTrips()).willReturn(5L, 6L);
 
         // when
         searchCacheWarmingService.warmStoreCache(100);
@@ -102,8 +123,11 @@ class SearchCacheWarmingServiceTest {
         // then
         then(storeRepository).should(times(1)).count();
         then(storeRepository).should(times(1)).findAll(0, 100);
-        then(searchCacheService).should(times(1)).cacheAutocompleteData(eq("store"), anyList());
-        then(chosungIndexBuilder).should(times(1)).buildChosungIndex(eq("store"), anyList());
+        then(searchCacheService).should(times(1)).cacheAutocompleteData(eq("store"), anyLong(), anyList());
+        then(chosungIndexBuilder).should(times(1)).buildChosungIndex(eq("store"), anyLong(), anyList());
+        assertThat(meterRegistry.get("search.cache.warming").tag("domain", "store").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("search.cache.warming.round.trips").tag("domain", "store").counter().count())
+                .isEqualTo(4.0);
     }
 
     @Test
@@ -120,8 +144,8 @@ class SearchCacheWarmingServiceTest {
         // then
         then(foodRepository).should(times(1)).count();
         then(foodRepository).should(times(1)).findAll(0, 500);
-        then(searchCacheService).should(times(1)).cacheAutocompleteData(eq("food"), anyList());
-        then(chosungIndexBuilder).should(times(1)).buildChosungIndex(eq("food"), anyList());
+        then(searchCacheService).should(times(1)).cacheAutocompleteData(eq("food"), anyLong(), anyList());
+        then(chosungIndexBuilder).should(times(1)).buildChosungIndex(eq("food"), anyLong(), anyList());
     }
 
     @Test
@@ -138,8 +162,8 @@ class SearchCacheWarmingServiceTest {
         // then
         then(groupRepository).should(times(1)).count();
         then(groupRepository).should(times(1)).findAll(anyInt(), anyInt());
-        then(searchCacheService).should(times(1)).cacheAutocompleteData(eq("group"), anyList());
-        then(chosungIndexBuilder).should(times(1)).buildChosungIndex(eq("group"), anyList());
+        then(searchCacheService).should(times(1)).cacheAutocompleteData(eq("group"), anyLong(), anyList());
+        then(chosungIndexBuilder).should(times(1)).buildChosungIndex(eq("group"), anyLong(), anyList());
     }
 
     @Test
@@ -154,8 +178,8 @@ class SearchCacheWarmingServiceTest {
         // then
         then(storeRepository).should(times(1)).count();
         then(storeRepository).should(times(0)).findAll(anyInt(), anyInt());
-        then(searchCacheService).should(times(0)).cacheAutocompleteData(anyString(), anyList());
-        then(chosungIndexBuilder).should(times(0)).buildChosungIndex(anyString(), anyList());
+        then(searchCacheService).should(times(0)).cacheAutocompleteData(anyString(), anyLong(), anyList());
+        then(chosungIndexBuilder).should(times(0)).buildChosungIndex(anyString(), anyLong(), anyList());
     }
 
     @Test
@@ -170,8 +194,8 @@ class SearchCacheWarmingServiceTest {
         // then
         then(foodRepository).should(times(1)).count();
         then(foodRepository).should(times(0)).findAll(anyInt(), anyInt());
-        then(searchCacheService).should(times(0)).cacheAutocompleteData(anyString(), anyList());
-        then(chosungIndexBuilder).should(times(0)).buildChosungIndex(anyString(), anyList());
+        then(searchCacheService).should(times(0)).cacheAutocompleteData(anyString(), anyLong(), anyList());
+        then(chosungIndexBuilder).should(times(0)).buildChosungIndex(anyString(), anyLong(), anyList());
     }
 
     @Test
@@ -186,8 +210,68 @@ class SearchCacheWarmingServiceTest {
         // then
         then(groupRepository).should(times(1)).count();
         then(groupRepository).should(times(0)).findAll(anyInt(), anyInt());
-        then(searchCacheService).should(times(0)).cacheAutocompleteData(anyString(), anyList());
-        then(chosungIndexBuilder).should(times(0)).buildChosungIndex(anyString(), anyList());
+        then(searchCacheService).should(times(0)).cacheAutocompleteData(anyString(), anyLong(), anyList());
+        then(chosungIndexBuilder).should(times(0)).buildChosungIndex(anyString(), anyLong(), anyList());
+    }
+
+    @Test
+    @DisplayName("Store 캐시 워밍 - 새 세대에 구축 후 활성화하고 이전 세대는 만료 예약")
+    void warmStoreCache_RebuildsNewGeneration() {
+        // given
+        Store store = createMockStore(1L, "교촌치킨 강남점");
+        given(storeRepository.count()).willReturn(1L);
+        given(storeRepository.findAll(0, 100)).willReturn(List.of(store));
+        given(generationRegistry.beginBuild("store")).willReturn(8L);
+        given(generationRegistry.activate("store", 8L)).willReturn(7L);
+
+        // when
+        searchCacheWarmingService.warmStoreCache(100);
+
+        // then
+        then(searchCacheService).should().cacheAutocompleteData(eq("store"), eq(8L), anyList());
+        then(chosungIndexBuilder).should().buildChosungIndex(eq("store"), eq(8L), anyList());
+        then(searchCacheService).should().retireGeneration(eq("store"), eq(7L), any(Duration.class));
+        then(chosungIndexBuilder).should().retireGeneration(eq("store"), eq(7L), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Store 캐시 워밍 - 구축 실패 시 활성 세대를 교체하지 않음")
+    void warmStoreCache_FailureKeepsActiveGeneration() {
+        // given
+        given(storeRepository.count()).willReturn(1L);
+        given(generationRegistry.beginBuild("store")).willReturn(8L);
+        given(storeRepository.findAll(0, 100)).willThrow(new IllegalStateException("DB 오류"));
+
+        // when & then
+        assertThatThrownBy(() -> searchCacheWarmingService.warmStoreCache(100))
+                .isInstanceOf(RuntimeException.class);
+        then(generationRegistry).should().abortBuild("store");
+        then(generationRegistry).should(times(0)).activate(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Group 캐시 워밍 - 인메모리 트라이 활성화 시 트라이와 오타 허용 인덱스도 교체")
+    void warmGroupCache_PublishesTrie() {
+        // given
+        Group group = Group.reconstitute(1L, "서울대학교 컴퓨터공학부",
+                com.stdev.smartmealtable.domain.member.entity.GroupType.UNIVERSITY,
+                Address.of("서울대학교", null, "서울특별시 관악구", null, null, null, null));
+        given(groupRepository.count()).willReturn(1L);
+        given(groupRepository.findAll(0, 50)).willReturn(List.of(group));
+        given(autocompleteTrieIndex.isEnabled()).willReturn(true);
+        given(autocompleteTrieIndex.newBuilder()).willReturn(AutocompleteTrie.builder(10));
+        given(autocompleteTrieIndex.newTypoBuilder()).willReturn(TypoCandidateIndex.builder());
+
+        // when
+        searchCacheWarmingService.warmGroupCache(50);
+
+        // then
+        ArgumentCaptor<AutocompleteTrie> trieCaptor = ArgumentCaptor.forClass(AutocompleteTrie.class);
+        ArgumentCaptor<TypoCandidateIndex> typoCaptor = ArgumentCaptor.forClass(TypoCandidateIndex.class);
+        then(autocompleteTrieIndex).should().publish(eq("group"), trieCaptor.capture(), typoCaptor.capture());
+        assertThat(trieCaptor.getValue().size()).isEqualTo(1);
+        assertThat(trieCaptor.getValue().search("ㅅㅇㄷ", 10)).hasSize(1);
+        assertThat(typoCaptor.getValue().search("서울대학교 컴퓨터공학과", 2, 10)).containsExactly(1L);
     }
 
     // ===== Helper Methods =====
@@ -0,0 +1,99 @@
+package com.stdev.smartmealtable.api.search.service;
+
+import com.stdev.smartmealtable.storage.cache.KeywordRankingCacheService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class StreamingKeywordAggregatorTest {
+
+    @Mock
+    private KeywordRankingCacheService keywordRankingCacheService;
+
+    private StreamingKeywordAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        aggregator = new StreamingKeywordAggregator(keywordRankingCacheService, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(aggregator, "enabled", true);
+        ReflectionTestUtils.setField(aggregator, "countersPerPrefix", 8);
+        ReflectionTestUtils.setField(aggregator, "prefixLength", 2);
+        ReflectionTestUtils.setField(aggregator, "maxKeywordsPerPrefix", 50);
+        ReflectionTestUtils.setField(aggregator, "redisTtlHours", 6L);
+        aggregator.init();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_sendsWeightedDeltasPerPrefixInOneBatch() {
+        aggregator.record("김치찌개", false);
+        aggregator.record("김치찌개", false);
+        aggregator.record("김치찌개", true);
+        aggregator.record("떡볶이", false);
+
+        aggregator.flush();
+
+        ArgumentCaptor<Map<String, Map<String, Double>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(keywordRankingCacheService, times(1))
+                .incrementScoresBatch(captor.capture(), eq(Duration.ofHours(6)), eq(50));
+        Map<String, Map<String, Double>> deltas = captor.getValue();
+        assertThat(deltas).containsOnlyKeys("김치", "떡볶");
+        // 검색 3건 × 0.7 + 클릭 1건 × 1.3
+        assertThat(deltas.get("김치").get("김치찌개")).isCloseTo(3.4, within(1e-9));
+        assertThat(deltas.get("떡볶").get("떡볶이")).isCloseTo(0.7, within(1e-9));
+    }
+
+    @Test
+    void flush_resetsCountersAfterFlushing() {
+        aggregator.record("김치찌개", false);
+        aggregator.flush();
+
+        aggregator.flush();
+
+        verify(keywordRankingCacheService, times(1)).incrementScoresBatch(anyMap(), any(), anyInt());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_skipsKeywordsWithoutGuaranteedCount() {
+        ReflectionTestUtils.setField(aggregator, "countersPerPrefix", 1);
+        aggregator.record("김치찌개", false);
+        aggregator.record("김치전", false);
+
+        aggregator.flush();
+
+        // 카운터 1개를 넘겨받은 "김치전"은 실제 누적이 보장된 0.7만 반영
+        ArgumentCaptor<Map<String, Map<String, Double>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(keywordRankingCacheService).incrementScoresBatch(captor.capture(), any(), anyInt());
+        assertThat(captor.getValue().get("김치")).containsOnlyKeys("김치전");
+        assertThat(captor.getValue().get("김치").get("김치전")).isCloseTo(0.7, within(1e-9));
+    }
+
+    @Test
+    void record_ignoredWhenDisabled() {
+        ReflectionTestUtils.setField(aggregator, "enabled", false);
+        aggregator.record("김치찌개", false);
+
+        aggregator.flush();
+
+        verify(keywordRankingCacheService, never()).incrementScoresBatch(anyMap(), any(), anyInt());
+    }
+}
@@ -0,0 +1,121 @@
+package com.stdev.smartmealtable.api.search.service;
+
+import com.stdev.smartmealtable.storage.cache.SearchCacheService;
+import com.stdev.smartmealtable.storage.cache.SearchCacheService.TrendingKeyword;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class TrendingKeywordServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-11-23T10:15:30Z");
+    private static final long NOW_MINUTE = NOW.toEpochMilli() / 60_000L;
+
+    @Mock
+    private SearchCacheService searchCacheService;
+
+    private TrendingKeywordService trendingKeywordService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        trendingKeywordService = new TrendingKeywordService(searchCacheService, Clock.fixed(NOW, ZoneOffset.UTC));
+        ReflectionTestUtils.setField(trendingKeywordService, "enabled", true);
+        ReflectionTestUtils.setField(trendingKeywordService, "windowMinutes", 60);
+        ReflectionTestUtils.setField(trendingKeywordService, "halfLifeMinutes", 15.0);
+        ReflectionTestUtils.setField(trendingKeywordService, "snapshotSize", 3);
+    }
+
+    @Test
+    void record_accumulatesLocallyAndFlushesOnePipelinePerDomain() {
+        trendingKeywordService.record("food", "김치찌개");
+        trendingKeywordService.record("food", "김치찌개");
+        trendingKeywordService.record("food", "떡볶이");
+        trendingKeywordService.record("store", "김밥천국");
+        given(searchCacheService.refreshTrendingSnapshot(anyString(), anyMap(), anyLong(), anyInt(), anyDouble(), anyInt()))
+                .willReturn(List.of());
+
+        trendingKeywordService.flush();
+
+        verify(searchCacheService, never()).incrementSearchCount(anyString(), anyString());
+        verify(searchCacheService).refreshTrendingSnapshot(
+                "food", Map.of("김치찌개", 2.0, "떡볶이", 1.0), NOW_MINUTE, 60, 15.0, 3);
+        verify(searchCacheService).refreshTrendingSnapshot(
+                "store", Map.of("김밥천국", 1.0), NOW_MINUTE, 60, 15.0, 3);
+    }
+
+    @Test
+    void getTrendingKeywords_servesSnapshotFromLastFlush() {
+        trendingKeywordService.record("food", "김치찌개");
+        given(searchCacheService.refreshTrendingSnapshot(eq("food"), anyMap(), anyLong(), anyInt(), anyDouble(), anyInt()))
+                .willReturn(List.of(new TrendingKeyword("김치찌개", 5L), new TrendingKeyword("떡볶이", 2L)));
+        trendingKeywordService.flush();
+
+        List<TrendingKeyword> first = trendingKeywordService.getTrendingKeywords("food", 1);
+        List<TrendingKeyword> all = trendingKeywordService.getTrendingKeywords("food", 10);
+
+        assertThat(first).extracting(TrendingKeyword::keyword).containsExactly("김치찌개");
+        assertThat(all).hasSize(2);
+        verify(searchCacheService, never()).getTrendingSnapshot(anyString(), anyInt());
+    }
+
+    @Test
+    void getTrendingKeywords_loadsSnapshotOnceBeforeFirstFlush() {
+        given(searchCacheService.getTrendingSnapshot("group", 3))
+                .willReturn(List.of(new TrendingKeyword("서울", 4L)));
+
+        trendingKeywordService.getTrendingKeywords("group", 10);
+        List<TrendingKeyword> trending = trendingKeywordService.getTrendingKeywords("group", 10);
+
+        assertThat(trending).extracting(TrendingKeyword::keyword).containsExactly("서울");
+        verify(searchCacheService, times(1)).getTrendingSnapshot("group", 3);
+    }
+
+    @Test
+    void flush_refreshesSnapshotOfReadOnlyDomainWithoutCounts() {
+        given(searchCacheService.getTrendingSnapshot("group", 3)).willReturn(List.of());
+        given(searchCacheService.refreshTrendingSnapshot(eq("group"), anyMap(), anyLong(), anyInt(), anyDouble(), anyInt()))
+                .willReturn(List.of(new TrendingKeyword("연세", 1L)));
+        trendingKeywordService.getTrendingKeywords("group", 10);
+
+        trendingKeywordService.flush();
+
+        verify(searchCacheService).refreshTrendingSnapshot("group", Map.of(), NOW_MINUTE, 60, 15.0, 3);
+        assertThat(trendingKeywordService.getTrendingKeywords("group", 10))
+                .extracting(TrendingKeyword::keyword).containsExactly("연세");
+    }
+
+    @Test
+    void disabled_delegatesToLegacyTrendingKey() {
+        ReflectionTestUtils.setField(trendingKeywordService, "enabled", false);
+
+        trendingKeywordService.record("food", "김치찌개");
+        trendingKeywordService.getTrendingKeywords("food", 5);
+        trendingKeywordService.flush();
+
+        verify(searchCacheService).incrementSearchCount("food", "김치찌개");
+        verify(searchCacheService).getTrendingKeywords("food", 5);
+        verify(searchCacheService, never())
+                .refreshTrendingSnapshot(anyString(), anyMap(), anyLong(), anyInt(), anyDouble(), anyInt());
+    }
+}
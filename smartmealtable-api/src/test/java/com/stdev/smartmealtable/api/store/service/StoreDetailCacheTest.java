@@ -0,0 +1,184 @@
+package com.stdev.smartmealtable.api.store.service;
+
+import com.stdev.smartmealtable.api.store.service.StoreDetailCache.StoreDetail;
+import com.stdev.smartmealtable.domain.food.Food;
+import com.stdev.smartmealtable.domain.food.FoodRepository;
+import com.stdev.smartmealtable.domain.store.Store;
+import com.stdev.smartmealtable.domain.store.StoreImageRepository;
+import com.stdev.smartmealtable.domain.store.StoreOpeningHourRepository;
+import com.stdev.smartmealtable.domain.store.StoreRepository;
+import com.stdev.smartmealtable.domain.store.StoreTemporaryClosureRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class StoreDetailCacheTest {
+
+    private static final LocalDateTime STARTED_AT = LocalDateTime.of(2025, 11, 23, 12, 0);
+    private static final Long STORE_ID = 100L;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private StoreImageRepository storeImageRepository;
+
+    @Mock
+    private StoreOpeningHourRepository storeOpeningHourRepository;
+
+    @Mock
+    private StoreTemporaryClosureRepository storeTemporaryClosureRepository;
+
+    @Mock
+    private FoodRepository foodRepository;
+
+    private StoreDetailCache storeDetailCache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        given(storeRepository.findMaxUpdatedAt()).willReturn(Optional.of(STARTED_AT));
+        storeDetailCache = new StoreDetailCache(storeRepository, storeImageRepository, storeOpeningHourRepository,
+                storeTemporaryClosureRepository, foodRepository);
+        ReflectionTestUtils.setField(storeDetailCache, "enabled", true);
+        storeDetailCache.init();
+
+        given(storeRepository.findByIdAndDeletedAtIsNull(STORE_ID))
+                .willReturn(Optional.of(Store.builder().storeId(STORE_ID).name("맛있는 한식당").build()));
+        given(storeImageRepository.findByStoreId(STORE_ID)).willReturn(List.of());
+        given(storeOpeningHourRepository.findByStoreId(STORE_ID)).willReturn(List.of());
+        given(storeTemporaryClosureRepository.findByStoreId(STORE_ID)).willReturn(List.of());
+        given(foodRepository.findByStoreId(STORE_ID)).willReturn(List.of());
+    }
+
+    @Test
+    void get_loadsOnceAndServesFromMemory() {
+        storeDetailCache.get(STORE_ID);
+        Optional<StoreDetail> detail = storeDetailCache.get(STORE_ID);
+
+        assertThat(detail).map(d -> d.store().getName()).contains("맛있는 한식당");
+        verify(storeRepository, times(1)).findByIdAndDeletedAtIsNull(STORE_ID);
+        verify(foodRepository, times(1)).findByStoreId(STORE_ID);
+    }
+
+    @Test
+    void get_sortsMenusByMainThenDisplayOrder() {
+        given(foodRepository.findByStoreId(STORE_ID)).willReturn(List.of(
+                Food.create("된장찌개", STORE_ID, 1L, null, null, 6000, false, null),
+                Food.create("김치찌개", STORE_ID, 1L, null, null, 7000, false, 2),
+                Food.create("비빔밥", STORE_ID, 1L, null, null, 8000, true, 5)
+        ));
+
+        StoreDetail detail = storeDetailCache.get(STORE_ID).orElseThrow();
+
+        assertThat(detail.foods()).extracting(Food::getFoodName)
+                .containsExactly("비빔밥", "김치찌개", "된장찌개");
+    }
+
+    @Test
+    void get_doesNotCacheMissingStore() {
+        given(storeRepository.findByIdAndDeletedAtIsNull(STORE_ID)).willReturn(Optional.empty());
+
+        assertThat(storeDetailCache.get(STORE_ID)).isEmpty();
+        assertThat(storeDetailCache.get(STORE_ID)).isEmpty();
+
+        verify(storeRepository, times(2)).findByIdAndDeletedAtIsNull(STORE_ID);
+        verify(foodRepository, never()).findByStoreId(any());
+    }
+
+    @Test
+    void evictUpdatedStores_reloadsChangedStoreAndAdvancesWatermark() {
+        LocalDateTime updatedAt = STARTED_AT.plusSeconds(3);
+        given(storeRepository.findUpdatedAtSince(STARTED_AT)).willReturn(Map.of(STORE_ID, updatedAt));
+        storeDetailCache.get(STORE_ID);
+
+        storeDetailCache.evictUpdatedStores();
+        storeDetailCache.evictUpdatedStores();
+        storeDetailCache.get(STORE_ID);
+
+        verify(storeRepository, times(2)).findByIdAndDeletedAtIsNull(STORE_ID);
+        verify(storeRepository).findUpdatedAtSince(STARTED_AT);
+        verify(storeRepository).findUpdatedAtSince(updatedAt);
+    }
+
+    @Test
+    void evictUpdatedStores_doesNotEvictStoresAlreadyEvictedAtWatermark() {
+        LocalDateTime updatedAt = STARTED_AT.plusSeconds(3);
+        Long otherStoreId = 200L;
+        given(storeRepository.findUpdatedAtSince(STARTED_AT)).willReturn(Map.of(STORE_ID, updatedAt));
+        // 같은 초에 늦게 커밋된 다른 가게가 함께 조회됨
+        given(storeRepository.findUpdatedAtSince(updatedAt))
+                .willReturn(Map.of(STORE_ID, updatedAt, otherStoreId, updatedAt));
+        given(storeRepository.findByIdAndDeletedAtIsNull(otherStoreId))
+                .willReturn(Optional.of(Store.builder().storeId(otherStoreId).name("분식집").build()));
+
+        storeDetailCache.evictUpdatedStores();
+        storeDetailCache.get(STORE_ID);
+        storeDetailCache.get(otherStoreId);
+        storeDetailCache.evictUpdatedStores();
+        storeDetailCache.evictUpdatedStores();
+        storeDetailCache.get(STORE_ID);
+        storeDetailCache.get(otherStoreId);
+
+        verify(storeRepository, times(1)).findByIdAndDeletedAtIsNull(STORE_ID);
+        verify(storeRepository, times(2)).findByIdAndDeletedAtIsNull(otherStoreId);
+    }
+
+    @Test
+    void evictUpdatedStores_usesDatabaseClockWhenAppClockIsAhead() {
+        // 애플리케이션은 Asia/Seoul, DB는 UTC로 updated_at을 기록하는 경우 (DB 시각이 9시간 늦음)
+        LocalDateTime dbMaxUpdatedAt = STARTED_AT.minusHours(9);
+        LocalDateTime updatedAt = dbMaxUpdatedAt.plusSeconds(3);
+        given(storeRepository.findMaxUpdatedAt()).willReturn(Optional.of(dbMaxUpdatedAt));
+        given(storeRepository.findUpdatedAtSince(dbMaxUpdatedAt)).willReturn(Map.of(STORE_ID, updatedAt));
+        storeDetailCache.init();
+        storeDetailCache.get(STORE_ID);
+
+        storeDetailCache.evictUpdatedStores();
+        storeDetailCache.get(STORE_ID);
+
+        verify(storeRepository).findUpdatedAtSince(dbMaxUpdatedAt);
+        verify(storeRepository, times(2)).findByIdAndDeletedAtIsNull(STORE_ID);
+    }
+
+    @Test
+    void evictUpdatedStores_clearsCacheWhenWatermarkWasNotLoaded() {
+        given(storeRepository.findMaxUpdatedAt())
+                .willThrow(new IllegalStateException("DB 연결 실패"))
+                .willReturn(Optional.of(STARTED_AT));
+        storeDetailCache.init();
+        storeDetailCache.get(STORE_ID);
+
+        storeDetailCache.evictUpdatedStores();
+        storeDetailCache.get(STORE_ID);
+
+        verify(storeRepository, never()).findUpdatedAtSince(any());
+        verify(storeRepository, times(2)).findByIdAndDeletedAtIsNull(STORE_ID);
+    }
+
+    @Test
+    void disabled_alwaysLoadsFromDatabase() {
+        ReflectionTestUtils.setField(storeDetailCache, "enabled", false);
+
+        storeDetailCache.get(STORE_ID);
+        storeDetailCache.get(STORE_ID);
+        storeDetailCache.evictUpdatedStores();
+
+        verify(storeRepository, times(2)).findByIdAndDeletedAtIsNull(STORE_ID);
+        verify(storeRepository, never()).findUpdatedAtSince(any());
+    }
+}
@@ -39,6 +39,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -52,13 +53,10 @@ class StoreServiceTest {
     private StoreRepository storeRepository;
 
     @Mock
-    private StoreOpeningHourRepository storeOpeningHourRepository;
+    private StoreDetailCache storeDetailCache;
 
     @Mock
-    private StoreTemporaryClosureRepository storeTemporaryClosureRepository;
-
-    @Mock
-    private StoreViewHistoryRepository storeViewHistoryRepository;
+    private StoreViewRecorder storeViewRecorder;
 
     @Mock
     private AddressHistoryRepository addressHistoryRepository;
@@ -66,9 +64,6 @@ class StoreServiceTest {
     @Mock
     private FoodRepository foodRepository;
 
-    @Mock
-    private StoreImageRepository storeImageRepository;
-
     @Mock
     private FavoriteRepository favoriteRepository;
 
@@ -295,25 +290,9 @@ class StoreServiceTest {
                 Food.reconstitute(2L, "된장찌개", testStoreId, 1L, "집된장으로 만든 따뜻한 된장찌개", "https://example.com/doenjang.jpg", 6000)
         );
 
-        StoreViewHistory viewHistory = new StoreViewHistory(
-                null,
-                testStoreId,
-                testMemberId,
-                LocalDateTime.now()
-        );
-
-        given(storeRepository.findByIdAndDeletedAtIsNull(testStoreId))
-                .willReturn(Optional.of(testStore));
-        given(storeViewHistoryRepository.createViewHistory(testStoreId, testMemberId))
-                .willReturn(viewHistory);
-        given(storeImageRepository.findByStoreId(testStoreId))
-                .willReturn(List.of()); // 빈 이미지 리스트
-        given(storeOpeningHourRepository.findByStoreId(testStoreId))
-                .willReturn(openingHours);
-        given(storeTemporaryClosureRepository.findByStoreId(testStoreId))
-                .willReturn(temporaryClosures);
-        given(foodRepository.findByStoreId(testStoreId))
-                .willReturn(foods);
+        given(storeDetailCache.get(testStoreId))
+                .willReturn(Optional.of(new StoreDetailCache.StoreDetail(
+                        testStore, List.of(), openingHours, temporaryClosures, foods))); // 빈 이미지 리스트
         given(favoriteRepository.existsByMemberIdAndStoreId(testMemberId, testStoreId))
                 .willReturn(false);
 
@@ -337,14 +316,10 @@ class StoreServiceTest {
         assertThat(response.isFavorite()).isFalse();
         assertThat(response.isOpen()).isTrue();
 
-        verify(storeRepository).findByIdAndDeletedAtIsNull(testStoreId);
-        verify(storeViewHistoryRepository).createViewHistory(testStoreId, testMemberId);
-        verify(storeViewHistoryRepository).save(viewHistory);
-        verify(storeRepository).save(testStore);
-        verify(storeImageRepository).findByStoreId(testStoreId);
-        verify(storeOpeningHourRepository).findByStoreId(testStoreId);
-        verify(storeTemporaryClosureRepository).findByStoreId(testStoreId);
-        verify(foodRepository).findByStoreId(testStoreId);
+        verify(storeDetailCache).get(testStoreId);
+        verify(storeViewRecorder).record(testStoreId, testMemberId, fixedNow);
+        verify(storeRepository, never()).save(any());
+        assertThat(testStore.getViewCount()).isEqualTo(500); // 캐시된 가게 객체는 수정하지 않음
         verify(favoriteRepository).existsByMemberIdAndStoreId(testMemberId, testStoreId);
     }
 
@@ -352,7 +327,7 @@ class StoreServiceTest {
     @DisplayName("가게 상세 조회 실패 - 가게 없음")
     void getStoreDetail_fail_storeNotFound() {
         // given
-        given(storeRepository.findByIdAndDeletedAtIsNull(testStoreId))
+        given(storeDetailCache.get(testStoreId))
                 .willReturn(Optional.empty());
 
         // when & then
@@ -360,7 +335,8 @@ class StoreServiceTest {
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorType", ErrorType.STORE_NOT_FOUND);
 
-        verify(storeRepository).findByIdAndDeletedAtIsNull(testStoreId);
+        verify(storeDetailCache).get(testStoreId);
+        verify(storeViewRecorder, never()).record(any(), any(), any());
     }
 
     @Test
@@ -394,25 +370,9 @@ class StoreServiceTest {
 
         List<Food> foods = List.of();
 
-        StoreViewHistory viewHistory = new StoreViewHistory(
-                null,
-                testStoreId,
-                testMemberId,
-                LocalDateTime.now()
-        );
-
-        given(storeRepository.findByIdAndDeletedAtIsNull(testStoreId))
-                .willReturn(Optional.of(testStore));
-        given(storeViewHistoryRepository.createViewHistory(testStoreId, testMemberId))
-                .willReturn(viewHistory);
-        given(storeImageRepository.findByStoreId(testStoreId))
-                .willReturn(List.of()); // 빈 이미지 리스트
-        given(storeOpeningHourRepository.findByStoreId(testStoreId))
-                .willReturn(openingHours);
-        given(storeTemporaryClosureRepository.findByStoreId(testStoreId))
-                .willReturn(temporaryClosures);
-        given(foodRepository.findByStoreId(testStoreId))
-                .willReturn(foods);
+        given(storeDetailCache.get(testStoreId))
+                .willReturn(Optional.of(new StoreDetailCache.StoreDetail(
+                        testStore, List.of(), openingHours, temporaryClosures, foods))); // 빈 이미지 리스트
         given(favoriteRepository.existsByMemberIdAndStoreId(testMemberId, testStoreId))
                 .willReturn(true);
 
@@ -431,9 +391,7 @@ class StoreServiceTest {
         assertThat(response.isFavorite()).isTrue();
         assertThat(response.isOpen()).isFalse();
 
-        verify(storeImageRepository).findByStoreId(testStoreId);
-        verify(storeTemporaryClosureRepository).findByStoreId(testStoreId);
-        verify(foodRepository).findByStoreId(testStoreId);
+        verify(storeDetailCache).get(testStoreId);
         verify(favoriteRepository).existsByMemberIdAndStoreId(testMemberId, testStoreId);
     }
 
@@ -0,0 +1,159 @@
+package com.stdev.smartmealtable.api.store.service;
+
+import com.stdev.smartmealtable.domain.store.StoreRepository;
+import com.stdev.smartmealtable.domain.store.StoreViewHistory;
+import com.stdev.smartmealtable.domain.store.StoreViewHistoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class StoreViewRecorderTest {
+
+    private static final LocalDateTime VIEWED_AT = LocalDateTime.of(2025, 11, 23, 12, 0);
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private StoreViewHistoryRepository storeViewHistoryRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StoreViewRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        recorder = new StoreViewRecorder(storeRepository, storeViewHistoryRepository, meterRegistry);
+        // 테스트에서는 flush를 직접 호출
+        ReflectionTestUtils.setField(recorder, "flushIntervalMillis", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.setField(recorder, "historyCapacity", 4);
+        ReflectionTestUtils.setField(recorder, "batchSize", 2);
+        recorder.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recorder.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_appliesViewCountDeltasInOneBatch() {
+        recorder.record(1L, 10L, VIEWED_AT);
+        recorder.record(1L, 11L, VIEWED_AT);
+        recorder.record(2L, 10L, VIEWED_AT);
+
+        recorder.flush();
+
+        ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(storeRepository, times(1)).incrementViewCounts(captor.capture());
+        assertThat(captor.getValue()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 2L, 2L, 1L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_savesHistoriesInBatches() {
+        List<List<StoreViewHistory>> batches = new ArrayList<>();
+        given(storeViewHistoryRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<StoreViewHistory> batch = invocation.getArgument(0);
+            batches.add(List.copyOf(batch));
+            return batch.size();
+        });
+        recorder.record(1L, 10L, VIEWED_AT);
+        recorder.record(1L, 11L, VIEWED_AT);
+        recorder.record(2L, 12L, VIEWED_AT);
+
+        recorder.flush();
+
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(0)).extracting(StoreViewHistory::memberId).containsExactly(10L, 11L);
+        assertThat(batches.get(1)).containsExactly(new StoreViewHistory(null, 2L, 12L, VIEWED_AT));
+        assertThat(meterRegistry.get("store.view.recorder.history.written").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_retriesViewCountsAfterFailure() {
+        given(storeRepository.incrementViewCounts(anyMap()))
+                .willThrow(new IllegalStateException("db down"))
+                .willReturn(1);
+        recorder.record(1L, 10L, VIEWED_AT);
+        recorder.flush();
+
+        recorder.record(1L, 11L, VIEWED_AT);
+        recorder.flush();
+
+        ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(storeRepository, times(2)).incrementViewCounts(captor.capture());
+        assertThat(captor.getAllValues().get(1)).containsExactlyEntriesOf(Map.of(1L, 2L));
+    }
+
+    @Test
+    void record_dropsHistoryWhenBufferFull() {
+        for (int i = 0; i < 6; i++) {
+            recorder.record(1L, 10L, VIEWED_AT);
+        }
+
+        assertThat(meterRegistry.get("store.view.recorder.dropped").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void flush_skipsWhenNothingRecorded() {
+        recorder.flush();
+
+        verify(storeRepository, never()).incrementViewCounts(anyMap());
+        verify(storeViewHistoryRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void record_countsEveryViewWhileFlushing() throws InterruptedException {
+        int threads = 8;
+        int viewsPerThread = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < viewsPerThread; i++) {
+                    recorder.record(1L, 10L, VIEWED_AT);
+                }
+                done.countDown();
+            });
+        }
+        // 저장 스레드 역할: 기록이 진행되는 동안 계속 flush
+        while (!done.await(1, TimeUnit.MILLISECONDS)) {
+            recorder.flush();
+        }
+        executor.shutdown();
+        recorder.flush();
+
+        ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(storeRepository, atLeastOnce()).incrementViewCounts(captor.capture());
+        long total = captor.getAllValues().stream().mapToLong(deltas -> deltas.getOrDefault(1L, 0L)).sum();
+        assertThat(total).isEqualTo((long) threads * viewsPerThread);
+    }
+}
@@ -11,6 +11,9 @@ import org.springframework.batch.item.ItemWriter;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 처리된 가게 데이터를 DB에 저장하는 Writer
  * Store, Food, StoreImage, StoreOpeningHour, StoreCategory를 모두 저장
@@ -31,20 +34,27 @@ public class StoreDataWriter implements ItemWriter<ProcessedStoreData> {
     public void write(Chunk<? extends ProcessedStoreData> chunk) throws Exception {
         log.info("Writing {} stores to database", chunk.size());
         
+        List<Long> writtenStoreIds = new ArrayList<>(chunk.size());
         for (ProcessedStoreData data : chunk) {
             try {
-                writeStoreData(data);
+                writtenStoreIds.add(writeStoreData(data));
             } catch (Exception e) {
                 log.error("Failed to write store data: {}", data.getStore().getName(), e);
                 throw e;
             }
         }
+        
+        // 음식/이미지/영업시간/카테고리만 바뀐 가게도 updated_at이 갱신되도록 청크 단위로 한 번에 반영
+        // (API 서버의 가게 상세 캐시가 updated_at 기준으로 무효화)
+        storeRepository.touchUpdatedAt(writtenStoreIds);
     }
     
     /**
      * 가게 데이터 및 관련 엔티티 저장
+     *
+     * @return 저장된 가게 ID
      */
-    private void writeStoreData(ProcessedStoreData data) {
+    private Long writeStoreData(ProcessedStoreData data) {
         // 1. Store 저장 (Upsert)
         Store savedStore = storeRepository.save(data.getStore());
         Long storeId = savedStore.getStoreId();
@@ -66,6 +76,8 @@ public class StoreDataWriter implements ItemWriter<ProcessedStoreData> {
         
         // 6. 영업시간 저장
         saveOpeningHours(storeId, data.getOpeningHours());
+        
+        return storeId;
     }
     
     /**
@@ -0,0 +1,17 @@
+package com.stdev.smartmealtable.domain.budget;
+
+import java.time.LocalDate;
+
+/**
+ * 월 중간에 바뀐 일일 예산 기본값
+ * effectiveDate부터 그 달 말일(또는 다음 변경 전날)까지 일일 예산 행이 없는 날에 적용됩니다.
+ * 그 달의 첫 기본값은 월별 예산(defaultDailyBudget)에 있습니다.
+ *
+ * @param effectiveDate 적용 시작일
+ * @param dailyFoodBudget 일일 예산 기본값
+ */
+public record DailyBudgetDefault(
+        LocalDate effectiveDate,
+        Integer dailyFoodBudget
+) {
+}
@@ -0,0 +1,27 @@
+package com.stdev.smartmealtable.domain.budget;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일일 예산 기본값 변경 이력 Repository 인터페이스
+ */
+public interface DailyBudgetDefaultRepository {
+
+    /**
+     * 적용 시작일의 기본값 저장 (같은 날짜의 기존 값은 덮어씀)
+     */
+    void upsert(Long memberId, LocalDate effectiveDate, Integer dailyFoodBudget);
+
+    /**
+     * 기간 내 기본값 변경 이력 조회 (적용 시작일 오름차순)
+     */
+    List<DailyBudgetDefault> findInRange(Long memberId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 기간 내 기본값 변경 이력 삭제
+     *
+     * @return 삭제된 이력 수
+     */
+    int deleteInRange(Long memberId, LocalDate startDate, LocalDate endDate);
+}
@@ -13,6 +13,35 @@ public interface DailyBudgetRepository {
      */
     DailyBudget save(DailyBudget dailyBudget);
 
+    /**
+     * 신규 일일 예산 일괄 저장 (다중 행 INSERT)
+     *
+     * @return ID가 채워진 일일 예산 (입력 순서 유지)
+     */
+    List<DailyBudget> saveAll(List<DailyBudget> dailyBudgets);
+
+    /**
+     * 기간(포함) 내 일일 예산 금액 일괄 변경 (단일 UPDATE)
+     *
+     * @return 변경된 일일 예산 수
+     */
+    int updateDailyFoodBudgetInRange(Long memberId, LocalDate fromDate, LocalDate toDate, Integer dailyFoodBudget);
+
+    /**
+     * 일일 예산 사용 금액 증가 (UPDATE ... SET daily_used_amount = daily_used_amount + ?)
+     * 읽기-수정-저장 없이 DB에서 증가분만 반영하므로 같은 회원의 동시 지출 등록에도 누락되지 않습니다.
+     *
+     * @return 변경된 일일 예산 수 (해당 날짜의 예산이 없으면 0)
+     */
+    int addUsedAmount(Long memberId, LocalDate budgetDate, Integer amount);
+
+    /**
+     * 기간 내 일일 예산 사용 금액을 지출 원본(삭제되지 않은 지출)의 합계로 다시 계산 (백필용)
+     *
+     * @return 변경된 일일 예산 수
+     */
+    int recalculateUsedAmountsInRange(Long memberId, LocalDate fromDate, LocalDate toDate);
+
     /**
      * 회원 ID와 예산 날짜로 일일 예산 조회
      */
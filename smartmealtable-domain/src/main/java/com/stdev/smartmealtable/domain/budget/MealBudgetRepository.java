@@ -14,6 +14,27 @@ public interface MealBudgetRepository {
      */
     MealBudget save(MealBudget mealBudget);
 
+    /**
+     * 신규 식사 예산 일괄 저장 (다중 행 INSERT)
+     *
+     * @return ID가 채워진 식사 예산 (입력 순서 유지)
+     */
+    List<MealBudget> saveAll(List<MealBudget> mealBudgets);
+
+    /**
+     * 회원의 특정 날짜/식사 유형 식사 예산 사용 금액 증가 (UPDATE ... SET used_amount = used_amount + ?)
+     *
+     * @return 변경된 식사 예산 수 (해당 식사 예산이 없으면 0)
+     */
+    int addUsedAmount(Long memberId, LocalDate budgetDate, MealType mealType, Integer amount);
+
+    /**
+     * 회원의 기간 내 식사별 예산 사용 금액을 지출 원본(삭제되지 않은 지출)의 식사 유형별 합계로 다시 계산 (백필용)
+     *
+     * @return 변경된 식사 예산 수
+     */
+    int recalculateUsedAmountsInRange(Long memberId, LocalDate fromDate, LocalDate toDate);
+
     /**
      * 일일 예산 ID로 식사 예산 목록 조회
      */
@@ -1,9 +1,14 @@
 package com.stdev.smartmealtable.domain.budget;
 
+import com.stdev.smartmealtable.domain.expenditure.MealType;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
 /**
  * 월별 예산 도메인 엔티티
  */
@@ -15,6 +20,8 @@ public class MonthlyBudget {
     private Integer monthlyFoodBudget;
     private Integer monthlyUsedAmount;
     private String budgetMonth;
+    private Integer defaultDailyBudget;          // 일일 예산 기본값 (가상 일일 예산 계산용, nullable)
+    private Map<MealType, Integer> defaultMealBudgets = new EnumMap<>(MealType.class);
 
     /**
      * 월별 예산 생성 팩토리 메서드
@@ -42,6 +49,40 @@ public class MonthlyBudget {
         return budget;
     }
 
+    /**
+     * 영속화된 월별 예산 재구성 (일일/식사별 예산 기본값 포함)
+     */
+    public static MonthlyBudget reconstitute(Long monthlyBudgetId, Long memberId, Integer monthlyFoodBudget,
+                                              Integer monthlyUsedAmount, String budgetMonth,
+                                              Integer defaultDailyBudget, Map<MealType, Integer> defaultMealBudgets) {
+        MonthlyBudget budget = reconstitute(monthlyBudgetId, memberId, monthlyFoodBudget, monthlyUsedAmount, budgetMonth);
+        budget.changeDefaults(defaultDailyBudget, defaultMealBudgets);
+        return budget;
+    }
+
+    /**
+     * 일일/식사별 예산 기본값 변경
+     * 날짜별 예산 행이 없는 날은 이 값으로 일일/식사별 예산을 계산합니다.
+     */
+    public void changeDefaults(Integer defaultDailyBudget, Map<MealType, Integer> defaultMealBudgets) {
+        this.defaultDailyBudget = defaultDailyBudget;
+        this.defaultMealBudgets = new EnumMap<>(MealType.class);
+        if (defaultMealBudgets != null) {
+            this.defaultMealBudgets.putAll(defaultMealBudgets);
+        }
+    }
+
+    /**
+     * 일일 예산 기본값 설정 여부
+     */
+    public boolean hasDefaults() {
+        return defaultDailyBudget != null;
+    }
+
+    public Map<MealType, Integer> getDefaultMealBudgets() {
+        return Collections.unmodifiableMap(defaultMealBudgets);
+    }
+
     /**
      * 월별 예산 금액 변경
      */
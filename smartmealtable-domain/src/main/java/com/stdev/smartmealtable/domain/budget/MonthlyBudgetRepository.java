@@ -1,5 +1,6 @@
 package com.stdev.smartmealtable.domain.budget;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -11,6 +12,29 @@ public interface MonthlyBudgetRepository {
      */
     MonthlyBudget save(MonthlyBudget monthlyBudget);
 
+    /**
+     * 월별 예산 사용 금액 증가 (UPDATE ... SET monthly_used_amount = monthly_used_amount + ?)
+     *
+     * @return 변경된 월별 예산 수 (해당 월의 예산이 없으면 0)
+     */
+    int addUsedAmount(Long memberId, String budgetMonth, Integer amount);
+
+    /**
+     * 월별 예산 금액 변경 (UPDATE ... SET monthly_food_budget = ?)
+     * 사용 금액을 함께 덮어쓰지 않도록 조회 후 저장 대신 사용합니다.
+     *
+     * @return 변경된 월별 예산 수 (해당 월의 예산이 없으면 0)
+     */
+    int updateMonthlyFoodBudget(Long memberId, String budgetMonth, Integer amount);
+
+    /**
+     * 일일 예산 기본값 변경 (UPDATE ... SET default_daily_budget = ?)
+     * 사용 금액을 함께 덮어쓰지 않도록 조회 후 저장 대신 사용합니다.
+     *
+     * @return 변경된 월별 예산 수 (해당 월의 예산이 없으면 0)
+     */
+    int updateDefaultDailyBudget(Long memberId, String budgetMonth, Integer amount);
+
     /**
      * 회원 ID와 예산 월로 월별 예산 조회
      */
@@ -20,4 +44,11 @@ public interface MonthlyBudgetRepository {
      * 회원 ID로 가장 최근 월별 예산 조회
      */
     Optional<MonthlyBudget> findLatestByMemberId(Long memberId);
+
+    /**
+     * 해당 월의 월별 예산이 있는 회원 ID 조회 (회원 ID 오름차순 키셋 페이징)
+     *
+     * @param lastMemberId 이전 페이지의 마지막 회원 ID (첫 페이지면 null)
+     */
+    List<Long> findMemberIdsByBudgetMonth(String budgetMonth, Long lastMemberId, int limit);
 }
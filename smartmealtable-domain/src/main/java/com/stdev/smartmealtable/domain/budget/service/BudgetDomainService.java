@@ -27,12 +27,14 @@ public class BudgetDomainService {
     private final MonthlyBudgetRepository monthlyBudgetRepository;
     private final DailyBudgetRepository dailyBudgetRepository;
     private final MealBudgetRepository mealBudgetRepository;
+    private final VirtualDailyBudgetService virtualDailyBudgetService;
 
     /**
      * 온보딩 시 초기 예산 설정
      * - 현재 월의 월별 예산 생성
      * - 오늘부터 월말까지 모든 날짜에 대한 일일 예산 생성
      * - 오늘부터 월말까지 모든 날짜에 대한 식사별 예산 생성 (아침, 점심, 저녁)
+     * - 가상 일일 예산 모드에서는 일일/식사별 예산을 월별 예산 기본값으로만 저장하고 날짜별 행은 만들지 않음
      *
      * @param memberId      회원 ID
      * @param monthlyAmount 월별 예산 금액
@@ -63,6 +65,7 @@ public class BudgetDomainService {
                 monthlyAmount,
                 budgetMonth
         );
+        monthlyBudget.changeDefaults(dailyAmount, mealBudgets);
 
         try {
             monthlyBudget = monthlyBudgetRepository.save(monthlyBudget);
@@ -73,6 +76,15 @@ public class BudgetDomainService {
             throw ex;
         }
 
+        if (virtualDailyBudgetService.isEnabled()) {
+            VirtualDailyBudgetService.ResolvedDailyBudget todayBudget = virtualDailyBudgetService
+                    .resolve(memberId, today)
+                    .orElseThrow(() -> new BusinessException(ErrorType.DAILY_BUDGET_NOT_FOUND));
+            log.info("초기 예산 설정 완료 (가상 일일 예산) - memberId: {}, monthly: {}, daily: {}, meals: {}",
+                    memberId, monthlyAmount, dailyAmount, mealBudgets.size());
+            return new BudgetSetupResult(monthlyBudget, todayBudget.dailyBudget(), todayBudget.mealBudgets());
+        }
+
         DailyBudgetBatchResult dailyBudgetBatchResult = createDailyBudgetsInRange(
                 memberId,
                 today,
@@ -102,41 +114,38 @@ public class BudgetDomainService {
      * @return 수정된 월별 예산
      */
     public MonthlyBudget updateMonthlyBudget(Long memberId, String month, Integer newAmount) {
-        MonthlyBudget monthlyBudget = monthlyBudgetRepository.findByMemberIdAndBudgetMonth(memberId, month)
+        // 조회 후 저장하면 그 사이 지출로 증가한 사용 금액을 덮어쓰므로 금액 컬럼만 UPDATE
+        if (monthlyBudgetRepository.updateMonthlyFoodBudget(memberId, month, newAmount) == 0) {
+            throw new BusinessException(ErrorType.MONTHLY_BUDGET_NOT_FOUND);
+        }
+        return monthlyBudgetRepository.findByMemberIdAndBudgetMonth(memberId, month)
                 .orElseThrow(() -> new BusinessException(ErrorType.MONTHLY_BUDGET_NOT_FOUND));
-
-        monthlyBudget.changeMonthlyFoodBudget(newAmount);
-        return monthlyBudgetRepository.save(monthlyBudget);
     }
 
     /**
-     * 특정 월의 모든 일일 예산 일괄 수정
+     * 특정 월의 모든 일일 예산 일괄 수정 (단일 UPDATE)
+     * 월별 예산의 일일 예산 기본값도 함께 변경하여 행이 없는 날(가상 일일 예산)에도 반영합니다 (월 중간 변경 이력은 대체).
      *
      * @param memberId 회원 ID
      * @param month 예산 월 (YYYY-MM)
      * @param newAmount 새 일일 예산 금액
-     * @return 수정된 일일 예산 리스트
+     * @return 수정된 일일 예산 수
      */
-    public List<DailyBudget> updateDailyBudgetsInMonth(Long memberId, String month, Integer newAmount) {
-        // 해당 월의 시작일과 종료일 계산
+    public int updateDailyBudgetsInMonth(Long memberId, String month, Integer newAmount) {
         YearMonth yearMonth = YearMonth.parse(month);
-        LocalDate startOfMonth = yearMonth.atDay(1);
-        LocalDate endOfMonth = yearMonth.atEndOfMonth();
-
-        // 해당 월의 모든 일일 예산 조회
-        List<DailyBudget> dailyBudgets = dailyBudgetRepository.findByMemberIdAndBudgetDateGreaterThanEqual(memberId, startOfMonth);
+        int updatedCount = dailyBudgetRepository.updateDailyFoodBudgetInRange(
+                memberId,
+                yearMonth.atDay(1),
+                yearMonth.atEndOfMonth(),
+                newAmount
+        );
 
-        // 해당 월의 일일 예산만 필터링하여 수정
-        List<DailyBudget> updatedBudgets = dailyBudgets.stream()
-                .filter(budget -> !budget.getBudgetDate().isAfter(endOfMonth))
-                .peek(budget -> budget.changeDailyFoodBudget(newAmount))
-                .map(dailyBudgetRepository::save)
-                .toList();
+        virtualDailyBudgetService.changeDefaultDailyBudget(memberId, yearMonth.atDay(1), newAmount);
 
         log.info("일일 예산 일괄 수정 완료 - memberId: {}, month: {}, count: {}, amount: {}",
-                memberId, month, updatedBudgets.size(), newAmount);
+                memberId, month, updatedCount, newAmount);
 
-        return updatedBudgets;
+        return updatedCount;
     }
 
     /**
@@ -163,27 +172,31 @@ public class BudgetDomainService {
             throw new BusinessException(ErrorType.DAILY_BUDGET_ALREADY_EXISTS);
         }
 
-        List<DailyBudget> createdDailyBudgets = new ArrayList<>();
-        List<MealBudget> createdMealBudgets = new ArrayList<>();
+        // 일일/식사별 예산을 메모리에서 만든 뒤 각각 다중 행 INSERT로 저장 (날짜 수와 무관하게 문장 2개)
+        List<DailyBudget> newDailyBudgets = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            newDailyBudgets.add(DailyBudget.create(memberId, dailyAmount, date));
+        }
+
+        List<DailyBudget> createdDailyBudgets;
+        List<MealBudget> createdMealBudgets = List.of();
 
         try {
-            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-                DailyBudget dailyBudget = DailyBudget.create(memberId, dailyAmount, date);
-                DailyBudget savedDailyBudget = dailyBudgetRepository.save(dailyBudget);
-                createdDailyBudgets.add(savedDailyBudget);
+            createdDailyBudgets = dailyBudgetRepository.saveAll(newDailyBudgets);
 
-                if (mealBudgets != null && !mealBudgets.isEmpty()) {
+            if (mealBudgets != null && !mealBudgets.isEmpty()) {
+                List<MealBudget> newMealBudgets = new ArrayList<>(createdDailyBudgets.size() * mealBudgets.size());
+                for (DailyBudget savedDailyBudget : createdDailyBudgets) {
                     for (Map.Entry<MealType, Integer> entry : mealBudgets.entrySet()) {
-                        MealBudget mealBudget = MealBudget.create(
+                        newMealBudgets.add(MealBudget.create(
                                 savedDailyBudget.getBudgetId(),
                                 entry.getValue(),
                                 entry.getKey(),
-                                date
-                        );
-                        MealBudget savedMealBudget = mealBudgetRepository.save(mealBudget);
-                        createdMealBudgets.add(savedMealBudget);
+                                savedDailyBudget.getBudgetDate()
+                        ));
                     }
                 }
+                createdMealBudgets = mealBudgetRepository.saveAll(newMealBudgets);
             }
         } catch (DataIntegrityViolationException ex) {
             if (isDailyBudgetUniqueConstraintViolation(ex)) {
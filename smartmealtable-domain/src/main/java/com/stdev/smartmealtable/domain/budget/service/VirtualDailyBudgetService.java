@@ -0,0 +1,213 @@
+package com.stdev.smartmealtable.domain.budget.service;
+
+import com.stdev.smartmealtable.domain.budget.DailyBudget;
+import com.stdev.smartmealtable.domain.budget.DailyBudgetDefault;
+import com.stdev.smartmealtable.domain.budget.DailyBudgetDefaultRepository;
+import com.stdev.smartmealtable.domain.budget.DailyBudgetRepository;
+import com.stdev.smartmealtable.domain.budget.MealBudget;
+import com.stdev.smartmealtable.domain.budget.MealBudgetRepository;
+import com.stdev.smartmealtable.domain.budget.MonthlyBudget;
+import com.stdev.smartmealtable.domain.budget.MonthlyBudgetRepository;
+import com.stdev.smartmealtable.domain.expenditure.MealType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 가상 일일 예산 도메인 서비스
+ *
+ * budget.virtual-daily.enabled=true이면 일일/식사별 예산을 날짜마다 미리 만들지 않고,
+ * 월별 예산의 기본값(defaultDailyBudget, defaultMealBudgets)으로 조회 시점에 계산합니다.
+ * daily_budget/meal_budget 행은 회원이 특정 날짜를 직접 수정한 경우에만 저장되며(오버라이드),
+ * 행이 있는 날은 그 행이 기본값보다 우선합니다. 모드 전환 전에 만들어진 행도 오버라이드로 취급합니다.
+ *
+ * 월 중간에 일일 예산 기본값을 바꾸면 지난 날짜를 행으로 고정하지 않고 적용 시작일과 함께 이력으로 저장합니다
+ * ({@link DailyBudgetDefaultRepository}). 날짜의 기본값은 그 달에서 해당 날짜 이전의 마지막 이력이며,
+ * 이력이 없으면 월별 예산의 기본값입니다.
+ *
+ * 가상 모드에서 일일/식사별 사용 금액은 행에 누적하지 않고 일간 지출 집계에서 계산합니다.
+ * 따라서 scheduler의 집계 재계산(expenditure.rollup.rebuild)으로 기존 지출을 백필한 뒤에 켜야 합니다.
+ *
+ * 끌 때는 행이 없는 날과 사용 금액이 누적되지 않은 행이 남아 있으므로, 끄기 전후로
+ * scheduler의 일일 예산 백필(budget.virtual-daily.backfill, {@link #backfill})을 실행해야 합니다.
+ * 백필 없이 끄면 행이 없는 날의 지출 등록이 DAILY_BUDGET_NOT_FOUND로 실패합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VirtualDailyBudgetService {
+
+    private final MonthlyBudgetRepository monthlyBudgetRepository;
+    private final DailyBudgetRepository dailyBudgetRepository;
+    private final MealBudgetRepository mealBudgetRepository;
+    private final DailyBudgetDefaultRepository dailyBudgetDefaultRepository;
+
+    @Value("${budget.virtual-daily.enabled:false}")
+    private boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 특정 날짜의 유효 일일 예산 계산
+     *
+     * @return 오버라이드 행 또는 월별 기본값으로 계산한 예산 (월별 예산/기본값이 없으면 empty)
+     */
+    public Optional<ResolvedDailyBudget> resolve(Long memberId, LocalDate date) {
+        Optional<DailyBudget> override = dailyBudgetRepository.findByMemberIdAndBudgetDate(memberId, date);
+        if (override.isPresent()) {
+            DailyBudget dailyBudget = override.get();
+            return Optional.of(new ResolvedDailyBudget(
+                    dailyBudget,
+                    mealBudgetRepository.findByDailyBudgetId(dailyBudget.getBudgetId()),
+                    true
+            ));
+        }
+
+        return findMonthlyDefaults(memberId, YearMonth.from(date))
+                .map(monthlyBudget -> new ResolvedDailyBudget(
+                        DailyBudget.create(memberId, defaultDailyBudget(memberId, monthlyBudget, date), date),
+                        defaultMealBudgets(monthlyBudget, null, date),
+                        false
+                ));
+    }
+
+    /**
+     * 특정 날짜에 적용되는 일일 예산 기본값 (월 중간 변경 이력 반영)
+     *
+     * @param monthlyBudget date가 속한 월의 월별 예산
+     */
+    public Integer defaultDailyBudget(Long memberId, MonthlyBudget monthlyBudget, LocalDate date) {
+        List<DailyBudgetDefault> changes = dailyBudgetDefaultRepository
+                .findInRange(memberId, YearMonth.from(date).atDay(1), date);
+        return changes.isEmpty()
+                ? monthlyBudget.getDefaultDailyBudget()
+                : changes.get(changes.size() - 1).dailyFoodBudget();
+    }
+
+    /**
+     * 특정 날짜부터 그 달 말일까지의 일일 예산 기본값 변경
+     * 이전 날짜의 기본값은 그대로 두고, 적용 시작일 이후의 변경 이력은 새 기본값으로 대체합니다.
+     * 1일부터 바꾸면 월별 예산의 기본값을 변경합니다. 행이 있는 날(오버라이드)은 바꾸지 않습니다.
+     */
+    public void changeDefaultDailyBudget(Long memberId, LocalDate fromDate, Integer amount) {
+        YearMonth month = YearMonth.from(fromDate);
+        dailyBudgetDefaultRepository.deleteInRange(memberId, fromDate, month.atEndOfMonth());
+        if (fromDate.equals(month.atDay(1))) {
+            monthlyBudgetRepository.updateDefaultDailyBudget(memberId, month.toString(), amount);
+        } else {
+            dailyBudgetDefaultRepository.upsert(memberId, fromDate, amount);
+        }
+    }
+
+    /**
+     * 기간 내 오버라이드가 없는 날짜를 그날의 기본값으로 저장 (오버라이드 행 생성)
+     * 특정 날짜를 수정하기 전에 행을 만들 때 사용합니다.
+     *
+     * @param toDate 종료일 (포함, fromDate와 같은 월이어야 함)
+     * @return 새로 저장한 일일 예산 (이미 행이 있던 날짜는 제외)
+     */
+    public List<DailyBudget> materialize(Long memberId, LocalDate fromDate, LocalDate toDate) {
+        if (fromDate.isAfter(toDate)) {
+            return List.of();
+        }
+        Optional<MonthlyBudget> monthlyBudget = findMonthlyDefaults(memberId, YearMonth.from(fromDate));
+        if (monthlyBudget.isEmpty()) {
+            return List.of();
+        }
+
+        Set<LocalDate> overriddenDates = new HashSet<>();
+        for (DailyBudget existing : dailyBudgetRepository.findByMemberIdAndBudgetDateGreaterThanEqual(memberId, fromDate)) {
+            overriddenDates.add(existing.getBudgetDate());
+        }
+
+        List<DailyBudgetDefault> changes = dailyBudgetDefaultRepository
+                .findInRange(memberId, YearMonth.from(fromDate).atDay(1), toDate);
+        int nextChange = 0;
+        Integer dailyDefault = monthlyBudget.get().getDefaultDailyBudget();
+
+        List<DailyBudget> newDailyBudgets = new ArrayList<>();
+        for (LocalDate date = fromDate; !date.isAfter(toDate); date = date.plusDays(1)) {
+            // 이력은 적용 시작일 오름차순이므로 date 이전의 마지막 이력까지 전진
+            while (nextChange < changes.size() && !changes.get(nextChange).effectiveDate().isAfter(date)) {
+                dailyDefault = changes.get(nextChange++).dailyFoodBudget();
+            }
+            if (!overriddenDates.contains(date)) {
+                newDailyBudgets.add(DailyBudget.create(memberId, dailyDefault, date));
+            }
+        }
+        if (newDailyBudgets.isEmpty()) {
+            return List.of();
+        }
+
+        List<DailyBudget> saved = dailyBudgetRepository.saveAll(newDailyBudgets);
+        List<MealBudget> mealBudgets = new ArrayList<>();
+        for (DailyBudget dailyBudget : saved) {
+            mealBudgets.addAll(defaultMealBudgets(monthlyBudget.get(), dailyBudget.getBudgetId(), dailyBudget.getBudgetDate()));
+        }
+        if (!mealBudgets.isEmpty()) {
+            mealBudgetRepository.saveAll(mealBudgets);
+        }
+
+        log.info("가상 일일 예산 오버라이드 생성 - memberId: {}, from: {}, to: {}, count: {}",
+                memberId, fromDate, toDate, saved.size());
+        return saved;
+    }
+
+    /**
+     * 가상 모드를 끄기 위한 한 달치 일일 예산 백필
+     * 행이 없는 날짜를 그날의 기본값으로 저장하고, 일일/식사별 사용 금액을 지출 원본에서 다시 계산합니다.
+     * 여러 번 실행해도 결과가 같습니다.
+     *
+     * @return 새로 저장한 일일 예산 수
+     */
+    @Transactional
+    public int backfill(Long memberId, YearMonth month) {
+        LocalDate fromDate = month.atDay(1);
+        LocalDate toDate = month.atEndOfMonth();
+        int created = materialize(memberId, fromDate, toDate).size();
+        dailyBudgetRepository.recalculateUsedAmountsInRange(memberId, fromDate, toDate);
+        mealBudgetRepository.recalculateUsedAmountsInRange(memberId, fromDate, toDate);
+        return created;
+    }
+
+    private Optional<MonthlyBudget> findMonthlyDefaults(Long memberId, YearMonth month) {
+        return monthlyBudgetRepository.findByMemberIdAndBudgetMonth(memberId, month.toString())
+                .filter(MonthlyBudget::hasDefaults);
+    }
+
+    private List<MealBudget> defaultMealBudgets(MonthlyBudget monthlyBudget, Long dailyBudgetId, LocalDate date) {
+        List<MealBudget> mealBudgets = new ArrayList<>();
+        // EnumMap이므로 식사 유형 순서(아침, 점심, 저녁, 기타)로 생성
+        for (Map.Entry<MealType, Integer> entry : monthlyBudget.getDefaultMealBudgets().entrySet()) {
+            mealBudgets.add(MealBudget.create(dailyBudgetId, entry.getValue(), entry.getKey(), date));
+        }
+        return mealBudgets;
+    }
+
+    /**
+     * 유효 일일 예산
+     *
+     * @param dailyBudget 일일 예산 (가상이면 budgetId가 null이고 사용 금액은 0)
+     * @param mealBudgets 식사별 예산
+     * @param overridden 저장된 행 여부
+     */
+    public record ResolvedDailyBudget(
+            DailyBudget dailyBudget,
+            List<MealBudget> mealBudgets,
+            boolean overridden
+    ) {
+    }
+}
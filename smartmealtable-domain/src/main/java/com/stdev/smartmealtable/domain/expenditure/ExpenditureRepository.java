@@ -1,6 +1,7 @@
 package com.stdev.smartmealtable.domain.expenditure;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -34,6 +35,39 @@ public interface ExpenditureRepository {
             LocalDate endDate
     );
     
+    /**
+     * 지출 내역 목록 페이지 조회 (필터/정렬/페이징을 DB에서 처리)
+     * 정렬: 지출 날짜, 지출 시각(없으면 같은 날짜의 마지막), 지출 ID 내림차순
+     * 목록 표시용이므로 지출 항목(items)은 채우지 않습니다.
+     *
+     * @param mealType 식사 유형 필터 (null이면 전체)
+     * @param categoryId 카테고리 ID 필터 (null이면 전체)
+     * @param cursor 이전 페이지 마지막 지출 위치 (null이면 offset 사용)
+     * @param offset 건너뛸 행 수 (cursor가 있으면 0)
+     * @param limit 최대 조회 수
+     */
+    List<Expenditure> findPage(
+            Long memberId,
+            LocalDate startDate,
+            LocalDate endDate,
+            MealType mealType,
+            Long categoryId,
+            ExpenditureCursor cursor,
+            long offset,
+            int limit
+    );
+    
+    /**
+     * 지출 내역 합계/건수 집계 (findPage와 같은 필터, 단일 집계 쿼리)
+     */
+    ExpenditureSummary summarize(
+            Long memberId,
+            LocalDate startDate,
+            LocalDate endDate,
+            MealType mealType,
+            Long categoryId
+    );
+    
     /**
      * 회원 ID와 지출 ID로 조회 (소유권 검증용)
      */
@@ -44,6 +78,14 @@ public interface ExpenditureRepository {
      */
     void delete(Expenditure expenditure);
     
+    /**
+     * 지출 내역 소프트 삭제 (UPDATE ... SET deleted = true WHERE ... AND deleted = false)
+     * 같은 지출을 동시에 삭제해도 한 요청만 행을 변경합니다.
+     *
+     * @return 변경된 지출 수 (이미 삭제되었거나 없으면 0)
+     */
+    int softDelete(Long expenditureId);
+    
     /**
      * 회원의 특정 월 지출 내역 존재 여부 확인
      */
@@ -68,4 +110,30 @@ public interface ExpenditureRepository {
      * 식사 유형별 지출 금액 집계 조회
      */
     Map<MealType, Long> getAmountByMealTypeForPeriod(Long memberId, LocalDate startDate, LocalDate endDate);
+    
+    /**
+     * 지출 목록 키셋 페이징 위치
+     */
+    record ExpenditureCursor(
+            LocalDate expendedDate,
+            LocalTime expendedTime,
+            Long expenditureId
+    ) {
+        public static ExpenditureCursor of(Expenditure expenditure) {
+            return new ExpenditureCursor(
+                    expenditure.getExpendedDate(),
+                    expenditure.getExpendedTime(),
+                    expenditure.getExpenditureId()
+            );
+        }
+    }
+    
+    /**
+     * 지출 합계/건수
+     */
+    record ExpenditureSummary(
+            long totalAmount,
+            long totalCount
+    ) {
+    }
 }
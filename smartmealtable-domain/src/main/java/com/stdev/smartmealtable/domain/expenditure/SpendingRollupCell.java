@@ -0,0 +1,22 @@
+package com.stdev.smartmealtable.domain.expenditure;
+
+import java.time.LocalDate;
+
+/**
+ * 회원별 일간 지출 집계 셀
+ * (회원, 날짜, 카테고리, 식사 유형) 단위로 미리 합산된 지출 금액과 건수입니다.
+ *
+ * @param rollupDate 지출 날짜
+ * @param categoryId 카테고리 ID (카테고리 없는 지출이면 null)
+ * @param mealType 식사 유형 (식사 유형 없는 지출이면 null)
+ * @param totalAmount 지출 금액 합계
+ * @param expenditureCount 지출 건수
+ */
+public record SpendingRollupCell(
+        LocalDate rollupDate,
+        Long categoryId,
+        MealType mealType,
+        long totalAmount,
+        long expenditureCount
+) {
+}
@@ -0,0 +1,42 @@
+package com.stdev.smartmealtable.domain.expenditure;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 회원별 일간 지출 집계 Repository 인터페이스
+ *
+ * 지출 등록/수정/삭제와 같은 트랜잭션에서 증감분을 반영하고,
+ * 통계/대시보드는 기간의 일간 셀만 읽어 원본 지출 행을 집계하지 않습니다.
+ * 월 단위 집계는 해당 월의 일간 셀(최대 31일 × 카테고리 × 식사 유형)을 합산합니다.
+ */
+public interface SpendingRollupRepository {
+
+    /**
+     * 집계 셀에 증감분 반영 (셀이 없으면 생성)
+     *
+     * @param amountDelta 금액 증감분
+     * @param countDelta 건수 증감분
+     */
+    void apply(Long memberId, LocalDate rollupDate, Long categoryId, MealType mealType,
+               long amountDelta, long countDelta);
+
+    /**
+     * 기간의 집계 셀 조회
+     */
+    List<SpendingRollupCell> findCells(Long memberId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 회원의 집계를 지출 원본에서 다시 계산 (백필/복구용)
+     *
+     * @return 생성된 셀 수
+     */
+    int rebuild(Long memberId);
+
+    /**
+     * 지출 내역이 있는 회원 ID 조회 (회원 ID 오름차순 키셋 페이징)
+     *
+     * @param lastMemberId 이전 페이지의 마지막 회원 ID (첫 페이지면 null)
+     */
+    List<Long> findMemberIdsWithExpenditure(Long lastMemberId, int limit);
+}
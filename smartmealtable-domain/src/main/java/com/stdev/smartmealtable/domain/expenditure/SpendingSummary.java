@@ -0,0 +1,73 @@
+package com.stdev.smartmealtable.domain.expenditure;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기간 지출 요약
+ * 일간 집계 셀을 한 번 읽어 총액/카테고리별/일별/식사 유형별 금액을 함께 계산합니다.
+ * 각 값은 ExpenditureRepository의 기간 집계 메서드와 같은 규칙을 따릅니다
+ * (카테고리/식사 유형이 없는 지출은 총액과 일별 금액에만 포함).
+ *
+ * @param totalAmount 총 지출 금액
+ * @param amountByCategory 카테고리 ID별 지출 금액
+ * @param dailyAmount 날짜별 지출 금액 (지출이 있는 날짜만)
+ * @param amountByMealType 식사 유형별 지출 금액
+ */
+public record SpendingSummary(
+        long totalAmount,
+        Map<Long, Long> amountByCategory,
+        Map<LocalDate, Long> dailyAmount,
+        Map<MealType, Long> amountByMealType
+) {
+
+    public static SpendingSummary from(List<SpendingRollupCell> cells) {
+        long totalAmount = 0L;
+        Map<Long, Long> amountByCategory = new HashMap<>();
+        Map<LocalDate, Long> dailyAmount = new HashMap<>();
+        Map<MealType, Long> amountByMealType = new HashMap<>();
+
+        for (SpendingRollupCell cell : cells) {
+            // 지출이 모두 삭제/이동된 셀은 금액 0으로 남으므로 제외
+            if (cell.expenditureCount() <= 0) {
+                continue;
+            }
+            totalAmount += cell.totalAmount();
+            dailyAmount.merge(cell.rollupDate(), cell.totalAmount(), Long::sum);
+            if (cell.categoryId() != null) {
+                amountByCategory.merge(cell.categoryId(), cell.totalAmount(), Long::sum);
+            }
+            if (cell.mealType() != null) {
+                amountByMealType.merge(cell.mealType(), cell.totalAmount(), Long::sum);
+            }
+        }
+
+        return new SpendingSummary(totalAmount, amountByCategory, dailyAmount, amountByMealType);
+    }
+
+    /**
+     * 날짜별 지출 요약 (기간 집계 셀을 한 번 읽어 날짜마다 나눌 때 사용)
+     *
+     * @return 날짜 → 그날의 지출 요약 (셀이 없는 날짜는 포함하지 않음)
+     */
+    public static Map<LocalDate, SpendingSummary> byDate(List<SpendingRollupCell> cells) {
+        Map<LocalDate, List<SpendingRollupCell>> cellsByDate = new HashMap<>();
+        for (SpendingRollupCell cell : cells) {
+            cellsByDate.computeIfAbsent(cell.rollupDate(), date -> new ArrayList<>()).add(cell);
+        }
+
+        Map<LocalDate, SpendingSummary> result = new HashMap<>();
+        cellsByDate.forEach((date, dateCells) -> result.put(date, from(dateCells)));
+        return result;
+    }
+
+    /**
+     * 지출이 없는 기간의 요약
+     */
+    public static SpendingSummary empty() {
+        return new SpendingSummary(0L, Map.of(), Map.of(), Map.of());
+    }
+}
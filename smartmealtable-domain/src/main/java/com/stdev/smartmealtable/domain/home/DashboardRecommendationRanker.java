@@ -0,0 +1,74 @@
+package com.stdev.smartmealtable.domain.home;
+
+import com.stdev.smartmealtable.domain.food.Food;
+import com.stdev.smartmealtable.domain.food.FoodRepository;
+import com.stdev.smartmealtable.domain.store.StoreRepository;
+import com.stdev.smartmealtable.domain.store.StoreWithDistance;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 홈 대시보드 추천 순위 계산 도메인 서비스
+ *
+ * <p>대시보드 실시간 추천과 같은 기준(반경 3km 거리순 가게, 가게별 최대 3개 메뉴)으로
+ * 추천 순위를 계산하여 스냅샷으로 만듭니다.
+ * API의 콜드 회원 처리와 scheduler 모듈의 사전 계산 작업이 함께 사용합니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class DashboardRecommendationRanker {
+
+    private static final double SEARCH_RADIUS_KM = 3.0;   // 기본 검색 반경 3km
+    private static final int MENUS_PER_STORE = 3;         // 가게당 최대 3개 메뉴
+
+    private final StoreRepository storeRepository;
+    private final FoodRepository foodRepository;
+
+    /**
+     * 기준 좌표의 추천 순위 계산
+     *
+     * @param memberId       회원 ID
+     * @param latitude       기준 위도
+     * @param longitude      기준 경도
+     * @param candidateLimit 가게/메뉴별 보관할 후보 수
+     * @return 추천 스냅샷
+     */
+    public DashboardRecommendationSnapshot rank(Long memberId, double latitude, double longitude, int candidateLimit) {
+        List<StoreWithDistance> storesWithDistance = storeRepository.findByDistanceOrderByDistance(
+                latitude,
+                longitude,
+                SEARCH_RADIUS_KM,
+                candidateLimit
+        );
+
+        List<DashboardRecommendationSnapshot.RankedStore> stores = new ArrayList<>(storesWithDistance.size());
+        List<DashboardRecommendationSnapshot.RankedMenu> menus = new ArrayList<>();
+        for (StoreWithDistance storeWithDistance : storesWithDistance) {
+            Long storeId = storeWithDistance.store().getStoreId();
+            stores.add(new DashboardRecommendationSnapshot.RankedStore(storeId, storeWithDistance.distance()));
+
+            if (menus.size() >= candidateLimit) {
+                continue;
+            }
+            for (Food food : foodRepository.findByStoreIdOrderByDistance(storeId, latitude, longitude, MENUS_PER_STORE)) {
+                if (menus.size() >= candidateLimit) {
+                    break;
+                }
+                menus.add(new DashboardRecommendationSnapshot.RankedMenu(food.getFoodId(), food.getStoreId()));
+            }
+        }
+
+        return new DashboardRecommendationSnapshot(
+                memberId,
+                latitude,
+                longitude,
+                stores,
+                menus,
+                LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,47 @@
+package com.stdev.smartmealtable.domain.home;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 홈 대시보드 추천 스냅샷
+ *
+ * <p>회원의 기본 주소 좌표를 기준으로 미리 계산한 추천 가게/메뉴 순위입니다.
+ * 순위와 ID만 보관하며, 가게명·태그·영업 상태처럼 시점에 따라 달라지는 정보는
+ * 조회 시점에 다시 구성합니다.</p>
+ *
+ * @param memberId    회원 ID
+ * @param latitude    계산 기준 위도 (기본 주소)
+ * @param longitude   계산 기준 경도 (기본 주소)
+ * @param stores      추천 가게 순위 (거리순)
+ * @param menus       추천 메뉴 순위
+ * @param generatedAt 생성 시각
+ */
+public record DashboardRecommendationSnapshot(
+        Long memberId,
+        double latitude,
+        double longitude,
+        List<RankedStore> stores,
+        List<RankedMenu> menus,
+        LocalDateTime generatedAt
+) {
+
+    /**
+     * 추천 가게 항목
+     *
+     * @param storeId  가게 ID
+     * @param distance 기준 좌표로부터의 거리 (km, 알 수 없으면 null)
+     */
+    public record RankedStore(Long storeId, BigDecimal distance) {
+    }
+
+    /**
+     * 추천 메뉴 항목
+     *
+     * @param foodId  음식 ID
+     * @param storeId 음식이 속한 가게 ID
+     */
+    public record RankedMenu(Long foodId, Long storeId) {
+    }
+}
@@ -30,6 +30,14 @@ public interface AddressHistoryRepository {
      */
     Optional<AddressHistory> findPrimaryByMemberId(Long memberId);
     
+    /**
+     * 기본 주소 목록을 회원 ID 오름차순으로 조회 (키셋 페이징)
+     *
+     * @param lastMemberId 이전 페이지의 마지막 회원 ID (null이면 처음부터)
+     * @param limit 조회 개수
+     */
+    List<AddressHistory> findPrimaryAddressesAfterMemberId(Long lastMemberId, int limit);
+    
     /**
      * 회원의 주소 개수 조회 (삭제되지 않은 것만)
      */
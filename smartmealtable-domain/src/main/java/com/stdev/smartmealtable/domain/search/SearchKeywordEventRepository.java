@@ -13,6 +13,16 @@ public interface SearchKeywordEventRepository {
      */
     SearchKeywordEvent save(SearchKeywordEvent event);
 
+    /**
+     * 검색 이벤트 일괄 저장 (다중 행 INSERT)
+     *
+     * 저장된 이벤트의 ID는 채우지 않습니다.
+     *
+     * @param events 저장할 이벤트 목록
+     * @return 저장된 행 수
+     */
+    int saveAll(java.util.List<SearchKeywordEvent> events);
+
     /**
      * 시간 범위 내 검색 이벤트를 prefix 단위로 집계
      *
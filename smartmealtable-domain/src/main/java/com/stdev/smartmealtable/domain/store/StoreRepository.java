@@ -1,7 +1,10 @@
 package com.stdev.smartmealtable.domain.store;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -35,6 +38,39 @@ public interface StoreRepository {
      */
     Store save(Store store);
     
+    /**
+     * 조회수 일괄 증가 (view_count = view_count + delta)
+     *
+     * @param viewCountDeltas 가게 ID → 증가시킬 조회수
+     * @return 갱신된 가게 수
+     */
+    int incrementViewCounts(Map<Long, Long> viewCountDeltas);
+    
+    /**
+     * 수정 시각 갱신 (updated_at = 현재 시각)
+     * 이미지/영업시간/휴무/메뉴 등 가게 상세 구성 요소가 바뀌었음을 다른 프로세스에 알릴 때 사용
+     *
+     * @param storeIds 가게 ID 목록
+     * @return 갱신된 가게 수
+     */
+    int touchUpdatedAt(Collection<Long> storeIds);
+    
+    /**
+     * 지정 시각 이후(포함) 수정된 가게의 수정 시각 조회 (삭제된 가게 포함)
+     *
+     * @param since 기준 시각
+     * @return 가게 ID → 수정 시각
+     */
+    Map<Long, LocalDateTime> findUpdatedAtSince(LocalDateTime since);
+    
+    /**
+     * 가장 최근 수정 시각 조회 (DB 시계 기준, 삭제된 가게 포함)
+     * updated_at은 DB가 기록하므로 변경분 조회의 시작 워터마크는 애플리케이션 시계가 아닌 이 값을 사용합니다.
+     *
+     * @return 최대 updated_at (가게가 없으면 empty)
+     */
+    Optional<LocalDateTime> findMaxUpdatedAt();
+    
     /**
      * 키워드로 가게명 또는 카테고리명 검색 (자동완성용)
      * @param keyword 검색 키워드
@@ -1,6 +1,7 @@
 package com.stdev.smartmealtable.domain.store;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 가게 조회 이력 Repository 인터페이스
@@ -12,6 +13,13 @@ public interface StoreViewHistoryRepository {
      */
     StoreViewHistory save(StoreViewHistory storeViewHistory);
     
+    /**
+     * 조회 이력 일괄 저장 (다중 행 INSERT)
+     *
+     * @return 저장한 행 수
+     */
+    int saveAll(List<StoreViewHistory> storeViewHistories);
+    
     /**
      * 조회 이력 생성
      */
@@ -14,6 +14,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -21,9 +22,12 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 /**
@@ -42,6 +46,9 @@ class BudgetDomainServiceTest {
     @Mock
     private MealBudgetRepository mealBudgetRepository;
 
+    @Mock
+    private VirtualDailyBudgetService virtualDailyBudgetService;
+
     @InjectMocks
     private BudgetDomainService budgetDomainService;
 
@@ -75,19 +82,14 @@ class BudgetDomainServiceTest {
                 long dayCount = java.time.temporal.ChronoUnit.DAYS.between(today, endOfMonth) + 1;
 
                 MonthlyBudget monthlyBudget = MonthlyBudget.create(memberId, monthlyAmount, budgetMonth);
-                DailyBudget dailyBudget = DailyBudget.create(memberId, dailyAmount, today);
-                MealBudget breakfastBudget = MealBudget.create(1L, 3000, MealType.BREAKFAST, today);
-                MealBudget lunchBudget = MealBudget.create(1L, 4000, MealType.LUNCH, today);
-                MealBudget dinnerBudget = MealBudget.create(1L, 3000, MealType.DINNER, today);
 
                 given(monthlyBudgetRepository.findByMemberIdAndBudgetMonth(memberId, budgetMonth))
                         .willReturn(Optional.empty());
                 given(dailyBudgetRepository.findByMemberIdAndBudgetDateGreaterThanEqual(memberId, today))
                         .willReturn(List.of());
                 given(monthlyBudgetRepository.save(any(MonthlyBudget.class))).willReturn(monthlyBudget);
-                given(dailyBudgetRepository.save(any(DailyBudget.class))).willReturn(dailyBudget);
-                given(mealBudgetRepository.save(any(MealBudget.class)))
-                        .willReturn(breakfastBudget, lunchBudget, dinnerBudget);
+                given(dailyBudgetRepository.saveAll(anyList())).willAnswer(invocation -> withDailyBudgetIds(invocation.getArgument(0)));
+                given(mealBudgetRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
 
                 // When
                 BudgetDomainService.BudgetSetupResult result = budgetDomainService.setupInitialBudget(
@@ -100,9 +102,60 @@ class BudgetDomainServiceTest {
                 assertThat(result.dailyBudget()).isNotNull();
                 assertThat(result.mealBudgets()).hasSize((int) (dayCount * 3)); // 각 날짜마다 3개의 식사별 예산
 
+                assertThat(result.dailyBudget().getBudgetDate()).isEqualTo(today);
+                assertThat(result.mealBudgets())
+                        .extracting(MealBudget::getDailyBudgetId)
+                        .startsWith(100L, 100L, 100L)
+                        .endsWith(100L + dayCount - 1);
+
                 then(monthlyBudgetRepository).should(times(1)).save(any(MonthlyBudget.class));
-                then(dailyBudgetRepository).should(times((int) dayCount)).save(any(DailyBudget.class));
-                then(mealBudgetRepository).should(times((int) (dayCount * 3))).save(any(MealBudget.class));
+                then(dailyBudgetRepository).should(times(1)).saveAll(argThat(budgets -> budgets.size() == dayCount));
+                then(mealBudgetRepository).should(times(1)).saveAll(argThat(budgets -> budgets.size() == dayCount * 3));
+                then(dailyBudgetRepository).should(never()).save(any(DailyBudget.class));
+                then(mealBudgetRepository).should(never()).save(any(MealBudget.class));
+            }
+        }
+
+        @Nested
+        @DisplayName("가상 일일 예산 모드이면")
+        class Context_with_virtual_daily_budget {
+
+            @Test
+            @DisplayName("월별 예산에 일일/식사별 기본값만 저장하고 날짜별 예산 행은 만들지 않는다")
+            void it_saves_defaults_without_daily_rows() {
+                // Given
+                Long memberId = 1L;
+                Integer monthlyAmount = 300000;
+                Integer dailyAmount = 10000;
+                Map<MealType, Integer> mealBudgets = Map.of(
+                        MealType.BREAKFAST, 3000,
+                        MealType.LUNCH, 4000,
+                        MealType.DINNER, 3000
+                );
+                String budgetMonth = YearMonth.now().toString();
+                LocalDate today = LocalDate.now();
+                DailyBudget virtualDailyBudget = DailyBudget.create(memberId, dailyAmount, today);
+
+                given(monthlyBudgetRepository.findByMemberIdAndBudgetMonth(memberId, budgetMonth))
+                        .willReturn(Optional.empty());
+                given(monthlyBudgetRepository.save(any(MonthlyBudget.class)))
+                        .willAnswer(invocation -> invocation.getArgument(0));
+                given(virtualDailyBudgetService.isEnabled()).willReturn(true);
+                given(virtualDailyBudgetService.resolve(memberId, today)).willReturn(Optional.of(
+                        new VirtualDailyBudgetService.ResolvedDailyBudget(virtualDailyBudget, List.of(), false)));
+
+                // When
+                BudgetDomainService.BudgetSetupResult result = budgetDomainService.setupInitialBudget(
+                        memberId, monthlyAmount, dailyAmount, mealBudgets
+                );
+
+                // Then
+                assertThat(result.dailyBudget()).isSameAs(virtualDailyBudget);
+                then(monthlyBudgetRepository).should(times(1)).save(argThat(budget ->
+                        dailyAmount.equals(budget.getDefaultDailyBudget())
+                                && budget.getDefaultMealBudgets().equals(mealBudgets)));
+                then(dailyBudgetRepository).should(never()).saveAll(anyList());
+                then(mealBudgetRepository).should(never()).saveAll(anyList());
             }
         }
 
@@ -128,14 +181,13 @@ class BudgetDomainServiceTest {
                 long dayCount = java.time.temporal.ChronoUnit.DAYS.between(today, endOfMonth) + 1;
 
                 MonthlyBudget monthlyBudget = MonthlyBudget.create(memberId, monthlyAmount, budgetMonth);
-                DailyBudget dailyBudget = DailyBudget.create(memberId, dailyAmount, today);
 
                 given(monthlyBudgetRepository.findByMemberIdAndBudgetMonth(memberId, budgetMonth))
                         .willReturn(Optional.empty());
                 given(dailyBudgetRepository.findByMemberIdAndBudgetDateGreaterThanEqual(memberId, today))
                         .willReturn(List.of());
                 given(monthlyBudgetRepository.save(any(MonthlyBudget.class))).willReturn(monthlyBudget);
-                given(dailyBudgetRepository.save(any(DailyBudget.class))).willReturn(dailyBudget);
+                given(dailyBudgetRepository.saveAll(anyList())).willAnswer(invocation -> withDailyBudgetIds(invocation.getArgument(0)));
 
                 // When
                 BudgetDomainService.BudgetSetupResult result = budgetDomainService.setupInitialBudget(
@@ -149,8 +201,8 @@ class BudgetDomainServiceTest {
                 assertThat(result.mealBudgets()).isEmpty();
 
                 then(monthlyBudgetRepository).should(times(1)).save(any(MonthlyBudget.class));
-                then(dailyBudgetRepository).should(times((int) dayCount)).save(any(DailyBudget.class));
-                then(mealBudgetRepository).should(times(0)).save(any(MealBudget.class));
+                then(dailyBudgetRepository).should(times(1)).saveAll(argThat(budgets -> budgets.size() == dayCount));
+                then(mealBudgetRepository).should(never()).saveAll(anyList());
             }
         }
     }
@@ -164,29 +216,28 @@ class BudgetDomainServiceTest {
         class Context_with_existing_monthly_budget {
 
             @Test
-            @DisplayName("월별 예산을 수정하고 저장한다")
-            void it_updates_and_saves_monthly_budget() {
+            @DisplayName("사용 금액을 덮어쓰지 않도록 월별 예산 금액만 UPDATE하고 변경된 예산을 반환한다")
+            void it_updates_only_monthly_food_budget() {
                 // Given
                 Long memberId = 1L;
                 String month = "2025-10";
                 Integer newAmount = 400000;
 
-                MonthlyBudget existingBudget = MonthlyBudget.create(memberId, 300000, month);
                 MonthlyBudget updatedBudget = MonthlyBudget.create(memberId, newAmount, month);
 
+                given(monthlyBudgetRepository.updateMonthlyFoodBudget(memberId, month, newAmount))
+                        .willReturn(1);
                 given(monthlyBudgetRepository.findByMemberIdAndBudgetMonth(memberId, month))
-                        .willReturn(Optional.of(existingBudget));
-                given(monthlyBudgetRepository.save(any(MonthlyBudget.class)))
-                        .willReturn(updatedBudget);
+                        .willReturn(Optional.of(updatedBudget));
 
                 // When
                 MonthlyBudget result = budgetDomainService.updateMonthlyBudget(memberId, month, newAmount);
 
                 // Then
-                assertThat(result).isNotNull();
+                assertThat(result.getMonthlyFoodBudget()).isEqualTo(newAmount);
                 then(monthlyBudgetRepository).should(times(1))
-                        .findByMemberIdAndBudgetMonth(memberId, month);
-                then(monthlyBudgetRepository).should(times(1)).save(any(MonthlyBudget.class));
+                        .updateMonthlyFoodBudget(memberId, month, newAmount);
+                then(monthlyBudgetRepository).should(never()).save(any(MonthlyBudget.class));
             }
         }
 
@@ -202,16 +253,15 @@ class BudgetDomainServiceTest {
                 String month = "2025-10";
                 Integer newAmount = 400000;
 
-                given(monthlyBudgetRepository.findByMemberIdAndBudgetMonth(memberId, month))
-                        .willReturn(Optional.empty());
+                given(monthlyBudgetRepository.updateMonthlyFoodBudget(memberId, month, newAmount))
+                        .willReturn(0);
 
                 // When & Then
                 assertThatThrownBy(() -> budgetDomainService.updateMonthlyBudget(memberId, month, newAmount))
                         .isInstanceOf(BusinessException.class)
                         .hasFieldOrPropertyWithValue("errorType", ErrorType.MONTHLY_BUDGET_NOT_FOUND);
 
-                then(monthlyBudgetRepository).should(times(1))
-                        .findByMemberIdAndBudgetMonth(memberId, month);
+                then(monthlyBudgetRepository).should(never()).findByMemberIdAndBudgetMonth(any(), any());
                 then(monthlyBudgetRepository).should(times(0)).save(any(MonthlyBudget.class));
             }
         }
@@ -222,12 +272,12 @@ class BudgetDomainServiceTest {
     class Describe_updateDailyBudgetsInMonth {
 
         @Nested
-        @DisplayName("해당 월의 여러 일별 예산이 존재하면")
-        class Context_with_multiple_daily_budgets_in_month {
+        @DisplayName("월과 새 금액이 주어지면")
+        class Context_with_month_and_new_amount {
 
             @Test
-            @DisplayName("해당 월의 모든 일별 예산을 수정한다")
-            void it_updates_all_daily_budgets_in_month() {
+            @DisplayName("해당 월 1일부터 말일까지의 일별 예산을 한 번의 UPDATE로 수정하고 수정 건수를 반환한다")
+            void it_updates_daily_budgets_in_month_with_single_update() {
                 // Given
                 Long memberId = 1L;
                 String month = "2025-10";
@@ -237,92 +287,75 @@ class BudgetDomainServiceTest {
                 LocalDate startOfMonth = yearMonth.atDay(1);
                 LocalDate endOfMonth = yearMonth.atEndOfMonth();
 
-                DailyBudget budget1 = DailyBudget.create(memberId, 10000, startOfMonth);
-                DailyBudget budget2 = DailyBudget.create(memberId, 10000, startOfMonth.plusDays(1));
-                DailyBudget budget3 = DailyBudget.create(memberId, 10000, startOfMonth.plusDays(2));
-                List<DailyBudget> dailyBudgets = List.of(budget1, budget2, budget3);
-
-                given(dailyBudgetRepository.findByMemberIdAndBudgetDateGreaterThanEqual(memberId, startOfMonth))
-                        .willReturn(dailyBudgets);
-                given(dailyBudgetRepository.save(any(DailyBudget.class)))
-                        .willAnswer(invocation -> invocation.getArgument(0));
+                given(dailyBudgetRepository.updateDailyFoodBudgetInRange(memberId, startOfMonth, endOfMonth, newAmount))
+                        .willReturn(31);
 
                 // When
-                List<DailyBudget> result = budgetDomainService.updateDailyBudgetsInMonth(memberId, month, newAmount);
+                int result = budgetDomainService.updateDailyBudgetsInMonth(memberId, month, newAmount);
 
                 // Then
-                assertThat(result).hasSize(3);
+                assertThat(result).isEqualTo(31);
                 then(dailyBudgetRepository).should(times(1))
-                        .findByMemberIdAndBudgetDateGreaterThanEqual(memberId, startOfMonth);
-                then(dailyBudgetRepository).should(times(3)).save(any(DailyBudget.class));
+                        .updateDailyFoodBudgetInRange(memberId, startOfMonth, endOfMonth, newAmount);
+                then(dailyBudgetRepository).should(never()).save(any(DailyBudget.class));
+                then(dailyBudgetRepository).should(never())
+                        .findByMemberIdAndBudgetDateGreaterThanEqual(any(), any());
             }
-        }
-
-        @Nested
-        @DisplayName("해당 월의 일별 예산이 없으면")
-        class Context_with_no_daily_budgets_in_month {
 
             @Test
-            @DisplayName("빈 리스트를 반환한다")
-            void it_returns_empty_list() {
+            @DisplayName("1일부터 적용되는 일일 예산 기본값으로 변경한다")
+            void it_updates_monthly_default_daily_budget() {
                 // Given
                 Long memberId = 1L;
                 String month = "2025-10";
                 Integer newAmount = 12000;
 
-                YearMonth yearMonth = YearMonth.parse(month);
-                LocalDate startOfMonth = yearMonth.atDay(1);
-
-                given(dailyBudgetRepository.findByMemberIdAndBudgetDateGreaterThanEqual(memberId, startOfMonth))
-                        .willReturn(List.of());
-
                 // When
-                List<DailyBudget> result = budgetDomainService.updateDailyBudgetsInMonth(memberId, month, newAmount);
+                budgetDomainService.updateDailyBudgetsInMonth(memberId, month, newAmount);
 
                 // Then
-                assertThat(result).isEmpty();
-                then(dailyBudgetRepository).should(times(1))
-                        .findByMemberIdAndBudgetDateGreaterThanEqual(memberId, startOfMonth);
-                then(dailyBudgetRepository).should(times(0)).save(any(DailyBudget.class));
+                then(virtualDailyBudgetService).should(times(1))
+                        .changeDefaultDailyBudget(memberId, LocalDate.of(2025, 10, 1), newAmount);
+                then(monthlyBudgetRepository).should(never()).findByMemberIdAndBudgetMonth(any(), any());
+                then(monthlyBudgetRepository).should(never()).save(any(MonthlyBudget.class));
             }
         }
 
         @Nested
-        @DisplayName("해당 월을 넘어서는 일별 예산이 포함되어 있으면")
-        class Context_with_daily_budgets_exceeding_month {
+        @DisplayName("해당 월의 일별 예산이 없으면")
+        class Context_with_no_daily_budgets_in_month {
 
             @Test
-            @DisplayName("해당 월에 속하는 예산만 수정한다")
-            void it_updates_only_budgets_within_month() {
+            @DisplayName("0을 반환한다")
+            void it_returns_zero() {
                 // Given
                 Long memberId = 1L;
-                String month = "2025-10";
+                String month = "2025-02";
                 Integer newAmount = 12000;
 
-                YearMonth yearMonth = YearMonth.parse(month);
-                LocalDate startOfMonth = yearMonth.atDay(1);
-                LocalDate endOfMonth = yearMonth.atEndOfMonth();
-                LocalDate nextMonthDate = endOfMonth.plusDays(1);
-
-                DailyBudget budgetInMonth1 = DailyBudget.create(memberId, 10000, startOfMonth);
-                DailyBudget budgetInMonth2 = DailyBudget.create(memberId, 10000, endOfMonth);
-                DailyBudget budgetNextMonth = DailyBudget.create(memberId, 10000, nextMonthDate);
-                List<DailyBudget> dailyBudgets = List.of(budgetInMonth1, budgetInMonth2, budgetNextMonth);
-
-                given(dailyBudgetRepository.findByMemberIdAndBudgetDateGreaterThanEqual(memberId, startOfMonth))
-                        .willReturn(dailyBudgets);
-                given(dailyBudgetRepository.save(any(DailyBudget.class)))
-                        .willAnswer(invocation -> invocation.getArgument(0));
+                given(dailyBudgetRepository.updateDailyFoodBudgetInRange(
+                        memberId, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 28), newAmount))
+                        .willReturn(0);
 
                 // When
-                List<DailyBudget> result = budgetDomainService.updateDailyBudgetsInMonth(memberId, month, newAmount);
+                int result = budgetDomainService.updateDailyBudgetsInMonth(memberId, month, newAmount);
 
                 // Then
-                assertThat(result).hasSize(2); // 다음 달 예산은 제외
-                then(dailyBudgetRepository).should(times(1))
-                        .findByMemberIdAndBudgetDateGreaterThanEqual(memberId, startOfMonth);
-                then(dailyBudgetRepository).should(times(2)).save(any(DailyBudget.class));
+                assertThat(result).isZero();
             }
         }
     }
+
+    /**
+     * 다중 행 INSERT가 ID를 입력 순서대로 채우는 동작 흉내 (100부터 순차 할당)
+     */
+    private static List<DailyBudget> withDailyBudgetIds(List<DailyBudget> budgets) {
+        List<DailyBudget> saved = new ArrayList<>(budgets.size());
+        for (int i = 0; i < budgets.size(); i++) {
+            DailyBudget budget = budgets.get(i);
+            saved.add(DailyBudget.reconstitute(100L + i, budget.getMemberId(), budget.getDailyFoodBudget(),
+                    budget.getDailyUsedAmount(), budget.getBudgetDate()));
+        }
+        return saved;
+    }
 }
@@ -0,0 +1,360 @@
+package com.stdev.smartmealtable.domain.budget.service;
+
+import com.stdev.smartmealtable.domain.budget.DailyBudget;
+import com.stdev.smartmealtable.domain.budget.DailyBudgetDefault;
+import com.stdev.smartmealtable.domain.budget.DailyBudgetDefaultRepository;
+import com.stdev.smartmealtable.domain.budget.DailyBudgetRepository;
+import com.stdev.smartmealtable.domain.budget.MealBudget;
+import com.stdev.smartmealtable.domain.budget.MealBudgetRepository;
+import com.stdev.smartmealtable.domain.budget.MonthlyBudget;
+import com.stdev.smartmealtable.domain.budget.MonthlyBudgetRepository;
+import com.stdev.smartmealtable.domain.expenditure.MealType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+/**
+ * VirtualDailyBudgetService 단위 테스트 (BDD Mockist 스타일)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VirtualDailyBudgetService 테스트")
+class VirtualDailyBudgetServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final String MONTH = "2025-10";
+
+    @Mock
+    private MonthlyBudgetRepository monthlyBudgetRepository;
+
+    @Mock
+    private DailyBudgetRepository dailyBudgetRepository;
+
+    @Mock
+    private MealBudgetRepository mealBudgetRepository;
+
+    @Mock
+    private DailyBudgetDefaultRepository dailyBudgetDefaultRepository;
+
+    @InjectMocks
+    private VirtualDailyBudgetService virtualDailyBudgetService;
+
+    @Nested
+    @DisplayName("resolve 메서드는")
+    class Describe_resolve {
+
+        @Nested
+        @DisplayName("해당 날짜에 일일 예산 행이 있으면")
+        class Context_with_override_row {
+
+            @Test
+            @DisplayName("저장된 행과 식사별 예산을 반환하고 월별 예산은 조회하지 않는다")
+            void it_returns_override_row() {
+                // Given
+                LocalDate date = LocalDate.of(2025, 10, 16);
+                DailyBudget override = DailyBudget.reconstitute(100L, MEMBER_ID, 15000, 3000, date);
+                List<MealBudget> mealBudgets = List.of(
+                        MealBudget.reconstitute(1L, 100L, 5000, MealType.LUNCH, 3000, date)
+                );
+
+                given(dailyBudgetRepository.findByMemberIdAndBudgetDate(MEMBER_ID, date))
+                        .willReturn(Optional.of(override));
+                given(mealBudgetRepository.findByDailyBudgetId(100L)).willReturn(mealBudgets);
+
+                // When
+                Optional<VirtualDailyBudgetService.ResolvedDailyBudget> result =
+                        virtualDailyBudgetService.resolve(MEMBER_ID, date);
+
+                // Then
+                assertThat(result).isPresent();
+                assertThat(result.get().overridden()).isTrue();
+                assertThat(result.get().dailyBudget()).isSameAs(override);
+                assertThat(result.get().mealBudgets()).isEqualTo(mealBudgets);
+                then(monthlyBudgetRepository).shouldHaveNoInteractions();
+            }
+        }
+
+        @Nested
+        @DisplayName("일일 예산 행이 없고 월별 예산에 기본값이 있으면")
+        class Context_with_monthly_defaults {
+
+            @Test
+            @DisplayName("월별 기본값으로 일일/식사별 예산을 계산한다")
+            void it_derives_budget_from_monthly_defaults() {
+                // Given
+                LocalDate date = LocalDate.of(2025, 10, 16);
+                MonthlyBudget monthlyBudget = MonthlyBudget.reconstitute(1L, MEMBER_ID, 300000, 0, MONTH,
+                        10000, Map.of(MealType.DINNER, 4000, MealType.BREAKFAST, 2000, MealType.LUNCH, 4000));
+
+                given(dailyBudgetRepository.findByMemberIdAndBudgetDate(MEMBER_ID, date))
+                        .willReturn(Optional.empty());
+                given(monthlyBudgetRepository.findByMemberIdAndBudgetMonth(MEMBER_ID, MONTH))
+                        .willReturn(Optional.of(monthlyBudget));
+
+                // When
+                VirtualDailyBudgetService.ResolvedDailyBudget result =
+                        virtualDailyBudgetService.resolve(MEMBER_ID, date).orElseThrow();
+
+                // Then
+                assertThat(result.overridden()).isFalse();
+                assertThat(result.dailyBudget().getBudgetId()).isNull();
+                assertThat(result.dailyBudget().getDailyFoodBudget()).isEqualTo(10000);
+                assertThat(result.dailyBudget().getBudgetDate()).isEqualTo(date);
+                assertThat(result.mealBudgets())
+                        .extracting(MealBudget::getMealType)
+                        .containsExactly(MealType.BREAKFAST, MealType.LUNCH, MealType.DINNER);
+                assertThat(result.mealBudgets())
+                        .allSatisfy(mealBudget -> assertThat(mealBudget.getBudgetDate()).isEqualTo(date));
+            }
+        }
+
+        @Nested
+        @DisplayName("월 중간에 일일 예산 기본값이 바뀌었으면")
+        class Context_with_mid_month_default_change {
+
+            @Test
+            @DisplayName("해당 날짜 이전의 마지막 변경 이력으로 일일 예산을 계산한다")
+            void it_uses_latest_change_before_date() {
+                // Given
+                LocalDate date = LocalDate.of(2025, 10, 16);
+                MonthlyBudget monthlyBudget = MonthlyBudget.reconstitute(1L, MEMBER_ID, 300000, 0, MONTH,
+                        10000, Map.of(MealType.LUNCH, 5000));
+
+                given(dailyBudgetRepository.findByMemberIdAndBudgetDate(MEMBER_ID, date))
+                        .willReturn(Optional.empty());
+                given(monthlyBudgetRepository.findByMemberIdAndBudgetMonth(MEMBER_ID, MONTH))
+                        .willReturn(Optional.of(monthlyBudget));
+                given(dailyBudgetDefaultRepository.findInRange(MEMBER_ID, LocalDate.of(2025, 10, 1), date))
+                        .willReturn(List.of(
+                                new DailyBudgetDefault(LocalDate.of(2025, 10, 5), 12000),
+                                new DailyBudgetDefault(LocalDate.of(2025, 10, 10), 15000)
+                        ));
+
+                // When
+                VirtualDailyBudgetService.ResolvedDailyBudget result =
+                        virtualDailyBudgetService.resolve(MEMBER_ID, date).orElseThrow();
+
+                // Then
+                assertThat(result.dailyBudget().getDailyFoodBudget()).isEqualTo(15000);
+            }
+        }
+
+        @Nested
+        @DisplayName("월별 예산에 기본값이 없으면")
+        class Context_without_monthly_defaults {
+
+            @Test
+            @DisplayName("빈 값을 반환한다")
+            void it_returns_empty() {
+                // Given
+                LocalDate date = LocalDate.of(2025, 10, 16);
+
+                given(dailyBudgetRepository.findByMemberIdAndBudgetDate(MEMBER_ID, date))
+                        .willReturn(Optional.empty());
+                given(monthlyBudgetRepository.findByMemberIdAndBudgetMonth(MEMBER_ID, MONTH))
+                        .willReturn(Optional.of(MonthlyBudget.create(MEMBER_ID, 300000, MONTH)));
+
+                // When & Then
+                assertThat(virtualDailyBudgetService.resolve(MEMBER_ID, date)).isEmpty();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("materialize 메서드는")
+    class Describe_materialize {
+
+        @Nested
+        @DisplayName("기간 일부에 이미 일일 예산 행이 있으면")
+        class Context_with_partial_overrides {
+
+            @Test
+            @DisplayName("행이 없는 날짜만 월별 기본값으로 일괄 저장한다")
+            void it_saves_only_missing_dates() {
+                // Given
+                LocalDate from = LocalDate.of(2025, 10, 1);
+                LocalDate to = LocalDate.of(2025, 10, 3);
+                MonthlyBudget monthlyBudget = MonthlyBudget.reconstitute(1L, MEMBER_ID, 300000, 0, MONTH,
+                        10000, Map.of(MealType.LUNCH, 5000));
+
+                given(monthlyBudgetRepository.findByMemberIdAndBudgetMonth(MEMBER_ID, MONTH))
+                        .willReturn(Optional.of(monthlyBudget));
+                given(dailyBudgetRepository.findByMemberIdAndBudgetDateGreaterThanEqual(MEMBER_ID, from))
+                        .willReturn(List.of(DailyBudget.reconstitute(50L, MEMBER_ID, 20000, 0, from.plusDays(1))));
+                given(dailyBudgetRepository.saveAll(anyList())).willAnswer(invocation -> withIds(invocation.getArgument(0)));
+                given(mealBudgetRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+                // When
+                List<DailyBudget> result = virtualDailyBudgetService.materialize(MEMBER_ID, from, to);
+
+                // Then
+                assertThat(result).extracting(DailyBudget::getBudgetDate).containsExactly(from, to);
+                assertThat(result).extracting(DailyBudget::getDailyFoodBudget).containsOnly(10000);
+                then(mealBudgetRepository).should(times(1)).saveAll(argThat(mealBudgets ->
+                        mealBudgets.size() == 2
+                                && mealBudgets.get(0).getDailyBudgetId().equals(100L)
+                                && mealBudgets.get(1).getDailyBudgetId().equals(101L)));
+            }
+        }
+
+        @Nested
+        @DisplayName("기간 중에 일일 예산 기본값이 바뀌었으면")
+        class Context_with_default_change_in_range {
+
+            @Test
+            @DisplayName("날짜마다 그날 적용되는 기본값으로 저장한다")
+            void it_saves_each_date_with_its_effective_default() {
+                // Given
+                LocalDate from = LocalDate.of(2025, 10, 1);
+                LocalDate to = LocalDate.of(2025, 10, 3);
+                MonthlyBudget monthlyBudget = MonthlyBudget.reconstitute(1L, MEMBER_ID, 300000, 0, MONTH,
+                        10000, Map.of());
+
+                given(monthlyBudgetRepository.findByMemberIdAndBudgetMonth(MEMBER_ID, MONTH))
+                        .willReturn(Optional.of(monthlyBudget));
+                given(dailyBudgetRepository.findByMemberIdAndBudgetDateGreaterThanEqual(MEMBER_ID, from))
+                        .willReturn(List.of());
+                given(dailyBudgetDefaultRepository.findInRange(MEMBER_ID, from, to))
+                        .willReturn(List.of(new DailyBudgetDefault(LocalDate.of(2025, 10, 2), 15000)));
+                given(dailyBudgetRepository.saveAll(anyList())).willAnswer(invocation -> withIds(invocation.getArgument(0)));
+
+                // When
+                List<DailyBudget> result = virtualDailyBudgetService.materialize(MEMBER_ID, from, to);
+
+                // Then
+                assertThat(result).extracting(DailyBudget::getDailyFoodBudget).containsExactly(10000, 15000, 15000);
+            }
+        }
+
+        @Nested
+        @DisplayName("월별 예산에 기본값이 없으면")
+        class Context_without_monthly_defaults {
+
+            @Test
+            @DisplayName("아무것도 저장하지 않는다")
+            void it_saves_nothing() {
+                // Given
+                LocalDate from = LocalDate.of(2025, 10, 1);
+
+                given(monthlyBudgetRepository.findByMemberIdAndBudgetMonth(MEMBER_ID, MONTH))
+                        .willReturn(Optional.empty());
+
+                // When
+                List<DailyBudget> result = virtualDailyBudgetService.materialize(MEMBER_ID, from, from.plusDays(5));
+
+                // Then
+                assertThat(result).isEmpty();
+                then(dailyBudgetRepository).should(never()).saveAll(anyList());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("changeDefaultDailyBudget 메서드는")
+    class Describe_changeDefaultDailyBudget {
+
+        @Nested
+        @DisplayName("월 중간 날짜부터 바꾸면")
+        class Context_with_mid_month_date {
+
+            @Test
+            @DisplayName("이전 날짜의 행을 만들지 않고 적용 시작일과 함께 이력으로 저장한다")
+            void it_saves_change_without_materializing_past_days() {
+                // Given
+                LocalDate date = LocalDate.of(2025, 10, 16);
+
+                // When
+                virtualDailyBudgetService.changeDefaultDailyBudget(MEMBER_ID, date, 15000);
+
+                // Then
+                then(dailyBudgetDefaultRepository).should(times(1))
+                        .deleteInRange(MEMBER_ID, date, LocalDate.of(2025, 10, 31));
+                then(dailyBudgetDefaultRepository).should(times(1)).upsert(MEMBER_ID, date, 15000);
+                then(monthlyBudgetRepository).should(never()).updateDefaultDailyBudget(any(), any(), any());
+                then(dailyBudgetRepository).should(never()).saveAll(anyList());
+            }
+        }
+
+        @Nested
+        @DisplayName("1일부터 바꾸면")
+        class Context_with_first_day_of_month {
+
+            @Test
+            @DisplayName("그 달의 변경 이력을 지우고 월별 예산의 기본값을 변경한다")
+            void it_updates_monthly_default() {
+                // Given
+                LocalDate date = LocalDate.of(2025, 10, 1);
+
+                // When
+                virtualDailyBudgetService.changeDefaultDailyBudget(MEMBER_ID, date, 15000);
+
+                // Then
+                then(dailyBudgetDefaultRepository).should(times(1))
+                        .deleteInRange(MEMBER_ID, date, LocalDate.of(2025, 10, 31));
+                then(monthlyBudgetRepository).should(times(1)).updateDefaultDailyBudget(MEMBER_ID, MONTH, 15000);
+                then(dailyBudgetDefaultRepository).should(never()).upsert(any(), any(), any());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("backfill 메서드는")
+    class Describe_backfill {
+
+        @Test
+        @DisplayName("한 달 중 행이 없는 날짜를 저장하고 일일/식사별 사용 금액을 다시 계산한다")
+        void it_materializes_month_and_recalculates_used_amounts() {
+            // Given
+            LocalDate from = LocalDate.of(2025, 10, 1);
+            LocalDate to = LocalDate.of(2025, 10, 31);
+            MonthlyBudget monthlyBudget = MonthlyBudget.reconstitute(1L, MEMBER_ID, 300000, 0, MONTH,
+                    10000, Map.of());
+
+            given(monthlyBudgetRepository.findByMemberIdAndBudgetMonth(MEMBER_ID, MONTH))
+                    .willReturn(Optional.of(monthlyBudget));
+            given(dailyBudgetRepository.findByMemberIdAndBudgetDateGreaterThanEqual(MEMBER_ID, from))
+                    .willReturn(List.of(DailyBudget.reconstitute(50L, MEMBER_ID, 20000, 0, LocalDate.of(2025, 10, 16))));
+            given(dailyBudgetRepository.saveAll(anyList())).willAnswer(invocation -> withIds(invocation.getArgument(0)));
+
+            // When
+            int created = virtualDailyBudgetService.backfill(MEMBER_ID, YearMonth.of(2025, 10));
+
+            // Then
+            assertThat(created).isEqualTo(30);
+            then(dailyBudgetRepository).should(times(1)).recalculateUsedAmountsInRange(MEMBER_ID, from, to);
+            then(mealBudgetRepository).should(times(1)).recalculateUsedAmountsInRange(MEMBER_ID, from, to);
+        }
+    }
+
+    /**
+     * 다중 행 INSERT가 ID를 입력 순서대로 채우는 동작 흉내 (100부터 순차 할당)
+     */
+    private static List<DailyBudget> withIds(List<DailyBudget> budgets) {
+        List<DailyBudget> saved = new ArrayList<>(budgets.size());
+        for (int i = 0; i < budgets.size(); i++) {
+            DailyBudget budget = budgets.get(i);
+            saved.add(DailyBudget.reconstitute(100L + i, budget.getMemberId(), budget.getDailyFoodBudget(),
+                    budget.getDailyUsedAmount(), budget.getBudgetDate()));
+        }
+        return saved;
+    }
+}
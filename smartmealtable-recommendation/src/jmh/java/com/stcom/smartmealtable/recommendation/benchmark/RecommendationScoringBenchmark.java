@@ -0,0 +1,180 @@
+package com.stcom.smartmealtable.recommendation.benchmark;
+
+import com.stcom.smartmealtable.recommendation.domain.calculator.AccessibilityScoreCalculator;
+import com.stcom.smartmealtable.recommendation.domain.calculator.BudgetEfficiencyScoreCalculator;
+import com.stcom.smartmealtable.recommendation.domain.calculator.ExplorationScoreCalculator;
+import com.stcom.smartmealtable.recommendation.domain.calculator.ScoreCalculator;
+import com.stcom.smartmealtable.recommendation.domain.calculator.StabilityScoreCalculator;
+import com.stcom.smartmealtable.recommendation.domain.model.CalculationContext;
+import com.stcom.smartmealtable.recommendation.domain.model.ExpenditureRecord;
+import com.stcom.smartmealtable.recommendation.domain.model.RecommendationResult;
+import com.stcom.smartmealtable.recommendation.domain.model.RecommendationSortType;
+import com.stcom.smartmealtable.recommendation.domain.model.UserProfile;
+import com.stcom.smartmealtable.recommendation.domain.service.RecommendationDomainService;
+import com.stcom.smartmealtable.recommendation.domain.service.RecommendationScoringPool;
+import com.stdev.smartmealtable.domain.member.entity.RecommendationType;
+import com.stdev.smartmealtable.domain.store.Store;
+import com.stdev.smartmealtable.domain.store.StoreType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 추천 점수 계산 벤치마크
+ *
+ * <p>가게 수(250 / 500 / 1k / 10k / 50k)별로 다음을 비교합니다.
+ * 추천 API의 반경 내 후보는 최대 1000건이므로 병렬 계산 임계값(recommendation.parallel-scoring.threshold)은
+ * 1000건 이하 구간의 topRecommendations / topRecommendationsParallel 비교로 정합니다.</p>
+ * <ul>
+ *   <li>perStoreCalculate: 가게마다 {@link ScoreCalculator#calculate}를 호출 (Store 객체에서 값 추출, BigDecimal 거리 계산)</li>
+ *   <li>columnKernels: CalculationContext 컬럼 배열 위에서 {@link ScoreCalculator#calculateAll} 실행</li>
+ *   <li>buildContext: 컬럼/히스토그램 사전 계산 비용</li>
+ *   <li>topRecommendations: 컨텍스트 생성 + 점수 계산 + Top-K 선별 전체 (첫 페이지 20건)</li>
+ *   <li>topRecommendationsParallel: 위와 같으나 운영 기본 설정(코어 절반, 250건 구간)의 전용 풀 사용</li>
+ * </ul>
+ *
+ * <p>실행: {@code ./gradlew :smartmealtable-recommendation:jmh}</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecommendationScoringBenchmark {
+
+    @Param({"250", "500", "1000", "10000", "50000"})
+    private int storeCount;
+
+    private final List<ScoreCalculator> calculators = List.of(
+            new StabilityScoreCalculator(),
+            new ExplorationScoreCalculator(),
+            new BudgetEfficiencyScoreCalculator(),
+            new AccessibilityScoreCalculator()
+    );
+    private final RecommendationDomainService domainService =
+            new RecommendationDomainService(RecommendationScoringPool.sequential());
+
+    private RecommendationScoringPool scoringPool;
+    private RecommendationDomainService parallelDomainService;
+
+    private List<Store> stores;
+    private UserProfile userProfile;
+    private CalculationContext context;
+    private double[] scores;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(20251018L);
+
+        stores = new ArrayList<>(storeCount);
+        for (long id = 1; id <= storeCount; id++) {
+            stores.add(Store.builder()
+                    .storeId(id)
+                    .name("가게 " + id)
+                    .categoryIds(List.of(1L + random.nextInt(20)))
+                    .reviewCount(random.nextInt(500))
+                    .averagePrice(random.nextInt(10) == 0 ? null : 5000 + random.nextInt(20) * 500)
+                    .viewCount(random.nextInt(5000))
+                    .favoriteCount(0)
+                    .latitude(BigDecimal.valueOf(37.4979 + random.nextDouble() * 0.02))
+                    .longitude(BigDecimal.valueOf(127.0276 + random.nextDouble() * 0.02))
+                    .storeType(StoreType.RESTAURANT)
+                    .registeredAt(LocalDateTime.now().minusDays(random.nextInt(365)))
+                    .build());
+        }
+
+        // 최근 180일 중 하루 한 건의 지출 내역
+        Map<LocalDate, ExpenditureRecord> expenditures = new HashMap<>();
+        Map<Long, LocalDate> lastVisits = new HashMap<>();
+        LocalDate today = LocalDate.now();
+        for (int daysAgo = 0; daysAgo < 180; daysAgo++) {
+            long storeId = 1L + random.nextInt(storeCount);
+            LocalDate date = today.minusDays(daysAgo);
+            expenditures.put(date, ExpenditureRecord.builder()
+                    .expendedAt(date)
+                    .amount(5000 + random.nextInt(20) * 500)
+                    .categoryId(1L + random.nextInt(20))
+                    .storeId(storeId)
+                    .build());
+            lastVisits.putIfAbsent(storeId, date);
+        }
+
+        Map<Long, Integer> preferences = new HashMap<>();
+        for (long categoryId = 1; categoryId <= 20; categoryId++) {
+            preferences.put(categoryId, (int) (categoryId % 3 - 1) * 100);
+        }
+
+        userProfile = UserProfile.builder()
+                .memberId(1L)
+                .recommendationType(RecommendationType.BALANCED)
+                .currentLatitude(BigDecimal.valueOf(37.5079))
+                .currentLongitude(BigDecimal.valueOf(127.0376))
+                .categoryPreferences(preferences)
+                .recentExpenditures(expenditures)
+                .storeLastVisitDates(lastVisits)
+                .build();
+
+        context = CalculationContext.from(stores, userProfile);
+        scores = new double[storeCount];
+
+        // 임계값 1: 모든 가게 수에서 병렬 경로를 측정 (구간 크기와 스레드 수는 운영 기본값과 동일)
+        scoringPool = new RecommendationScoringPool(
+                Math.max(Runtime.getRuntime().availableProcessors() / 2, 1), 1, 250, 1);
+        parallelDomainService = new RecommendationDomainService(scoringPool);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scoringPool.shutdown();
+    }
+
+    @Benchmark
+    public double[] perStoreCalculate() {
+        for (ScoreCalculator calculator : calculators) {
+            for (int i = 0; i < stores.size(); i++) {
+                scores[i] += calculator.calculate(stores.get(i), userProfile, context);
+            }
+        }
+        return scores;
+    }
+
+    @Benchmark
+    public double[] columnKernels() {
+        for (ScoreCalculator calculator : calculators) {
+            calculator.calculateAll(stores, userProfile, context, scores);
+        }
+        return scores;
+    }
+
+    @Benchmark
+    public CalculationContext buildContext() {
+        return CalculationContext.from(stores, userProfile);
+    }
+
+    @Benchmark
+    public List<RecommendationResult> topRecommendations() {
+        return domainService.calculateTopRecommendations(
+                stores, userProfile, RecommendationSortType.SCORE, null, 0, 20);
+    }
+
+    @Benchmark
+    public List<RecommendationResult> topRecommendationsParallel() {
+        return parallelDomainService.calculateTopRecommendations(
+                stores, userProfile, RecommendationSortType.SCORE, null, 0, 20);
+    }
+}
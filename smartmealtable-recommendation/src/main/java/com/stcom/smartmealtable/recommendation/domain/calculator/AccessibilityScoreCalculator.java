@@ -5,6 +5,8 @@ import com.stcom.smartmealtable.recommendation.domain.model.UserProfile;
 import com.stcom.smartmealtable.recommendation.util.NormalizationUtil;
 import com.stdev.smartmealtable.domain.store.Store;
 
+import java.util.List;
+
 /**
  * 접근성 점수 계산기
  * 
@@ -13,18 +15,38 @@ import com.stdev.smartmealtable.domain.store.Store;
  */
 public class AccessibilityScoreCalculator implements ScoreCalculator {
 
-    private static final int EARTH_RADIUS = 6371; // km
-
     @Override
     public double calculate(Store store, UserProfile userProfile, CalculationContext context) {
         // 사용자 현재 위치와 가게 사이의 거리 계산
-        double distance = calculateDistance(
+        double distance = CalculationContext.calculateDistance(
                 userProfile.getCurrentLatitude().doubleValue(),
                 userProfile.getCurrentLongitude().doubleValue(),
                 store.getLatitude().doubleValue(),
                 store.getLongitude().doubleValue()
         );
 
+        return calculateScore(distance, context);
+    }
+
+    /**
+     * 거리는 CalculationContext에서 미리 계산한 컬럼을 사용합니다.
+     */
+    @Override
+    public void calculateRange(
+            List<Store> stores,
+            UserProfile userProfile,
+            CalculationContext context,
+            double[] scores,
+            int from,
+            int to
+    ) {
+        double[] distances = context.getDistances();
+        for (int i = from; i < to; i++) {
+            scores[i] = calculateScore(distances[i], context);
+        }
+    }
+
+    private double calculateScore(double distance, CalculationContext context) {
         // 거리 정규화
         double normalizedDistance = NormalizationUtil.normalizeMinMax(
                 distance,
@@ -35,20 +57,4 @@ public class AccessibilityScoreCalculator implements ScoreCalculator {
         // 거리가 가까울수록 높은 점수 (역수 변환)
         return 100 - normalizedDistance;
     }
-
-    /**
-     * Haversine 공식을 사용한 두 좌표 간 거리 계산 (km 단위)
-     */
-    private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
-                   Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
-                   Math.sin(dLon / 2) * Math.sin(dLon / 2);
-
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-
-        return EARTH_RADIUS * c;
-    }
 }
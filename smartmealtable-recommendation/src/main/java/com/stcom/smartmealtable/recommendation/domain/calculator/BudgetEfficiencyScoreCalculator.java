@@ -5,6 +5,8 @@ import com.stcom.smartmealtable.recommendation.domain.model.UserProfile;
 import com.stcom.smartmealtable.recommendation.util.NormalizationUtil;
 import com.stdev.smartmealtable.domain.store.Store;
 
+import java.util.List;
+
 /**
  * 예산 효율성 점수 계산기
  * 
@@ -22,8 +24,30 @@ public class BudgetEfficiencyScoreCalculator implements ScoreCalculator {
 
     @Override
     public double calculate(Store store, UserProfile userProfile, CalculationContext context) {
-        double valueScore = calculateValueForMoneyScore(store, context);
-        double budgetFitScore = calculateBudgetFitScore(store);
+        int reviewCount = store.getReviewCount() != null ? store.getReviewCount() : 0;
+        int avgPrice = store.getAveragePrice() != null ? store.getAveragePrice() : 0;
+        return calculateScore(reviewCount, avgPrice, context);
+    }
+
+    @Override
+    public void calculateRange(
+            List<Store> stores,
+            UserProfile userProfile,
+            CalculationContext context,
+            double[] scores,
+            int from,
+            int to
+    ) {
+        int[] reviewCounts = context.getReviewCounts();
+        int[] averagePrices = context.getAveragePrices();
+        for (int i = from; i < to; i++) {
+            scores[i] = calculateScore(reviewCounts[i], averagePrices[i], context);
+        }
+    }
+
+    private double calculateScore(int reviewCount, int avgPrice, CalculationContext context) {
+        double valueScore = calculateValueForMoneyScore(reviewCount, avgPrice, context);
+        double budgetFitScore = calculateBudgetFitScore(avgPrice);
 
         return (valueScore * VALUE_FOR_MONEY_WEIGHT) +
                (budgetFitScore * BUDGET_FIT_WEIGHT);
@@ -34,17 +58,15 @@ public class BudgetEfficiencyScoreCalculator implements ScoreCalculator {
      * 
      * <p>가성비 = log(1 + reviews) / avg_price</p>
      * 
-     * @param store 가게
+     * @param reviewCount 가게 리뷰 수 (없으면 0)
+     * @param avgPrice 가게 평균 가격 (없으면 0)
      * @param context 계산 컨텍스트
      * @return 0~100 점수
      */
-    private double calculateValueForMoneyScore(Store store, CalculationContext context) {
-        int reviewCount = store.getReviewCount() != null ? store.getReviewCount() : 0;
-        int avgPrice = store.getAveragePrice() != null && store.getAveragePrice() > 0 
-                       ? store.getAveragePrice() 
-                       : 1; // 0으로 나누기 방지
+    private double calculateValueForMoneyScore(int reviewCount, int avgPrice, CalculationContext context) {
+        int price = avgPrice > 0 ? avgPrice : 1; // 0으로 나누기 방지
 
-        double valueForMoney = Math.log(1 + reviewCount) / avgPrice;
+        double valueForMoney = Math.log(1 + reviewCount) / price;
 
         return NormalizationUtil.normalizeMinMax(
                 valueForMoney,
@@ -59,15 +81,13 @@ public class BudgetEfficiencyScoreCalculator implements ScoreCalculator {
      * <p>사용자 예산과 가게 평균 가격의 차이를 계산합니다.</p>
      * <p>현재는 간소화하여 일정 범위 내에서 점수를 부여합니다.</p>
      * 
-     * @param store 가게
+     * @param avgPrice 가게 평균 가격 (없으면 0)
      * @return 0~100 점수
      */
-    private double calculateBudgetFitScore(Store store) {
+    private double calculateBudgetFitScore(int avgPrice) {
         // TODO: UserProfile에서 현재 시간대에 맞는 예산 가져오기 (추후 구현)
         // 현재는 평균 가격이 저렴할수록 높은 점수로 간단히 처리
         
-        int avgPrice = store.getAveragePrice() != null ? store.getAveragePrice() : 0;
-        
         // 가격이 낮을수록 높은 점수 (간소화된 버전)
         // 10,000원 이하는 100점, 20,000원 이상은 0점으로 선형 변환
         if (avgPrice <= 10000) {
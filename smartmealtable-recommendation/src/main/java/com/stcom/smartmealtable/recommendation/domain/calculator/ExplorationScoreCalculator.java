@@ -1,7 +1,6 @@
 package com.stcom.smartmealtable.recommendation.domain.calculator;
 
 import com.stcom.smartmealtable.recommendation.domain.model.CalculationContext;
-import com.stcom.smartmealtable.recommendation.domain.model.ExpenditureRecord;
 import com.stcom.smartmealtable.recommendation.domain.model.UserProfile;
 import com.stcom.smartmealtable.recommendation.util.NormalizationUtil;
 import com.stdev.smartmealtable.domain.store.Store;
@@ -9,7 +8,7 @@ import com.stdev.smartmealtable.domain.store.Store;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.Map;
+import java.util.List;
 
 /**
  * 탐험성 점수 계산기
@@ -30,9 +29,45 @@ public class ExplorationScoreCalculator implements ScoreCalculator {
 
     @Override
     public double calculate(Store store, UserProfile userProfile, CalculationContext context) {
-        double freshnessScore = calculateCategoryFreshnessScore(store, userProfile);
-        double newnessScore = calculateStoreNewnessScore(store, userProfile);
-        double interestScore = calculateRecentInterestScore(store, context);
+        long views = store.getViewCount() != null ? store.getViewCount() : 0;
+        return calculateScore(
+                store,
+                CalculationContext.primaryCategoryIdOf(store),
+                views,
+                userProfile,
+                context,
+                LocalDate.now()
+        );
+    }
+
+    @Override
+    public void calculateRange(
+            List<Store> stores,
+            UserProfile userProfile,
+            CalculationContext context,
+            double[] scores,
+            int from,
+            int to
+    ) {
+        long[] primaryCategoryIds = context.getPrimaryCategoryIds();
+        long[] viewCounts = context.getViewCounts();
+        LocalDate today = LocalDate.now();
+        for (int i = from; i < to; i++) {
+            scores[i] = calculateScore(stores.get(i), primaryCategoryIds[i], viewCounts[i], userProfile, context, today);
+        }
+    }
+
+    private double calculateScore(
+            Store store,
+            long primaryCategoryId,
+            long views,
+            UserProfile userProfile,
+            CalculationContext context,
+            LocalDate today
+    ) {
+        double freshnessScore = calculateCategoryFreshnessScore(primaryCategoryId, context);
+        double newnessScore = calculateStoreNewnessScore(store, userProfile, today);
+        double interestScore = calculateRecentInterestScore(views, context);
 
         return (freshnessScore * CATEGORY_FRESHNESS_WEIGHT) +
                (newnessScore * STORE_NEWNESS_WEIGHT) +
@@ -45,35 +80,26 @@ public class ExplorationScoreCalculator implements ScoreCalculator {
      * <p>최근 30일간 해당 카테고리 방문 비중의 역수를 계산합니다.</p>
      * <p>자주 안 간 카테고리일수록 높은 점수를 부여합니다.</p>
      * <p>가게가 여러 카테고리를 가진 경우, 주 카테고리(첫 번째)를 사용합니다.</p>
+     * <p>카테고리별 방문 횟수는 CalculationContext의 히스토그램을 사용합니다.</p>
      * 
-     * @param store 가게
-     * @param userProfile 사용자 프로필
+     * @param primaryCategoryId 가게의 주 카테고리 ID
+     * @param context 계산 컨텍스트
      * @return 0~100 점수
      */
-    private double calculateCategoryFreshnessScore(Store store, UserProfile userProfile) {
-        Map<LocalDate, ExpenditureRecord> recentExpenditures = userProfile.getRecentExpenditures(30);
+    private double calculateCategoryFreshnessScore(long primaryCategoryId, CalculationContext context) {
+        int totalVisitCount = context.getTotalVisitCount();
 
         // 신규 사용자 처리 (모든 카테고리 동일 점수)
-        if (recentExpenditures.isEmpty()) {
+        if (totalVisitCount == 0) {
             return 50.0;
         }
 
-        // 주 카테고리 ID (첫 번째 카테고리 사용)
-        Long primaryCategoryId = store.getCategoryIds() != null && !store.getCategoryIds().isEmpty() 
-                ? store.getCategoryIds().get(0) 
-                : null;
-
-        if (primaryCategoryId == null) {
+        if (primaryCategoryId == CalculationContext.NO_CATEGORY) {
             return 50.0; // 카테고리가 없으면 중간 점수
         }
 
-        // 해당 카테고리 방문 횟수
-        long categoryCount = recentExpenditures.values().stream()
-                .filter(exp -> primaryCategoryId.equals(exp.getCategoryId()))
-                .count();
-
-        // 전체 지출 대비 비중
-        double categoryProportion = (double) categoryCount / recentExpenditures.size();
+        // 전체 지출 대비 해당 카테고리 방문 비중
+        double categoryProportion = (double) context.getCategoryVisitCount(primaryCategoryId) / totalVisitCount;
 
         // 역수 계산 (안 간 카테고리일수록 높은 점수)
         return (1 - categoryProportion) * 100;
@@ -86,16 +112,17 @@ public class ExplorationScoreCalculator implements ScoreCalculator {
      * 
      * @param store 가게
      * @param userProfile 사용자 프로필
+     * @param today 기준 날짜
      * @return 0~100 점수
      */
-    private double calculateStoreNewnessScore(Store store, UserProfile userProfile) {
+    private double calculateStoreNewnessScore(Store store, UserProfile userProfile, LocalDate today) {
         // 1) 마지막 방문 후 경과일
         LocalDate lastVisit = userProfile.getLastVisitDate(store.getStoreId());
         double visitScore;
         if (lastVisit == null) {
             visitScore = 100.0; // 한 번도 안 간 가게
         } else {
-            long daysAgo = ChronoUnit.DAYS.between(lastVisit, LocalDate.now());
+            long daysAgo = ChronoUnit.DAYS.between(lastVisit, today);
             visitScore = Math.min(daysAgo / 180.0 * 100, 100); // 180일 이상이면 100점
         }
 
@@ -105,7 +132,7 @@ public class ExplorationScoreCalculator implements ScoreCalculator {
         if (registeredAt == null) {
             registeredScore = 50.0; // 정보 없음
         } else {
-            long daysSinceRegistered = ChronoUnit.DAYS.between(registeredAt.toLocalDate(), LocalDate.now());
+            long daysSinceRegistered = ChronoUnit.DAYS.between(registeredAt.toLocalDate(), today);
             registeredScore = Math.max(100 - (daysSinceRegistered / 30.0 * 10), 0); // 30일 = 100점, 300일+ = 0점
         }
 
@@ -117,14 +144,11 @@ public class ExplorationScoreCalculator implements ScoreCalculator {
      * 
      * <p>최근 조회수를 로그 정규화하여 인기있는 가게에 높은 점수를 부여합니다.</p>
      * 
-     * @param store 가게
+     * @param views 가게 조회수 (임시로 viewCount 사용, 추후 viewCountLast7Days로 변경 필요)
      * @param context 계산 컨텍스트
      * @return 0~100 점수
      */
-    private double calculateRecentInterestScore(Store store, CalculationContext context) {
-        // 임시로 viewCount 사용 (추후 viewCountLast7Days로 변경 필요)
-        long views = store.getViewCount() != null ? store.getViewCount() : 0;
-        
+    private double calculateRecentInterestScore(long views, CalculationContext context) {
         // 로그 정규화로 큰 값의 영향력 완화
         return NormalizationUtil.normalizeLog(views, context.getMinViews7Days(), context.getMaxViews7Days());
     }
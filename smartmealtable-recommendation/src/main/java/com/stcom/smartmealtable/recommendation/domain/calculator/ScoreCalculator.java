@@ -4,6 +4,8 @@ import com.stcom.smartmealtable.recommendation.domain.model.CalculationContext;
 import com.stcom.smartmealtable.recommendation.domain.model.UserProfile;
 import com.stdev.smartmealtable.domain.store.Store;
 
+import java.util.List;
+
 /**
  * 점수 계산 전략 인터페이스
  * 
@@ -20,4 +22,44 @@ public interface ScoreCalculator {
      * @return 0~100 사이의 정규화된 점수
      */
     double calculate(Store store, UserProfile userProfile, CalculationContext context);
+
+    /**
+     * 가게 목록 전체의 점수를 계산하여 배열에 기록합니다.
+     *
+     * <p>가게별 결과 객체를 만들지 않고 {@code scores[i]}에 i번째 가게의 점수를 씁니다.</p>
+     *
+     * @param stores 점수를 계산할 가게 목록
+     * @param userProfile 사용자 프로필
+     * @param context 계산 컨텍스트
+     * @param scores 결과를 기록할 배열 (길이 >= stores.size())
+     */
+    default void calculateAll(List<Store> stores, UserProfile userProfile, CalculationContext context, double[] scores) {
+        calculateRange(stores, userProfile, context, scores, 0, stores.size());
+    }
+
+    /**
+     * 가게 목록 중 [from, to) 구간의 점수만 계산하여 배열에 기록합니다.
+     *
+     * <p>구간 밖의 배열 값은 건드리지 않으므로, 서로 겹치지 않는 구간을 여러 스레드에서
+     * 동시에 계산해도 안전합니다.</p>
+     *
+     * @param stores 점수를 계산할 가게 목록
+     * @param userProfile 사용자 프로필
+     * @param context 계산 컨텍스트
+     * @param scores 결과를 기록할 배열 (길이 >= stores.size())
+     * @param from 시작 인덱스 (포함)
+     * @param to 끝 인덱스 (제외)
+     */
+    default void calculateRange(
+            List<Store> stores,
+            UserProfile userProfile,
+            CalculationContext context,
+            double[] scores,
+            int from,
+            int to
+    ) {
+        for (int i = from; i < to; i++) {
+            scores[i] = calculate(stores.get(i), userProfile, context);
+        }
+    }
 }
@@ -4,108 +4,270 @@ import com.stdev.smartmealtable.domain.store.Store;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.DoubleSummaryStatistics;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 점수 계산 컨텍스트
- * 
+ *
  * <p>정규화를 위한 min/max 값과 통계 정보를 포함합니다.</p>
+ *
+ * <p>요청마다 한 번, 가게별 값을 컬럼 배열(Structure of Arrays)로 미리 풀어두고
+ * 사용자 지출 내역을 카테고리별 히스토그램으로 집계합니다.
+ * 계산기는 가게마다 BigDecimal 좌표나 지출 내역을 다시 읽지 않고 배열 인덱스로 값을 참조합니다.
+ * 컬럼 배열의 i번째 값은 {@link #allStores}의 i번째 가게에 해당하며, 읽기 전용으로 사용해야 합니다.</p>
  */
 @Getter
 @Builder
 public class CalculationContext {
-    
+
+    /**
+     * 주 카테고리가 없는 가게의 카테고리 ID 값
+     */
+    public static final long NO_CATEGORY = -1L;
+
+    /**
+     * 안정성 점수의 지출 내역 조회 기간 (일)
+     */
+    public static final int EXPENDITURE_WINDOW_DAYS = 180;
+
+    /**
+     * 탐험성 점수의 카테고리 방문 조회 기간 (일)
+     */
+    public static final int VISIT_WINDOW_DAYS = 30;
+
+    private static final double TIME_DECAY_LAMBDA = 0.01;     // 시간 감쇠 상수
+
     // ==================== Review 관련 ====================
-    
+
     /**
      * 최소 리뷰 수
      */
     private final double minReviews;
-    
+
     /**
      * 최대 리뷰 수
      */
     private final double maxReviews;
-    
+
     // ==================== 조회수 관련 ====================
-    
+
     /**
      * 최소 조회수 (최근 7일)
      */
     private final long minViews7Days;
-    
+
     /**
      * 최대 조회수 (최근 7일)
      */
     private final long maxViews7Days;
-    
+
     // ==================== 가성비 관련 ====================
-    
+
     /**
      * 최소 가성비 값
      */
     private final double minValueForMoney;
-    
+
     /**
      * 최대 가성비 값
      */
     private final double maxValueForMoney;
-    
+
     // ==================== 거리 관련 ====================
-    
+
     /**
      * 최소 거리 (km)
      */
     private final double minDistance;
-    
+
     /**
      * 최대 거리 (km)
      */
     private final double maxDistance;
-    
+
+    // ==================== 가게별 컬럼 ====================
+
+    /**
+     * 가게 위도
+     */
+    private final double[] latitudes;
+
+    /**
+     * 가게 경도
+     */
+    private final double[] longitudes;
+
+    /**
+     * 사용자 위치로부터의 거리 (km)
+     */
+    private final double[] distances;
+
+    /**
+     * 리뷰 수 (없으면 0)
+     */
+    private final int[] reviewCounts;
+
+    /**
+     * 평균 가격 (없으면 0)
+     */
+    private final int[] averagePrices;
+
+    /**
+     * 조회수 (없으면 0)
+     */
+    private final long[] viewCounts;
+
+    /**
+     * 주 카테고리 ID (첫 번째 카테고리, 없으면 {@link #NO_CATEGORY})
+     */
+    private final long[] primaryCategoryIds;
+
+    // ==================== 지출 히스토그램 ====================
+
+    /**
+     * 최근 30일 카테고리별 방문(지출) 횟수
+     */
+    private final Map<Long, Integer> categoryVisitCounts;
+
+    /**
+     * 최근 30일 전체 방문(지출) 횟수
+     */
+    private final int totalVisitCount;
+
+    /**
+     * 최근 180일 카테고리별 시간 감쇠 지출 금액
+     */
+    private final Map<Long, Double> categoryDecayedAmounts;
+
+    /**
+     * 최근 180일 전체 시간 감쇠 지출 금액
+     */
+    private final double totalDecayedAmount;
+
+    /**
+     * 최근 180일 지출 내역 건수
+     */
+    private final int expenditureCount;
+
     // ==================== 참조용 데이터 ====================
-    
+
     /**
      * 전체 가게 리스트
      */
     private final List<Store> allStores;
-    
+
+    /**
+     * 컬럼 배열의 가게 수
+     */
+    public int size() {
+        return distances.length;
+    }
+
+    /**
+     * 최근 30일 특정 카테고리 방문 횟수
+     */
+    public int getCategoryVisitCount(long categoryId) {
+        return categoryVisitCounts.getOrDefault(categoryId, 0);
+    }
+
+    /**
+     * 최근 180일 특정 카테고리의 시간 감쇠 지출 금액
+     */
+    public double getCategoryDecayedAmount(long categoryId) {
+        return categoryDecayedAmounts.getOrDefault(categoryId, 0.0);
+    }
+
+    /**
+     * 가게의 주 카테고리 ID 추출
+     *
+     * @return 첫 번째 카테고리 ID, 없으면 {@link #NO_CATEGORY}
+     */
+    public static long primaryCategoryIdOf(Store store) {
+        List<Long> categoryIds = store.getCategoryIds();
+        if (categoryIds == null || categoryIds.isEmpty() || categoryIds.get(0) == null) {
+            return NO_CATEGORY;
+        }
+        return categoryIds.get(0);
+    }
+
     /**
      * 필터링된 가게 리스트로부터 Context 생성
-     * 
+     *
      * @param stores 필터링된 가게 리스트
      * @param userProfile 사용자 프로필
      * @return 계산 컨텍스트
      */
     public static CalculationContext from(List<Store> stores, UserProfile userProfile) {
-        // Review 통계
-        DoubleSummaryStatistics reviewStats = stores.stream()
-                .mapToDouble(store -> store.getReviewCount() != null ? store.getReviewCount() : 0)
-                .summaryStatistics();
-        
-        // 조회수 통계 (임시로 viewCount 사용, 추후 viewCountLast7Days로 변경 필요)
-        DoubleSummaryStatistics viewStats = stores.stream()
-                .mapToDouble(store -> store.getViewCount() != null ? store.getViewCount() : 0)
-                .summaryStatistics();
-        
-        // 가성비 통계 (log(1 + reviews) / avg_price)
-        DoubleSummaryStatistics valueStats = stores.stream()
-                .filter(store -> store.getAveragePrice() != null && store.getAveragePrice() > 0)
-                .mapToDouble(store -> Math.log(1 + (store.getReviewCount() != null ? store.getReviewCount() : 0)) 
-                                      / store.getAveragePrice())
-                .summaryStatistics();
-        
-        // 거리 통계 (Haversine 거리 계산)
-        DoubleSummaryStatistics distanceStats = stores.stream()
-                .mapToDouble(store -> calculateDistance(
-                        userProfile.getCurrentLatitude().doubleValue(),
-                        userProfile.getCurrentLongitude().doubleValue(),
-                        store.getLatitude().doubleValue(),
-                        store.getLongitude().doubleValue()
-                ))
-                .summaryStatistics();
-        
+        int size = stores.size();
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        double[] distances = new double[size];
+        int[] reviewCounts = new int[size];
+        int[] averagePrices = new int[size];
+        long[] viewCounts = new long[size];
+        long[] primaryCategoryIds = new long[size];
+
+        DoubleSummaryStatistics reviewStats = new DoubleSummaryStatistics();
+        DoubleSummaryStatistics viewStats = new DoubleSummaryStatistics();
+        DoubleSummaryStatistics valueStats = new DoubleSummaryStatistics();
+        DoubleSummaryStatistics distanceStats = new DoubleSummaryStatistics();
+
+        double userLatitude = userProfile.getCurrentLatitude().doubleValue();
+        double userLongitude = userProfile.getCurrentLongitude().doubleValue();
+
+        // 가게 목록을 한 번만 순회하며 컬럼과 통계를 함께 계산
+        for (int i = 0; i < size; i++) {
+            Store store = stores.get(i);
+            latitudes[i] = store.getLatitude().doubleValue();
+            longitudes[i] = store.getLongitude().doubleValue();
+            reviewCounts[i] = store.getReviewCount() != null ? store.getReviewCount() : 0;
+            averagePrices[i] = store.getAveragePrice() != null ? store.getAveragePrice() : 0;
+            // 임시로 viewCount 사용, 추후 viewCountLast7Days로 변경 필요
+            viewCounts[i] = store.getViewCount() != null ? store.getViewCount() : 0;
+            primaryCategoryIds[i] = primaryCategoryIdOf(store);
+
+            // 거리 (Haversine 거리 계산)
+            distances[i] = calculateDistance(userLatitude, userLongitude, latitudes[i], longitudes[i]);
+
+            reviewStats.accept(reviewCounts[i]);
+            viewStats.accept(viewCounts[i]);
+            distanceStats.accept(distances[i]);
+
+            // 가성비 (log(1 + reviews) / avg_price)
+            if (averagePrices[i] > 0) {
+                valueStats.accept(Math.log(1 + reviewCounts[i]) / averagePrices[i]);
+            }
+        }
+
+        // 최근 30일 카테고리별 방문 히스토그램
+        Map<LocalDate, ExpenditureRecord> recentVisits = userProfile.getRecentExpenditures(VISIT_WINDOW_DAYS);
+        Map<Long, Integer> categoryVisitCounts = new HashMap<>();
+        for (ExpenditureRecord exp : recentVisits.values()) {
+            if (exp.getCategoryId() != null) {
+                categoryVisitCounts.merge(exp.getCategoryId(), 1, Integer::sum);
+            }
+        }
+
+        // 최근 180일 카테고리별 시간 감쇠 지출 금액: w = exp(-λ * days_ago)
+        Map<LocalDate, ExpenditureRecord> recentExpenditures = userProfile.getRecentExpenditures(EXPENDITURE_WINDOW_DAYS);
+        Map<Long, Double> categoryDecayedAmounts = new HashMap<>();
+        double totalDecayedAmount = 0.0;
+        LocalDate now = LocalDate.now();
+        for (ExpenditureRecord exp : recentExpenditures.values()) {
+            long daysAgo = ChronoUnit.DAYS.between(exp.getExpendedAt(), now);
+            double weightedAmount = exp.getAmount() * Math.exp(-TIME_DECAY_LAMBDA * daysAgo);
+
+            totalDecayedAmount += weightedAmount;
+            if (exp.getCategoryId() != null) {
+                categoryDecayedAmounts.merge(exp.getCategoryId(), weightedAmount, Double::sum);
+            }
+        }
+
         return CalculationContext.builder()
                 .minReviews(reviewStats.getMin())
                 .maxReviews(reviewStats.getMax())
@@ -115,25 +277,37 @@ public class CalculationContext {
                 .maxValueForMoney(valueStats.getMax())
                 .minDistance(distanceStats.getMin())
                 .maxDistance(distanceStats.getMax())
+                .latitudes(latitudes)
+                .longitudes(longitudes)
+                .distances(distances)
+                .reviewCounts(reviewCounts)
+                .averagePrices(averagePrices)
+                .viewCounts(viewCounts)
+                .primaryCategoryIds(primaryCategoryIds)
+                .categoryVisitCounts(categoryVisitCounts)
+                .totalVisitCount(recentVisits.size())
+                .categoryDecayedAmounts(categoryDecayedAmounts)
+                .totalDecayedAmount(totalDecayedAmount)
+                .expenditureCount(recentExpenditures.size())
                 .allStores(stores)
                 .build();
     }
-    
+
     /**
      * Haversine 공식을 사용한 두 좌표 간 거리 계산 (km 단위)
      */
-    private static double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
+    public static double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
         final int EARTH_RADIUS = 6371; // km
-        
+
         double dLat = Math.toRadians(lat2 - lat1);
         double dLon = Math.toRadians(lon2 - lon1);
-        
+
         double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
                    Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
                    Math.sin(dLon / 2) * Math.sin(dLon / 2);
-        
+
         double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        
+
         return EARTH_RADIUS * c;
     }
 }
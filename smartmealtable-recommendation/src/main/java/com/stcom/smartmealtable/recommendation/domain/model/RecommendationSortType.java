@@ -0,0 +1,14 @@
+package com.stcom.smartmealtable.recommendation.domain.model;
+
+/**
+ * 추천 결과 정렬 기준
+ *
+ * <p>Top-K 선별 시 사용하는 정렬 키입니다. 동점인 경우 입력 순서(거리순 조회 결과)를 유지합니다.</p>
+ */
+public enum RecommendationSortType {
+    SCORE,              // 추천 점수 높은 순
+    DISTANCE,           // 거리 가까운 순
+    REVIEW,             // 리뷰 많은 순
+    PRICE_LOW,          // 가격 낮은 순 (가격 정보 없으면 마지막)
+    PRICE_HIGH          // 가격 높은 순 (가격 정보 없으면 마지막)
+}
@@ -6,6 +6,7 @@ import lombok.Getter;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -14,7 +15,7 @@ import java.util.Map;
  * <p>사용자의 선호도, 지출 내역, 위치 정보 등을 포함합니다.</p>
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class UserProfile {
     
     /**
@@ -88,4 +89,49 @@ public class UserProfile {
     public LocalDate getLastVisitDate(Long storeId) {
         return storeLastVisitDates.get(storeId);
     }
+
+    /**
+     * 현재 위치만 바꾼 프로필 생성
+     *
+     * @param latitude 위도
+     * @param longitude 경도
+     * @return 위치가 변경된 새 프로필 (나머지 데이터는 공유)
+     */
+    public UserProfile withLocation(BigDecimal latitude, BigDecimal longitude) {
+        return toBuilder()
+                .currentLatitude(latitude)
+                .currentLongitude(longitude)
+                .build();
+    }
+
+    /**
+     * 지출 내역을 추가한 프로필 생성
+     *
+     * <p>캐시된 프로필을 증분 갱신할 때 사용하며, 기존 맵을 수정하지 않고 복사본을 만듭니다.
+     * DB 로딩과 같이 같은 날짜에 이미 지출이 있으면 기존 것을 유지합니다.</p>
+     *
+     * @param record 추가할 지출 레코드
+     * @return 지출 내역이 반영된 새 프로필
+     */
+    public UserProfile withExpenditure(ExpenditureRecord record) {
+        Map<LocalDate, ExpenditureRecord> expenditures = new HashMap<>(recentExpenditures);
+        expenditures.putIfAbsent(record.getExpendedAt(), record);
+        return toBuilder()
+                .recentExpenditures(expenditures)
+                .build();
+    }
+
+    /**
+     * 카테고리 선호도를 병합한 프로필 생성
+     *
+     * @param preferences 변경할 카테고리 선호도 (categoryId -> weight)
+     * @return 선호도가 반영된 새 프로필
+     */
+    public UserProfile withCategoryPreferences(Map<Long, Integer> preferences) {
+        Map<Long, Integer> merged = new HashMap<>(categoryPreferences);
+        merged.putAll(preferences);
+        return toBuilder()
+                .categoryPreferences(merged)
+                .build();
+    }
 }
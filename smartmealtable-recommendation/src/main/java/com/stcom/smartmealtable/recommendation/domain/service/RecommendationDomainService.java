@@ -6,6 +6,7 @@ import com.stcom.smartmealtable.recommendation.domain.calculator.ExplorationScor
 import com.stcom.smartmealtable.recommendation.domain.calculator.StabilityScoreCalculator;
 import com.stcom.smartmealtable.recommendation.domain.model.CalculationContext;
 import com.stcom.smartmealtable.recommendation.domain.model.RecommendationResult;
+import com.stcom.smartmealtable.recommendation.domain.model.RecommendationSortType;
 import com.stcom.smartmealtable.recommendation.domain.model.ScoreDetail;
 import com.stcom.smartmealtable.recommendation.domain.model.UserProfile;
 import com.stdev.smartmealtable.domain.member.entity.RecommendationType;
@@ -13,14 +14,16 @@ import com.stdev.smartmealtable.domain.store.Store;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 추천 도메인 서비스
  * 
  * <p>4가지 속성 점수를 계산하고 가중합하여 최종 추천 점수를 산출합니다.</p>
+ *
+ * <p>후보 가게 수가 많으면 {@link RecommendationScoringPool}에서 가게 목록을 구간별로 나누어 병렬 계산하고,
+ * 구간별 Top-K 힙을 병합합니다. 결과는 순차 계산과 동일합니다.</p>
  */
 @Service
 @RequiredArgsConstructor
@@ -31,6 +34,8 @@ public class RecommendationDomainService {
     private final BudgetEfficiencyScoreCalculator budgetEfficiencyCalculator = new BudgetEfficiencyScoreCalculator();
     private final AccessibilityScoreCalculator accessibilityCalculator = new AccessibilityScoreCalculator();
 
+    private final RecommendationScoringPool scoringPool;
+
     /**
      * 가게 목록에 대한 추천 점수를 계산합니다.
      * 
@@ -42,94 +47,243 @@ public class RecommendationDomainService {
             List<Store> stores,
             UserProfile userProfile
     ) {
+        if (stores.isEmpty()) {
+            return new ArrayList<>();
+        }
+
         // 계산 컨텍스트 생성
         CalculationContext context = CalculationContext.from(stores, userProfile);
 
         // 각 가게에 대해 점수 계산
-        return stores.stream()
-                .map(store -> calculateSingleRecommendation(store, userProfile, context))
-                .collect(Collectors.toList());
+        ScoreColumns columns = calculateScoreColumns(stores, userProfile, context);
+
+        List<RecommendationResult> results = new ArrayList<>(stores.size());
+        for (int i = 0; i < stores.size(); i++) {
+            results.add(toResult(stores.get(i), userProfile.getRecommendationType(), columns, i));
+        }
+        return results;
     }
 
     /**
-     * 단일 가게에 대한 추천 점수 계산
-     * 
-     * @param store 가게
+     * 정렬 기준에 따라 상위 K개 가게만 추천 결과로 만듭니다. (Top-K)
+     *
+     * <p>전체 가게의 점수를 배열로 계산한 뒤 크기 K(= offset + limit)의 힙으로 필요한 구간만 선별하고,
+     * 선별된 가게에 대해서만 ScoreDetail과 RecommendationResult를 생성합니다.
+     * 결과는 전체를 정렬한 뒤 페이징한 것과 동일합니다.</p>
+     *
+     * <p>lastStoreId가 주어지면 해당 가게보다 정렬 순서상 뒤에 있는 가게만 대상으로 합니다 (커서 페이징).
+     * 목록에 없는 ID이면 처음부터 조회합니다.</p>
+     *
+     * @param stores 가게 목록
      * @param userProfile 사용자 프로필
-     * @param context 계산 컨텍스트
-     * @return 추천 결과
+     * @param sortType 정렬 기준
+     * @param lastStoreId 커서 (이전 페이지 마지막 가게 ID, null이면 처음부터)
+     * @param offset 커서 이후 건너뛸 개수
+     * @param limit 조회할 개수
+     * @return 정렬된 페이지 구간의 추천 결과
      */
-    private RecommendationResult calculateSingleRecommendation(
-            Store store,
+    public List<RecommendationResult> calculateTopRecommendations(
+            List<Store> stores,
+            UserProfile userProfile,
+            RecommendationSortType sortType,
+            Long lastStoreId,
+            int offset,
+            int limit
+    ) {
+        int from = Math.max(offset, 0);
+        if (stores.isEmpty() || limit <= 0 || from >= stores.size()) {
+            return new ArrayList<>();
+        }
+
+        CalculationContext context = CalculationContext.from(stores, userProfile);
+        ScoreColumns columns = new ScoreColumns(stores.size(), context.getDistances());
+        double[] sortKeys = new double[stores.size()];
+
+        int capacity = (int) Math.min((long) from + limit, stores.size());
+        int cursorIndex = indexOfStore(stores, lastStoreId);
+        int[] ranked;
+        if (scoringPool.tryAcquire(stores.size())) {
+            try {
+                ranked = rankInParallel(stores, userProfile, context, sortType, columns, sortKeys, capacity, cursorIndex);
+            } finally {
+                scoringPool.release();
+            }
+        } else {
+            scoreRange(stores, userProfile, context, columns, 0, stores.size());
+            fillSortKeys(stores, sortType, columns, sortKeys, 0, stores.size());
+            ranked = selectTop(sortKeys, capacity, cursorIndex, 0, stores.size());
+        }
+
+        List<RecommendationResult> results = new ArrayList<>(Math.max(ranked.length - from, 0));
+        for (int rank = from; rank < ranked.length; rank++) {
+            int index = ranked[rank];
+            results.add(toResult(stores.get(index), userProfile.getRecommendationType(), columns, index));
+        }
+        return results;
+    }
+
+    /**
+     * 구간별 점수 계산과 Top-K 선별을 전용 풀에서 병렬 실행
+     *
+     * <p>1단계에서 각 구간의 점수와 정렬 키를 계산하고, 모든 정렬 키가 준비된 뒤(커서 비교에 필요)
+     * 2단계에서 구간별 Top-K를 선별하여 하나의 힙으로 병합합니다.
+     * 힙은 전역 인덱스로 동점을 정렬하므로 병합 결과는 순차 선별과 같습니다.</p>
+     */
+    private int[] rankInParallel(
+            List<Store> stores,
+            UserProfile userProfile,
+            CalculationContext context,
+            RecommendationSortType sortType,
+            ScoreColumns columns,
+            double[] sortKeys,
+            int capacity,
+            int cursorIndex
+    ) {
+        int size = stores.size();
+        scoringPool.invokeChunks(size, (chunkFrom, chunkTo) -> {
+            scoreRange(stores, userProfile, context, columns, chunkFrom, chunkTo);
+            fillSortKeys(stores, sortType, columns, sortKeys, chunkFrom, chunkTo);
+            return null;
+        });
+
+        List<int[]> partials = scoringPool.invokeChunks(size, (chunkFrom, chunkTo) ->
+                selectTop(sortKeys, capacity, cursorIndex, chunkFrom, chunkTo));
+
+        TopKIndexHeap merged = new TopKIndexHeap(sortKeys, capacity);
+        for (int[] partial : partials) {
+            for (int index : partial) {
+                merged.offer(index);
+            }
+        }
+        return merged.drainSorted();
+    }
+
+    /**
+     * [from, to) 구간에서 커서 이후의 상위 K개 인덱스를 정렬 순서대로 선별
+     */
+    private int[] selectTop(double[] sortKeys, int capacity, int cursorIndex, int from, int to) {
+        TopKIndexHeap heap = new TopKIndexHeap(sortKeys, Math.min(capacity, to - from));
+        for (int i = from; i < to; i++) {
+            if (cursorIndex >= 0 && !heap.precedes(cursorIndex, i)) {
+                continue;
+            }
+            heap.offer(i);
+        }
+        return heap.drainSorted();
+    }
+
+    /**
+     * 4가지 속성 점수, 최종 점수, 거리를 가게 인덱스별 배열로 계산
+     */
+    private ScoreColumns calculateScoreColumns(
+            List<Store> stores,
             UserProfile userProfile,
             CalculationContext context
+    ) {
+        // 거리는 컨텍스트에서 미리 계산한 컬럼을 그대로 사용
+        ScoreColumns columns = new ScoreColumns(stores.size(), context.getDistances());
+        if (scoringPool.tryAcquire(stores.size())) {
+            try {
+                scoringPool.invokeChunks(stores.size(), (chunkFrom, chunkTo) -> {
+                    scoreRange(stores, userProfile, context, columns, chunkFrom, chunkTo);
+                    return null;
+                });
+            } finally {
+                scoringPool.release();
+            }
+        } else {
+            scoreRange(stores, userProfile, context, columns, 0, stores.size());
+        }
+        return columns;
+    }
+
+    /**
+     * [from, to) 구간의 4가지 속성 점수와 최종 점수를 계산
+     * 구간 밖의 배열 값은 건드리지 않습니다.
+     */
+    private void scoreRange(
+            List<Store> stores,
+            UserProfile userProfile,
+            CalculationContext context,
+            ScoreColumns columns,
+            int from,
+            int to
     ) {
         // 4가지 속성 점수 계산
-        double stabilityScore = stabilityCalculator.calculate(store, userProfile, context);
-        double explorationScore = explorationCalculator.calculate(store, userProfile, context);
-        double budgetEfficiencyScore = budgetEfficiencyCalculator.calculate(store, userProfile, context);
-        double accessibilityScore = accessibilityCalculator.calculate(store, userProfile, context);
+        stabilityCalculator.calculateRange(stores, userProfile, context, columns.stability, from, to);
+        explorationCalculator.calculateRange(stores, userProfile, context, columns.exploration, from, to);
+        budgetEfficiencyCalculator.calculateRange(stores, userProfile, context, columns.budgetEfficiency, from, to);
+        accessibilityCalculator.calculateRange(stores, userProfile, context, columns.accessibility, from, to);
 
         // 사용자 유형별 가중치 적용
-        RecommendationType type = userProfile.getRecommendationType();
-        double finalScore = calculateFinalScore(
-                type,
-                stabilityScore,
-                explorationScore,
-                budgetEfficiencyScore,
-                accessibilityScore
-        );
-
-        // 거리 계산
-        double distance = calculateDistance(
-                userProfile.getCurrentLatitude(),
-                userProfile.getCurrentLongitude(),
-                store.getLatitude(),
-                store.getLongitude()
-        );
+        double[] weights = getWeights(userProfile.getRecommendationType());
+        for (int i = from; i < to; i++) {
+            columns.finalScore[i] = (columns.stability[i] * weights[0]) +
+                                    (columns.exploration[i] * weights[1]) +
+                                    (columns.budgetEfficiency[i] * weights[2]) +
+                                    (columns.accessibility[i] * weights[3]);
+        }
+    }
 
-        // 점수 상세 정보 생성
-        ScoreDetail scoreDetail = createScoreDetail(
-                type,
-                finalScore,
-                stabilityScore,
-                explorationScore,
-                budgetEfficiencyScore,
-                accessibilityScore
-        );
+    /**
+     * [from, to) 구간의 정렬 기준별 정렬 키 생성 (작을수록 앞)
+     */
+    private void fillSortKeys(
+            List<Store> stores,
+            RecommendationSortType sortType,
+            ScoreColumns columns,
+            double[] keys,
+            int from,
+            int to
+    ) {
+        for (int i = from; i < to; i++) {
+            Store store = stores.get(i);
+            keys[i] = switch (sortType) {
+                case SCORE -> -columns.finalScore[i];
+                case DISTANCE -> columns.distance[i];
+                case REVIEW -> -(store.getReviewCount() != null ? store.getReviewCount() : 0);
+                case PRICE_LOW -> store.getAveragePrice() != null
+                        ? store.getAveragePrice()
+                        : Double.POSITIVE_INFINITY;
+                case PRICE_HIGH -> store.getAveragePrice() != null
+                        ? -store.getAveragePrice()
+                        : Double.POSITIVE_INFINITY;
+            };
+        }
+    }
 
-        return RecommendationResult.from(store, finalScore, distance, scoreDetail);
+    private int indexOfStore(List<Store> stores, Long storeId) {
+        if (storeId == null) {
+            return -1;
+        }
+        for (int i = 0; i < stores.size(); i++) {
+            if (storeId.equals(stores.get(i).getStoreId())) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     /**
-     * 사용자 유형별 최종 점수 계산
+     * 배열에 계산된 점수로 단일 가게의 추천 결과 생성
      */
-    private double calculateFinalScore(
+    private RecommendationResult toResult(
+            Store store,
             RecommendationType type,
-            double stability,
-            double exploration,
-            double budgetEfficiency,
-            double accessibility
+            ScoreColumns columns,
+            int index
     ) {
-        return switch (type) {
-            case SAVER -> // 절약형: 예산효율성 50%, 안정성 30%, 탐험성 15%, 접근성 5%
-                    (stability * 0.30) +
-                    (exploration * 0.15) +
-                    (budgetEfficiency * 0.50) +
-                    (accessibility * 0.05);
-            
-            case ADVENTURER -> // 모험형: 탐험성 50%, 안정성 30%, 예산효율성 10%, 접근성 10%
-                    (stability * 0.30) +
-                    (exploration * 0.50) +
-                    (budgetEfficiency * 0.10) +
-                    (accessibility * 0.10);
-            
-            case BALANCED -> // 균형형: 안정성 30%, 탐험성 25%, 예산효율성 30%, 접근성 15%
-                    (stability * 0.30) +
-                    (exploration * 0.25) +
-                    (budgetEfficiency * 0.30) +
-                    (accessibility * 0.15);
-        };
+        // 점수 상세 정보 생성
+        ScoreDetail scoreDetail = createScoreDetail(
+                type,
+                columns.finalScore[index],
+                columns.stability[index],
+                columns.exploration[index],
+                columns.budgetEfficiency[index],
+                columns.accessibility[index]
+        );
+
+        return RecommendationResult.from(store, columns.finalScore[index], columns.distance[index], scoreDetail);
     }
 
     /**
@@ -165,31 +319,30 @@ public class RecommendationDomainService {
      */
     private double[] getWeights(RecommendationType type) {
         return switch (type) {
-            case SAVER -> new double[]{0.30, 0.15, 0.50, 0.05};
-            case ADVENTURER -> new double[]{0.30, 0.50, 0.10, 0.10};
-            case BALANCED -> new double[]{0.30, 0.25, 0.30, 0.15};
+            case SAVER -> new double[]{0.30, 0.15, 0.50, 0.05};        // 절약형: 예산효율성 50%, 안정성 30%, 탐험성 15%, 접근성 5%
+            case ADVENTURER -> new double[]{0.30, 0.50, 0.10, 0.10};   // 모험형: 탐험성 50%, 안정성 30%, 예산효율성 10%, 접근성 10%
+            case BALANCED -> new double[]{0.30, 0.25, 0.30, 0.15};     // 균형형: 안정성 30%, 탐험성 25%, 예산효율성 30%, 접근성 15%
         };
     }
 
     /**
-     * Haversine 공식을 사용한 거리 계산
+     * 가게 인덱스별 점수 배열 (가게마다 객체를 만들지 않기 위한 컬럼 구조)
      */
-    private double calculateDistance(
-            BigDecimal lat1, BigDecimal lon1,
-            BigDecimal lat2, BigDecimal lon2
-    ) {
-        final int EARTH_RADIUS = 6371; // km
-
-        double dLat = Math.toRadians(lat2.doubleValue() - lat1.doubleValue());
-        double dLon = Math.toRadians(lon2.doubleValue() - lon1.doubleValue());
-
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
-                   Math.cos(Math.toRadians(lat1.doubleValue())) *
-                   Math.cos(Math.toRadians(lat2.doubleValue())) *
-                   Math.sin(dLon / 2) * Math.sin(dLon / 2);
-
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    private static final class ScoreColumns {
+        private final double[] stability;
+        private final double[] exploration;
+        private final double[] budgetEfficiency;
+        private final double[] accessibility;
+        private final double[] finalScore;
+        private final double[] distance;
 
-        return EARTH_RADIUS * c;
+        private ScoreColumns(int size, double[] distance) {
+            this.stability = new double[size];
+            this.exploration = new double[size];
+            this.budgetEfficiency = new double[size];
+            this.accessibility = new double[size];
+            this.finalScore = new double[size];
+            this.distance = distance;
+        }
     }
 }
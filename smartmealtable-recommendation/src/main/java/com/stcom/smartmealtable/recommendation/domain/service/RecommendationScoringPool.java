@@ -0,0 +1,163 @@
+package com.stcom.smartmealtable.recommendation.domain.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 추천 점수 병렬 계산 전용 풀
+ *
+ * <p>공용 ForkJoinPool(commonPool)과 분리된 전용 ForkJoinPool에서 가게 목록을 구간(chunk)으로 나누어 계산합니다.
+ * 후보 가게 수가 임계값 이상인 요청만 병렬 경로를 사용하며, 동시에 병렬 계산을 수행할 수 있는
+ * 요청 수를 제한합니다. 허용치를 넘은 요청은 대기하지 않고 호출 스레드에서 순차 계산하므로,
+ * 풀이 포화되어도 Tomcat 요청 스레드가 풀을 기다리며 묶이지 않습니다.</p>
+ *
+ * <p>{@link #sequential()}로 생성한 인스턴스는 항상 순차 계산을 사용합니다.</p>
+ */
+public class RecommendationScoringPool {
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final int chunkSize;
+    private final Semaphore permits;
+
+    private final AtomicLong parallelExecutions = new AtomicLong();
+    private final AtomicLong saturatedFallbacks = new AtomicLong();
+
+    /**
+     * @param parallelism           전용 풀의 스레드 수
+     * @param threshold             병렬 계산을 시작하는 최소 후보 가게 수
+     * @param chunkSize             한 작업이 계산할 가게 수
+     * @param maxConcurrentRequests 동시에 병렬 계산할 수 있는 최대 요청 수
+     */
+    public RecommendationScoringPool(int parallelism, int threshold, int chunkSize, int maxConcurrentRequests) {
+        this.pool = new ForkJoinPool(
+                Math.max(parallelism, 1),
+                new NamedWorkerThreadFactory(),
+                null,
+                false
+        );
+        this.threshold = Math.max(threshold, 1);
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.permits = new Semaphore(Math.max(maxConcurrentRequests, 1));
+    }
+
+    private RecommendationScoringPool() {
+        this.pool = null;
+        this.threshold = Integer.MAX_VALUE;
+        this.chunkSize = Integer.MAX_VALUE;
+        this.permits = new Semaphore(0);
+    }
+
+    /**
+     * 병렬 계산을 사용하지 않는 풀 (테스트, 벤치마크, 기능 비활성화용)
+     */
+    public static RecommendationScoringPool sequential() {
+        return new RecommendationScoringPool();
+    }
+
+    /**
+     * 병렬 계산 허가 획득 시도
+     *
+     * <p>후보 수가 임계값 미만이거나 풀이 포화 상태이면 false를 반환하며, 호출자는 순차 계산해야 합니다.
+     * true를 반환한 경우 계산이 끝난 뒤 반드시 {@link #release()}를 호출해야 합니다.</p>
+     *
+     * @param candidateCount 후보 가게 수
+     */
+    boolean tryAcquire(int candidateCount) {
+        if (pool == null || candidateCount < threshold) {
+            return false;
+        }
+        if (!permits.tryAcquire()) {
+            saturatedFallbacks.incrementAndGet();
+            return false;
+        }
+        parallelExecutions.incrementAndGet();
+        return true;
+    }
+
+    void release() {
+        permits.release();
+    }
+
+    /**
+     * [0, size) 구간을 chunk 단위로 나누어 전용 풀에서 실행하고, 구간 순서대로 결과를 반환합니다.
+     */
+    <T> List<T> invokeChunks(int size, ChunkTask<T> task) {
+        List<ForkJoinTask<T>> submitted = new ArrayList<>();
+        for (int from = 0; from < size; from += chunkSize) {
+            int start = from;
+            int end = Math.min(from + chunkSize, size);
+            submitted.add(pool.submit(() -> task.apply(start, end)));
+        }
+
+        List<T> results = new ArrayList<>(submitted.size());
+        for (ForkJoinTask<T> future : submitted) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    /**
+     * 전용 풀 종료 (애플리케이션 종료 시)
+     */
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 전용 ForkJoinPool (메트릭 바인딩용, 병렬 계산을 사용하지 않으면 null)
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * 현재 사용 가능한 병렬 계산 허가 수
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * 병렬 경로로 처리한 요청 수 (누적)
+     */
+    public long getParallelExecutions() {
+        return parallelExecutions.get();
+    }
+
+    /**
+     * 풀 포화로 순차 계산으로 대체한 요청 수 (누적)
+     */
+    public long getSaturatedFallbacks() {
+        return saturatedFallbacks.get();
+    }
+
+    /**
+     * 가게 인덱스 구간 [from, to) 단위 작업
+     */
+    @FunctionalInterface
+    interface ChunkTask<T> {
+        T apply(int from, int to);
+    }
+
+    private static final class NamedWorkerThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+
+        private final AtomicLong sequence = new AtomicLong();
+
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread thread =
+                    ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("recommendation-scoring-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.stcom.smartmealtable.recommendation.domain.service;
+
+/**
+ * 정렬 키 배열 기반 Top-K 선별 힙
+ *
+ * <p>가게 인덱스(int)만 보관하는 크기 K의 최대 힙으로, 루트에는 현재 선별된 K개 중
+ * 가장 뒤에 오는 항목이 위치합니다. 정렬 키가 작을수록 앞에 오며, 키가 같으면
+ * 인덱스가 작은 항목(입력 순서상 앞)이 앞에 옵니다. 따라서 결과는 전체를
+ * 안정 정렬한 뒤 앞에서 K개를 자른 것과 동일합니다.</p>
+ */
+final class TopKIndexHeap {
+
+    private final double[] keys;
+    private final int[] heap;
+    private int size;
+
+    /**
+     * @param keys     인덱스별 정렬 키 (작을수록 앞)
+     * @param capacity 선별할 최대 개수 (K)
+     */
+    TopKIndexHeap(double[] keys, int capacity) {
+        this.keys = keys;
+        this.heap = new int[Math.max(capacity, 0)];
+    }
+
+    /**
+     * 후보 인덱스 추가 (K개를 넘으면 가장 뒤에 오는 항목을 버림)
+     */
+    void offer(int index) {
+        if (heap.length == 0) {
+            return;
+        }
+        if (size < heap.length) {
+            heap[size] = index;
+            siftUp(size++);
+            return;
+        }
+        if (precedes(index, heap[0])) {
+            heap[0] = index;
+            siftDown(0);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 선별된 인덱스를 정렬 순서대로 반환합니다. 호출 후 힙은 비워집니다.
+     */
+    int[] drainSorted() {
+        int[] sorted = new int[size];
+        for (int i = sorted.length - 1; i >= 0; i--) {
+            sorted[i] = heap[0];
+            heap[0] = heap[--size];
+            siftDown(0);
+        }
+        return sorted;
+    }
+
+    /**
+     * a가 정렬 순서상 b보다 앞이면 true
+     */
+    boolean precedes(int a, int b) {
+        return keys[a] < keys[b] || (keys[a] == keys[b] && a < b);
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!precedes(heap[parent], heap[position])) {
+                break;
+            }
+            swap(parent, position);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int child = (position << 1) + 1;
+            if (child >= size) {
+                break;
+            }
+            int right = child + 1;
+            if (right < size && precedes(heap[child], heap[right])) {
+                child = right;
+            }
+            if (!precedes(heap[position], heap[child])) {
+                break;
+            }
+            swap(position, child);
+            position = child;
+        }
+    }
+
+    private void swap(int i, int j) {
+        int temp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = temp;
+    }
+}
@@ -0,0 +1,153 @@
+package com.stcom.smartmealtable.recommendation.domain.model;
+
+import com.stcom.smartmealtable.recommendation.domain.calculator.AccessibilityScoreCalculator;
+import com.stcom.smartmealtable.recommendation.domain.calculator.BudgetEfficiencyScoreCalculator;
+import com.stcom.smartmealtable.recommendation.domain.calculator.ExplorationScoreCalculator;
+import com.stcom.smartmealtable.recommendation.domain.calculator.ScoreCalculator;
+import com.stcom.smartmealtable.recommendation.domain.calculator.StabilityScoreCalculator;
+import com.stdev.smartmealtable.domain.member.entity.RecommendationType;
+import com.stdev.smartmealtable.domain.store.Store;
+import com.stdev.smartmealtable.domain.store.StoreType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 계산 컨텍스트 컬럼/히스토그램 테스트
+ */
+@DisplayName("계산 컨텍스트 테스트")
+class CalculationContextTest {
+
+    private List<Store> stores;
+    private UserProfile userProfile;
+
+    @BeforeEach
+    void setUp() {
+        stores = List.of(
+                createStore(1L, List.of(1L, 2L), 100, 8000, 37.5665, 126.9780),
+                createStore(2L, List.of(2L), null, null, 37.5700, 126.9800),
+                createStore(3L, List.of(), 10, 15000, 37.5800, 126.9900)
+        );
+
+        Map<LocalDate, ExpenditureRecord> expenditures = new HashMap<>();
+        LocalDate today = LocalDate.now();
+        expenditures.put(today, createExpenditure(1L, 10000, today));
+        expenditures.put(today.minusDays(3), createExpenditure(1L, 8000, today.minusDays(3)));
+        expenditures.put(today.minusDays(10), createExpenditure(2L, 12000, today.minusDays(10)));
+        expenditures.put(today.minusDays(100), createExpenditure(2L, 9000, today.minusDays(100)));
+
+        userProfile = UserProfile.builder()
+                .memberId(1L)
+                .recommendationType(RecommendationType.BALANCED)
+                .currentLatitude(BigDecimal.valueOf(37.5665))
+                .currentLongitude(BigDecimal.valueOf(126.9780))
+                .categoryPreferences(Map.of(1L, 100, 2L, -100))
+                .recentExpenditures(expenditures)
+                .storeLastVisitDates(Map.of(1L, today.minusDays(3)))
+                .build();
+    }
+
+    @Test
+    @DisplayName("가게별 값을 컬럼 배열로 풀어둔다")
+    void from_buildsColumns() {
+        // when
+        CalculationContext context = CalculationContext.from(stores, userProfile);
+
+        // then
+        assertThat(context.size()).isEqualTo(3);
+        assertThat(context.getPrimaryCategoryIds()).containsExactly(1L, 2L, CalculationContext.NO_CATEGORY);
+        assertThat(context.getReviewCounts()).containsExactly(100, 0, 10);
+        assertThat(context.getAveragePrices()).containsExactly(8000, 0, 15000);
+        assertThat(context.getDistances()[0]).isZero();
+        assertThat(context.getDistances()[2]).isGreaterThan(context.getDistances()[1]);
+        assertThat(context.getMinDistance()).isZero();
+        assertThat(context.getMaxDistance()).isEqualTo(context.getDistances()[2]);
+    }
+
+    @Test
+    @DisplayName("지출 내역을 카테고리별 히스토그램으로 집계한다")
+    void from_buildsCategoryHistogram() {
+        // when
+        CalculationContext context = CalculationContext.from(stores, userProfile);
+
+        // then - 최근 30일: 카테고리 1 두 번, 카테고리 2 한 번
+        assertThat(context.getTotalVisitCount()).isEqualTo(3);
+        assertThat(context.getCategoryVisitCount(1L)).isEqualTo(2);
+        assertThat(context.getCategoryVisitCount(2L)).isEqualTo(1);
+        assertThat(context.getCategoryVisitCount(3L)).isZero();
+
+        // then - 최근 180일: 4건, 카테고리별 감쇠 금액의 합이 전체와 같음
+        assertThat(context.getExpenditureCount()).isEqualTo(4);
+        assertThat(context.getCategoryDecayedAmount(1L) + context.getCategoryDecayedAmount(2L))
+                .isCloseTo(context.getTotalDecayedAmount(), within(1e-9));
+        assertThat(context.getCategoryDecayedAmount(1L)).isLessThan(18000.0);
+    }
+
+    @Test
+    @DisplayName("컬럼 커널 계산 결과는 가게별 계산 결과와 같다")
+    void calculateAll_matchesPerStoreCalculate() {
+        // given
+        CalculationContext context = CalculationContext.from(stores, userProfile);
+        List<ScoreCalculator> calculators = List.of(
+                new StabilityScoreCalculator(),
+                new ExplorationScoreCalculator(),
+                new BudgetEfficiencyScoreCalculator(),
+                new AccessibilityScoreCalculator()
+        );
+
+        for (ScoreCalculator calculator : calculators) {
+            // when
+            double[] scores = new double[stores.size()];
+            calculator.calculateAll(stores, userProfile, context, scores);
+
+            // then
+            for (int i = 0; i < stores.size(); i++) {
+                assertThat(scores[i])
+                        .as("%s store %d", calculator.getClass().getSimpleName(), i)
+                        .isEqualTo(calculator.calculate(stores.get(i), userProfile, context));
+            }
+        }
+    }
+
+    private Store createStore(
+            Long id,
+            List<Long> categoryIds,
+            Integer reviewCount,
+            Integer avgPrice,
+            double latitude,
+            double longitude
+    ) {
+        return Store.builder()
+                .storeId(id)
+                .name("가게 " + id)
+                .categoryIds(categoryIds)
+                .reviewCount(reviewCount)
+                .averagePrice(avgPrice)
+                .latitude(BigDecimal.valueOf(latitude))
+                .longitude(BigDecimal.valueOf(longitude))
+                .viewCount(id.intValue() * 100)
+                .favoriteCount(0)
+                .storeType(StoreType.RESTAURANT)
+                .registeredAt(LocalDateTime.now().minusDays(30))
+                .build();
+    }
+
+    private ExpenditureRecord createExpenditure(Long categoryId, Integer amount, LocalDate date) {
+        return ExpenditureRecord.builder()
+                .categoryId(categoryId)
+                .storeId(1L)
+                .amount(amount)
+                .expendedAt(date)
+                .build();
+    }
+}
@@ -0,0 +1,229 @@
+package com.stcom.smartmealtable.recommendation.domain.service;
+
+import com.stcom.smartmealtable.recommendation.domain.model.RecommendationResult;
+import com.stcom.smartmealtable.recommendation.domain.model.RecommendationSortType;
+import com.stcom.smartmealtable.recommendation.domain.model.UserProfile;
+import com.stdev.smartmealtable.domain.member.entity.RecommendationType;
+import com.stdev.smartmealtable.domain.store.Store;
+import com.stdev.smartmealtable.domain.store.StoreType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 추천 도메인 서비스 Top-K 선별 테스트
+ */
+@DisplayName("추천 도메인 서비스 Top-K 테스트")
+class RecommendationDomainServiceTest {
+
+    private RecommendationDomainService service;
+    private RecommendationScoringPool parallelPool;
+    private UserProfile userProfile;
+    private List<Store> stores;
+
+    @BeforeEach
+    void setUp() {
+        service = new RecommendationDomainService(RecommendationScoringPool.sequential());
+        userProfile = UserProfile.builder()
+                .memberId(1L)
+                .recommendationType(RecommendationType.BALANCED)
+                .currentLatitude(BigDecimal.valueOf(37.5665))
+                .currentLongitude(BigDecimal.valueOf(126.9780))
+                .categoryPreferences(new HashMap<>())
+                .recentExpenditures(new HashMap<>())
+                .storeLastVisitDates(new HashMap<>())
+                .build();
+
+        Random random = new Random(42);
+        stores = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            // 동점 처리를 검증하기 위해 리뷰 수/가격 값의 범위를 좁게 설정
+            stores.add(createStore(
+                    id,
+                    random.nextInt(20),
+                    random.nextInt(10) == 0 ? null : 5000 + random.nextInt(5) * 1000,
+                    37.5665 + random.nextDouble() * 0.01,
+                    126.9780 + random.nextDouble() * 0.01
+            ));
+        }
+
+        // 구간 경계가 페이지 경계와 어긋나도록 chunk 크기를 홀수로 설정
+        parallelPool = new RecommendationScoringPool(4, 50, 37, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelPool.shutdown();
+    }
+
+    @ParameterizedTest
+    @EnumSource(RecommendationSortType.class)
+    @DisplayName("오프셋 페이징 결과가 전체 정렬 후 자른 결과와 같다")
+    void calculateTopRecommendations_matchesFullSortWithOffset(RecommendationSortType sortType) {
+        // given
+        List<Long> expected = fullSort(sortType).stream().map(RecommendationResult::getStoreId).toList();
+
+        // when & then
+        for (int page = 0; page * 20 < stores.size() + 20; page++) {
+            List<Long> actual = service.calculateTopRecommendations(stores, userProfile, sortType, null, page * 20, 20)
+                    .stream().map(RecommendationResult::getStoreId).toList();
+
+            int from = Math.min(page * 20, expected.size());
+            int to = Math.min(from + 20, expected.size());
+            assertThat(actual).containsExactlyElementsOf(expected.subList(from, to));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(RecommendationSortType.class)
+    @DisplayName("커서 페이징으로 끝까지 조회하면 전체 정렬 순서와 같다")
+    void calculateTopRecommendations_cursorWalksWholeOrder(RecommendationSortType sortType) {
+        // given
+        List<Long> expected = fullSort(sortType).stream().map(RecommendationResult::getStoreId).toList();
+
+        // when
+        List<Long> walked = new ArrayList<>();
+        Long lastId = null;
+        while (true) {
+            List<RecommendationResult> page = service.calculateTopRecommendations(stores, userProfile, sortType, lastId, 0, 30);
+            if (page.isEmpty()) {
+                break;
+            }
+            page.forEach(result -> walked.add(result.getStoreId()));
+            lastId = page.get(page.size() - 1).getStoreId();
+        }
+
+        // then
+        assertThat(walked).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("선별된 결과의 점수와 상세 정보는 전체 계산 결과와 같다")
+    void calculateTopRecommendations_keepsScoreDetail() {
+        // when
+        RecommendationResult top = service.calculateTopRecommendations(
+                stores, userProfile, RecommendationSortType.SCORE, null, 0, 1).get(0);
+
+        // then
+        RecommendationResult expected = fullSort(RecommendationSortType.SCORE).get(0);
+        assertThat(top.getStoreId()).isEqualTo(expected.getStoreId());
+        assertThat(top.getFinalScore()).isEqualTo(expected.getFinalScore());
+        assertThat(top.getDistance()).isEqualTo(expected.getDistance());
+        assertThat(top.getScoreDetail().getStabilityScore()).isEqualTo(expected.getScoreDetail().getStabilityScore());
+    }
+
+    @Test
+    @DisplayName("목록에 없는 커서는 처음부터 조회한다")
+    void calculateTopRecommendations_unknownCursorStartsFromFirst() {
+        List<RecommendationResult> fromStart = service.calculateTopRecommendations(
+                stores, userProfile, RecommendationSortType.SCORE, null, 0, 10);
+        List<RecommendationResult> unknownCursor = service.calculateTopRecommendations(
+                stores, userProfile, RecommendationSortType.SCORE, 9999L, 0, 10);
+
+        assertThat(unknownCursor).extracting(RecommendationResult::getStoreId)
+                .containsExactlyElementsOf(fromStart.stream().map(RecommendationResult::getStoreId).toList());
+    }
+
+    @ParameterizedTest
+    @EnumSource(RecommendationSortType.class)
+    @DisplayName("병렬 계산 결과는 순차 계산 결과와 같다")
+    void calculateTopRecommendations_parallelMatchesSequential(RecommendationSortType sortType) {
+        // given
+        RecommendationDomainService parallelService = new RecommendationDomainService(parallelPool);
+        Long cursor = stores.get(17).getStoreId();
+
+        // when & then
+        for (int offset = 0; offset < stores.size(); offset += 45) {
+            assertThat(storeIds(parallelService.calculateTopRecommendations(stores, userProfile, sortType, null, offset, 45)))
+                    .containsExactlyElementsOf(storeIds(service.calculateTopRecommendations(stores, userProfile, sortType, null, offset, 45)));
+        }
+        assertThat(storeIds(parallelService.calculateTopRecommendations(stores, userProfile, sortType, cursor, 0, 60)))
+                .containsExactlyElementsOf(storeIds(service.calculateTopRecommendations(stores, userProfile, sortType, cursor, 0, 60)));
+        assertThat(parallelPool.getParallelExecutions()).isPositive();
+    }
+
+    @Test
+    @DisplayName("병렬 계산으로 만든 전체 결과의 점수는 순차 계산과 같다")
+    void calculateRecommendations_parallelMatchesSequential() {
+        RecommendationDomainService parallelService = new RecommendationDomainService(parallelPool);
+
+        List<RecommendationResult> parallel = parallelService.calculateRecommendations(stores, userProfile);
+        List<RecommendationResult> sequential = service.calculateRecommendations(stores, userProfile);
+
+        assertThat(parallel).extracting(RecommendationResult::getFinalScore)
+                .containsExactlyElementsOf(sequential.stream().map(RecommendationResult::getFinalScore).toList());
+    }
+
+    @Test
+    @DisplayName("임계값 미만이거나 허가가 모두 사용 중이면 순차 계산으로 대체한다")
+    void scoringPool_fallsBackWhenBelowThresholdOrSaturated() {
+        assertThat(parallelPool.tryAcquire(10)).isFalse();
+
+        assertThat(parallelPool.tryAcquire(stores.size())).isTrue();
+        try {
+            // 허가가 1개뿐이므로 두 번째 요청은 대기하지 않고 순차 계산
+            assertThat(parallelPool.tryAcquire(stores.size())).isFalse();
+            assertThat(parallelPool.getSaturatedFallbacks()).isEqualTo(1);
+
+            RecommendationDomainService parallelService = new RecommendationDomainService(parallelPool);
+            assertThat(storeIds(parallelService.calculateTopRecommendations(
+                    stores, userProfile, RecommendationSortType.SCORE, null, 0, 10)))
+                    .containsExactlyElementsOf(storeIds(service.calculateTopRecommendations(
+                            stores, userProfile, RecommendationSortType.SCORE, null, 0, 10)));
+        } finally {
+            parallelPool.release();
+        }
+        assertThat(parallelPool.getAvailablePermits()).isEqualTo(1);
+    }
+
+    private List<Long> storeIds(List<RecommendationResult> results) {
+        return results.stream().map(RecommendationResult::getStoreId).toList();
+    }
+
+    /**
+     * 기존 방식: 전체 결과 생성 후 안정 정렬
+     */
+    private List<RecommendationResult> fullSort(RecommendationSortType sortType) {
+        Comparator<Integer> nullsLast = Comparator.nullsLast(Comparator.naturalOrder());
+        Comparator<RecommendationResult> comparator = switch (sortType) {
+            case SCORE -> Comparator.comparing(RecommendationResult::getFinalScore).reversed();
+            case DISTANCE -> Comparator.comparing(RecommendationResult::getDistance);
+            case REVIEW -> Comparator.comparing(RecommendationResult::getReviewCount).reversed();
+            case PRICE_LOW -> Comparator.comparing(RecommendationResult::getAveragePrice, nullsLast);
+            case PRICE_HIGH -> Comparator.comparing(RecommendationResult::getAveragePrice,
+                    Comparator.nullsLast(Comparator.<Integer>reverseOrder()));
+        };
+        return service.calculateRecommendations(stores, userProfile).stream()
+                .sorted(comparator)
+                .toList();
+    }
+
+    private Store createStore(Long id, Integer reviewCount, Integer avgPrice, double latitude, double longitude) {
+        return Store.builder()
+                .storeId(id)
+                .name("가게 " + id)
+                .categoryIds(List.of(id % 5 + 1))
+                .reviewCount(reviewCount)
+                .averagePrice(avgPrice)
+                .latitude(BigDecimal.valueOf(latitude))
+                .longitude(BigDecimal.valueOf(longitude))
+                .viewCount((int) (id % 7) * 10)
+                .favoriteCount(0)
+                .storeType(StoreType.RESTAURANT)
+                .registeredAt(LocalDateTime.now().minusDays(id))
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.stdev.smartmealtable.scheduler;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * SmartMealTable 스케줄러 애플리케이션
+ *
+ * <p>API 요청 경로에서 계산하기 무거운 데이터를 주기적으로 미리 계산합니다.</p>
+ * <p>JPA 설정(Repository, Entity 스캔)은 storage:db 모듈의 JpaConfig에서 처리됩니다.</p>
+ */
+@SpringBootApplication
+@ComponentScan(basePackages = {
+    "com.stdev.smartmealtable.scheduler",
+    "com.stdev.smartmealtable.domain.home",
+    "com.stdev.smartmealtable.domain.budget.service",
+    "com.stdev.smartmealtable.storage.db",
+    "com.stdev.smartmealtable.storage.cache"
+})
+@EnableScheduling
+public class SchedulerApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(SchedulerApplication.class, args);
+    }
+}
@@ -0,0 +1,83 @@
+package com.stdev.smartmealtable.scheduler.budget;
+
+import com.stdev.smartmealtable.domain.budget.MonthlyBudgetRepository;
+import com.stdev.smartmealtable.domain.budget.service.VirtualDailyBudgetService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 가상 일일 예산 백필 작업 (가상 모드 끄기 전후 실행)
+ *
+ * <p>가상 일일 예산 모드에서는 회원이 수정한 날짜만 일일/식사별 예산 행이 있고, 행의 사용 금액도 누적되지 않습니다.
+ * 모드를 끄면 지출 등록이 그날의 행에 사용 금액을 더하므로, 최근 months개월의 월별 예산이 있는 회원을
+ * 회원 ID 순으로 키셋 페이징하며 회원/월마다 한 트랜잭션에서 빠진 행을 만들고 사용 금액을 지출 원본에서 다시 계산합니다.</p>
+ *
+ * <p>백필 중인 회원의 지출이 동시에 등록되면 그 회원의 사용 금액이 어긋날 수 있으므로 트래픽이 적은 시간에 실행합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VirtualDailyBudgetBackfillJob {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final MonthlyBudgetRepository monthlyBudgetRepository;
+    private final VirtualDailyBudgetService virtualDailyBudgetService;
+
+    @Value("${budget.virtual-daily.backfill.enabled:false}")
+    private boolean enabled;
+
+    @Value("${budget.virtual-daily.backfill.batch-size:500}")
+    private int batchSize;
+
+    @Value("${budget.virtual-daily.backfill.months:2}")
+    private int months;
+
+    @Scheduled(cron = "${budget.virtual-daily.backfill.cron:0 30 5 * * *}", zone = "Asia/Seoul")
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+
+        YearMonth currentMonth = YearMonth.now(ZONE);
+        for (int i = months - 1; i >= 0; i--) {
+            backfillMonth(currentMonth.minusMonths(i));
+        }
+    }
+
+    private void backfillMonth(YearMonth month) {
+        long startedAt = System.currentTimeMillis();
+        int members = 0;
+        long created = 0;
+        int failed = 0;
+
+        Long lastMemberId = null;
+        List<Long> batch;
+        do {
+            batch = monthlyBudgetRepository.findMemberIdsByBudgetMonth(month.toString(), lastMemberId, batchSize);
+            for (Long memberId : batch) {
+                try {
+                    created += virtualDailyBudgetService.backfill(memberId, month);
+                    members++;
+                } catch (Exception e) {
+                    // 한 회원의 실패가 전체 작업을 중단시키지 않도록 처리
+                    failed++;
+                    log.warn("일일 예산 백필 실패 - memberId: {}, month: {}, reason: {}", memberId, month, e.getMessage());
+                }
+            }
+            if (!batch.isEmpty()) {
+                lastMemberId = batch.get(batch.size() - 1);
+            }
+        } while (batch.size() == batchSize);
+
+        log.info("일일 예산 백필 완료 - month: {}, 회원: {}, 생성: {}, 실패: {}, {}ms",
+                month, members, created, failed, System.currentTimeMillis() - startedAt);
+    }
+}
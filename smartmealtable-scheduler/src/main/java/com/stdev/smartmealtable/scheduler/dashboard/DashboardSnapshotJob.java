@@ -0,0 +1,91 @@
+package com.stdev.smartmealtable.scheduler.dashboard;
+
+import com.stdev.smartmealtable.domain.home.DashboardRecommendationRanker;
+import com.stdev.smartmealtable.domain.home.DashboardRecommendationSnapshot;
+import com.stdev.smartmealtable.domain.member.entity.AddressHistory;
+import com.stdev.smartmealtable.domain.member.repository.AddressHistoryRepository;
+import com.stdev.smartmealtable.storage.cache.DashboardSnapshotCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 홈 대시보드 추천 스냅샷 사전 계산 작업
+ *
+ * <p>기본 주소가 있는 회원을 회원 ID 순으로 키셋 페이징하며, 기본 주소 좌표 기준의
+ * 추천 가게/메뉴 순위를 계산해 Redis에 저장합니다.
+ * API는 홈 화면 조회 시 이 스냅샷을 바로 사용하고, 스냅샷이 없는 회원만 실시간으로 계산합니다.</p>
+ *
+ * <p>스냅샷 TTL은 실행 주기보다 길게 두어, 작업이 한 번 실패해도 이전 스냅샷이 만료되지 않도록 합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardSnapshotJob {
+
+    private final AddressHistoryRepository addressHistoryRepository;
+    private final DashboardRecommendationRanker dashboardRecommendationRanker;
+    private final DashboardSnapshotCacheService dashboardSnapshotCacheService;
+
+    @Value("${dashboard.snapshot.enabled:false}")
+    private boolean enabled;
+
+    @Value("${dashboard.snapshot.batch-size:500}")
+    private int batchSize;
+
+    @Value("${dashboard.snapshot.candidate-limit:10}")
+    private int candidateLimit;
+
+    @Value("${dashboard.snapshot.ttl-hours:26}")
+    private long ttlHours;
+
+    @Scheduled(cron = "${dashboard.snapshot.cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void refreshSnapshots() {
+        if (!enabled) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        Duration ttl = Duration.ofHours(ttlHours);
+        int generated = 0;
+        int skipped = 0;
+        int failed = 0;
+
+        Long lastMemberId = null;
+        List<AddressHistory> batch;
+        do {
+            batch = addressHistoryRepository.findPrimaryAddressesAfterMemberId(lastMemberId, batchSize);
+            for (AddressHistory primaryAddress : batch) {
+                Double latitude = primaryAddress.getAddress().getLatitude();
+                Double longitude = primaryAddress.getAddress().getLongitude();
+                if (latitude == null || longitude == null) {
+                    skipped++;
+                    continue;
+                }
+
+                try {
+                    DashboardRecommendationSnapshot snapshot = dashboardRecommendationRanker.rank(
+                            primaryAddress.getMemberId(), latitude, longitude, candidateLimit);
+                    dashboardSnapshotCacheService.save(snapshot, ttl);
+                    generated++;
+                } catch (Exception e) {
+                    // 한 회원의 실패가 전체 작업을 중단시키지 않도록 처리
+                    failed++;
+                    log.warn("대시보드 추천 스냅샷 생성 실패 - memberId: {}, reason: {}",
+                            primaryAddress.getMemberId(), e.getMessage());
+                }
+            }
+            if (!batch.isEmpty()) {
+                lastMemberId = batch.get(batch.size() - 1).getMemberId();
+            }
+        } while (batch.size() == batchSize);
+
+        log.info("대시보드 추천 스냅샷 생성 완료 - 생성: {}, 좌표 없음: {}, 실패: {}, {}ms",
+                generated, skipped, failed, System.currentTimeMillis() - startedAt);
+    }
+}
@@ -0,0 +1,68 @@
+package com.stdev.smartmealtable.scheduler.expenditure;
+
+import com.stdev.smartmealtable.domain.expenditure.SpendingRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 회원별 일간 지출 집계 재계산 작업 (백필/복구)
+ *
+ * <p>지출 내역이 있는 회원을 회원 ID 순으로 키셋 페이징하며, 회원마다 한 트랜잭션에서
+ * 집계를 지우고 지출 원본에서 다시 계산합니다.
+ * 평소에는 API의 지출 등록/수정/삭제가 집계를 갱신하므로, 집계 도입 시 기존 데이터를 채우거나
+ * API를 거치지 않고 적재된 지출(테스트 데이터, 성능 테스트 데이터 등)을 반영할 때만 켭니다.</p>
+ *
+ * <p>재계산 중인 회원의 지출이 동시에 등록되면 그 회원의 집계가 어긋날 수 있으므로 트래픽이 적은 시간에 실행합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpendingRollupRebuildJob {
+
+    private final SpendingRollupRepository spendingRollupRepository;
+
+    @Value("${expenditure.rollup.rebuild.enabled:false}")
+    private boolean enabled;
+
+    @Value("${expenditure.rollup.rebuild.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(cron = "${expenditure.rollup.rebuild.cron:0 0 5 * * *}", zone = "Asia/Seoul")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        int members = 0;
+        long cells = 0;
+        int failed = 0;
+
+        Long lastMemberId = null;
+        List<Long> batch;
+        do {
+            batch = spendingRollupRepository.findMemberIdsWithExpenditure(lastMemberId, batchSize);
+            for (Long memberId : batch) {
+                try {
+                    cells += spendingRollupRepository.rebuild(memberId);
+                    members++;
+                } catch (Exception e) {
+                    // 한 회원의 실패가 전체 작업을 중단시키지 않도록 처리
+                    failed++;
+                    log.warn("일간 지출 집계 재계산 실패 - memberId: {}, reason: {}", memberId, e.getMessage());
+                }
+            }
+            if (!batch.isEmpty()) {
+                lastMemberId = batch.get(batch.size() - 1);
+            }
+        } while (batch.size() == batchSize);
+
+        log.info("일간 지출 집계 재계산 완료 - 회원: {}, 셀: {}, 실패: {}, {}ms",
+                members, cells, failed, System.currentTimeMillis() - startedAt);
+    }
+}
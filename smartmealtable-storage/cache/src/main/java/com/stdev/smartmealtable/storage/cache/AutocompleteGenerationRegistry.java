@@ -0,0 +1,162 @@
+package com.stdev.smartmealtable.storage.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 자동완성 캐시 세대(generation) 관리
+ *
+ * 목적:
+ * - 자동완성 Sorted Set과 초성 인덱스를 세대 번호로 분리하여 재구축(blue/green)
+ * - 새 세대를 모두 채운 뒤 활성 세대 포인터만 교체하므로, 조회는 항상 완성된 인덱스를 사용
+ *
+ * 세대 흐름:
+ * 1. beginBuild: 새 세대 번호 발급 (N+1), 구축 중 표시
+ * 2. 새 세대 키에 데이터 저장 (SearchCacheService, ChosungIndexBuilder)
+ * 3. activate: 활성 포인터를 N+1로 교체 (GETSET 한 번), 이전 세대 번호 반환
+ * 4. 이전 세대는 호출자가 유예 시간 뒤 만료되도록 처리 (retireGeneration)
+ *
+ * Redis 구조:
+ * - search:generation:{domain} (String): 활성 세대 번호 (없으면 0 = 세대 구분 없는 기존 키)
+ * - search:generation:{domain}:building (String): 구축 중인 세대 번호
+ * - search:generation:{domain}:seq (String): 세대 번호 발급 카운터
+ *
+ * 활성 세대 번호는 조회마다 Redis를 거치지 않도록 인스턴스별로 잠시(기본 5초) 보관합니다.
+ * 이전 세대의 유예 시간은 이 보관 시간보다 충분히 길어야 합니다.
+ *
+ * @author SmartMealTable Team
+ * @since 2025-11-21
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AutocompleteGenerationRegistry {
+
+    /**
+     * 세대 구분이 없는 기존 키 (포인터가 없을 때)
+     */
+    public static final long LEGACY_GENERATION = 0;
+
+    private static final Duration BUILDING_MARKER_TTL = Duration.ofHours(2);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${search.cache.generation-refresh-ms:5000}")
+    private long refreshMillis = 5000;
+
+    private final Map<String, CachedGeneration> activeGenerations = new ConcurrentHashMap<>();
+
+    /**
+     * 조회에 사용할 활성 세대 번호
+     *
+     * @param domain 도메인
+     * @return 활성 세대 번호 (포인터가 없으면 {@link #LEGACY_GENERATION})
+     */
+    public long getActiveGeneration(String domain) {
+        long now = System.currentTimeMillis();
+        CachedGeneration cached = activeGenerations.get(domain);
+        if (cached != null && now - cached.loadedAt() < refreshMillis) {
+            return cached.generation();
+        }
+
+        long generation = parse(redisTemplate.opsForValue().get(buildActiveKey(domain)));
+        activeGenerations.put(domain, new CachedGeneration(generation, now));
+        return generation;
+    }
+
+    /**
+     * 구축 중인 세대 번호 (단건 추가/삭제를 새 세대에도 반영하기 위해 사용)
+     *
+     * @param domain 도메인
+     * @return 구축 중인 세대 번호 (없으면 empty)
+     */
+    public Optional<Long> getBuildingGeneration(String domain) {
+        String value = redisTemplate.opsForValue().get(buildBuildingKey(domain));
+        return value == null ? Optional.empty() : Optional.of(parse(value));
+    }
+
+    /**
+     * 단건 추가/삭제를 반영할 세대 목록 (활성 세대 + 구축 중인 세대)
+     *
+     * <p>구축 중인 세대에도 반영해야 세대 교체 후 변경분이 사라지지 않습니다.</p>
+     *
+     * @param domain 도메인
+     * @return 세대 번호 목록
+     */
+    public List<Long> getWriteGenerations(String domain) {
+        long active = getActiveGeneration(domain);
+        return getBuildingGeneration(domain)
+                .filter(building -> building != active)
+                .map(building -> List.of(active, building))
+                .orElseGet(() -> List.of(active));
+    }
+
+    /**
+     * 새 세대 구축 시작
+     *
+     * @param domain 도메인
+     * @return 새 세대 번호
+     */
+    public long beginBuild(String domain) {
+        Long generation = redisTemplate.opsForValue().increment(buildSequenceKey(domain));
+        long next = generation != null ? generation : 1L;
+        redisTemplate.opsForValue().set(buildBuildingKey(domain), String.valueOf(next), BUILDING_MARKER_TTL);
+
+        log.info("자동완성 캐시 세대 구축 시작: domain={}, generation={}", domain, next);
+        return next;
+    }
+
+    /**
+     * 구축이 끝난 세대를 활성화 (포인터 원자적 교체)
+     *
+     * @param domain 도메인
+     * @param generation 활성화할 세대 번호
+     * @return 직전 활성 세대 번호
+     */
+    public long activate(String domain, long generation) {
+        String previous = redisTemplate.opsForValue().getAndSet(buildActiveKey(domain), String.valueOf(generation));
+        redisTemplate.delete(buildBuildingKey(domain));
+        activeGenerations.put(domain, new CachedGeneration(generation, System.currentTimeMillis()));
+
+        long previousGeneration = parse(previous);
+        log.info("자동완성 캐시 세대 활성화: domain={}, generation={}, previous={}", domain, generation, previousGeneration);
+        return previousGeneration;
+    }
+
+    /**
+     * 구축 실패 시 구축 중 표시 해제 (활성 세대는 그대로 유지)
+     *
+     * @param domain 도메인
+     */
+    public void abortBuild(String domain) {
+        redisTemplate.delete(buildBuildingKey(domain));
+        log.warn("자동완성 캐시 세대 구축 중단: domain={}", domain);
+    }
+
+    private long parse(String value) {
+        return value == null ? LEGACY_GENERATION : Long.parseLong(value);
+    }
+
+    private String buildActiveKey(String domain) {
+        return "search:generation:" + domain;
+    }
+
+    private String buildBuildingKey(String domain) {
+        return buildActiveKey(domain) + ":building";
+    }
+
+    private String buildSequenceKey(String domain) {
+        return buildActiveKey(domain) + ":seq";
+    }
+
+    private record CachedGeneration(long generation, long loadedAt) {}
+}
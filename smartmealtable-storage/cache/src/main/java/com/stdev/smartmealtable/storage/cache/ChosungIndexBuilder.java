@@ -3,29 +3,41 @@ package com.stdev.smartmealtable.storage.cache;
 import com.stdev.smartmealtable.support.search.korean.KoreanSearchUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 /**
  * 초성 역인덱스 빌더
  * 
  * 목적:
  * - 초성 검색 최적화를 위한 역인덱스 구축
- * - Redis Set을 사용하여 초성 → Entity ID 매핑
+ * - 도메인별 Sorted Set 하나에 "초성:ID"를 사전순으로 저장하여 Prefix 검색을 한 번의 조회로 처리
  * 
  * Redis 구조:
- * - Key: chosung_index:{domain}:{chosung}
- * - Type: Set
- * - Value: Entity ID 목록
- * - TTL: 24시간
+ * - Key: chosung_index:{domain}@{generation} (세대가 없으면 chosung_index:{domain})
+ * - Type: Sorted Set (모든 score = 0, member 사전순 정렬)
+ * - Member: {chosung}:{entityId}
+ * - TTL: 24시간 (세대 키는 search.cache.generation-ttl-hours)
  * 
  * 예시:
- * - chosung_index:group:ㅅㅇㄷㅎㄱ → {1, 2, 3} (서울대학교, 서울교대, 서울산업대)
+ * - chosung_index:group → {ㅅㅇㄱㄷ:2, ㅅㅇㄷㅎㄱ:1, ㅅㅇㅅㅇㄷ:3} (서울교대, 서울대학교, 서울산업대)
+ * - "ㅅㅇ" 검색 → ZRANGEBYLEX chosung_index:group [ㅅㅇ (ㅅㅇ{U+FFFF} → {2, 1, 3}
+ * 
+ * 초성 문자(ㄱ~ㅎ, U+3131~)와 구분자(':')는 모두 U+FFFF보다 작으므로
+ * [prefix, prefix + U+FFFF) 범위가 해당 초성으로 시작하는 member 전체와 정확히 일치합니다.
  * 
  * @author SmartMealTable Team
  * @since 2025-11-09
@@ -36,20 +48,44 @@ import java.util.concurrent.TimeUnit;
 public class ChosungIndexBuilder {
     
     private final RedisTemplate<String, String> redisTemplate;
+    private final AutocompleteGenerationRegistry generationRegistry;
     
     private static final long TTL_HOURS = 24;
+    private static final double LEX_SCORE = 0;
+    private static final char ID_SEPARATOR = ':';
+    private static final String PREFIX_UPPER_BOUND = "\uFFFF";
+    
+    @Value("${search.cache.pipeline-batch-size:500}")
+    private int pipelineBatchSize = 500;
+    
+    @Value("${search.cache.generation-ttl-hours:72}")
+    private long generationTtlHours = 72;
+    
+    private final AtomicLong writeRoundTrips = new AtomicLong();
     
     /**
-     * 도메인 전체의 초성 역인덱스 구축
+     * 도메인 전체의 초성 역인덱스를 활성 세대에 구축
      * 
      * @param domain 도메인 이름 (예: "group", "recommendation")
      * @param entities 엔티티 목록 (ID와 이름 포함)
      */
     public void buildChosungIndex(String domain, List<SearchableEntity> entities) {
-        log.info("===== 초성 역인덱스 구축 시작: domain={}, entities={} =====", domain, entities.size());
+        buildChosungIndex(domain, generationRegistry.getActiveGeneration(domain), entities);
+    }
+    
+    /**
+     * 도메인 전체의 초성 역인덱스를 지정한 세대에 구축 (세대 재구축용)
+     * 
+     * @param domain 도메인 이름 (예: "group", "recommendation")
+     * @param generation 저장할 세대 번호
+     * @param entities 엔티티 목록 (ID와 이름 포함)
+     */
+    public void buildChosungIndex(String domain, long generation, List<SearchableEntity> entities) {
+        log.info("===== 초성 역인덱스 구축 시작: domain={}, generation={}, entities={} =====",
+            domain, generation, entities.size());
         
         long startTime = System.currentTimeMillis();
-        int indexCount = 0;
+        List<ZSetOperations.TypedTuple<String>> tuples = new ArrayList<>(entities.size());
         
         for (SearchableEntity entity : entities) {
             String chosung = KoreanSearchUtil.extractChosung(entity.name());
@@ -58,55 +94,57 @@ public class ChosungIndexBuilder {
                 continue; // 한글이 없는 경우 skip
             }
             
-            // Redis Set에 추가
-            String key = buildChosungKey(domain, chosung);
-            redisTemplate.opsForSet().add(key, String.valueOf(entity.id()));
-            
-            // TTL 설정 (첫 추가 시에만)
-            if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
-                redisTemplate.expire(key, TTL_HOURS, TimeUnit.HOURS);
+            tuples.add(ZSetOperations.TypedTuple.of(buildMember(chosung, entity.id()), LEX_SCORE));
+        }
+        
+        int roundTrips = 0;
+        if (!tuples.isEmpty()) {
+            // member를 batch 크기만큼 묶은 ZADD와 TTL 설정을 파이프라인으로 전송
+            String key = buildChosungKey(domain, generation);
+            long ttlHours = indexTtlHours(generation);
+            int batchSize = Math.max(pipelineBatchSize, 1);
+            List<Consumer<RedisOperations<String, String>>> commands = new ArrayList<>();
+            for (int from = 0; from < tuples.size(); from += batchSize) {
+                Set<ZSetOperations.TypedTuple<String>> chunk =
+                    new HashSet<>(tuples.subList(from, Math.min(from + batchSize, tuples.size())));
+                commands.add(operations -> operations.opsForZSet().add(key, chunk));
             }
+            commands.add(operations -> operations.expire(key, ttlHours, TimeUnit.HOURS));
             
-            indexCount++;
+            roundTrips = RedisPipelines.execute(redisTemplate, commands, batchSize);
+            writeRoundTrips.addAndGet(roundTrips);
         }
         
         long elapsedTime = System.currentTimeMillis() - startTime;
         
-        log.info("===== 초성 역인덱스 구축 완료: domain={}, entities={}, indexes={}, time={}ms =====",
-            domain, entities.size(), indexCount, elapsedTime);
+        log.info("===== 초성 역인덱스 구축 완료: domain={}, entities={}, indexes={}, roundTrips={}, time={}ms =====",
+            domain, entities.size(), tuples.size(), roundTrips, elapsedTime);
     }
     
     /**
      * 특정 초성으로 Entity ID 목록 조회 (Prefix 매칭 지원)
      * 
-     * "ㅅㄷ" 입력 시 "ㅅㅇㄷㅎㄱㅛ" (서울대학교), "ㅅㄷㅎㄱㄱㅛ" (성당동학교) 등을 모두 찾습니다.
+     * "ㅅㄷ" 입력 시 "ㅅㄷㅎㄱ" (성당학교), "ㅅㄷ" (서당) 등 "ㅅㄷ"로 시작하는 초성을 모두 찾습니다.
+     * ZRANGEBYLEX 한 번으로 조회하므로 O(log n + k)입니다.
      * 
      * @param domain 도메인 이름
      * @param chosung 초성 문자열 (Prefix)
      * @return Entity ID 목록
      */
     public Set<String> findIdsByChosung(String domain, String chosung) {
-        // 1. 정확히 일치하는 키 검색
-        String exactKey = buildChosungKey(domain, chosung);
-        Set<String> result = new HashSet<>();
-        Set<String> exactMatch = redisTemplate.opsForSet().members(exactKey);
-        if (exactMatch != null) {
-            result.addAll(exactMatch);
-        }
+        Set<String> members = redisTemplate.opsForZSet().rangeByLex(
+            buildChosungKey(domain, generationRegistry.getActiveGeneration(domain)),
+            Range.rightOpen(chosung, chosung + PREFIX_UPPER_BOUND)
+        );
         
-        // 2. Prefix 매칭을 위한 패턴 검색
-        String pattern = buildChosungKey(domain, chosung + "*");
-        Set<String> keys = redisTemplate.keys(pattern);
-        
-        if (keys != null && !keys.isEmpty()) {
-            for (String key : keys) {
-                Set<String> members = redisTemplate.opsForSet().members(key);
-                if (members != null) {
-                    result.addAll(members);
-                }
-            }
+        if (members == null || members.isEmpty()) {
+            return new HashSet<>();
         }
         
+        Set<String> result = new HashSet<>(members.size() * 2);
+        for (String member : members) {
+            result.add(member.substring(member.lastIndexOf(ID_SEPARATOR) + 1));
+        }
         return result;
     }
     
@@ -123,9 +161,11 @@ public class ChosungIndexBuilder {
             return;
         }
         
-        String key = buildChosungKey(domain, chosung);
-        redisTemplate.opsForSet().add(key, String.valueOf(entity.id()));
-        redisTemplate.expire(key, TTL_HOURS, TimeUnit.HOURS);
+        for (long generation : generationRegistry.getWriteGenerations(domain)) {
+            String key = buildChosungKey(domain, generation);
+            redisTemplate.opsForZSet().add(key, buildMember(chosung, entity.id()), LEX_SCORE);
+            redisTemplate.expire(key, indexTtlHours(generation), TimeUnit.HOURS);
+        }
         
         log.debug("초성 인덱스 추가: domain={}, chosung={}, entityId={}", domain, chosung, entity.id());
     }
@@ -143,8 +183,9 @@ public class ChosungIndexBuilder {
             return;
         }
         
-        String key = buildChosungKey(domain, chosung);
-        redisTemplate.opsForSet().remove(key, String.valueOf(entity.id()));
+        for (long generation : generationRegistry.getWriteGenerations(domain)) {
+            redisTemplate.opsForZSet().remove(buildChosungKey(domain, generation), buildMember(chosung, entity.id()));
+        }
         
         log.debug("초성 인덱스 삭제: domain={}, chosung={}, entityId={}", domain, chosung, entity.id());
     }
@@ -152,27 +193,57 @@ public class ChosungIndexBuilder {
     /**
      * 도메인 전체의 초성 인덱스 삭제
      * 
+     * 도메인당 키가 하나이므로 KEYS 스캔 없이 활성 세대의 단일 키만 삭제합니다.
+     * 
      * @param domain 도메인 이름
      */
     public void clearChosungIndex(String domain) {
-        String pattern = buildChosungKey(domain, "*");
-        Set<String> keys = redisTemplate.keys(pattern);
-        
-        if (keys != null && !keys.isEmpty()) {
-            redisTemplate.delete(keys);
-            log.info("초성 인덱스 전체 삭제: domain={}, keys={}", domain, keys.size());
+        if (Boolean.TRUE.equals(redisTemplate.delete(buildChosungKey(domain, generationRegistry.getActiveGeneration(domain))))) {
+            log.info("초성 인덱스 전체 삭제: domain={}", domain);
         }
     }
     
+    /**
+     * 이전 세대의 초성 인덱스를 유예 시간 뒤 만료되도록 설정
+     * 
+     * @param domain 도메인 이름
+     * @param generation 만료시킬 세대 번호
+     * @param grace 유예 시간
+     */
+    public void retireGeneration(String domain, long generation, Duration grace) {
+        redisTemplate.expire(buildChosungKey(domain, generation), grace);
+    }
+    
+    /**
+     * 일괄 구축(buildChosungIndex)에 사용한 파이프라인 왕복 횟수 (누적)
+     */
+    public long getWriteRoundTrips() {
+        return writeRoundTrips.get();
+    }
+    
+    private long indexTtlHours(long generation) {
+        return generation == AutocompleteGenerationRegistry.LEGACY_GENERATION ? TTL_HOURS : generationTtlHours;
+    }
+    
     /**
      * Redis 키 생성
      * 
      * @param domain 도메인 이름
-     * @param chosung 초성 문자열
+     * @param generation 세대 번호
      * @return Redis 키
      */
-    private String buildChosungKey(String domain, String chosung) {
-        return String.format("chosung_index:%s:%s", domain, chosung);
+    private String buildChosungKey(String domain, long generation) {
+        if (generation == AutocompleteGenerationRegistry.LEGACY_GENERATION) {
+            return "chosung_index:" + domain;
+        }
+        return "chosung_index:" + domain + "@" + generation;
+    }
+    
+    /**
+     * Sorted Set member 생성 ({chosung}:{entityId})
+     */
+    private String buildMember(String chosung, Long entityId) {
+        return chosung + ID_SEPARATOR + entityId;
     }
     
     /**
@@ -0,0 +1,152 @@
+package com.stdev.smartmealtable.storage.cache;
+
+import com.stdev.smartmealtable.domain.home.DashboardRecommendationSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 홈 대시보드 추천 스냅샷 캐시
+ *
+ * <p>scheduler 모듈이 미리 계산한 회원별 추천 순위를 보관하고, API가 홈 화면 조회 시 바로 사용합니다.
+ * 회원 수만큼 키가 생기므로 JSON 대신 구분자 기반의 짧은 문자열로 저장합니다.</p>
+ *
+ * Redis 데이터 구조:
+ * - dashboard:recommendation:{memberId} (String):
+ *   {@code v1;위도;경도;생성시각(epoch초);가게ID:거리,...;음식ID:가게ID,...}
+ *   (거리를 알 수 없으면 "-")
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardSnapshotCacheService {
+
+    private static final String SNAPSHOT_KEY_PREFIX = "dashboard:recommendation:";
+    private static final String FORMAT_VERSION = "v1";
+    private static final String FIELD_SEPARATOR = ";";
+    private static final String ITEM_SEPARATOR = ",";
+    private static final String PAIR_SEPARATOR = ":";
+    private static final String UNKNOWN_DISTANCE = "-";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 스냅샷 조회
+     *
+     * @return 스냅샷 (없거나 Redis 장애, 형식 오류 시 empty)
+     */
+    public Optional<DashboardRecommendationSnapshot> find(Long memberId) {
+        try {
+            String value = redisTemplate.opsForValue().get(buildKey(memberId));
+            return value == null ? Optional.empty() : decode(memberId, value);
+        } catch (RedisConnectionFailureException | RedisSystemException e) {
+            log.warn("Redis unavailable while reading dashboard snapshot for memberId={}: {}", memberId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 스냅샷 저장
+     */
+    public void save(DashboardRecommendationSnapshot snapshot, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(buildKey(snapshot.memberId()), encode(snapshot), ttl);
+        } catch (RedisConnectionFailureException | RedisSystemException e) {
+            log.warn("Redis unavailable while caching dashboard snapshot for memberId={}: {}",
+                    snapshot.memberId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 스냅샷 삭제
+     */
+    public void evict(Long memberId) {
+        try {
+            redisTemplate.delete(buildKey(memberId));
+        } catch (RedisConnectionFailureException | RedisSystemException e) {
+            log.warn("Redis unavailable while evicting dashboard snapshot for memberId={}: {}", memberId, e.getMessage());
+        }
+    }
+
+    static String encode(DashboardRecommendationSnapshot snapshot) {
+        StringBuilder builder = new StringBuilder(128)
+                .append(FORMAT_VERSION).append(FIELD_SEPARATOR)
+                .append(snapshot.latitude()).append(FIELD_SEPARATOR)
+                .append(snapshot.longitude()).append(FIELD_SEPARATOR)
+                .append(snapshot.generatedAt().toEpochSecond(ZoneOffset.UTC)).append(FIELD_SEPARATOR);
+
+        List<DashboardRecommendationSnapshot.RankedStore> stores = snapshot.stores();
+        for (int i = 0; i < stores.size(); i++) {
+            if (i > 0) {
+                builder.append(ITEM_SEPARATOR);
+            }
+            BigDecimal distance = stores.get(i).distance();
+            builder.append(stores.get(i).storeId()).append(PAIR_SEPARATOR)
+                    .append(distance != null ? distance.toPlainString() : UNKNOWN_DISTANCE);
+        }
+        builder.append(FIELD_SEPARATOR);
+
+        List<DashboardRecommendationSnapshot.RankedMenu> menus = snapshot.menus();
+        for (int i = 0; i < menus.size(); i++) {
+            if (i > 0) {
+                builder.append(ITEM_SEPARATOR);
+            }
+            builder.append(menus.get(i).foodId()).append(PAIR_SEPARATOR).append(menus.get(i).storeId());
+        }
+        return builder.toString();
+    }
+
+    static Optional<DashboardRecommendationSnapshot> decode(Long memberId, String value) {
+        String[] fields = value.split(FIELD_SEPARATOR, -1);
+        if (fields.length != 6 || !FORMAT_VERSION.equals(fields[0])) {
+            log.warn("Unknown dashboard snapshot format for memberId={}", memberId);
+            return Optional.empty();
+        }
+
+        try {
+            List<DashboardRecommendationSnapshot.RankedStore> stores = new ArrayList<>();
+            for (String item : splitItems(fields[4])) {
+                String[] pair = item.split(PAIR_SEPARATOR);
+                BigDecimal distance = UNKNOWN_DISTANCE.equals(pair[1]) ? null : new BigDecimal(pair[1]);
+                stores.add(new DashboardRecommendationSnapshot.RankedStore(Long.parseLong(pair[0]), distance));
+            }
+
+            List<DashboardRecommendationSnapshot.RankedMenu> menus = new ArrayList<>();
+            for (String item : splitItems(fields[5])) {
+                String[] pair = item.split(PAIR_SEPARATOR);
+                menus.add(new DashboardRecommendationSnapshot.RankedMenu(Long.parseLong(pair[0]), Long.parseLong(pair[1])));
+            }
+
+            return Optional.of(new DashboardRecommendationSnapshot(
+                    memberId,
+                    Double.parseDouble(fields[1]),
+                    Double.parseDouble(fields[2]),
+                    stores,
+                    menus,
+                    LocalDateTime.ofEpochSecond(Long.parseLong(fields[3]), 0, ZoneOffset.UTC)
+            ));
+        } catch (RuntimeException e) {
+            log.warn("Malformed dashboard snapshot for memberId={}: {}", memberId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static String[] splitItems(String field) {
+        return field.isEmpty() ? new String[0] : field.split(ITEM_SEPARATOR);
+    }
+
+    private String buildKey(Long memberId) {
+        return SNAPSHOT_KEY_PREFIX + memberId;
+    }
+}
@@ -3,7 +3,9 @@ package com.stdev.smartmealtable.storage.cache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
@@ -15,6 +17,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * 키워드 추천 Sorted Set 캐시
@@ -28,6 +31,9 @@ public class KeywordRankingCacheService {
 
     private final RedisTemplate<String, String> redisTemplate;
 
+    @Value("${search.cache.pipeline-batch-size:500}")
+    private int pipelineBatchSize = 500;
+
     /**
      * 키워드 점수를 증가시키고 TTL을 갱신한다.
      *
@@ -49,6 +55,40 @@ public class KeywordRankingCacheService {
         }
     }
 
+    /**
+     * 여러 prefix의 키워드 점수 증가, TTL 갱신, 크기 제한을 파이프라인으로 한 번에 반영한다.
+     *
+     * prefix마다 ZINCRBY N번 + EXPIRE + ZREMRANGEBYRANK를 보내며, 크기 제한은 ZCARD 없이
+     * 상위 maxSize개를 제외한 나머지 순위 범위를 삭제하는 방식으로 처리한다.
+     *
+     * @param prefixScores prefix → (키워드 → 증가시킬 점수)
+     * @param ttl 캐시 TTL
+     * @param maxSize prefix별 최대 유지 개수
+     */
+    public void incrementScoresBatch(Map<String, Map<String, Double>> prefixScores, Duration ttl, int maxSize) {
+        if (prefixScores.isEmpty()) {
+            return;
+        }
+
+        List<Consumer<RedisOperations<String, String>>> commands = new ArrayList<>();
+        prefixScores.forEach((prefix, keywordScores) -> {
+            if (keywordScores.isEmpty()) {
+                return;
+            }
+            String key = buildKey(prefix);
+            keywordScores.forEach((keyword, score) ->
+                    commands.add(operations -> operations.opsForZSet().incrementScore(key, keyword, score)));
+            commands.add(operations -> operations.expire(key, ttl));
+            commands.add(operations -> operations.opsForZSet().removeRange(key, 0, -(maxSize + 1L)));
+        });
+
+        try {
+            RedisPipelines.execute(redisTemplate, commands, pipelineBatchSize);
+        } catch (RedisConnectionFailureException | RedisSystemException e) {
+            log.warn("Redis unavailable while incrementing keyword scores for {} prefixes: {}", prefixScores.size(), e.getMessage());
+        }
+    }
+
     /**
      * Sorted Set의 크기를 제한한다.
      *
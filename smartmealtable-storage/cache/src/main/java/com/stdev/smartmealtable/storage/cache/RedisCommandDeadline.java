@@ -0,0 +1,59 @@
+package com.stdev.smartmealtable.storage.cache;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스레드 단위 Redis 명령 제한 시각
+ *
+ * <p>{@link #run}으로 감싼 작업 안에서 보내는 Redis 명령은 전역 명령 타임아웃 대신
+ * 제한 시각까지 남은 시간만 기다립니다 ({@link RedisCommandTimeoutConfig}).
+ * 시간이 지나면 명령만 실패하고 커넥션은 그대로 유지되므로, 호출자는 작업을 인터럽트하지 않고도
+ * 늦은 작업이 오래 남지 않도록 할 수 있습니다.</p>
+ */
+public final class RedisCommandDeadline {
+
+    /**
+     * 제한 시각이 지났어도 명령에 주는 최소 시간 (0 이하이면 Lettuce가 타임아웃을 걸지 않음)
+     */
+    private static final long MIN_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private RedisCommandDeadline() {
+    }
+
+    /**
+     * 제한 시각 안에서 작업 실행
+     *
+     * @param deadlineNanos 제한 시각 ({@link System#nanoTime()} 기준)
+     * @param action 실행할 작업
+     */
+    public static void run(long deadlineNanos, Runnable action) {
+        Long previous = DEADLINE_NANOS.get();
+        DEADLINE_NANOS.set(deadlineNanos);
+        try {
+            action.run();
+        } finally {
+            if (previous == null) {
+                DEADLINE_NANOS.remove();
+            } else {
+                DEADLINE_NANOS.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 현재 스레드의 명령 타임아웃
+     *
+     * @param defaultTimeoutNanos 제한 시각이 없을 때의 타임아웃
+     * @return 명령 타임아웃 (나노초)
+     */
+    static long timeoutNanos(long defaultTimeoutNanos) {
+        Long deadline = DEADLINE_NANOS.get();
+        if (deadline == null) {
+            return defaultTimeoutNanos;
+        }
+        long remaining = deadline - System.nanoTime();
+        return Math.min(Math.max(remaining, MIN_TIMEOUT_NANOS), defaultTimeoutNanos);
+    }
+}
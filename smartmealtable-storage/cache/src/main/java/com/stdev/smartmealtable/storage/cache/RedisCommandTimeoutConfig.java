@@ -0,0 +1,51 @@
+package com.stdev.smartmealtable.storage.cache;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.protocol.RedisCommand;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.LettuceClientConfigurationBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 명령 타임아웃 설정
+ *
+ * <p>기본 설정은 모든 명령에 spring.data.redis.timeout을 고정으로 적용합니다.
+ * 여기서는 명령마다 타임아웃을 정하도록 바꾸어, {@link RedisCommandDeadline}으로 감싼 작업은
+ * 제한 시각까지 남은 시간만 기다리고 그 밖의 명령은 기존과 같이 spring.data.redis.timeout을 사용합니다.</p>
+ */
+@Configuration
+public class RedisCommandTimeoutConfig {
+
+    @Bean
+    public LettuceClientConfigurationBuilderCustomizer redisCommandTimeoutCustomizer(
+            @Value("${spring.data.redis.timeout:60s}") Duration commandTimeout,
+            @Value("${spring.data.redis.connect-timeout:10s}") Duration connectTimeout
+    ) {
+        long defaultTimeoutNanos = commandTimeout.toNanos();
+        TimeoutOptions timeoutOptions = TimeoutOptions.builder()
+                .timeoutSource(new TimeoutOptions.TimeoutSource() {
+                    @Override
+                    public long getTimeout(RedisCommand<?, ?, ?> command) {
+                        return RedisCommandDeadline.timeoutNanos(defaultTimeoutNanos);
+                    }
+
+                    @Override
+                    public TimeUnit getTimeUnit() {
+                        return TimeUnit.NANOSECONDS;
+                    }
+                })
+                .build();
+
+        // 기본 설정이 만든 ClientOptions를 대체하므로 연결 타임아웃도 같이 지정
+        return builder -> builder.clientOptions(ClientOptions.builder()
+                .socketOptions(SocketOptions.builder().connectTimeout(connectTimeout).build())
+                .timeoutOptions(timeoutOptions)
+                .build());
+    }
+}
@@ -0,0 +1,78 @@
+package com.stdev.smartmealtable.storage.cache;
+
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Redis 파이프라인 일괄 실행 유틸리티
+ *
+ * <p>명령 목록을 batchSize 단위로 나누어 파이프라인으로 전송합니다.
+ * 배치 하나가 한 번의 왕복(round trip)이므로 명령 수 N에 대해 왕복 횟수는 ceil(N / batchSize)입니다.</p>
+ */
+final class RedisPipelines {
+
+    private RedisPipelines() {
+    }
+
+    /**
+     * 쓰기 명령 일괄 실행
+     *
+     * @param commands 파이프라인 안에서 실행할 명령 목록
+     * @param batchSize 파이프라인 하나에 담을 최대 명령 수
+     * @return 실행한 파이프라인 왕복 횟수
+     */
+    static int execute(
+            RedisTemplate<String, String> redisTemplate,
+            List<Consumer<RedisOperations<String, String>>> commands,
+            int batchSize
+    ) {
+        int size = Math.max(batchSize, 1);
+        int roundTrips = 0;
+        for (int from = 0; from < commands.size(); from += size) {
+            redisTemplate.executePipelined(callback(commands.subList(from, Math.min(from + size, commands.size()))));
+            roundTrips++;
+        }
+        return roundTrips;
+    }
+
+    /**
+     * 읽기 명령 일괄 실행
+     *
+     * @param commands 파이프라인 안에서 실행할 명령 목록
+     * @param batchSize 파이프라인 하나에 담을 최대 명령 수
+     * @return 명령 순서대로의 결과 목록
+     */
+    static List<Object> read(
+            RedisTemplate<String, String> redisTemplate,
+            List<Consumer<RedisOperations<String, String>>> commands,
+            int batchSize
+    ) {
+        int size = Math.max(batchSize, 1);
+        List<Object> results = new ArrayList<>(commands.size());
+        for (int from = 0; from < commands.size(); from += size) {
+            results.addAll(redisTemplate.executePipelined(
+                    callback(commands.subList(from, Math.min(from + size, commands.size())))));
+        }
+        return results;
+    }
+
+    private static SessionCallback<Object> callback(List<Consumer<RedisOperations<String, String>>> batch) {
+        return new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                for (Consumer<RedisOperations<String, String>> command : batch) {
+                    command.accept(stringOperations);
+                }
+                // 파이프라인 콜백은 null을 반환해야 함
+                return null;
+            }
+        };
+    }
+}
@@ -2,12 +2,21 @@ package com.stdev.smartmealtable.storage.cache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -20,11 +29,17 @@ import java.util.stream.Collectors;
  * 4. 관련 검색어 추천 (Set)
  * 
  * Redis 데이터 구조:
- * - autocomplete:{domain}:{prefix} (Sorted Set): 자동완성용, Score = popularity
+ * - autocomplete:{domain}@{generation}:{prefix} (Sorted Set): 자동완성용, Score = popularity
+ *   (세대가 없으면 autocomplete:{domain}:{prefix}, 세대는 {@link AutocompleteGenerationRegistry} 참고)
  * - {domain}:detail:{id} (Hash): 상세 데이터
  * - trending:{domain} (Sorted Set): 인기 검색어, Score = search count
+ * - trending:{domain}:m:{epochMinute} (Sorted Set): 분 단위 인기 검색어 버킷
+ * - trending:{domain}:snapshot (Sorted Set): 버킷을 시간 감쇠로 합산한 상위 N개
  * - related:{keyword} (Set): 관련 검색어
  * 
+ * 일괄 쓰기/조회(cacheAutocompleteData, getDetailDataBatch)는 파이프라인으로
+ * search.cache.pipeline-batch-size개 명령씩 묶어 전송합니다.
+ * 
  * @author SmartMealTable Team
  * @since 2025-11-09
  */
@@ -34,50 +49,79 @@ import java.util.stream.Collectors;
 public class SearchCacheService {
     
     private final RedisTemplate<String, String> redisTemplate;
+    private final AutocompleteGenerationRegistry generationRegistry;
     
     private static final long TTL_HOURS = 24;
     private static final int MAX_PREFIX_LENGTH = 2; // Prefix 최대 길이 (키 폭발 방지)
     
+    @Value("${search.cache.pipeline-batch-size:500}")
+    private int pipelineBatchSize = 500;
+    
+    @Value("${search.cache.generation-ttl-hours:72}")
+    private long generationTtlHours = 72;
+    
+    private final AtomicLong writeRoundTrips = new AtomicLong();
+    
     // ==================== 자동완성 캐시 ====================
     
     /**
-     * 자동완성 데이터 캐시에 저장
+     * 자동완성 데이터를 활성 세대에 저장
      * 
      * @param domain 도메인 (예: "group", "recommendation")
      * @param entities 캐시할 엔티티 목록
      */
     public void cacheAutocompleteData(String domain, List<AutocompleteEntity> entities) {
-        log.info("===== 자동완성 캐시 저장 시작: domain={}, entities={} =====", domain, entities.size());
+        cacheAutocompleteData(domain, generationRegistry.getActiveGeneration(domain), entities);
+    }
+    
+    /**
+     * 자동완성 데이터를 지정한 세대에 저장 (세대 재구축용)
+     * 
+     * @param domain 도메인 (예: "group", "recommendation")
+     * @param generation 저장할 세대 번호
+     * @param entities 캐시할 엔티티 목록
+     */
+    public void cacheAutocompleteData(String domain, long generation, List<AutocompleteEntity> entities) {
+        log.info("===== 자동완성 캐시 저장 시작: domain={}, generation={}, entities={} =====",
+            domain, generation, entities.size());
         
         long startTime = System.currentTimeMillis();
-        Map<String, Integer> keyCount = new HashMap<>();
+        Map<String, Set<ZSetOperations.TypedTuple<String>>> tuplesByKey = new LinkedHashMap<>();
+        List<Consumer<RedisOperations<String, String>>> commands = new ArrayList<>();
         
         for (AutocompleteEntity entity : entities) {
             // 1-2자 prefix로 자동완성 키 생성
             Set<String> prefixes = generatePrefixes(entity.name());
             
             for (String prefix : prefixes) {
-                String key = buildAutocompleteKey(domain, prefix);
-                
-                // Sorted Set에 추가 (Score = popularity)
-                redisTemplate.opsForZSet().add(key, String.valueOf(entity.id()), entity.popularity());
-                
-                keyCount.merge(key, 1, Integer::sum);
+                // Sorted Set 멤버 (Score = popularity), 키별로 모아 ZADD 한 번으로 저장
+                tuplesByKey.computeIfAbsent(buildAutocompleteKey(domain, generation, prefix), key -> new LinkedHashSet<>())
+                    .add(ZSetOperations.TypedTuple.of(String.valueOf(entity.id()), entity.popularity()));
             }
             
             // 상세 데이터 캐시
-            cacheDetailData(domain, entity.id(), entity.attributes());
+            if (entity.attributes() != null && !entity.attributes().isEmpty()) {
+                String detailKey = buildDetailKey(domain, entity.id());
+                Map<String, String> attributes = entity.attributes();
+                commands.add(operations -> operations.opsForHash().putAll(detailKey, attributes));
+                commands.add(operations -> operations.expire(detailKey, TTL_HOURS, TimeUnit.HOURS));
+            }
         }
         
-        // TTL 일괄 설정
-        for (String key : keyCount.keySet()) {
-            redisTemplate.expire(key, TTL_HOURS, TimeUnit.HOURS);
-        }
+        // 자동완성 키별 ZADD + TTL 설정
+        long ttlHours = autocompleteTtlHours(generation);
+        tuplesByKey.forEach((key, tuples) -> {
+            commands.add(operations -> operations.opsForZSet().add(key, tuples));
+            commands.add(operations -> operations.expire(key, ttlHours, TimeUnit.HOURS));
+        });
+        
+        int roundTrips = RedisPipelines.execute(redisTemplate, commands, pipelineBatchSize);
+        writeRoundTrips.addAndGet(roundTrips);
         
         long elapsedTime = System.currentTimeMillis() - startTime;
         
-        log.info("===== 자동완성 캐시 저장 완료: domain={}, entities={}, keys={}, time={}ms =====",
-            domain, entities.size(), keyCount.size(), elapsedTime);
+        log.info("===== 자동완성 캐시 저장 완료: domain={}, entities={}, keys={}, commands={}, roundTrips={}, time={}ms =====",
+            domain, entities.size(), tuplesByKey.size(), commands.size(), roundTrips, elapsedTime);
     }
     
     /**
@@ -89,7 +133,11 @@ public class SearchCacheService {
      * @return Entity ID 목록 (popularity 높은 순)
      */
     public List<Long> getAutocompleteResults(String domain, String prefix, int limit) {
-        String key = buildAutocompleteKey(domain, prefix.substring(0, Math.min(prefix.length(), MAX_PREFIX_LENGTH)));
+        String key = buildAutocompleteKey(
+            domain,
+            generationRegistry.getActiveGeneration(domain),
+            prefix.substring(0, Math.min(prefix.length(), MAX_PREFIX_LENGTH))
+        );
         
         Set<String> results = redisTemplate.opsForZSet().reverseRange(key, 0, limit - 1);
         
@@ -105,16 +153,20 @@ public class SearchCacheService {
     /**
      * 엔티티를 자동완성 캐시에 추가
      * 
+     * 구축 중인 세대가 있으면 해당 세대에도 반영하여, 세대 교체 후에도 변경분이 유지되도록 합니다.
+     * 
      * @param domain 도메인
      * @param entity 추가할 엔티티
      */
     public void addToAutocompleteCache(String domain, AutocompleteEntity entity) {
         Set<String> prefixes = generatePrefixes(entity.name());
         
-        for (String prefix : prefixes) {
-            String key = buildAutocompleteKey(domain, prefix);
-            redisTemplate.opsForZSet().add(key, String.valueOf(entity.id()), entity.popularity());
-            redisTemplate.expire(key, TTL_HOURS, TimeUnit.HOURS);
+        for (long generation : generationRegistry.getWriteGenerations(domain)) {
+            for (String prefix : prefixes) {
+                String key = buildAutocompleteKey(domain, generation, prefix);
+                redisTemplate.opsForZSet().add(key, String.valueOf(entity.id()), entity.popularity());
+                redisTemplate.expire(key, autocompleteTtlHours(generation), TimeUnit.HOURS);
+            }
         }
         
         cacheDetailData(domain, entity.id(), entity.attributes());
@@ -132,9 +184,11 @@ public class SearchCacheService {
     public void removeFromAutocompleteCache(String domain, Long entityId, String name) {
         Set<String> prefixes = generatePrefixes(name);
         
-        for (String prefix : prefixes) {
-            String key = buildAutocompleteKey(domain, prefix);
-            redisTemplate.opsForZSet().remove(key, String.valueOf(entityId));
+        for (long generation : generationRegistry.getWriteGenerations(domain)) {
+            for (String prefix : prefixes) {
+                String key = buildAutocompleteKey(domain, generation, prefix);
+                redisTemplate.opsForZSet().remove(key, String.valueOf(entityId));
+            }
         }
         
         removeDetailData(domain, entityId);
@@ -157,6 +211,28 @@ public class SearchCacheService {
         redisTemplate.expire(key, TTL_HOURS, TimeUnit.HOURS);
     }
     
+    /**
+     * 여러 엔티티의 상세 데이터 일괄 캐시
+     * 
+     * HSET/EXPIRE를 파이프라인으로 묶어 엔티티 수와 무관하게 왕복 횟수를 일정하게 유지합니다.
+     * 
+     * @param domain 도메인
+     * @param attributesById Entity ID → 속성 맵
+     */
+    public void cacheDetailDataBatch(String domain, Map<Long, Map<String, String>> attributesById) {
+        if (attributesById == null || attributesById.isEmpty()) {
+            return;
+        }
+        
+        List<Consumer<RedisOperations<String, String>>> commands = new ArrayList<>(attributesById.size() * 2);
+        attributesById.forEach((entityId, attributes) -> {
+            String key = buildDetailKey(domain, entityId);
+            commands.add(operations -> operations.opsForHash().putAll(key, attributes));
+            commands.add(operations -> operations.expire(key, TTL_HOURS, TimeUnit.HOURS));
+        });
+        RedisPipelines.execute(redisTemplate, commands, pipelineBatchSize);
+    }
+    
     /**
      * 엔티티 상세 데이터 조회
      * 
@@ -176,13 +252,21 @@ public class SearchCacheService {
      * @param entityIds Entity ID 목록
      * @return Entity ID → 속성 맵
      */
+    @SuppressWarnings("unchecked")
     public Map<Long, Map<Object, Object>> getDetailDataBatch(String domain, List<Long> entityIds) {
         Map<Long, Map<Object, Object>> result = new HashMap<>();
         
+        // HGETALL을 파이프라인으로 묶어 한 번에 조회
+        List<Consumer<RedisOperations<String, String>>> commands = new ArrayList<>(entityIds.size());
         for (Long entityId : entityIds) {
-            Map<Object, Object> detail = getDetailData(domain, entityId);
-            if (!detail.isEmpty()) {
-                result.put(entityId, detail);
+            String key = buildDetailKey(domain, entityId);
+            commands.add(operations -> operations.opsForHash().entries(key));
+        }
+        List<Object> details = RedisPipelines.read(redisTemplate, commands, pipelineBatchSize);
+        
+        for (int i = 0; i < entityIds.size() && i < details.size(); i++) {
+            if (details.get(i) instanceof Map<?, ?> detail && !detail.isEmpty()) {
+                result.put(entityIds.get(i), (Map<Object, Object>) detail);
             }
         }
         
@@ -200,6 +284,42 @@ public class SearchCacheService {
         redisTemplate.delete(key);
     }
     
+    /**
+     * 이전 세대의 자동완성 키를 유예 시간 뒤 만료되도록 설정
+     * 
+     * 세대 교체 직후 이전 포인터를 보고 있는 인스턴스가 남아 있을 수 있으므로 즉시 삭제하지 않습니다.
+     * 키 목록은 KEYS 대신 SCAN으로 찾습니다.
+     * 
+     * @param domain 도메인
+     * @param generation 만료시킬 세대 번호
+     * @param grace 유예 시간
+     */
+    public void retireGeneration(String domain, long generation, Duration grace) {
+        List<Consumer<RedisOperations<String, String>>> commands = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions()
+            .match(buildAutocompleteKey(domain, generation, "*"))
+            .count(pipelineBatchSize)
+            .build();
+        
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                commands.add(operations -> operations.expire(key, grace));
+            }
+        }
+        
+        RedisPipelines.execute(redisTemplate, commands, pipelineBatchSize);
+        log.info("자동완성 캐시 이전 세대 만료 예약: domain={}, generation={}, keys={}, grace={}",
+            domain, generation, commands.size(), grace);
+    }
+    
+    /**
+     * 일괄 쓰기(cacheAutocompleteData)에 사용한 파이프라인 왕복 횟수 (누적)
+     */
+    public long getWriteRoundTrips() {
+        return writeRoundTrips.get();
+    }
+    
     // ==================== 인기 검색어 관리 ====================
     
     /**
@@ -238,6 +358,90 @@ public class SearchCacheService {
             .collect(Collectors.toList());
     }
     
+    /**
+     * 노드별 검색 횟수를 분 단위 버킷에 반영하고 시간 감쇠 스냅샷 재계산
+     * 
+     * 1. counts를 trending:{domain}:m:{epochMinute} 버킷에 더함 (ZINCRBY)
+     * 2. 최근 windowMinutes개 버킷을 경과 시간별 가중치 0.5^(경과 분 / halfLifeMinutes)로 합산 (ZUNIONSTORE)
+     * 3. 상위 snapshotSize개만 trending:{domain}:snapshot에 남기고 조회
+     * 
+     * 스냅샷은 매번 버킷에서 다시 계산되므로 여러 노드가 동시에 호출해도 결과가 같고,
+     * 윈도우를 벗어난 버킷은 TTL로 사라집니다. 모든 명령은 파이프라인으로 전송합니다.
+     * 
+     * @param domain 도메인
+     * @param counts 검색어 → 마지막 반영 이후 검색 횟수 (비어 있으면 스냅샷만 재계산)
+     * @param epochMinute 현재 시각 (epoch 기준 분)
+     * @param windowMinutes 합산할 버킷 수
+     * @param halfLifeMinutes 가중치가 절반이 되는 경과 시간 (분)
+     * @param snapshotSize 스냅샷에 남길 검색어 수
+     * @return 갱신된 스냅샷 (점수 내림차순)
+     */
+    @SuppressWarnings("unchecked")
+    public List<TrendingKeyword> refreshTrendingSnapshot(
+        String domain,
+        Map<String, Double> counts,
+        long epochMinute,
+        int windowMinutes,
+        double halfLifeMinutes,
+        int snapshotSize
+    ) {
+        String bucketKey = buildTrendingBucketKey(domain, epochMinute);
+        String snapshotKey = buildTrendingSnapshotKey(domain);
+        
+        List<Consumer<RedisOperations<String, String>>> commands = new ArrayList<>(counts.size() + 5);
+        if (!counts.isEmpty()) {
+            counts.forEach((keyword, count) ->
+                commands.add(operations -> operations.opsForZSet().incrementScore(bucketKey, keyword, count)));
+            // 윈도우 끝까지 합산에 쓰이도록 1분 여유를 둠
+            commands.add(operations -> operations.expire(bucketKey, Duration.ofMinutes(windowMinutes + 1L)));
+        }
+        
+        List<String> bucketKeys = new ArrayList<>(windowMinutes);
+        double[] weights = new double[windowMinutes];
+        for (int age = 0; age < windowMinutes; age++) {
+            bucketKeys.add(buildTrendingBucketKey(domain, epochMinute - age));
+            weights[age] = Math.pow(0.5, age / halfLifeMinutes);
+        }
+        commands.add(operations -> operations.opsForZSet().unionAndStore(
+            bucketKeys.get(0), bucketKeys.subList(1, bucketKeys.size()), snapshotKey, Aggregate.SUM, Weights.of(weights)));
+        commands.add(operations -> operations.opsForZSet().removeRange(snapshotKey, 0, -(snapshotSize + 1L)));
+        commands.add(operations -> operations.expire(snapshotKey, Duration.ofMinutes(windowMinutes)));
+        commands.add(operations -> operations.opsForZSet().reverseRangeWithScores(snapshotKey, 0, snapshotSize - 1L));
+        
+        List<Object> results = RedisPipelines.read(redisTemplate, commands, pipelineBatchSize);
+        if (results.isEmpty() || !(results.get(results.size() - 1) instanceof Set<?> snapshot)) {
+            return Collections.emptyList();
+        }
+        return toDecayedTrendingKeywords((Set<ZSetOperations.TypedTuple<String>>) snapshot);
+    }
+    
+    /**
+     * 시간 감쇠 인기 검색어 스냅샷 조회
+     * 
+     * @param domain 도메인
+     * @param limit 결과 개수
+     * @return 스냅샷 상위 검색어 (검색 횟수는 감쇠 적용 점수)
+     */
+    public List<TrendingKeyword> getTrendingSnapshot(String domain, int limit) {
+        Set<ZSetOperations.TypedTuple<String>> results =
+            redisTemplate.opsForZSet().reverseRangeWithScores(buildTrendingSnapshotKey(domain), 0, limit - 1);
+        
+        if (results == null || results.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return toDecayedTrendingKeywords(results);
+    }
+    
+    private List<TrendingKeyword> toDecayedTrendingKeywords(Set<ZSetOperations.TypedTuple<String>> tuples) {
+        List<TrendingKeyword> keywords = new ArrayList<>(tuples.size());
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            double score = tuple.getScore() != null ? tuple.getScore() : 0.0;
+            // 스냅샷에 남은 검색어는 검색된 적이 있으므로 감쇠로 0이 되어도 1로 표시
+            keywords.add(new TrendingKeyword(tuple.getValue(), Math.max(1L, Math.round(score))));
+        }
+        return keywords;
+    }
+    
     // ==================== 관련 검색어 추천 ====================
     
     /**
@@ -291,11 +495,23 @@ public class SearchCacheService {
         return prefixes;
     }
     
+    /**
+     * 자동완성 키 TTL
+     * 
+     * 세대 키는 재구축이 한 번 실패해도 만료되지 않도록 기존 키보다 길게 유지합니다.
+     */
+    private long autocompleteTtlHours(long generation) {
+        return generation == AutocompleteGenerationRegistry.LEGACY_GENERATION ? TTL_HOURS : generationTtlHours;
+    }
+    
     /**
      * Redis 키 생성: 자동완성
      */
-    private String buildAutocompleteKey(String domain, String prefix) {
-        return String.format("autocomplete:%s:%s", domain, prefix);
+    private String buildAutocompleteKey(String domain, long generation, String prefix) {
+        if (generation == AutocompleteGenerationRegistry.LEGACY_GENERATION) {
+            return String.format("autocomplete:%s:%s", domain, prefix);
+        }
+        return String.format("autocomplete:%s@%d:%s", domain, generation, prefix);
     }
     
     /**
@@ -312,6 +528,20 @@ public class SearchCacheService {
         return String.format("trending:%s", domain);
     }
     
+    /**
+     * Redis 키 생성: 분 단위 인기 검색어 버킷
+     */
+    private String buildTrendingBucketKey(String domain, long epochMinute) {
+        return String.format("trending:%s:m:%d", domain, epochMinute);
+    }
+    
+    /**
+     * Redis 키 생성: 시간 감쇠 인기 검색어 스냅샷
+     */
+    private String buildTrendingSnapshotKey(String domain) {
+        return String.format("trending:%s:snapshot", domain);
+    }
+    
     /**
      * Redis 키 생성: 관련 검색어
      */
@@ -333,6 +563,12 @@ public class SearchCacheService {
             keys.addAll(autocompleteKeys);
         }
         
+        // autocomplete:domain@{generation}:* 패턴 키
+        Set<String> generationKeys = redisTemplate.keys("autocomplete:" + domain + "@*");
+        if (generationKeys != null) {
+            keys.addAll(generationKeys);
+        }
+        
         // domain:detail:* 패턴 키
         Set<String> detailKeys = redisTemplate.keys(domain + ":detail:*");
         if (detailKeys != null) {
@@ -342,6 +578,12 @@ public class SearchCacheService {
         // trending:domain 키
         keys.add(buildTrendingKey(domain));
         
+        // trending:domain:* 패턴 키 (분 단위 버킷, 스냅샷)
+        Set<String> trendingWindowKeys = redisTemplate.keys("trending:" + domain + ":*");
+        if (trendingWindowKeys != null) {
+            keys.addAll(trendingWindowKeys);
+        }
+        
         if (!keys.isEmpty()) {
             redisTemplate.delete(keys);
             log.info("도메인 캐시 전체 삭제: domain={}, keys={}", domain, keys.size());
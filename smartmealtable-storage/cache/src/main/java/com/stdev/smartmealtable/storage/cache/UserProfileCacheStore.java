@@ -0,0 +1,69 @@
+package com.stdev.smartmealtable.storage.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 추천용 사용자 프로필 캐시 (Redis 2차 캐시)
+ *
+ * <p>직렬화된 프로필(JSON)을 회원 단위 String 키로 보관합니다.
+ * 여러 API 인스턴스가 같은 프로필을 공유하기 위한 용도이며, Redis 장애 시에는
+ * 조회 실패(empty)로 처리하여 호출자가 DB에서 다시 읽도록 합니다.</p>
+ *
+ * Redis 데이터 구조:
+ * - recommendation:profile:{memberId} (String): 직렬화된 사용자 프로필
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserProfileCacheStore {
+
+    private static final String PROFILE_KEY_PREFIX = "recommendation:profile:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 직렬화된 프로필 조회
+     */
+    public Optional<String> get(Long memberId) {
+        try {
+            return Optional.ofNullable(redisTemplate.opsForValue().get(buildKey(memberId)));
+        } catch (RedisConnectionFailureException | RedisSystemException e) {
+            log.warn("Redis unavailable while reading user profile for memberId={}: {}", memberId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 직렬화된 프로필 저장
+     */
+    public void put(Long memberId, String serializedProfile, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(buildKey(memberId), serializedProfile, ttl);
+        } catch (RedisConnectionFailureException | RedisSystemException e) {
+            log.warn("Redis unavailable while caching user profile for memberId={}: {}", memberId, e.getMessage());
+        }
+    }
+
+    /**
+     * 프로필 삭제
+     */
+    public void evict(Long memberId) {
+        try {
+            redisTemplate.delete(buildKey(memberId));
+        } catch (RedisConnectionFailureException | RedisSystemException e) {
+            log.warn("Redis unavailable while evicting user profile for memberId={}: {}", memberId, e.getMessage());
+        }
+    }
+
+    private String buildKey(Long memberId) {
+        return PROFILE_KEY_PREFIX + memberId;
+    }
+}
@@ -0,0 +1,125 @@
+package com.stdev.smartmealtable.storage.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChosungIndexBuilderTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private AutocompleteGenerationRegistry generationRegistry;
+
+    private ChosungIndexBuilder chosungIndexBuilder;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        chosungIndexBuilder = new ChosungIndexBuilder(redisTemplate, generationRegistry);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void buildChosungIndex_addsBatchInSinglePipeline() {
+        // 파이프라인 콜백을 mock 템플릿에 그대로 실행
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            invocation.getArgument(0, SessionCallback.class).execute(redisTemplate);
+            return List.of();
+        });
+
+        chosungIndexBuilder.buildChosungIndex("group", List.of(
+                new ChosungIndexBuilder.SearchableEntity(1L, "서울대학교"),
+                new ChosungIndexBuilder.SearchableEntity(2L, "서울교대"),
+                new ChosungIndexBuilder.SearchableEntity(3L, "KAIST")
+        ));
+
+        ArgumentCaptor<Set<ZSetOperations.TypedTuple<String>>> captor = ArgumentCaptor.forClass(Set.class);
+        verify(zSetOperations).add(eq("chosung_index:group"), captor.capture());
+        assertThat(captor.getValue())
+                .extracting(ZSetOperations.TypedTuple::getValue)
+                .containsExactlyInAnyOrder("ㅅㅇㄷㅎㄱ:1", "ㅅㅇㄱㄷ:2");
+        verify(redisTemplate).expire("chosung_index:group", 24, TimeUnit.HOURS);
+        verify(redisTemplate).executePipelined(any(SessionCallback.class));
+        assertThat(chosungIndexBuilder.getWriteRoundTrips()).isEqualTo(1);
+    }
+
+    @Test
+    void findIdsByChosung_queriesLexRangeOnce() {
+        LinkedHashSet<String> members = new LinkedHashSet<>();
+        members.add("ㅅㅇㄱㄷ:2");
+        members.add("ㅅㅇㄷㅎㄱ:1");
+        when(zSetOperations.rangeByLex("chosung_index:group", Range.rightOpen("ㅅㅇ", "ㅅㅇ\uFFFF")))
+                .thenReturn(members);
+
+        Set<String> result = chosungIndexBuilder.findIdsByChosung("group", "ㅅㅇ");
+
+        assertThat(result).containsExactlyInAnyOrder("1", "2");
+        verify(redisTemplate, never()).keys(anyString());
+    }
+
+    @Test
+    void findIdsByChosung_returnsEmptyWhenNoMatch() {
+        when(zSetOperations.rangeByLex("chosung_index:group", Range.rightOpen("ㅎ", "ㅎ\uFFFF")))
+                .thenReturn(null);
+
+        assertThat(chosungIndexBuilder.findIdsByChosung("group", "ㅎ")).isEmpty();
+    }
+
+    @Test
+    void addAndRemove_useChosungMember() {
+        ChosungIndexBuilder.SearchableEntity entity = new ChosungIndexBuilder.SearchableEntity(5L, "고려대");
+        when(generationRegistry.getWriteGenerations("group")).thenReturn(List.of(0L));
+
+        chosungIndexBuilder.addToChosungIndex("group", entity);
+        chosungIndexBuilder.removeFromChosungIndex("group", entity);
+
+        verify(zSetOperations).add("chosung_index:group", "ㄱㄹㄷ:5", 0);
+        verify(zSetOperations).remove("chosung_index:group", "ㄱㄹㄷ:5");
+    }
+
+    @Test
+    void clearChosungIndex_deletesSingleKeyWithoutKeysScan() {
+        chosungIndexBuilder.clearChosungIndex("group");
+
+        verify(redisTemplate).delete("chosung_index:group");
+        verify(redisTemplate, never()).keys(anyString());
+    }
+
+    @Test
+    void generationKeys_areUsedForReadsAndWritesDuringRebuild() {
+        when(generationRegistry.getActiveGeneration("group")).thenReturn(3L);
+        when(generationRegistry.getWriteGenerations("group")).thenReturn(List.of(3L, 4L));
+
+        chosungIndexBuilder.addToChosungIndex("group", new ChosungIndexBuilder.SearchableEntity(5L, "고려대"));
+        chosungIndexBuilder.findIdsByChosung("group", "ㄱㄹ");
+
+        verify(zSetOperations).add("chosung_index:group@3", "ㄱㄹㄷ:5", 0);
+        verify(zSetOperations).add("chosung_index:group@4", "ㄱㄹㄷ:5", 0);
+        verify(zSetOperations).rangeByLex("chosung_index:group@3", Range.rightOpen("ㄱㄹ", "ㄱㄹ\uFFFF"));
+    }
+}
@@ -0,0 +1,92 @@
+package com.stdev.smartmealtable.storage.cache;
+
+import com.stdev.smartmealtable.domain.home.DashboardRecommendationSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DashboardSnapshotCacheServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private DashboardSnapshotCacheService dashboardSnapshotCacheService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        dashboardSnapshotCacheService = new DashboardSnapshotCacheService(redisTemplate);
+    }
+
+    @Test
+    void encode_decode_roundTrip() {
+        DashboardRecommendationSnapshot snapshot = new DashboardRecommendationSnapshot(
+                7L,
+                37.497942,
+                127.027621,
+                List.of(
+                        new DashboardRecommendationSnapshot.RankedStore(10L, new BigDecimal("0.35")),
+                        new DashboardRecommendationSnapshot.RankedStore(11L, null)
+                ),
+                List.of(new DashboardRecommendationSnapshot.RankedMenu(100L, 10L)),
+                LocalDateTime.of(2025, 11, 21, 4, 30)
+        );
+
+        String encoded = DashboardSnapshotCacheService.encode(snapshot);
+
+        assertThat(encoded).isEqualTo("v1;37.497942;127.027621;1763699400;10:0.35,11:-;100:10");
+        assertThat(DashboardSnapshotCacheService.decode(7L, encoded)).contains(snapshot);
+    }
+
+    @Test
+    void decode_emptyRankings() {
+        Optional<DashboardRecommendationSnapshot> decoded =
+                DashboardSnapshotCacheService.decode(1L, "v1;37.5;127.0;1763699400;;");
+
+        assertThat(decoded).isPresent();
+        assertThat(decoded.get().stores()).isEmpty();
+        assertThat(decoded.get().menus()).isEmpty();
+    }
+
+    @Test
+    void decode_rejectsUnknownOrMalformedValue() {
+        assertThat(DashboardSnapshotCacheService.decode(1L, "v0;37.5;127.0;0;;")).isEmpty();
+        assertThat(DashboardSnapshotCacheService.decode(1L, "v1;37.5;127.0;0;abc:1;")).isEmpty();
+    }
+
+    @Test
+    void save_writesCompactValueWithTtl() {
+        DashboardRecommendationSnapshot snapshot = new DashboardRecommendationSnapshot(
+                3L, 37.5, 127.0, List.of(), List.of(), LocalDateTime.of(2025, 11, 21, 4, 30));
+
+        dashboardSnapshotCacheService.save(snapshot, Duration.ofHours(26));
+
+        verify(valueOperations).set("dashboard:recommendation:3", "v1;37.5;127.0;1763699400;;", Duration.ofHours(26));
+    }
+
+    @Test
+    void find_returnsEmptyWhenRedisUnavailable() {
+        when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(dashboardSnapshotCacheService.find(3L)).isEmpty();
+    }
+}
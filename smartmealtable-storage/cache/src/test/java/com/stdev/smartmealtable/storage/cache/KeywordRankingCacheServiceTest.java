@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ZSetOperations;
 
 import java.time.Duration;
@@ -68,4 +69,25 @@ class KeywordRankingCacheServiceTest {
         verify(zSetOperations, times(1)).incrementScore("keyword:prefix:떡", "로제떡볶이", 2.0);
         verify(redisTemplate, times(1)).expire(eq("keyword:prefix:떡"), eq(Duration.ofHours(6)));
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void incrementScoresBatch_sendsAllPrefixesInSinglePipeline() {
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            invocation.getArgument(0, SessionCallback.class).execute(redisTemplate);
+            return List.of();
+        });
+
+        keywordRankingCacheService.incrementScoresBatch(Map.of(
+                "떡", Map.of("떡볶이", 1.5),
+                "김치", Map.of("김치찌개", 0.7, "김치전", 1.3)
+        ), Duration.ofHours(6), 50);
+
+        verify(zSetOperations).incrementScore("keyword:prefix:떡", "떡볶이", 1.5);
+        verify(zSetOperations).incrementScore("keyword:prefix:김치", "김치찌개", 0.7);
+        verify(zSetOperations).incrementScore("keyword:prefix:김치", "김치전", 1.3);
+        verify(redisTemplate).expire("keyword:prefix:떡", Duration.ofHours(6));
+        verify(zSetOperations).removeRange("keyword:prefix:김치", 0, -51);
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+    }
 }
@@ -0,0 +1,39 @@
+package com.stdev.smartmealtable.storage.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisCommandDeadlineTest {
+
+    private static final long DEFAULT_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(3);
+
+    @Test
+    void timeoutNanos_usesDefaultOutsideDeadline() {
+        assertThat(RedisCommandDeadline.timeoutNanos(DEFAULT_TIMEOUT_NANOS)).isEqualTo(DEFAULT_TIMEOUT_NANOS);
+    }
+
+    @Test
+    void timeoutNanos_usesRemainingTimeInsideDeadline() {
+        AtomicLong timeout = new AtomicLong();
+
+        RedisCommandDeadline.run(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(80),
+                () -> timeout.set(RedisCommandDeadline.timeoutNanos(DEFAULT_TIMEOUT_NANOS)));
+
+        assertThat(timeout.get()).isPositive().isLessThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(80));
+        assertThat(RedisCommandDeadline.timeoutNanos(DEFAULT_TIMEOUT_NANOS)).isEqualTo(DEFAULT_TIMEOUT_NANOS);
+    }
+
+    @Test
+    void timeoutNanos_keepsMinimumAfterDeadlinePassed() {
+        AtomicLong timeout = new AtomicLong();
+
+        RedisCommandDeadline.run(System.nanoTime() - TimeUnit.SECONDS.toNanos(1),
+                () -> timeout.set(RedisCommandDeadline.timeoutNanos(DEFAULT_TIMEOUT_NANOS)));
+
+        assertThat(timeout.get()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.Duration;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -19,7 +20,11 @@ import static org.assertj.core.api.Assertions.assertThat;
  * <p>Redis Testcontainer를 사용한 실제 Redis 환경 테스트</p>
  * <p>캐시 CRUD 작업의 정상 동작을 검증합니다.</p>
  */
-@SpringBootTest(classes = {SearchCacheService.class, ChosungIndexBuilder.class})
+@SpringBootTest(
+        classes = {SearchCacheService.class, ChosungIndexBuilder.class, AutocompleteGenerationRegistry.class},
+        // 테스트마다 Redis를 비우므로 활성 세대 번호를 인스턴스에 보관하지 않음
+        properties = "search.cache.generation-refresh-ms=0"
+)
 @Import(RedisTestContainerConfig.class)
 @ActiveProfiles("test")
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -29,6 +34,9 @@ class SearchCacheServiceIntegrationTest {
     @Autowired
     private SearchCacheService searchCacheService;
 
+    @Autowired
+    private AutocompleteGenerationRegistry generationRegistry;
+
     @Autowired
     private RedisTemplate<String, String> redisTemplate;
 
@@ -195,6 +203,39 @@ class SearchCacheServiceIntegrationTest {
         assertThat(trending).hasSize(2);
     }
 
+    @Test
+    @DisplayName("분 단위 버킷을 시간 감쇠로 합산해 trending 스냅샷을 만든다")
+    void refreshTrendingSnapshot_DecaysOlderBuckets() {
+        // given: 30분 전(반감기 15분 → 가중치 0.25)에 8회, 지금 3회
+        long now = 29_000_000L;
+        searchCacheService.refreshTrendingSnapshot(TEST_DOMAIN, Map.of("연세대학교", 8.0), now - 30, 60, 15, 10);
+
+        // when
+        List<TrendingKeyword> snapshot = searchCacheService.refreshTrendingSnapshot(
+                TEST_DOMAIN, Map.of("서울대학교", 3.0), now, 60, 15, 10);
+
+        // then
+        assertThat(snapshot).extracting(TrendingKeyword::keyword).containsExactly("서울대학교", "연세대학교");
+        assertThat(snapshot).extracting(TrendingKeyword::searchCount).containsExactly(3L, 2L);
+        assertThat(searchCacheService.getTrendingSnapshot(TEST_DOMAIN, 1))
+                .extracting(TrendingKeyword::keyword).containsExactly("서울대학교");
+    }
+
+    @Test
+    @DisplayName("윈도우를 벗어난 버킷은 trending 스냅샷에서 빠진다")
+    void refreshTrendingSnapshot_ExcludesBucketsOutsideWindow() {
+        // given
+        long now = 29_000_000L;
+        searchCacheService.refreshTrendingSnapshot(TEST_DOMAIN, Map.of("연세대학교", 5.0), now - 60, 60, 15, 10);
+
+        // when
+        List<TrendingKeyword> snapshot = searchCacheService.refreshTrendingSnapshot(
+                TEST_DOMAIN, Map.of(), now, 60, 15, 10);
+
+        // then
+        assertThat(snapshot).isEmpty();
+    }
+
     @Test
     @DisplayName("캐시에 추가 항목을 개별적으로 추가할 수 있다")
     void addToAutocompleteCache_Single() {
@@ -258,4 +299,53 @@ class SearchCacheServiceIntegrationTest {
         assertThat(ttl).isGreaterThan(0);  // TTL이 설정되어 있음
         assertThat(ttl).isLessThanOrEqualTo(86400L);  // 24시간 이내
     }
+
+    @Test
+    @DisplayName("여러 엔티티를 파이프라인으로 저장하고 상세 데이터를 일괄 조회할 수 있다")
+    void cacheAutocompleteData_PipelinedBatch() {
+        // given
+        List<AutocompleteEntity> entities = new ArrayList<>();
+        for (long id = 1; id <= 300; id++) {
+            entities.add(new AutocompleteEntity(id, "서울" + id, id, Map.of("name", "서울" + id)));
+        }
+        long roundTripsBefore = searchCacheService.getWriteRoundTrips();
+
+        // when
+        searchCacheService.cacheAutocompleteData(TEST_DOMAIN, entities);
+        Map<Long, Map<Object, Object>> details =
+                searchCacheService.getDetailDataBatch(TEST_DOMAIN, List.of(1L, 150L, 300L, 999L));
+
+        // then
+        assertThat(searchCacheService.getAutocompleteResults(TEST_DOMAIN, "서울", 500)).hasSize(300);
+        assertThat(searchCacheService.getWriteRoundTrips() - roundTripsBefore)
+                .isLessThan(entities.size());
+        assertThat(details).containsOnlyKeys(1L, 150L, 300L);
+        assertThat(details.get(150L)).containsEntry("name", "서울150");
+    }
+
+    @Test
+    @DisplayName("새 세대를 구축하는 동안에는 기존 세대를 조회하고, 활성화 후 새 세대로 전환된다")
+    void rebuildGeneration_SwitchesAtomically() {
+        // given: 기존 세대
+        searchCacheService.cacheAutocompleteData(TEST_DOMAIN, List.of(
+                new AutocompleteEntity(1L, "서울대학교", 100.0, Map.of())
+        ));
+
+        // when: 새 세대 구축 (아직 활성화 전)
+        long generation = generationRegistry.beginBuild(TEST_DOMAIN);
+        searchCacheService.cacheAutocompleteData(TEST_DOMAIN, generation, List.of(
+                new AutocompleteEntity(2L, "서울시립대학교", 200.0, Map.of())
+        ));
+
+        // then: 구축 중에는 기존 세대 결과
+        assertThat(searchCacheService.getAutocompleteResults(TEST_DOMAIN, "서울", 10)).containsExactly(1L);
+
+        // when: 활성화 후 이전 세대 만료 예약
+        long previous = generationRegistry.activate(TEST_DOMAIN, generation);
+        searchCacheService.retireGeneration(TEST_DOMAIN, previous, Duration.ofMinutes(10));
+
+        // then: 새 세대 결과, 이전 세대 키는 유예 시간만 남음
+        assertThat(searchCacheService.getAutocompleteResults(TEST_DOMAIN, "서울", 10)).containsExactly(2L);
+        assertThat(redisTemplate.getExpire("autocomplete:" + TEST_DOMAIN + ":서울")).isLessThanOrEqualTo(600L);
+    }
 }
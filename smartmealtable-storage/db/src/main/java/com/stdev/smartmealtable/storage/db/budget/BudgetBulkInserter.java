@@ -0,0 +1,89 @@
+package com.stdev.smartmealtable.storage.db.budget;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 예산 다중 행 INSERT 실행기
+ *
+ * IDENTITY 전략 엔티티는 Hibernate가 INSERT를 배치로 묶지 못하므로,
+ * 온보딩/기간 일괄 생성처럼 한 번에 수십~수백 행을 만드는 경우 다중 행 INSERT 한 문장으로 저장하고
+ * 생성된 키를 입력 순서대로 돌려받습니다.
+ * (MySQL은 다중 행 INSERT 한 문장의 AUTO_INCREMENT 값을 연속으로 할당하며, 드라이버가 이를 행 순서대로 반환)
+ */
+@Component
+@RequiredArgsConstructor
+class BudgetBulkInserter {
+
+    /**
+     * 다중 행 INSERT 한 문장에 담을 최대 행 수
+     */
+    static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 행들을 다중 행 INSERT로 저장하고 생성된 키를 입력 순서대로 반환
+     *
+     * @param insertPrefix "INSERT INTO table (col, ...) VALUES "
+     * @param rowPlaceholder "(?, ?, ...)"
+     * @param toRowParameters 행 → 바인딩 파라미터
+     */
+    <T> List<Long> insert(String insertPrefix, String rowPlaceholder, List<T> rows,
+                          Function<T, Object[]> toRowParameters) {
+        List<Long> generatedIds = new ArrayList<>(rows.size());
+        for (int from = 0; from < rows.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<T> chunk = rows.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, rows.size()));
+            generatedIds.addAll(insertChunk(buildInsertSql(insertPrefix, rowPlaceholder, chunk.size()),
+                    chunk, toRowParameters));
+        }
+        return generatedIds;
+    }
+
+    private <T> List<Long> insertChunk(String sql, List<T> chunk, Function<T, Object[]> toRowParameters) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            int index = 1;
+            for (T row : chunk) {
+                for (Object parameter : toRowParameters.apply(row)) {
+                    ps.setObject(index++, parameter);
+                }
+            }
+            return ps;
+        }, keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != chunk.size()) {
+            throw new IllegalStateException(
+                    "생성된 키 수가 저장한 행 수와 다릅니다: rows=" + chunk.size() + ", keys=" + keys.size());
+        }
+        List<Long> ids = new ArrayList<>(keys.size());
+        for (Map<String, Object> key : keys) {
+            ids.add(((Number) key.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+
+    static String buildInsertSql(String insertPrefix, String rowPlaceholder, int rows) {
+        StringBuilder sql = new StringBuilder(insertPrefix.length() + rows * (rowPlaceholder.length() + 2));
+        sql.append(insertPrefix);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(rowPlaceholder);
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,39 @@
+package com.stdev.smartmealtable.storage.db.budget;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 일일 예산 기본값 변경 이력 JPA 엔티티
+ * 읽기/쓰기는 {@link DailyBudgetDefaultRepositoryImpl}의 SQL로 처리하며, 이 엔티티는 테이블 정의용입니다.
+ */
+@Entity
+@Table(
+        name = "daily_budget_default",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uq_daily_budget_default_member_date",
+                columnNames = {"member_id", "effective_date"}
+        )
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyBudgetDefaultJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "daily_budget_default_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "effective_date", nullable = false)
+    private LocalDate effectiveDate;
+
+    @Column(name = "daily_food_budget", nullable = false)
+    private Integer dailyFoodBudget;
+}
@@ -0,0 +1,52 @@
+package com.stdev.smartmealtable.storage.db.budget;
+
+import com.stdev.smartmealtable.domain.budget.DailyBudgetDefault;
+import com.stdev.smartmealtable.domain.budget.DailyBudgetDefaultRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DailyBudgetDefaultRepository 구현체 (JdbcTemplate)
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailyBudgetDefaultRepositoryImpl implements DailyBudgetDefaultRepository {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO daily_budget_default (member_id, effective_date, daily_food_budget) "
+                    + "VALUES (?, ?, ?) AS new "
+                    + "ON DUPLICATE KEY UPDATE daily_food_budget = new.daily_food_budget";
+
+    private static final String SELECT_IN_RANGE_SQL =
+            "SELECT effective_date, daily_food_budget FROM daily_budget_default "
+                    + "WHERE member_id = ? AND effective_date BETWEEN ? AND ? "
+                    + "ORDER BY effective_date";
+
+    private static final String DELETE_IN_RANGE_SQL =
+            "DELETE FROM daily_budget_default WHERE member_id = ? AND effective_date BETWEEN ? AND ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void upsert(Long memberId, LocalDate effectiveDate, Integer dailyFoodBudget) {
+        jdbcTemplate.update(UPSERT_SQL, memberId, Date.valueOf(effectiveDate), dailyFoodBudget);
+    }
+
+    @Override
+    public List<DailyBudgetDefault> findInRange(Long memberId, LocalDate startDate, LocalDate endDate) {
+        return jdbcTemplate.query(SELECT_IN_RANGE_SQL, (rs, rowNum) -> new DailyBudgetDefault(
+                rs.getDate("effective_date").toLocalDate(),
+                rs.getInt("daily_food_budget")
+        ), memberId, Date.valueOf(startDate), Date.valueOf(endDate));
+    }
+
+    @Override
+    public int deleteInRange(Long memberId, LocalDate startDate, LocalDate endDate) {
+        return jdbcTemplate.update(DELETE_IN_RANGE_SQL, memberId, Date.valueOf(startDate), Date.valueOf(endDate));
+    }
+}
@@ -1,6 +1,7 @@
 package com.stdev.smartmealtable.storage.db.budget;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -56,4 +57,43 @@ public interface DailyBudgetJpaRepository extends JpaRepository<DailyBudgetJpaEn
             @Param("fromDate") LocalDate fromDate,
             @Param("toDate") LocalDate toDate
     );
+
+    /**
+     * 회원 ID와 날짜 범위(포함)의 일일 예산 금액 일괄 변경
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE DailyBudgetJpaEntity d SET d.dailyFoodBudget = :dailyFoodBudget " +
+           "WHERE d.memberId = :memberId AND d.budgetDate BETWEEN :fromDate AND :toDate")
+    int updateDailyFoodBudgetInRange(
+            @Param("memberId") Long memberId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate,
+            @Param("dailyFoodBudget") Integer dailyFoodBudget
+    );
+
+    /**
+     * 회원 ID와 예산 날짜의 일일 예산 사용 금액 증가
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE DailyBudgetJpaEntity d SET d.dailyUsedAmount = d.dailyUsedAmount + :amount " +
+           "WHERE d.memberId = :memberId AND d.budgetDate = :budgetDate")
+    int addUsedAmount(
+            @Param("memberId") Long memberId,
+            @Param("budgetDate") LocalDate budgetDate,
+            @Param("amount") Integer amount
+    );
+
+    /**
+     * 회원 ID와 날짜 범위(포함)의 일일 예산 사용 금액을 지출 합계로 재계산
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE daily_budget d SET d.daily_used_amount = COALESCE(" +
+           "(SELECT SUM(e.amount) FROM expenditure e " +
+           "WHERE e.member_id = d.member_id AND e.expended_date = d.budget_date AND e.deleted = false), 0) " +
+           "WHERE d.member_id = :memberId AND d.budget_date BETWEEN :fromDate AND :toDate", nativeQuery = true)
+    int recalculateUsedAmountsInRange(
+            @Param("memberId") Long memberId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate
+    );
 }
@@ -5,7 +5,9 @@ import com.stdev.smartmealtable.domain.budget.DailyBudgetRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Date;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -17,7 +19,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class DailyBudgetRepositoryImpl implements DailyBudgetRepository {
 
+    private static final String INSERT_PREFIX =
+            "INSERT INTO daily_budget (member_id, daily_food_budget, daily_used_amount, budget_date) VALUES ";
+
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?)";
+
     private final DailyBudgetJpaRepository jpaRepository;
+    private final BudgetBulkInserter bulkInserter;
 
     @Override
     public DailyBudget save(DailyBudget dailyBudget) {
@@ -26,6 +34,39 @@ public class DailyBudgetRepositoryImpl implements DailyBudgetRepository {
         return saved.toDomain();
     }
 
+    @Override
+    public List<DailyBudget> saveAll(List<DailyBudget> dailyBudgets) {
+        List<Long> ids = bulkInserter.insert(INSERT_PREFIX, ROW_PLACEHOLDER, dailyBudgets, budget -> new Object[]{
+                budget.getMemberId(),
+                budget.getDailyFoodBudget(),
+                budget.getDailyUsedAmount() != null ? budget.getDailyUsedAmount() : 0,
+                Date.valueOf(budget.getBudgetDate())
+        });
+
+        List<DailyBudget> saved = new ArrayList<>(dailyBudgets.size());
+        for (int i = 0; i < dailyBudgets.size(); i++) {
+            DailyBudget budget = dailyBudgets.get(i);
+            saved.add(DailyBudget.reconstitute(ids.get(i), budget.getMemberId(), budget.getDailyFoodBudget(),
+                    budget.getDailyUsedAmount() != null ? budget.getDailyUsedAmount() : 0, budget.getBudgetDate()));
+        }
+        return saved;
+    }
+
+    @Override
+    public int updateDailyFoodBudgetInRange(Long memberId, LocalDate fromDate, LocalDate toDate, Integer dailyFoodBudget) {
+        return jpaRepository.updateDailyFoodBudgetInRange(memberId, fromDate, toDate, dailyFoodBudget);
+    }
+
+    @Override
+    public int addUsedAmount(Long memberId, LocalDate budgetDate, Integer amount) {
+        return jpaRepository.addUsedAmount(memberId, budgetDate, amount);
+    }
+
+    @Override
+    public int recalculateUsedAmountsInRange(Long memberId, LocalDate fromDate, LocalDate toDate) {
+        return jpaRepository.recalculateUsedAmountsInRange(memberId, fromDate, toDate);
+    }
+
     @Override
     public Optional<DailyBudget> findByMemberIdAndBudgetDate(Long memberId, LocalDate budgetDate) {
         return jpaRepository.findByMemberIdAndBudgetDate(memberId, budgetDate)
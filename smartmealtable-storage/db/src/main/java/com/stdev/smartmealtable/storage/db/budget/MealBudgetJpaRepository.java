@@ -2,6 +2,7 @@ package com.stdev.smartmealtable.storage.db.budget;
 
 import com.stdev.smartmealtable.domain.expenditure.MealType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -56,4 +57,34 @@ public interface MealBudgetJpaRepository extends JpaRepository<MealBudgetJpaEnti
             @Param("fromDate") LocalDate fromDate,
             @Param("toDate") LocalDate toDate
     );
+
+    /**
+     * 회원의 특정 날짜/식사 유형 식사 예산 사용 금액 증가
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MealBudgetJpaEntity m SET m.usedAmount = m.usedAmount + :amount " +
+            "WHERE m.mealType = :mealType " +
+            "AND m.dailyBudgetId IN (SELECT d.budgetId FROM DailyBudgetJpaEntity d WHERE d.memberId = :memberId AND d.budgetDate = :budgetDate)")
+    int addUsedAmount(
+            @Param("memberId") Long memberId,
+            @Param("budgetDate") LocalDate budgetDate,
+            @Param("mealType") MealType mealType,
+            @Param("amount") Integer amount
+    );
+
+    /**
+     * 회원의 날짜 범위(포함) 식사 예산 사용 금액을 식사 유형별 지출 합계로 재계산
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE meal_budget m JOIN daily_budget d ON d.budget_id = m.daily_budget_id " +
+            "SET m.used_amount = COALESCE(" +
+            "(SELECT SUM(e.amount) FROM expenditure e " +
+            "WHERE e.member_id = d.member_id AND e.expended_date = d.budget_date " +
+            "AND e.meal_type = m.meal_type AND e.deleted = false), 0) " +
+            "WHERE d.member_id = :memberId AND d.budget_date BETWEEN :fromDate AND :toDate", nativeQuery = true)
+    int recalculateUsedAmountsInRange(
+            @Param("memberId") Long memberId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate
+    );
 }
@@ -6,7 +6,9 @@ import com.stdev.smartmealtable.domain.expenditure.MealType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Date;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,7 +19,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class MealBudgetRepositoryImpl implements MealBudgetRepository {
 
+    private static final String INSERT_PREFIX =
+            "INSERT INTO meal_budget (daily_budget_id, meal_budget, meal_type, used_amount, budget_date) VALUES ";
+
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?)";
+
     private final MealBudgetJpaRepository jpaRepository;
+    private final BudgetBulkInserter bulkInserter;
 
     @Override
     public MealBudget save(MealBudget mealBudget) {
@@ -26,6 +34,36 @@ public class MealBudgetRepositoryImpl implements MealBudgetRepository {
         return saved.toDomain();
     }
 
+    @Override
+    public List<MealBudget> saveAll(List<MealBudget> mealBudgets) {
+        List<Long> ids = bulkInserter.insert(INSERT_PREFIX, ROW_PLACEHOLDER, mealBudgets, budget -> new Object[]{
+                budget.getDailyBudgetId(),
+                budget.getMealBudget(),
+                budget.getMealType().name(),
+                budget.getUsedAmount() != null ? budget.getUsedAmount() : 0,
+                Date.valueOf(budget.getBudgetDate())
+        });
+
+        List<MealBudget> saved = new ArrayList<>(mealBudgets.size());
+        for (int i = 0; i < mealBudgets.size(); i++) {
+            MealBudget budget = mealBudgets.get(i);
+            saved.add(MealBudget.reconstitute(ids.get(i), budget.getDailyBudgetId(), budget.getMealBudget(),
+                    budget.getMealType(), budget.getUsedAmount() != null ? budget.getUsedAmount() : 0,
+                    budget.getBudgetDate()));
+        }
+        return saved;
+    }
+
+    @Override
+    public int addUsedAmount(Long memberId, LocalDate budgetDate, MealType mealType, Integer amount) {
+        return jpaRepository.addUsedAmount(memberId, budgetDate, mealType, amount);
+    }
+
+    @Override
+    public int recalculateUsedAmountsInRange(Long memberId, LocalDate fromDate, LocalDate toDate) {
+        return jpaRepository.recalculateUsedAmountsInRange(memberId, fromDate, toDate);
+    }
+
     @Override
     public List<MealBudget> findByDailyBudgetId(Long dailyBudgetId) {
         return jpaRepository.findByDailyBudgetId(dailyBudgetId).stream()
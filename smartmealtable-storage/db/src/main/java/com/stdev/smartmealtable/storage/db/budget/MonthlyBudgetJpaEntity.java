@@ -1,12 +1,15 @@
 package com.stdev.smartmealtable.storage.db.budget;
 
 import com.stdev.smartmealtable.domain.budget.MonthlyBudget;
+import com.stdev.smartmealtable.domain.expenditure.MealType;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
  * 월별 예산 JPA 엔티티
@@ -33,12 +36,29 @@ public class MonthlyBudgetJpaEntity {
     @Column(name = "monthly_food_budget", nullable = false)
     private Integer monthlyFoodBudget;
 
-    @Column(name = "monthly_used_amount", nullable = false)
+    // 사용 금액은 addUsedAmount(UPDATE ... + ?)로만 변경 (저장 시 동시 증가분을 덮어쓰지 않도록 UPDATE에서 제외)
+    @Column(name = "monthly_used_amount", nullable = false, updatable = false)
     private Integer monthlyUsedAmount = 0;
 
     @Column(name = "budget_month", nullable = false, length = 7)
     private String budgetMonth;
 
+    // 일일/식사별 예산 기본값 (날짜별 예산 행이 없는 날의 예산 계산용, NULL이면 해당 식사 예산 없음)
+    @Column(name = "default_daily_budget")
+    private Integer defaultDailyBudget;
+
+    @Column(name = "default_breakfast_budget")
+    private Integer defaultBreakfastBudget;
+
+    @Column(name = "default_lunch_budget")
+    private Integer defaultLunchBudget;
+
+    @Column(name = "default_dinner_budget")
+    private Integer defaultDinnerBudget;
+
+    @Column(name = "default_other_budget")
+    private Integer defaultOtherBudget;
+
     // created_at, updated_at은 DB DEFAULT CURRENT_TIMESTAMP로 관리 (도메인에 노출 안 함)
     @Column(name = "created_at", insertable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -57,6 +77,7 @@ public class MonthlyBudgetJpaEntity {
         entity.monthlyFoodBudget = domain.getMonthlyFoodBudget();
         entity.monthlyUsedAmount = domain.getMonthlyUsedAmount();
         entity.budgetMonth = domain.getBudgetMonth();
+        entity.applyDefaults(domain);
         return entity;
     }
 
@@ -69,7 +90,9 @@ public class MonthlyBudgetJpaEntity {
                 this.memberId,
                 this.monthlyFoodBudget,
                 this.monthlyUsedAmount,
-                this.budgetMonth
+                this.budgetMonth,
+                this.defaultDailyBudget,
+                defaultMealBudgets()
         );
     }
 
@@ -79,5 +102,30 @@ public class MonthlyBudgetJpaEntity {
     public void updateFromDomain(MonthlyBudget domain) {
         this.monthlyFoodBudget = domain.getMonthlyFoodBudget();
         this.monthlyUsedAmount = domain.getMonthlyUsedAmount();
+        applyDefaults(domain);
+    }
+
+    private void applyDefaults(MonthlyBudget domain) {
+        Map<MealType, Integer> mealBudgets = domain.getDefaultMealBudgets();
+        this.defaultDailyBudget = domain.getDefaultDailyBudget();
+        this.defaultBreakfastBudget = mealBudgets.get(MealType.BREAKFAST);
+        this.defaultLunchBudget = mealBudgets.get(MealType.LUNCH);
+        this.defaultDinnerBudget = mealBudgets.get(MealType.DINNER);
+        this.defaultOtherBudget = mealBudgets.get(MealType.OTHER);
+    }
+
+    private Map<MealType, Integer> defaultMealBudgets() {
+        Map<MealType, Integer> mealBudgets = new EnumMap<>(MealType.class);
+        putIfPresent(mealBudgets, MealType.BREAKFAST, defaultBreakfastBudget);
+        putIfPresent(mealBudgets, MealType.LUNCH, defaultLunchBudget);
+        putIfPresent(mealBudgets, MealType.DINNER, defaultDinnerBudget);
+        putIfPresent(mealBudgets, MealType.OTHER, defaultOtherBudget);
+        return mealBudgets;
+    }
+
+    private static void putIfPresent(Map<MealType, Integer> mealBudgets, MealType mealType, Integer amount) {
+        if (amount != null) {
+            mealBudgets.put(mealType, amount);
+        }
     }
 }
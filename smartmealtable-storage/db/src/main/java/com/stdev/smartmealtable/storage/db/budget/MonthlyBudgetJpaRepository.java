@@ -1,9 +1,12 @@
 package com.stdev.smartmealtable.storage.db.budget;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -25,4 +28,51 @@ public interface MonthlyBudgetJpaRepository extends JpaRepository<MonthlyBudgetJ
      */
     @Query("SELECT m FROM MonthlyBudgetJpaEntity m WHERE m.memberId = :memberId ORDER BY m.budgetMonth DESC LIMIT 1")
     Optional<MonthlyBudgetJpaEntity> findLatestByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * 예산 월의 회원 ID 키셋 페이징 조회 (회원 ID 오름차순)
+     */
+    @Query("SELECT m.memberId FROM MonthlyBudgetJpaEntity m WHERE m.budgetMonth = :budgetMonth " +
+           "AND (:lastMemberId IS NULL OR m.memberId > :lastMemberId) ORDER BY m.memberId ASC")
+    List<Long> findMemberIdsByBudgetMonth(
+            @Param("budgetMonth") String budgetMonth,
+            @Param("lastMemberId") Long lastMemberId,
+            Pageable pageable
+    );
+
+    /**
+     * 회원 ID와 예산 월의 월별 예산 사용 금액 증가
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MonthlyBudgetJpaEntity m SET m.monthlyUsedAmount = m.monthlyUsedAmount + :amount " +
+           "WHERE m.memberId = :memberId AND m.budgetMonth = :budgetMonth")
+    int addUsedAmount(
+            @Param("memberId") Long memberId,
+            @Param("budgetMonth") String budgetMonth,
+            @Param("amount") Integer amount
+    );
+
+    /**
+     * 회원 ID와 예산 월의 월별 예산 금액 변경
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MonthlyBudgetJpaEntity m SET m.monthlyFoodBudget = :amount " +
+           "WHERE m.memberId = :memberId AND m.budgetMonth = :budgetMonth")
+    int updateMonthlyFoodBudget(
+            @Param("memberId") Long memberId,
+            @Param("budgetMonth") String budgetMonth,
+            @Param("amount") Integer amount
+    );
+
+    /**
+     * 회원 ID와 예산 월의 일일 예산 기본값 변경
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MonthlyBudgetJpaEntity m SET m.defaultDailyBudget = :amount " +
+           "WHERE m.memberId = :memberId AND m.budgetMonth = :budgetMonth")
+    int updateDefaultDailyBudget(
+            @Param("memberId") Long memberId,
+            @Param("budgetMonth") String budgetMonth,
+            @Param("amount") Integer amount
+    );
 }
@@ -3,8 +3,10 @@ package com.stdev.smartmealtable.storage.db.budget;
 import com.stdev.smartmealtable.domain.budget.MonthlyBudget;
 import com.stdev.smartmealtable.domain.budget.MonthlyBudgetRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -23,6 +25,21 @@ public class MonthlyBudgetRepositoryImpl implements MonthlyBudgetRepository {
         return saved.toDomain();
     }
 
+    @Override
+    public int addUsedAmount(Long memberId, String budgetMonth, Integer amount) {
+        return jpaRepository.addUsedAmount(memberId, budgetMonth, amount);
+    }
+
+    @Override
+    public int updateMonthlyFoodBudget(Long memberId, String budgetMonth, Integer amount) {
+        return jpaRepository.updateMonthlyFoodBudget(memberId, budgetMonth, amount);
+    }
+
+    @Override
+    public int updateDefaultDailyBudget(Long memberId, String budgetMonth, Integer amount) {
+        return jpaRepository.updateDefaultDailyBudget(memberId, budgetMonth, amount);
+    }
+
     @Override
     public Optional<MonthlyBudget> findByMemberIdAndBudgetMonth(Long memberId, String budgetMonth) {
         return jpaRepository.findByMemberIdAndBudgetMonth(memberId, budgetMonth)
@@ -34,4 +51,9 @@ public class MonthlyBudgetRepositoryImpl implements MonthlyBudgetRepository {
         return jpaRepository.findLatestByMemberId(memberId)
                 .map(MonthlyBudgetJpaEntity::toDomain);
     }
+
+    @Override
+    public List<Long> findMemberIdsByBudgetMonth(String budgetMonth, Long lastMemberId, int limit) {
+        return jpaRepository.findMemberIdsByBudgetMonth(budgetMonth, lastMemberId, PageRequest.of(0, limit));
+    }
 }
@@ -138,6 +138,29 @@ public class ExpenditureJpaEntity {
         );
     }
     
+    /**
+     * JPA Entity → Domain 변환 (지출 항목 제외)
+     * 목록 조회처럼 항목이 필요 없는 경우 지연 로딩 컬렉션을 건드리지 않습니다.
+     */
+    public Expenditure toDomainWithoutItems() {
+        return Expenditure.reconstruct(
+                this.id,
+                this.memberId,
+                this.storeId,
+                this.storeName,
+                this.amount,
+                this.discount,
+                this.expendedDate,
+                this.expendedTime,
+                this.categoryId,
+                this.mealType,
+                this.memo,
+                List.of(),
+                this.createdAt,
+                this.deleted
+        );
+    }
+    
     /**
      * 양방향 관계 편의 메서드
      */
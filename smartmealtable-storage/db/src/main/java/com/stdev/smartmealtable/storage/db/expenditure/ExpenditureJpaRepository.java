@@ -2,10 +2,12 @@ package com.stdev.smartmealtable.storage.db.expenditure;
 
 import com.stdev.smartmealtable.domain.expenditure.MealType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -21,6 +23,14 @@ public interface ExpenditureJpaRepository extends JpaRepository<ExpenditureJpaEn
     @Query("SELECT e FROM ExpenditureJpaEntity e WHERE e.id = :id AND e.deleted = false")
     Optional<ExpenditureJpaEntity> findByIdAndNotDeleted(@Param("id") Long id);
     
+    /**
+     * 삭제되지 않은 지출만 소프트 삭제
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ExpenditureJpaEntity e SET e.deleted = true, e.updatedAt = :updatedAt " +
+           "WHERE e.id = :id AND e.deleted = false")
+    int softDelete(@Param("id") Long id, @Param("updatedAt") LocalDateTime updatedAt);
+    
     /**
      * 회원 ID와 기간으로 조회
      */
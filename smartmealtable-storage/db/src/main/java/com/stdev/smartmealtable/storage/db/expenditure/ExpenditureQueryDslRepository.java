@@ -0,0 +1,134 @@
+package com.stdev.smartmealtable.storage.db.expenditure;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.stdev.smartmealtable.domain.expenditure.ExpenditureRepository.ExpenditureCursor;
+import com.stdev.smartmealtable.domain.expenditure.ExpenditureRepository.ExpenditureSummary;
+import com.stdev.smartmealtable.domain.expenditure.MealType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.stdev.smartmealtable.storage.db.expenditure.QExpenditureJpaEntity.expenditureJpaEntity;
+
+/**
+ * Expenditure QueryDSL Repository
+ * 지출 내역 목록의 필터/키셋 페이징/집계를 DB에서 처리합니다.
+ *
+ * 정렬 (expended_date DESC, expended_time DESC, expenditure_id DESC)은
+ * idx_expenditure_member_date (member_id, deleted, expended_date, expended_time, expenditure_id)를
+ * 역방향으로 읽는 순서와 같으므로 페이지마다 필요한 행만 읽습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExpenditureQueryDslRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 지출 내역 목록 페이지 조회 (항목 미포함)
+     *
+     * @param cursor 이전 페이지 마지막 지출 위치 (null이면 offset 사용)
+     */
+    public List<ExpenditureJpaEntity> findPage(
+            Long memberId,
+            LocalDate startDate,
+            LocalDate endDate,
+            MealType mealType,
+            Long categoryId,
+            ExpenditureCursor cursor,
+            long offset,
+            int limit
+    ) {
+        return queryFactory
+                .selectFrom(expenditureJpaEntity)
+                .where(
+                        memberAndPeriod(memberId, startDate, endDate),
+                        mealTypeEq(mealType),
+                        categoryIdEq(categoryId),
+                        after(cursor)
+                )
+                // MySQL은 DESC 정렬에서 NULL을 마지막에 두므로 expended_time이 없는 지출은 같은 날짜의 마지막
+                .orderBy(
+                        expenditureJpaEntity.expendedDate.desc(),
+                        expenditureJpaEntity.expendedTime.desc(),
+                        expenditureJpaEntity.id.desc()
+                )
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 지출 합계/건수 집계 (findPage와 같은 필터)
+     */
+    public ExpenditureSummary summarize(
+            Long memberId,
+            LocalDate startDate,
+            LocalDate endDate,
+            MealType mealType,
+            Long categoryId
+    ) {
+        NumberExpression<Long> totalAmount = expenditureJpaEntity.amount.longValue().sum().coalesce(0L);
+        NumberExpression<Long> totalCount = expenditureJpaEntity.count();
+
+        Tuple result = queryFactory
+                .select(totalAmount, totalCount)
+                .from(expenditureJpaEntity)
+                .where(
+                        memberAndPeriod(memberId, startDate, endDate),
+                        mealTypeEq(mealType),
+                        categoryIdEq(categoryId)
+                )
+                .fetchOne();
+
+        if (result == null) {
+            return new ExpenditureSummary(0L, 0L);
+        }
+        Long amount = result.get(totalAmount);
+        Long count = result.get(totalCount);
+        return new ExpenditureSummary(amount != null ? amount : 0L, count != null ? count : 0L);
+    }
+
+    private BooleanExpression memberAndPeriod(Long memberId, LocalDate startDate, LocalDate endDate) {
+        return expenditureJpaEntity.memberId.eq(memberId)
+                .and(expenditureJpaEntity.deleted.isFalse())
+                .and(expenditureJpaEntity.expendedDate.between(startDate, endDate));
+    }
+
+    private BooleanExpression mealTypeEq(MealType mealType) {
+        return mealType != null ? expenditureJpaEntity.mealType.eq(mealType) : null;
+    }
+
+    private BooleanExpression categoryIdEq(Long categoryId) {
+        return categoryId != null ? expenditureJpaEntity.categoryId.eq(categoryId) : null;
+    }
+
+    /**
+     * 정렬 순서상 cursor 다음에 오는 지출
+     */
+    private BooleanExpression after(ExpenditureCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        BooleanExpression sameDateAfter;
+        if (cursor.expendedTime() == null) {
+            // 시각이 없는 지출은 같은 날짜의 마지막이므로 남은 것은 시각 없는 지출 중 ID가 더 작은 것뿐
+            sameDateAfter = expenditureJpaEntity.expendedTime.isNull()
+                    .and(expenditureJpaEntity.id.lt(cursor.expenditureId()));
+        } else {
+            sameDateAfter = expenditureJpaEntity.expendedTime.lt(cursor.expendedTime())
+                    .or(expenditureJpaEntity.expendedTime.isNull())
+                    .or(expenditureJpaEntity.expendedTime.eq(cursor.expendedTime())
+                            .and(expenditureJpaEntity.id.lt(cursor.expenditureId())));
+        }
+
+        return expenditureJpaEntity.expendedDate.lt(cursor.expendedDate())
+                .or(expenditureJpaEntity.expendedDate.eq(cursor.expendedDate()).and(sameDateAfter));
+    }
+}
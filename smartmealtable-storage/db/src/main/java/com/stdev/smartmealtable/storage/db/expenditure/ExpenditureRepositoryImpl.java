@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -21,6 +22,7 @@ import java.util.stream.Collectors;
 public class ExpenditureRepositoryImpl implements ExpenditureRepository {
     
     private final ExpenditureJpaRepository jpaRepository;
+    private final ExpenditureQueryDslRepository queryDslRepository;
     
     @Override
     public Expenditure save(Expenditure expenditure) {
@@ -49,6 +51,34 @@ public class ExpenditureRepositoryImpl implements ExpenditureRepository {
                 .collect(Collectors.toList());
     }
     
+    @Override
+    public List<Expenditure> findPage(
+            Long memberId,
+            LocalDate startDate,
+            LocalDate endDate,
+            MealType mealType,
+            Long categoryId,
+            ExpenditureCursor cursor,
+            long offset,
+            int limit
+    ) {
+        return queryDslRepository.findPage(memberId, startDate, endDate, mealType, categoryId, cursor, offset, limit)
+                .stream()
+                .map(ExpenditureJpaEntity::toDomainWithoutItems)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public ExpenditureSummary summarize(
+            Long memberId,
+            LocalDate startDate,
+            LocalDate endDate,
+            MealType mealType,
+            Long categoryId
+    ) {
+        return queryDslRepository.summarize(memberId, startDate, endDate, mealType, categoryId);
+    }
+    
     @Override
     public Optional<Expenditure> findByIdAndMemberId(Long expenditureId, Long memberId) {
         return jpaRepository.findByIdAndMemberId(expenditureId, memberId)
@@ -61,6 +91,11 @@ public class ExpenditureRepositoryImpl implements ExpenditureRepository {
         jpaRepository.delete(entity);
     }
     
+    @Override
+    public int softDelete(Long expenditureId) {
+        return jpaRepository.softDelete(expenditureId, LocalDateTime.now());
+    }
+    
     @Override
     public boolean existsByMemberIdAndMonth(Long memberId, int year, int month) {
         return jpaRepository.existsByMemberIdAndMonth(memberId, year, month);
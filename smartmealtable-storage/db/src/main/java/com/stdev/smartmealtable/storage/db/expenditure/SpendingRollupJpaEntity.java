@@ -0,0 +1,51 @@
+package com.stdev.smartmealtable.storage.db.expenditure;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 회원별 일간 지출 집계 JPA 엔티티
+ * 읽기/쓰기는 {@link SpendingRollupRepositoryImpl}의 SQL로 처리하며, 이 엔티티는 테이블 정의용입니다.
+ *
+ * 유니크 키에 NULL이 들어가면 중복 판정이 되지 않으므로
+ * 카테고리 없음은 category_id = 0, 식사 유형 없음은 meal_type = 'NONE'으로 저장합니다.
+ */
+@Entity
+@Table(
+        name = "expenditure_daily_rollup",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_expenditure_daily_rollup_cell",
+                columnNames = {"member_id", "rollup_date", "category_id", "meal_type"}
+        )
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SpendingRollupJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "expenditure_daily_rollup_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "rollup_date", nullable = false)
+    private LocalDate rollupDate;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Column(name = "meal_type", nullable = false, length = 20)
+    private String mealType;
+
+    @Column(name = "total_amount", nullable = false)
+    private Long totalAmount;
+
+    @Column(name = "expenditure_count", nullable = false)
+    private Long expenditureCount;
+}
@@ -0,0 +1,105 @@
+package com.stdev.smartmealtable.storage.db.expenditure;
+
+import com.stdev.smartmealtable.domain.expenditure.MealType;
+import com.stdev.smartmealtable.domain.expenditure.SpendingRollupCell;
+import com.stdev.smartmealtable.domain.expenditure.SpendingRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * SpendingRollupRepository 구현체 (JdbcTemplate)
+ *
+ * 증감분은 INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로 반영하므로
+ * 같은 셀에 동시에 지출이 등록되어도 행 잠금 안에서 누적되어 갱신이 유실되지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SpendingRollupRepositoryImpl implements SpendingRollupRepository {
+
+    /**
+     * 카테고리 없음 (유니크 키에 NULL을 쓰지 않기 위한 값)
+     */
+    static final long NO_CATEGORY = 0L;
+
+    /**
+     * 식사 유형 없음 (유니크 키에 NULL을 쓰지 않기 위한 값)
+     */
+    static final String NO_MEAL_TYPE = "NONE";
+
+    static final String UPSERT_SQL =
+            "INSERT INTO expenditure_daily_rollup "
+                    + "(member_id, rollup_date, category_id, meal_type, total_amount, expenditure_count) "
+                    + "VALUES (?, ?, ?, ?, ?, ?) AS new "
+                    + "ON DUPLICATE KEY UPDATE "
+                    + "total_amount = total_amount + new.total_amount, "
+                    + "expenditure_count = expenditure_count + new.expenditure_count";
+
+    private static final String SELECT_CELLS_SQL =
+            "SELECT rollup_date, category_id, meal_type, total_amount, expenditure_count "
+                    + "FROM expenditure_daily_rollup "
+                    + "WHERE member_id = ? AND rollup_date BETWEEN ? AND ?";
+
+    private static final String DELETE_MEMBER_SQL =
+            "DELETE FROM expenditure_daily_rollup WHERE member_id = ?";
+
+    private static final String REBUILD_MEMBER_SQL =
+            "INSERT INTO expenditure_daily_rollup "
+                    + "(member_id, rollup_date, category_id, meal_type, total_amount, expenditure_count) "
+                    + "SELECT member_id, expended_date, COALESCE(category_id, " + NO_CATEGORY + "), "
+                    + "COALESCE(meal_type, '" + NO_MEAL_TYPE + "'), SUM(amount), COUNT(*) "
+                    + "FROM expenditure "
+                    + "WHERE member_id = ? AND deleted = false "
+                    + "GROUP BY member_id, expended_date, COALESCE(category_id, " + NO_CATEGORY + "), "
+                    + "COALESCE(meal_type, '" + NO_MEAL_TYPE + "')";
+
+    private static final String SELECT_MEMBER_IDS_SQL =
+            "SELECT DISTINCT member_id FROM expenditure WHERE member_id > ? ORDER BY member_id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void apply(Long memberId, LocalDate rollupDate, Long categoryId, MealType mealType,
+                      long amountDelta, long countDelta) {
+        jdbcTemplate.update(UPSERT_SQL,
+                memberId,
+                Date.valueOf(rollupDate),
+                categoryId != null ? categoryId : NO_CATEGORY,
+                mealType != null ? mealType.name() : NO_MEAL_TYPE,
+                amountDelta,
+                countDelta);
+    }
+
+    @Override
+    public List<SpendingRollupCell> findCells(Long memberId, LocalDate startDate, LocalDate endDate) {
+        return jdbcTemplate.query(SELECT_CELLS_SQL, (rs, rowNum) -> {
+            long categoryId = rs.getLong("category_id");
+            String mealType = rs.getString("meal_type");
+            return new SpendingRollupCell(
+                    rs.getDate("rollup_date").toLocalDate(),
+                    categoryId != NO_CATEGORY ? categoryId : null,
+                    !NO_MEAL_TYPE.equals(mealType) ? MealType.valueOf(mealType) : null,
+                    rs.getLong("total_amount"),
+                    rs.getLong("expenditure_count")
+            );
+        }, memberId, Date.valueOf(startDate), Date.valueOf(endDate));
+    }
+
+    @Override
+    @Transactional
+    public int rebuild(Long memberId) {
+        jdbcTemplate.update(DELETE_MEMBER_SQL, memberId);
+        return jdbcTemplate.update(REBUILD_MEMBER_SQL, memberId);
+    }
+
+    @Override
+    public List<Long> findMemberIdsWithExpenditure(Long lastMemberId, int limit) {
+        return jdbcTemplate.queryForList(SELECT_MEMBER_IDS_SQL, Long.class,
+                lastMemberId != null ? lastMemberId : 0L, limit);
+    }
+}
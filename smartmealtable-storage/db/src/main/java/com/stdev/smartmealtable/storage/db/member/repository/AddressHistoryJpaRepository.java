@@ -1,6 +1,7 @@
 package com.stdev.smartmealtable.storage.db.member.repository;
 
 import com.stdev.smartmealtable.storage.db.member.entity.AddressHistoryJpaEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -25,6 +26,13 @@ public interface AddressHistoryJpaRepository extends JpaRepository<AddressHistor
     @Query("SELECT a FROM AddressHistoryJpaEntity a WHERE a.memberId = :memberId AND a.isPrimary = true")
     Optional<AddressHistoryJpaEntity> findPrimaryByMemberId(@Param("memberId") Long memberId);
     
+    /**
+     * 기본 주소 키셋 페이징 조회 (회원 ID 오름차순)
+     */
+    @Query("SELECT a FROM AddressHistoryJpaEntity a WHERE a.isPrimary = true " +
+           "AND (:lastMemberId IS NULL OR a.memberId > :lastMemberId) ORDER BY a.memberId ASC")
+    List<AddressHistoryJpaEntity> findPrimaryAfterMemberId(@Param("lastMemberId") Long lastMemberId, Pageable pageable);
+    
     /**
      * 회원의 주소 개수 조회
      */
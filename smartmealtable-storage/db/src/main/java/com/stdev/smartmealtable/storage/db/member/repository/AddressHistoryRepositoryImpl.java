@@ -4,6 +4,7 @@ import com.stdev.smartmealtable.domain.member.entity.AddressHistory;
 import com.stdev.smartmealtable.domain.member.repository.AddressHistoryRepository;
 import com.stdev.smartmealtable.storage.db.member.entity.AddressHistoryJpaEntity;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -46,6 +47,14 @@ public class AddressHistoryRepositoryImpl implements AddressHistoryRepository {
                 .map(AddressHistoryJpaEntity::toDomain);
     }
     
+    @Override
+    public List<AddressHistory> findPrimaryAddressesAfterMemberId(Long lastMemberId, int limit) {
+        return jpaRepository.findPrimaryAfterMemberId(lastMemberId, PageRequest.of(0, limit))
+                .stream()
+                .map(AddressHistoryJpaEntity::toDomain)
+                .collect(Collectors.toList());
+    }
+    
     @Override
     public long countByMemberId(Long memberId) {
         return jpaRepository.countByMemberId(memberId);
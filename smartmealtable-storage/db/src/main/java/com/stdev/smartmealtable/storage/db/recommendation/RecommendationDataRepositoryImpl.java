@@ -16,6 +16,7 @@ import com.stdev.smartmealtable.domain.preference.PreferenceRepository;
 import com.stdev.smartmealtable.domain.store.Store;
 import com.stdev.smartmealtable.domain.store.StoreRepository;
 import com.stdev.smartmealtable.domain.store.StoreType;
+import com.stdev.smartmealtable.storage.db.store.StoreGeoIndex;
 import com.stdev.smartmealtable.storage.db.store.StoreQueryDslRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,9 +24,11 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -38,6 +41,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class RecommendationDataRepositoryImpl implements RecommendationDataRepository {
 
+    /**
+     * 반경 조회 최대 가게 수 (거리순 상위)
+     */
+    private static final int MAX_STORES_IN_RADIUS = 1000;
+
     private final MemberRepository memberRepository;
     private final PreferenceRepository preferenceRepository;
     private final ExpenditureRepository expenditureRepository;
@@ -45,6 +53,7 @@ public class RecommendationDataRepositoryImpl implements RecommendationDataRepos
     private final StoreRepository storeRepository;
     private final FavoriteRepository favoriteRepository;
     private final StoreQueryDslRepository storeQueryDslRepository;
+    private final StoreGeoIndex storeGeoIndex;
 
     @Override
     public UserProfile loadUserProfile(Long memberId) {
@@ -154,23 +163,9 @@ public class RecommendationDataRepositoryImpl implements RecommendationDataRepos
         log.debug("반경 내 가게 조회 (검색어 포함) - lat: {}, lon: {}, radius: {}km, keyword: {}, excludedCategories: {}, openOnly: {}",
                 latitude, longitude, radiusKm, keyword, excludedCategoryIds, isOpenOnly);
 
-        // QueryDSL을 활용한 복잡한 쿼리 실행
-        StoreRepository.StoreSearchResult result = storeQueryDslRepository.searchStores(
-                keyword,        // 검색어 (가게명 또는 음식명)
-                latitude,
-                longitude,
-                radiusKm,
-                null,           // categoryId
-                isOpenOnly,
-                storeType,
-                "DISTANCE",     // sortBy
-                0,              // page
-                1000            // size (충분히 큰 값)
-        );
-
-        List<Store> stores = result.stores().stream()
-                .map(storeWithDistance -> storeWithDistance.store())
-                .collect(Collectors.toList());
+        List<Store> stores = storeGeoIndex.isReady()
+                ? findStoresInRadiusByGeoIndex(latitude, longitude, radiusKm, keyword, storeType)
+                : findStoresInRadiusByQuery(latitude, longitude, radiusKm, keyword, isOpenOnly, storeType);
 
         // excludedCategoryIds 필터링 (메모리에서 처리)
         // 주 카테고리(첫 번째)를 확인하여 필터링
@@ -189,6 +184,80 @@ public class RecommendationDataRepositoryImpl implements RecommendationDataRepos
         return stores;
     }
 
+    /**
+     * 위치 인덱스 기반 반경 조회
+     *
+     * <p>인덱스에서 반경 내 후보 ID를 거리순으로 얻은 뒤, 후보 ID 청크 단위로만 DB를 조회합니다.
+     * 검색어가 없으면 대부분 첫 청크에서 끝나고, 검색어가 있으면 결과가 채워질 때까지 다음 청크를 확인합니다.</p>
+     */
+    private List<Store> findStoresInRadiusByGeoIndex(
+            BigDecimal latitude,
+            BigDecimal longitude,
+            double radiusKm,
+            String keyword,
+            StoreType storeType
+    ) {
+        List<StoreGeoIndex.Candidate> candidates = storeGeoIndex.findWithinRadius(
+                latitude.doubleValue(),
+                longitude.doubleValue(),
+                radiusKm,
+                storeType
+        );
+
+        List<Store> stores = new ArrayList<>();
+        for (int from = 0; from < candidates.size() && stores.size() < MAX_STORES_IN_RADIUS; from += MAX_STORES_IN_RADIUS) {
+            List<Long> chunkIds = candidates.subList(from, Math.min(from + MAX_STORES_IN_RADIUS, candidates.size()))
+                    .stream()
+                    .map(StoreGeoIndex.Candidate::storeId)
+                    .collect(Collectors.toList());
+
+            Map<Long, Store> matched = storeQueryDslRepository.findStoresByIdsMatchingKeyword(chunkIds, keyword)
+                    .stream()
+                    .collect(Collectors.toMap(Store::getStoreId, Function.identity()));
+
+            // 후보 순서(거리순)를 유지하며 추가
+            for (Long storeId : chunkIds) {
+                Store store = matched.get(storeId);
+                if (store != null && stores.size() < MAX_STORES_IN_RADIUS) {
+                    stores.add(store);
+                }
+            }
+        }
+
+        log.debug("위치 인덱스 반경 조회 - 후보 {} 건, 결과 {} 건", candidates.size(), stores.size());
+        return stores;
+    }
+
+    /**
+     * DB 거리 쿼리 기반 반경 조회 (위치 인덱스 미사용 시)
+     */
+    private List<Store> findStoresInRadiusByQuery(
+            BigDecimal latitude,
+            BigDecimal longitude,
+            double radiusKm,
+            String keyword,
+            boolean isOpenOnly,
+            StoreType storeType
+    ) {
+        // QueryDSL을 활용한 복잡한 쿼리 실행
+        StoreRepository.StoreSearchResult result = storeQueryDslRepository.searchStores(
+                keyword,        // 검색어 (가게명 또는 음식명)
+                latitude,
+                longitude,
+                radiusKm,
+                null,           // categoryId
+                isOpenOnly,
+                storeType,
+                "DISTANCE",     // sortBy
+                0,              // page
+                MAX_STORES_IN_RADIUS
+        );
+
+        return result.stores().stream()
+                .map(storeWithDistance -> storeWithDistance.store())
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Map<Long, Long> countFavoritesByStoreIds(List<Long> storeIds) {
         if (storeIds == null || storeIds.isEmpty()) {
@@ -4,9 +4,12 @@ import com.stdev.smartmealtable.domain.search.SearchKeywordAggregate;
 import com.stdev.smartmealtable.domain.search.SearchKeywordEvent;
 import com.stdev.smartmealtable.domain.search.SearchKeywordEventRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,7 +20,19 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class SearchKeywordEventRepositoryImpl implements SearchKeywordEventRepository {
 
+    /**
+     * 다중 행 INSERT 한 문장에 담을 최대 행 수 (행당 바인딩 파라미터 7개)
+     */
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO search_keyword_event "
+                    + "(member_id, raw_keyword, normalized_keyword, clicked_food_id, latitude, longitude, created_at) VALUES ";
+
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?)";
+
     private final SearchKeywordEventJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public SearchKeywordEvent save(SearchKeywordEvent event) {
@@ -26,6 +41,16 @@ public class SearchKeywordEventRepositoryImpl implements SearchKeywordEventRepos
         return saved.toDomain();
     }
 
+    @Override
+    public int saveAll(List<SearchKeywordEvent> events) {
+        int inserted = 0;
+        for (int from = 0; from < events.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<SearchKeywordEvent> chunk = events.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, events.size()));
+            inserted += jdbcTemplate.update(buildInsertSql(chunk.size()), toParameters(chunk));
+        }
+        return inserted;
+    }
+
     @Override
     public List<SearchKeywordAggregate> aggregateBetween(LocalDateTime from, LocalDateTime to, int prefixLength) {
         return jpaRepository.aggregateKeywordCounts(from, to, prefixLength)
@@ -38,4 +63,32 @@ public class SearchKeywordEventRepositoryImpl implements SearchKeywordEventRepos
                 ))
                 .collect(Collectors.toList());
     }
+
+    private String buildInsertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW_PLACEHOLDER.length() + 2));
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+        }
+        return sql.toString();
+    }
+
+    private Object[] toParameters(List<SearchKeywordEvent> events) {
+        List<Object> parameters = new ArrayList<>(events.size() * 7);
+        for (SearchKeywordEvent event : events) {
+            // 저장 시각이 아닌 이벤트 발생 시각을 기록 (지연 저장으로 집계 구간이 밀리지 않도록)
+            LocalDateTime createdAt = event.getCreatedAt() != null ? event.getCreatedAt() : LocalDateTime.now();
+            parameters.add(event.getMemberId());
+            parameters.add(event.getRawKeyword());
+            parameters.add(event.getNormalizedKeyword());
+            parameters.add(event.getClickedFoodId());
+            parameters.add(event.getLatitude());
+            parameters.add(event.getLongitude());
+            parameters.add(Timestamp.valueOf(createdAt));
+        }
+        return parameters.toArray();
+    }
 }
@@ -0,0 +1,85 @@
+package com.stdev.smartmealtable.storage.db.store;
+
+import com.stdev.smartmealtable.domain.store.Store;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 가게 카테고리 일괄 로딩 (Batch Hydration)
+ *
+ * <p>페이지 단위로 조회한 가게들의 store_category 매핑을 IN 쿼리 한 번으로 읽어
+ * storeId별로 묶은 뒤 StoreEntityMapper로 Store 도메인을 만듭니다.
+ * 가게마다 카테고리를 따로 조회하던 N+1 쿼리를 제거하여, 목록 조회의 쿼리 수가
+ * 페이지 크기와 무관하게 일정하도록 합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreCategoryHydrator {
+
+    private static final int MAX_IN_CLAUSE_SIZE = 1000;
+
+    private final StoreCategoryJpaRepository storeCategoryJpaRepository;
+
+    /**
+     * JPA Entity 목록 → Domain Store 목록 (입력 순서 유지)
+     */
+    public List<Store> toDomains(List<StoreJpaEntity> entities) {
+        if (entities == null || entities.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, List<Long>> categoryIdsByStoreId = loadCategoryIds(
+                entities.stream().map(StoreJpaEntity::getStoreId).collect(Collectors.toList())
+        );
+
+        return entities.stream()
+                .map(entity -> toDomain(entity, categoryIdsByStoreId))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 미리 로드한 카테고리 맵으로 단일 가게 변환
+     */
+    public Store toDomain(StoreJpaEntity entity, Map<Long, List<Long>> categoryIdsByStoreId) {
+        List<Long> categoryIds = categoryIdsByStoreId.get(entity.getStoreId());
+        return StoreEntityMapper.toDomain(entity, categoryIds != null ? categoryIds : new ArrayList<>());
+    }
+
+    /**
+     * 여러 가게의 카테고리 ID를 한 번에 조회
+     *
+     * @param storeIds 가게 ID 목록
+     * @return storeId → 카테고리 ID 목록 (display_order 오름차순)
+     */
+    public Map<Long, List<Long>> loadCategoryIds(Collection<Long> storeIds) {
+        Set<Long> distinctIds = storeIds == null ? Set.of() : storeIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (distinctIds.isEmpty()) {
+            return Map.of();
+        }
+
+        // 전체 가게 조회처럼 ID가 매우 많은 경우에만 IN 절을 나누어 조회 (페이지 단위는 항상 1회)
+        List<Long> ids = new ArrayList<>(distinctIds);
+        Map<Long, List<Long>> categoryIdsByStoreId = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += MAX_IN_CLAUSE_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + MAX_IN_CLAUSE_SIZE, ids.size()));
+            for (StoreCategoryJpaEntity mapping : storeCategoryJpaRepository.findByStoreIdInOrderByDisplayOrder(chunk)) {
+                categoryIdsByStoreId
+                        .computeIfAbsent(mapping.getStoreId(), key -> new ArrayList<>())
+                        .add(mapping.getCategoryId());
+            }
+        }
+        return categoryIdsByStoreId;
+    }
+}
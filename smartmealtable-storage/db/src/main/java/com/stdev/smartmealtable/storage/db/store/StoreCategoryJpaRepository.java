@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -18,6 +19,13 @@ public interface StoreCategoryJpaRepository extends JpaRepository<StoreCategoryJ
     @Query("SELECT sc.categoryId FROM StoreCategoryJpaEntity sc WHERE sc.storeId = :storeId ORDER BY sc.displayOrder ASC")
     List<Long> findCategoryIdsByStoreId(@Param("storeId") Long storeId);
     
+    /**
+     * 여러 가게의 카테고리 매핑을 한 번에 조회 (가게별 display_order 오름차순)
+     * 목록 조회 시 가게마다 카테고리를 조회하는 N+1 쿼리를 방지합니다.
+     */
+    @Query("SELECT sc FROM StoreCategoryJpaEntity sc WHERE sc.storeId IN :storeIds ORDER BY sc.storeId ASC, sc.displayOrder ASC")
+    List<StoreCategoryJpaEntity> findByStoreIdInOrderByDisplayOrder(@Param("storeIds") Collection<Long> storeIds);
+    
     /**
      * 특정 가게에 속한 모든 매핑 레코드 조회
      */
@@ -0,0 +1,26 @@
+package com.stdev.smartmealtable.storage.db.store;
+
+import com.stdev.smartmealtable.domain.store.StoreType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 위치 인덱스 적재용 가게 좌표 프로젝션
+ * StoreGeoIndex 워밍/증분 동기화 시 엔티티 전체 대신 필요한 컬럼만 조회합니다.
+ *
+ * @param storeId   가게 ID
+ * @param latitude  위도
+ * @param longitude 경도
+ * @param storeType 가게 유형
+ * @param deleted   논리 삭제 여부
+ * @param updatedAt 마지막 수정 시각 (DB 관리 감사 필드)
+ */
+public record StoreCoordinate(
+        Long storeId,
+        double latitude,
+        double longitude,
+        StoreType storeType,
+        boolean deleted,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,222 @@
+package com.stdev.smartmealtable.storage.db.store;
+
+import com.stdev.smartmealtable.domain.store.StoreType;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가게 좌표 그리드 인덱스 (In-Memory)
+ *
+ * <p>위경도를 고정 크기 셀(약 1km)로 나누어 셀 → 가게 ID 집합으로 관리합니다.
+ * 반경 조회는 바운딩 박스에 걸친 셀만 훑은 뒤 Haversine 거리로 정확히 걸러내므로,
+ * store 테이블 전체에 거리 계산식을 돌리지 않고도 후보 가게 ID를 거리순으로 얻을 수 있습니다.</p>
+ *
+ * <p>인덱스는 후보 선정 용도로만 사용하며, 가게 정보는 항상 DB에서 ID로 다시 조회합니다.
+ * 따라서 다른 프로세스(admin, crawler)의 변경이 반영되기 전 잠시 stale 하더라도
+ * 삭제된 가게가 응답에 노출되지는 않습니다.</p>
+ *
+ * @see StoreGeoIndexSynchronizer
+ */
+@Component
+public class StoreGeoIndex {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE_LATITUDE = 111.32;
+
+    /**
+     * 셀 한 변의 크기 (도 단위, 위도 기준 약 1.1km)
+     */
+    static final double CELL_SIZE_DEGREES = 0.01;
+
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+    private final Map<Long, IndexedStore> stores = new ConcurrentHashMap<>();
+
+    private volatile boolean ready = false;
+
+    /**
+     * 워밍이 끝나 조회에 사용할 수 있는지 여부
+     * 준비되지 않은 경우 호출자는 DB 거리 쿼리로 대체해야 합니다.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    void markReady() {
+        this.ready = true;
+    }
+
+    /**
+     * 인덱싱된 가게 수
+     */
+    public int size() {
+        return stores.size();
+    }
+
+    /**
+     * 좌표 프로젝션을 인덱스에 반영 (삭제된 가게는 제거)
+     */
+    public void apply(StoreCoordinate coordinate) {
+        if (coordinate.deleted()) {
+            remove(coordinate.storeId());
+        } else {
+            upsert(coordinate.storeId(), coordinate.latitude(), coordinate.longitude(), coordinate.storeType());
+        }
+    }
+
+    /**
+     * 가게 좌표 추가 또는 갱신
+     * 좌표가 다른 셀로 이동한 경우 이전 셀에서 제거합니다.
+     */
+    public synchronized void upsert(Long storeId, double latitude, double longitude, StoreType storeType) {
+        if (storeId == null) {
+            return;
+        }
+        long cellKey = cellKey(toCell(latitude), toCell(longitude));
+        IndexedStore previous = stores.put(storeId, new IndexedStore(storeId, latitude, longitude, storeType, cellKey));
+        if (previous != null && previous.cellKey() != cellKey) {
+            detachFromCell(previous.cellKey(), storeId);
+        }
+        cells.computeIfAbsent(cellKey, key -> ConcurrentHashMap.newKeySet()).add(storeId);
+    }
+
+    /**
+     * 가게 제거 (논리 삭제 시)
+     */
+    public synchronized void remove(Long storeId) {
+        if (storeId == null) {
+            return;
+        }
+        IndexedStore previous = stores.remove(storeId);
+        if (previous != null) {
+            detachFromCell(previous.cellKey(), storeId);
+        }
+    }
+
+    /**
+     * 반경 내 가게 후보 조회 (거리 오름차순)
+     *
+     * @param latitude  기준 위도
+     * @param longitude 기준 경도
+     * @param radiusKm  반경 (km)
+     * @param storeType 가게 유형 필터 (null이면 전체)
+     * @return 반경 내 가게 ID와 거리 목록
+     */
+    public List<Candidate> findWithinRadius(double latitude, double longitude, double radiusKm, StoreType storeType) {
+        double latDelta = radiusKm / KM_PER_DEGREE_LATITUDE;
+        double cosLatitude = Math.cos(Math.toRadians(latitude));
+        double lonDelta = cosLatitude > 1e-6 ? radiusKm / (KM_PER_DEGREE_LATITUDE * cosLatitude) : 180.0;
+
+        int minLatCell = toCell(latitude - latDelta);
+        int maxLatCell = toCell(latitude + latDelta);
+        int minLonCell = toCell(longitude - lonDelta);
+        int maxLonCell = toCell(longitude + lonDelta);
+
+        List<Candidate> candidates = new ArrayList<>();
+        long boxCellCount = (long) (maxLatCell - minLatCell + 1) * (maxLonCell - minLonCell + 1);
+
+        if (boxCellCount > cells.size()) {
+            // 반경이 매우 넓으면 바운딩 박스 대신 점유된 셀만 순회
+            for (Map.Entry<Long, Set<Long>> entry : cells.entrySet()) {
+                int latCell = latCellOf(entry.getKey());
+                int lonCell = lonCellOf(entry.getKey());
+                if (latCell < minLatCell || latCell > maxLatCell || lonCell < minLonCell || lonCell > maxLonCell) {
+                    continue;
+                }
+                collect(entry.getValue(), latitude, longitude, radiusKm, storeType, candidates);
+            }
+        } else {
+            for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+                for (int lonCell = minLonCell; lonCell <= maxLonCell; lonCell++) {
+                    Set<Long> storeIds = cells.get(cellKey(latCell, lonCell));
+                    if (storeIds != null) {
+                        collect(storeIds, latitude, longitude, radiusKm, storeType, candidates);
+                    }
+                }
+            }
+        }
+
+        candidates.sort(Comparator.comparingDouble(Candidate::distanceKm));
+        return candidates;
+    }
+
+    private void collect(
+            Set<Long> storeIds,
+            double latitude,
+            double longitude,
+            double radiusKm,
+            StoreType storeType,
+            List<Candidate> candidates
+    ) {
+        for (Long storeId : storeIds) {
+            IndexedStore store = stores.get(storeId);
+            if (store == null || (storeType != null && store.storeType() != storeType)) {
+                continue;
+            }
+            double distance = calculateDistance(latitude, longitude, store.latitude(), store.longitude());
+            if (distance <= radiusKm) {
+                candidates.add(new Candidate(storeId, distance));
+            }
+        }
+    }
+
+    private void detachFromCell(long cellKey, Long storeId) {
+        Set<Long> storeIds = cells.get(cellKey);
+        if (storeIds == null) {
+            return;
+        }
+        storeIds.remove(storeId);
+        if (storeIds.isEmpty()) {
+            cells.remove(cellKey);
+        }
+    }
+
+    private static int toCell(double degrees) {
+        return (int) Math.floor(degrees / CELL_SIZE_DEGREES);
+    }
+
+    private static long cellKey(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xFFFFFFFFL);
+    }
+
+    private static int latCellOf(long cellKey) {
+        return (int) (cellKey >> 32);
+    }
+
+    private static int lonCellOf(long cellKey) {
+        return (int) cellKey;
+    }
+
+    /**
+     * Haversine 공식을 사용한 두 좌표 간 거리 계산 (km 단위)
+     */
+    private static double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
+                   Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
+                   Math.sin(dLon / 2) * Math.sin(dLon / 2);
+
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+
+        return EARTH_RADIUS_KM * c;
+    }
+
+    /**
+     * 반경 조회 후보
+     *
+     * @param storeId    가게 ID
+     * @param distanceKm 기준 좌표로부터의 거리 (km)
+     */
+    public record Candidate(Long storeId, double distanceKm) {
+    }
+
+    private record IndexedStore(Long storeId, double latitude, double longitude, StoreType storeType, long cellKey) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.stdev.smartmealtable.storage.db.store;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * StoreGeoIndex 워밍 및 증분 동기화
+ *
+ * <p>애플리케이션 시작 시 store 좌표를 키셋 페이징으로 적재하고,
+ * 이후에는 updated_at 기준으로 변경분만 주기적으로 반영합니다.
+ * 같은 프로세스의 저장/삭제는 StoreRepositoryImpl이 즉시 반영하고,
+ * 이 동기화는 admin/crawler 등 다른 프로세스의 변경을 따라잡는 용도입니다.</p>
+ *
+ * <p>{@code store.geo-index.enabled=false}(기본값)이면 인덱스를 적재하지 않으며,
+ * 추천 조회는 기존 DB 거리 쿼리를 그대로 사용합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreGeoIndexSynchronizer {
+
+    /**
+     * 가게가 하나도 없을 때의 워터마크 시작값
+     * updated_at은 DB 시계로 기록되므로 애플리케이션 시계(now)로 시작하면 시간대가 다를 때 변경분을 건너뛸 수 있습니다.
+     */
+    private static final LocalDateTime EMPTY_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final StoreGeoIndex storeGeoIndex;
+    private final StoreQueryDslRepository storeQueryDslRepository;
+
+    @Value("${store.geo-index.enabled:false}")
+    private boolean enabled;
+
+    @Value("${store.geo-index.warm-up-batch-size:5000}")
+    private int warmUpBatchSize;
+
+    /**
+     * 마지막으로 반영한 updated_at (DB 시계 기준)
+     */
+    private volatile LocalDateTime watermark;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            LocalDateTime maxUpdatedAt = null;
+            Long lastStoreId = null;
+            List<StoreCoordinate> batch;
+            do {
+                batch = storeQueryDslRepository.findCoordinatesAfterId(lastStoreId, warmUpBatchSize);
+                for (StoreCoordinate coordinate : batch) {
+                    storeGeoIndex.apply(coordinate);
+                    maxUpdatedAt = later(maxUpdatedAt, coordinate.updatedAt());
+                }
+                if (!batch.isEmpty()) {
+                    lastStoreId = batch.get(batch.size() - 1).storeId();
+                }
+            } while (batch.size() == warmUpBatchSize);
+
+            watermark = maxUpdatedAt != null ? maxUpdatedAt : EMPTY_WATERMARK;
+            storeGeoIndex.markReady();
+            log.info("가게 위치 인덱스 워밍 완료 - {} 건, {}ms", storeGeoIndex.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 워밍 실패 시 인덱스를 사용하지 않고 DB 거리 쿼리로 동작
+            log.error("가게 위치 인덱스 워밍 실패 - DB 거리 쿼리로 대체합니다", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${store.geo-index.refresh-delay-ms:60000}")
+    public void refresh() {
+        if (!enabled || !storeGeoIndex.isReady()) {
+            return;
+        }
+
+        try {
+            List<StoreCoordinate> changes = storeQueryDslRepository.findCoordinatesUpdatedSince(watermark);
+            LocalDateTime maxUpdatedAt = watermark;
+            for (StoreCoordinate coordinate : changes) {
+                storeGeoIndex.apply(coordinate);
+                maxUpdatedAt = later(maxUpdatedAt, coordinate.updatedAt());
+            }
+            watermark = maxUpdatedAt;
+            log.debug("가게 위치 인덱스 증분 동기화 - {} 건 반영", changes.size());
+        } catch (Exception e) {
+            log.warn("가게 위치 인덱스 증분 동기화 실패 - reason: {}", e.getMessage());
+        }
+    }
+
+    private LocalDateTime later(LocalDateTime current, LocalDateTime candidate) {
+        if (candidate == null) {
+            return current;
+        }
+        return current == null || candidate.isAfter(current) ? candidate : current;
+    }
+}
@@ -1,9 +1,11 @@
 package com.stdev.smartmealtable.storage.db.store;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -47,4 +49,12 @@ public interface StoreJpaRepository extends JpaRepository<StoreJpaEntity, Long>
             @Param("keyword") String keyword,
             @Param("limit") int limit
     );
+    
+    /**
+     * 수정 시각만 현재 시각으로 갱신
+     * 이미지/영업시간/메뉴 등 store 행 밖의 변경을 updated_at으로 알리는 데 사용합니다.
+     */
+    @Modifying
+    @Query(value = "UPDATE store SET updated_at = CURRENT_TIMESTAMP WHERE store_id IN (:storeIds)", nativeQuery = true)
+    int touchUpdatedAt(@Param("storeIds") Collection<Long> storeIds);
 }
@@ -1,6 +1,7 @@
 package com.stdev.smartmealtable.storage.db.store;
 
 import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
@@ -17,8 +18,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static com.stdev.smartmealtable.storage.db.food.QFoodJpaEntity.foodJpaEntity;
@@ -34,6 +37,7 @@ import static com.stdev.smartmealtable.storage.db.store.QStoreCategoryJpaEntity.
 public class StoreQueryDslRepository {
     
     private final JPAQueryFactory queryFactory;
+    private final StoreCategoryHydrator storeCategoryHydrator;
     
     /**
      * 조건에 맞는 가게 목록 조회
@@ -136,15 +140,7 @@ public class StoreQueryDslRepository {
                 .limit(size)
                 .fetch();
         
-        List<StoreWithDistance> storesWithDistance = tuples.stream()
-                .map(tuple -> {
-                    StoreJpaEntity entity = tuple.get(storeJpaEntity);
-                    Double distance = tuple.get(distanceExpression);
-                    List<Long> categoryIds = queryCategoryIdsByStoreId(entity.getStoreId());
-                    Store store = StoreEntityMapper.toDomain(entity, categoryIds);
-                    return StoreWithDistance.of(store, distance);
-                })
-                .collect(Collectors.toList());
+        List<StoreWithDistance> storesWithDistance = toStoresWithDistance(tuples, distanceExpression);
         
         return new StoreSearchResult(storesWithDistance, totalCount);
     }
@@ -186,15 +182,22 @@ public class StoreQueryDslRepository {
     }
 
     /**
-     * 특정 가게의 카테고리 ID 목록 조회
+     * (Store, 거리) 튜플 목록 → StoreWithDistance 목록
+     * 카테고리는 페이지 전체에 대해 한 번에 로드합니다.
      */
-    private List<Long> queryCategoryIdsByStoreId(Long storeId) {
-        return queryFactory
-                .select(storeCategoryJpaEntity.categoryId)
-                .from(storeCategoryJpaEntity)
-                .where(storeCategoryJpaEntity.storeId.eq(storeId))
-                .orderBy(storeCategoryJpaEntity.displayOrder.asc())
-                .fetch();
+    private List<StoreWithDistance> toStoresWithDistance(List<Tuple> tuples, NumberExpression<Double> distanceExpression) {
+        Map<Long, List<Long>> categoryIdsByStoreId = storeCategoryHydrator.loadCategoryIds(
+                tuples.stream()
+                        .map(tuple -> tuple.get(storeJpaEntity).getStoreId())
+                        .collect(Collectors.toList())
+        );
+
+        return tuples.stream()
+                .map(tuple -> {
+                    Store store = storeCategoryHydrator.toDomain(tuple.get(storeJpaEntity), categoryIdsByStoreId);
+                    return StoreWithDistance.of(store, tuple.get(distanceExpression));
+                })
+                .collect(Collectors.toList());
     }
 
     // ===== ADMIN 전용 메서드 =====
@@ -238,12 +241,7 @@ public class StoreQueryDslRepository {
                 .limit(size)
                 .fetch();
 
-        List<Store> content = entities.stream()
-                .map(entity -> {
-                    List<Long> categoryIds = queryCategoryIdsByStoreId(entity.getStoreId());
-                    return StoreEntityMapper.toDomain(entity, categoryIds);
-                })
-                .collect(Collectors.toList());
+        List<Store> content = storeCategoryHydrator.toDomains(entities);
 
         return StorePageResult.of(content, page, size, totalElements);
     }
@@ -397,17 +395,138 @@ public class StoreQueryDslRepository {
                 .limit(limit)
                 .fetch();
 
-        return tuples.stream()
-                .map(tuple -> {
-                    StoreJpaEntity entity = tuple.get(storeJpaEntity);
-                    Double distance = tuple.get(distanceExpression);
-                    List<Long> categoryIds = queryCategoryIdsByStoreId(entity.getStoreId());
-                    Store store = StoreEntityMapper.toDomain(entity, categoryIds);
-                    return StoreWithDistance.of(store, distance);
-                })
+        return toStoresWithDistance(tuples, distanceExpression);
+    }
+
+    /**
+     * 가게 ID 목록 중 검색어 조건을 만족하는 가게 조회 (위치 인덱스 후보 확인용)
+     * StoreGeoIndex가 골라낸 후보 ID만 대상으로 하므로 거리 계산식 없이 PK로 조회합니다.
+     *
+     * @param storeIds 후보 가게 ID 목록
+     * @param keyword 검색어 (가게명 또는 음식명, null 허용)
+     * @return 삭제되지 않았고 검색어에 매칭되는 가게 목록 (순서 보장 안 함)
+     */
+    public List<Store> findStoresByIdsMatchingKeyword(List<Long> storeIds, String keyword) {
+        if (storeIds == null || storeIds.isEmpty()) {
+            return List.of();
+        }
+
+        String trimmedKeyword = keyword != null ? keyword.trim() : null;
+        boolean hasKeyword = trimmedKeyword != null && !trimmedKeyword.isEmpty();
+
+        BooleanExpression condition = storeJpaEntity.storeId.in(storeIds)
+                .and(storeJpaEntity.deletedAt.isNull());
+
+        JPAQuery<StoreJpaEntity> query = queryFactory
+                .selectDistinct(storeJpaEntity)
+                .from(storeJpaEntity);
+
+        if (hasKeyword) {
+            query = query.leftJoin(foodJpaEntity)
+                    .on(foodJpaEntity.storeId.eq(storeJpaEntity.storeId)
+                            .and(foodJpaEntity.deletedAt.isNull()));
+            condition = condition.and(buildKeywordCondition(trimmedKeyword, normalizeForSearch(trimmedKeyword)));
+        }
+
+        return storeCategoryHydrator.toDomains(query.where(condition).fetch());
+    }
+
+    /**
+     * 위치 인덱스 워밍용 좌표 조회 (store_id 기준 키셋 페이징, 삭제되지 않은 가게만)
+     *
+     * @param lastStoreId 이전 배치의 마지막 가게 ID (null이면 처음부터)
+     * @param limit 배치 크기
+     * @return 가게 좌표 목록 (store_id 오름차순)
+     */
+    public List<StoreCoordinate> findCoordinatesAfterId(Long lastStoreId, int limit) {
+        BooleanExpression condition = storeJpaEntity.deletedAt.isNull();
+        if (lastStoreId != null) {
+            condition = condition.and(storeJpaEntity.storeId.gt(lastStoreId));
+        }
+
+        return queryFactory
+                .select(coordinateColumns())
+                .from(storeJpaEntity)
+                .where(condition)
+                .orderBy(storeJpaEntity.storeId.asc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(this::toCoordinate)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 위치 인덱스 증분 동기화용 좌표 조회 (삭제된 가게 포함)
+     * admin/crawler 등 다른 프로세스에서 변경된 가게를 updated_at 기준으로 가져옵니다.
+     *
+     * @param since 이 시각 이후(포함) 수정된 가게만 조회
+     * @return 가게 좌표 목록
+     */
+    public List<StoreCoordinate> findCoordinatesUpdatedSince(LocalDateTime since) {
+        return queryFactory
+                .select(coordinateColumns())
+                .from(storeJpaEntity)
+                .where(storeJpaEntity.updatedAt.goe(since))
+                .fetch()
+                .stream()
+                .map(this::toCoordinate)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 가게 상세 캐시 무효화용 수정 시각 조회 (삭제된 가게 포함)
+     *
+     * @param since 이 시각 이후(포함) 수정된 가게만 조회
+     * @return 가게 ID → 수정 시각
+     */
+    public Map<Long, LocalDateTime> findUpdatedAtSince(LocalDateTime since) {
+        return queryFactory
+                .select(storeJpaEntity.storeId, storeJpaEntity.updatedAt)
+                .from(storeJpaEntity)
+                .where(storeJpaEntity.updatedAt.goe(since))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(
+                        tuple -> tuple.get(storeJpaEntity.storeId),
+                        tuple -> tuple.get(storeJpaEntity.updatedAt)
+                ));
+    }
+
+    /**
+     * 가장 최근 수정 시각 조회 (삭제된 가게 포함)
+     *
+     * @return 최대 updated_at (가게가 없으면 null)
+     */
+    public LocalDateTime findMaxUpdatedAt() {
+        return queryFactory
+                .select(storeJpaEntity.updatedAt.max())
+                .from(storeJpaEntity)
+                .fetchOne();
+    }
+
+    private Expression<?>[] coordinateColumns() {
+        return new Expression<?>[]{
+                storeJpaEntity.storeId,
+                storeJpaEntity.latitude,
+                storeJpaEntity.longitude,
+                storeJpaEntity.storeType,
+                storeJpaEntity.deletedAt,
+                storeJpaEntity.updatedAt
+        };
+    }
+
+    private StoreCoordinate toCoordinate(Tuple tuple) {
+        return new StoreCoordinate(
+                tuple.get(storeJpaEntity.storeId),
+                tuple.get(storeJpaEntity.latitude).doubleValue(),
+                tuple.get(storeJpaEntity.longitude).doubleValue(),
+                tuple.get(storeJpaEntity.storeType),
+                tuple.get(storeJpaEntity.deletedAt) != null,
+                tuple.get(storeJpaEntity.updatedAt)
+        );
+    }
+
     /**
      * 인기순 가게 조회 (좋아요 개수 기준)
      * 삭제되지 않은 가게 중 인기도가 높은 순서로 반환합니다.
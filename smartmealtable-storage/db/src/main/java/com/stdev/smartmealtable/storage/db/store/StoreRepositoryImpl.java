@@ -2,11 +2,15 @@ package com.stdev.smartmealtable.storage.db.store;
 
 import com.stdev.smartmealtable.domain.store.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -18,11 +22,18 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class StoreRepositoryImpl implements StoreRepository {
     
+    // 조회수만 바뀐 것은 가게 정보 변경이 아니므로 updated_at(ON UPDATE CURRENT_TIMESTAMP)을 유지
+    private static final String INCREMENT_VIEW_COUNT_SQL =
+            "UPDATE store SET view_count = view_count + ?, updated_at = updated_at WHERE store_id = ?";
+    
     private final StoreJpaRepository jpaRepository;
     private final StoreCategoryJpaRepository storeCategoryJpaRepository;
     private final StoreQueryDslRepository queryDslRepository;
     private final StoreOpeningHourJpaRepository openingHourJpaRepository;
     private final StoreTemporaryClosureJpaRepository temporaryClosureJpaRepository;
+    private final StoreCategoryHydrator storeCategoryHydrator;
+    private final StoreGeoIndex storeGeoIndex;
+    private final JdbcTemplate jdbcTemplate;
     
     @Override
     public Optional<Store> findById(Long storeId) {
@@ -53,13 +64,7 @@ public class StoreRepositoryImpl implements StoreRepository {
     
     @Override
     public List<Store> findByIdIn(List<Long> storeIds) {
-        return jpaRepository.findByStoreIdInAndDeletedAtIsNull(storeIds)
-                .stream()
-                .map(entity -> {
-                    List<Long> categoryIds = storeCategoryJpaRepository.findCategoryIdsByStoreId(entity.getStoreId());
-                    return StoreEntityMapper.toDomain(entity, categoryIds);
-                })
-                .collect(Collectors.toList());
+        return storeCategoryHydrator.toDomains(jpaRepository.findByStoreIdInAndDeletedAtIsNull(storeIds));
     }
     
     @Override
@@ -83,18 +88,48 @@ public class StoreRepositoryImpl implements StoreRepository {
             }
         }
 
+        syncGeoIndex(saved);
+
         return StoreEntityMapper.toDomain(saved, categoryIds);
     }
     
+    @Override
+    public int incrementViewCounts(Map<Long, Long> viewCountDeltas) {
+        if (viewCountDeltas.isEmpty()) {
+            return 0;
+        }
+        
+        // 엔티티를 읽지 않고 증가분만 더함 (JDBC 배치 한 번, 행 잠금은 UPDATE 순간에만)
+        List<Object[]> batchArgs = new ArrayList<>(viewCountDeltas.size());
+        viewCountDeltas.forEach((storeId, delta) -> batchArgs.add(new Object[]{delta, storeId}));
+        int updated = 0;
+        for (int count : jdbcTemplate.batchUpdate(INCREMENT_VIEW_COUNT_SQL, batchArgs)) {
+            updated += Math.max(count, 0);
+        }
+        return updated;
+    }
+    
+    @Override
+    public int touchUpdatedAt(Collection<Long> storeIds) {
+        if (storeIds.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.touchUpdatedAt(storeIds);
+    }
+    
+    @Override
+    public Map<Long, LocalDateTime> findUpdatedAtSince(LocalDateTime since) {
+        return queryDslRepository.findUpdatedAtSince(since);
+    }
+    
+    @Override
+    public Optional<LocalDateTime> findMaxUpdatedAt() {
+        return Optional.ofNullable(queryDslRepository.findMaxUpdatedAt());
+    }
+    
     @Override
     public List<Store> searchByKeywordForAutocomplete(String keyword, int limit) {
-        return jpaRepository.searchByKeywordForAutocomplete(keyword, limit)
-                .stream()
-                .map(entity -> {
-                    List<Long> categoryIds = storeCategoryJpaRepository.findCategoryIdsByStoreId(entity.getStoreId());
-                    return StoreEntityMapper.toDomain(entity, categoryIds);
-                })
-                .collect(Collectors.toList());
+        return storeCategoryHydrator.toDomains(jpaRepository.searchByKeywordForAutocomplete(keyword, limit));
     }
     
     @Override
@@ -155,9 +190,30 @@ public class StoreRepositoryImpl implements StoreRepository {
                     .deletedAt(LocalDateTime.now()) // 논리적 삭제
                     .build();
             jpaRepository.save(updated);
+            syncGeoIndex(updated);
         });
     }
 
+    /**
+     * 같은 프로세스에서 발생한 저장/삭제를 위치 인덱스에 즉시 반영
+     * 인덱스가 비활성화(미워밍) 상태면 아무것도 하지 않습니다.
+     */
+    private void syncGeoIndex(StoreJpaEntity entity) {
+        if (!storeGeoIndex.isReady() || entity.getStoreId() == null) {
+            return;
+        }
+        if (entity.getDeletedAt() != null || entity.getLatitude() == null || entity.getLongitude() == null) {
+            storeGeoIndex.remove(entity.getStoreId());
+            return;
+        }
+        storeGeoIndex.upsert(
+                entity.getStoreId(),
+                entity.getLatitude().doubleValue(),
+                entity.getLongitude().doubleValue(),
+                entity.getStoreType()
+        );
+    }
+
     @Override
     public boolean existsByCategoryIdAndNotDeleted(Long categoryId) {
         return queryDslRepository.existsByCategoryIdAndNotDeleted(categoryId);
@@ -221,35 +277,17 @@ public class StoreRepositoryImpl implements StoreRepository {
     
     @Override
     public List<Store> findByNameStartsWith(String prefix, int limit) {
-        return queryDslRepository.findByNameStartingWith(prefix, limit)
-                .stream()
-                .map(entity -> {
-                    List<Long> categoryIds = storeCategoryJpaRepository.findCategoryIdsByStoreId(entity.getStoreId());
-                    return StoreEntityMapper.toDomain(entity, categoryIds);
-                })
-                .collect(Collectors.toList());
+        return storeCategoryHydrator.toDomains(queryDslRepository.findByNameStartingWith(prefix, limit));
     }
 
     @Override
     public List<Store> findByNameContains(String keyword, int limit) {
-        return queryDslRepository.findByNameContaining(keyword, limit)
-                .stream()
-                .map(entity -> {
-                    List<Long> categoryIds = storeCategoryJpaRepository.findCategoryIdsByStoreId(entity.getStoreId());
-                    return StoreEntityMapper.toDomain(entity, categoryIds);
-                })
-                .collect(Collectors.toList());
+        return storeCategoryHydrator.toDomains(queryDslRepository.findByNameContaining(keyword, limit));
     }
 
     @Override
     public List<Store> findAllByIdIn(List<Long> storeIds) {
-        return queryDslRepository.findByStoreIdIn(storeIds)
-                .stream()
-                .map(entity -> {
-                    List<Long> categoryIds = storeCategoryJpaRepository.findCategoryIdsByStoreId(entity.getStoreId());
-                    return StoreEntityMapper.toDomain(entity, categoryIds);
-                })
-                .collect(Collectors.toList());
+        return storeCategoryHydrator.toDomains(queryDslRepository.findByStoreIdIn(storeIds));
     }
     
     @Override
@@ -259,26 +297,14 @@ public class StoreRepositoryImpl implements StoreRepository {
     
     @Override
     public List<Store> findAll(int page, int size) {
-        return jpaRepository.findAll(
-                        org.springframework.data.domain.PageRequest.of(page, size)
-                ).getContent()
-                .stream()
-                .map(entity -> {
-                    List<Long> categoryIds = storeCategoryJpaRepository.findCategoryIdsByStoreId(entity.getStoreId());
-                    return StoreEntityMapper.toDomain(entity, categoryIds);
-                })
-                .collect(Collectors.toList());
+        return storeCategoryHydrator.toDomains(jpaRepository.findAll(
+                org.springframework.data.domain.PageRequest.of(page, size)
+        ).getContent());
     }
     
     @Override
     public List<Store> findAllWithCategories() {
-        return jpaRepository.findAll()
-                .stream()
-                .map(entity -> {
-                    List<Long> categoryIds = storeCategoryJpaRepository.findCategoryIdsByStoreId(entity.getStoreId());
-                    return StoreEntityMapper.toDomain(entity, categoryIds);
-                })
-                .collect(Collectors.toList());
+        return storeCategoryHydrator.toDomains(jpaRepository.findAll());
     }
 
     @Override
@@ -298,13 +324,7 @@ public class StoreRepositoryImpl implements StoreRepository {
 
     @Override
     public List<Store> findByPopularity(int limit) {
-        return queryDslRepository.findByPopularity(limit)
-                .stream()
-                .map(entity -> {
-                    List<Long> categoryIds = storeCategoryJpaRepository.findCategoryIdsByStoreId(entity.getStoreId());
-                    return StoreEntityMapper.toDomain(entity, categoryIds);
-                })
-                .collect(Collectors.toList());
+        return storeCategoryHydrator.toDomains(queryDslRepository.findByPopularity(limit));
     }
 
 }
@@ -3,8 +3,14 @@ package com.stdev.smartmealtable.storage.db.store;
 import com.stdev.smartmealtable.domain.store.StoreViewHistory;
 import com.stdev.smartmealtable.domain.store.StoreViewHistoryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * StoreViewHistoryRepository 구현체
  */
@@ -12,7 +18,18 @@ import org.springframework.stereotype.Repository;
 @RequiredArgsConstructor
 public class StoreViewHistoryRepositoryImpl implements StoreViewHistoryRepository {
     
+    /**
+     * 다중 행 INSERT 한 문장에 담을 최대 행 수 (행당 바인딩 파라미터 3개)
+     */
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+    
+    private static final String INSERT_PREFIX =
+            "INSERT INTO store_view_history (store_id, member_id, viewed_at) VALUES ";
+    
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?)";
+    
     private final StoreViewHistoryJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
     
     @Override
     public StoreViewHistory save(StoreViewHistory storeViewHistory) {
@@ -20,4 +37,39 @@ public class StoreViewHistoryRepositoryImpl implements StoreViewHistoryRepositor
         StoreViewHistoryJpaEntity saved = jpaRepository.save(entity);
         return StoreEntityMapper.toDomain(saved);
     }
+    
+    @Override
+    public int saveAll(List<StoreViewHistory> storeViewHistories) {
+        int inserted = 0;
+        for (int from = 0; from < storeViewHistories.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<StoreViewHistory> chunk = storeViewHistories.subList(
+                    from, Math.min(from + MAX_ROWS_PER_STATEMENT, storeViewHistories.size()));
+            inserted += jdbcTemplate.update(buildInsertSql(chunk.size()), toParameters(chunk));
+        }
+        return inserted;
+    }
+    
+    private String buildInsertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW_PLACEHOLDER.length() + 2));
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+        }
+        return sql.toString();
+    }
+    
+    private Object[] toParameters(List<StoreViewHistory> storeViewHistories) {
+        List<Object> parameters = new ArrayList<>(storeViewHistories.size() * 3);
+        for (StoreViewHistory history : storeViewHistories) {
+            // 저장 시각이 아닌 실제 조회 시각을 기록 (최근 7일 조회수 집계 구간이 밀리지 않도록)
+            LocalDateTime viewedAt = history.viewedAt() != null ? history.viewedAt() : LocalDateTime.now();
+            parameters.add(history.storeId());
+            parameters.add(history.memberId());
+            parameters.add(Timestamp.valueOf(viewedAt));
+        }
+        return parameters.toArray();
+    }
 }
@@ -0,0 +1,8 @@
+-- Align idx_expenditure_member_date with the expenditure list ordering
+-- (expended_date DESC, expended_time DESC, expenditure_id DESC) so keyset pages are read
+-- directly from the index without sorting the member's whole history.
+-- category_id is only used as a filter on already-fetched rows and is dropped from the key.
+
+ALTER TABLE expenditure
+    DROP INDEX idx_expenditure_member_date,
+    ADD INDEX idx_expenditure_member_date (member_id, deleted, expended_date, expended_time, expenditure_id);
@@ -0,0 +1,18 @@
+-- Per-member daily spending rollup maintained by the expenditure create/update/delete services.
+-- Statistics and home dashboard read the cells of the requested period instead of
+-- grouping raw expenditure rows; monthly totals are the sum of the month's daily cells.
+-- category_id = 0 and meal_type = 'NONE' stand for "no category" / "no meal type"
+-- because NULLs never collide in a unique key.
+-- Populate existing data with the scheduler's SpendingRollupRebuildJob (expenditure.rollup.rebuild.enabled=true).
+
+CREATE TABLE expenditure_daily_rollup (
+    expenditure_daily_rollup_id BIGINT      NOT NULL AUTO_INCREMENT,
+    member_id                   BIGINT      NOT NULL,
+    rollup_date                 DATE        NOT NULL,
+    category_id                 BIGINT      NOT NULL DEFAULT 0,
+    meal_type                   VARCHAR(20) NOT NULL DEFAULT 'NONE',
+    total_amount                BIGINT      NOT NULL DEFAULT 0,
+    expenditure_count           BIGINT      NOT NULL DEFAULT 0,
+    PRIMARY KEY (expenditure_daily_rollup_id),
+    UNIQUE KEY uk_expenditure_daily_rollup_cell (member_id, rollup_date, category_id, meal_type)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
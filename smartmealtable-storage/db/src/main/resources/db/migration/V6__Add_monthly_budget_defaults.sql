@@ -0,0 +1,25 @@
+-- Per-month default daily/meal budget amounts for virtual daily budgets (budget.virtual-daily.enabled).
+-- When enabled, daily_budget/meal_budget rows are only written for days a member customizes;
+-- every other day is derived from these defaults on read.
+-- A NULL meal default means the member has no budget for that meal type.
+
+ALTER TABLE monthly_budget
+    ADD COLUMN default_daily_budget     INT NULL AFTER budget_month,
+    ADD COLUMN default_breakfast_budget INT NULL AFTER default_daily_budget,
+    ADD COLUMN default_lunch_budget     INT NULL AFTER default_breakfast_budget,
+    ADD COLUMN default_dinner_budget    INT NULL AFTER default_lunch_budget,
+    ADD COLUMN default_other_budget     INT NULL AFTER default_dinner_budget;
+
+-- Backfill defaults from the latest materialised day of each month so existing members keep their amounts.
+UPDATE monthly_budget mb
+    JOIN daily_budget db
+      ON db.member_id = mb.member_id
+     AND db.budget_id = (SELECT MAX(d.budget_id)
+                           FROM daily_budget d
+                          WHERE d.member_id = mb.member_id
+                            AND DATE_FORMAT(d.budget_date, '%Y-%m') = mb.budget_month)
+SET mb.default_daily_budget     = db.daily_food_budget,
+    mb.default_breakfast_budget = (SELECT m.meal_budget FROM meal_budget m WHERE m.daily_budget_id = db.budget_id AND m.meal_type = 'BREAKFAST' LIMIT 1),
+    mb.default_lunch_budget     = (SELECT m.meal_budget FROM meal_budget m WHERE m.daily_budget_id = db.budget_id AND m.meal_type = 'LUNCH' LIMIT 1),
+    mb.default_dinner_budget    = (SELECT m.meal_budget FROM meal_budget m WHERE m.daily_budget_id = db.budget_id AND m.meal_type = 'DINNER' LIMIT 1),
+    mb.default_other_budget     = (SELECT m.meal_budget FROM meal_budget m WHERE m.daily_budget_id = db.budget_id AND m.meal_type = 'OTHER' LIMIT 1);
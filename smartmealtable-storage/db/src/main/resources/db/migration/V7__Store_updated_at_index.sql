@@ -0,0 +1,6 @@
+-- Index store.updated_at for the incremental change pollers (store detail cache every 5s, geo index every 60s).
+-- Both query "updated_at >= watermark"; without an index every API node scans the whole store table each cycle.
+-- InnoDB appends the primary key to secondary indexes, so this also orders ties by store_id.
+
+ALTER TABLE store
+    ADD INDEX idx_store_updated_at (updated_at);
@@ -0,0 +1,15 @@
+-- Mid-month changes of the default daily budget for virtual daily budgets (budget.virtual-daily.enabled).
+-- monthly_budget.default_daily_budget holds the month's first default; a row here overrides it
+-- from effective_date until the end of that month (or the next row), so changing the default
+-- from a given day on no longer writes daily_budget rows for the days before it.
+
+CREATE TABLE daily_budget_default (
+    daily_budget_default_id BIGINT NOT NULL AUTO_INCREMENT,
+    member_id               BIGINT NOT NULL,
+    effective_date          DATE   NOT NULL,
+    daily_food_budget       INT    NOT NULL,
+    created_at              DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at              DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    PRIMARY KEY (daily_budget_default_id),
+    UNIQUE KEY uq_daily_budget_default_member_date (member_id, effective_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
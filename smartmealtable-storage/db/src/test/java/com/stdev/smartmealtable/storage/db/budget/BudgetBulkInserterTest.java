@@ -0,0 +1,71 @@
+package com.stdev.smartmealtable.storage.db.budget;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BudgetBulkInserterTest {
+
+    private static final String PREFIX = "INSERT INTO daily_budget (member_id, budget_date) VALUES ";
+    private static final String ROW = "(?, ?)";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private BudgetBulkInserter inserter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        inserter = new BudgetBulkInserter(jdbcTemplate);
+    }
+
+    @Test
+    void buildInsertSql_joinsRowPlaceholders() {
+        assertThat(BudgetBulkInserter.buildInsertSql(PREFIX, ROW, 3))
+                .isEqualTo(PREFIX + "(?, ?), (?, ?), (?, ?)");
+    }
+
+    @Test
+    void insert_returnsGeneratedIdsInRowOrderAcrossStatements() {
+        int rows = BudgetBulkInserter.MAX_ROWS_PER_STATEMENT + 2;
+        long[] nextId = {1000L};
+        when(jdbcTemplate.update(any(PreparedStatementCreator.class), any(KeyHolder.class))).thenAnswer(invocation -> {
+            KeyHolder keyHolder = invocation.getArgument(1);
+            int chunkSize = Math.min(BudgetBulkInserter.MAX_ROWS_PER_STATEMENT, rows - (int) (nextId[0] - 1000L));
+            for (int i = 0; i < chunkSize; i++) {
+                keyHolder.getKeyList().add(Map.of("GENERATED_KEY", nextId[0]++));
+            }
+            return chunkSize;
+        });
+
+        List<Long> ids = inserter.insert(PREFIX, ROW, IntStream.range(0, rows).boxed().toList(),
+                row -> new Object[]{row, row});
+
+        assertThat(ids).hasSize(rows).startsWith(1000L, 1001L).endsWith(1000L + rows - 1);
+        verify(jdbcTemplate, times(2)).update(any(PreparedStatementCreator.class), any(KeyHolder.class));
+    }
+
+    @Test
+    void insert_failsWhenKeyCountDiffers() {
+        when(jdbcTemplate.update(any(PreparedStatementCreator.class), any(KeyHolder.class))).thenReturn(2);
+
+        assertThatThrownBy(() -> inserter.insert(PREFIX, ROW, List.of(1, 2), row -> new Object[]{row, row}))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
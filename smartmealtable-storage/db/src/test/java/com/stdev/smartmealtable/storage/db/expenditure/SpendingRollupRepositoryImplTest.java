@@ -0,0 +1,50 @@
+package com.stdev.smartmealtable.storage.db.expenditure;
+
+import com.stdev.smartmealtable.domain.expenditure.MealType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+class SpendingRollupRepositoryImplTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 11, 21);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SpendingRollupRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        repository = new SpendingRollupRepositoryImpl(jdbcTemplate);
+    }
+
+    @Test
+    void apply_upsertsDeltaIntoCell() {
+        repository.apply(1L, DATE, 3L, MealType.LUNCH, 8_000L, 1L);
+
+        verify(jdbcTemplate).update(SpendingRollupRepositoryImpl.UPSERT_SQL,
+                1L, Date.valueOf(DATE), 3L, "LUNCH", 8_000L, 1L);
+        assertThat(SpendingRollupRepositoryImpl.UPSERT_SQL)
+                .contains("AS new ON DUPLICATE KEY UPDATE total_amount = total_amount + new.total_amount");
+    }
+
+    @Test
+    void apply_storesMissingCategoryAndMealTypeAsSentinels() {
+        repository.apply(1L, DATE, null, null, -5_000L, -1L);
+
+        verify(jdbcTemplate).update(SpendingRollupRepositoryImpl.UPSERT_SQL,
+                1L, Date.valueOf(DATE),
+                SpendingRollupRepositoryImpl.NO_CATEGORY, SpendingRollupRepositoryImpl.NO_MEAL_TYPE,
+                -5_000L, -1L);
+    }
+}
@@ -0,0 +1,48 @@
+package com.stdev.smartmealtable.storage.db.store;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+class StoreGeoIndexSynchronizerTest {
+
+    @Mock
+    private StoreQueryDslRepository storeQueryDslRepository;
+
+    private StoreGeoIndex storeGeoIndex;
+    private StoreGeoIndexSynchronizer synchronizer;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        storeGeoIndex = new StoreGeoIndex();
+        synchronizer = new StoreGeoIndexSynchronizer(storeGeoIndex, storeQueryDslRepository);
+        ReflectionTestUtils.setField(synchronizer, "enabled", true);
+        ReflectionTestUtils.setField(synchronizer, "warmUpBatchSize", 100);
+    }
+
+    @Test
+    @DisplayName("가게가 없으면 애플리케이션 시계가 아닌 최소 시각부터 변경분을 조회한다")
+    void refresh_emptyStoreTable_startsFromEpochNotAppClock() {
+        given(storeQueryDslRepository.findCoordinatesAfterId(any(), anyInt())).willReturn(List.of());
+        given(storeQueryDslRepository.findCoordinatesUpdatedSince(any())).willReturn(List.of());
+
+        synchronizer.warmUp();
+        synchronizer.refresh();
+
+        assertThat(storeGeoIndex.isReady()).isTrue();
+        verify(storeQueryDslRepository).findCoordinatesUpdatedSince(LocalDateTime.of(1970, 1, 1, 0, 0));
+    }
+}
@@ -0,0 +1,97 @@
+package com.stdev.smartmealtable.storage.db.store;
+
+import com.stdev.smartmealtable.domain.store.StoreType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StoreGeoIndexTest {
+
+    // 서울 시청 기준
+    private static final double BASE_LAT = 37.5665;
+    private static final double BASE_LON = 126.9780;
+
+    private StoreGeoIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new StoreGeoIndex();
+    }
+
+    @Test
+    @DisplayName("반경 내 가게만 거리 오름차순으로 반환한다")
+    void findWithinRadius_returnsSortedCandidatesInsideRadius() {
+        index.upsert(1L, 37.5700, 126.9780, StoreType.RESTAURANT);   // 약 0.4km
+        index.upsert(2L, 37.5665, 126.9800, StoreType.RESTAURANT);   // 약 0.2km
+        index.upsert(3L, 37.6500, 126.9780, StoreType.RESTAURANT);   // 약 9.3km
+
+        List<StoreGeoIndex.Candidate> result = index.findWithinRadius(BASE_LAT, BASE_LON, 1.0, null);
+
+        assertThat(result).extracting(StoreGeoIndex.Candidate::storeId).containsExactly(2L, 1L);
+        assertThat(result.get(0).distanceKm()).isLessThan(result.get(1).distanceKm());
+    }
+
+    @Test
+    @DisplayName("셀 경계를 넘는 반경도 인접 셀의 가게를 포함한다")
+    void findWithinRadius_coversNeighbourCells() {
+        // 셀 크기(0.01도)를 넘나드는 좌표
+        index.upsert(1L, 37.5699, 126.9799, StoreType.RESTAURANT);
+        index.upsert(2L, 37.5701, 126.9801, StoreType.RESTAURANT);
+
+        List<StoreGeoIndex.Candidate> result = index.findWithinRadius(37.5700, 126.9800, 0.1, null);
+
+        assertThat(result).extracting(StoreGeoIndex.Candidate::storeId).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("가게 유형 필터를 적용한다")
+    void findWithinRadius_filtersByStoreType() {
+        index.upsert(1L, 37.5670, 126.9780, StoreType.RESTAURANT);
+        index.upsert(2L, 37.5670, 126.9781, StoreType.CAMPUS_RESTAURANT);
+
+        List<StoreGeoIndex.Candidate> result =
+                index.findWithinRadius(BASE_LAT, BASE_LON, 1.0, StoreType.CAMPUS_RESTAURANT);
+
+        assertThat(result).extracting(StoreGeoIndex.Candidate::storeId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("좌표가 바뀌면 이전 셀에서 제거되고 새 위치로 조회된다")
+    void upsert_movesStoreBetweenCells() {
+        index.upsert(1L, 37.5670, 126.9780, StoreType.RESTAURANT);
+        index.upsert(1L, 37.6500, 127.0500, StoreType.RESTAURANT);
+
+        assertThat(index.findWithinRadius(BASE_LAT, BASE_LON, 1.0, null)).isEmpty();
+        assertThat(index.findWithinRadius(37.6500, 127.0500, 0.1, null))
+                .extracting(StoreGeoIndex.Candidate::storeId)
+                .containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제된 좌표 프로젝션을 반영하면 인덱스에서 제거된다")
+    void apply_removesDeletedStore() {
+        index.upsert(1L, 37.5670, 126.9780, StoreType.RESTAURANT);
+
+        index.apply(new StoreCoordinate(1L, 37.5670, 126.9780, StoreType.RESTAURANT, true, LocalDateTime.now()));
+
+        assertThat(index.findWithinRadius(BASE_LAT, BASE_LON, 1.0, null)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("반경이 매우 넓어도 점유 셀만 순회하여 결과를 반환한다")
+    void findWithinRadius_largeRadiusScansOccupiedCells() {
+        index.upsert(1L, 37.5670, 126.9780, StoreType.RESTAURANT);
+        index.upsert(2L, 35.1796, 129.0756, StoreType.RESTAURANT);   // 부산, 약 325km
+
+        List<StoreGeoIndex.Candidate> result = index.findWithinRadius(BASE_LAT, BASE_LON, 500.0, null);
+
+        assertThat(result).extracting(StoreGeoIndex.Candidate::storeId).containsExactly(1L, 2L);
+    }
+}
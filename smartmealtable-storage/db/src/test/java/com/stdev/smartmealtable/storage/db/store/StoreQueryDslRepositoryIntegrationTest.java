@@ -7,6 +7,8 @@ import com.stdev.smartmealtable.storage.db.food.FoodJpaEntity;
 import com.stdev.smartmealtable.storage.db.food.FoodJpaRepository;
 import jakarta.persistence.EntityManager;
 import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -44,6 +46,7 @@ class StoreQueryDslRepositoryIntegrationTest {
         registry.add("spring.datasource.password", MYSQL::getPassword);
         registry.add("spring.jpa.hibernate.ddl-auto", () -> "create");
         registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.MySQLDialect");
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
     }
 
     @Autowired
@@ -55,6 +58,12 @@ class StoreQueryDslRepositoryIntegrationTest {
     @Autowired
     private StoreQueryDslRepository storeQueryDslRepository;
 
+    @Autowired
+    private StoreCategoryJpaRepository storeCategoryJpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     @DisplayName("음식명으로 검색해도 해당 음식을 판매하는 가게가 추천 대상에 포함된다")
     void searchStoresMatchesFoodName() {
@@ -89,6 +98,64 @@ class StoreQueryDslRepositoryIntegrationTest {
                 .doesNotContain(otherStore.getStoreId());
     }
 
+    @Test
+    @DisplayName("가게 목록 조회의 쿼리 수는 페이지 크기와 무관하게 일정하다 (카테고리 일괄 로딩)")
+    void searchStoresIssuesConstantStatementCountRegardlessOfPageSize() {
+        BigDecimal baseLatitude = new BigDecimal("37.6297526");
+        BigDecimal baseLongitude = new BigDecimal("127.0763340");
+        for (int i = 0; i < 10; i++) {
+            StoreJpaEntity store = storeJpaRepository.save(createStore("가게" + i, "store-n-" + i,
+                    baseLatitude.add(new BigDecimal("0.0001").multiply(BigDecimal.valueOf(i))), baseLongitude));
+            storeCategoryJpaRepository.save(createStoreCategory(store.getStoreId(), 3L, 0));
+            storeCategoryJpaRepository.save(createStoreCategory(store.getStoreId(), 1L, 1));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        long smallPageStatements = countStatements(() -> searchNearby(baseLatitude, baseLongitude, 2));
+        long largePageStatements = countStatements(() -> searchNearby(baseLatitude, baseLongitude, 10));
+
+        Assertions.assertThat(largePageStatements).isEqualTo(smallPageStatements);
+
+        StoreRepository.StoreSearchResult result = searchNearby(baseLatitude, baseLongitude, 10);
+        Assertions.assertThat(result.stores()).hasSize(10);
+        Assertions.assertThat(result.stores())
+                .allSatisfy(storeWithDistance ->
+                        Assertions.assertThat(storeWithDistance.store().getCategoryIds()).containsExactly(3L, 1L));
+    }
+
+    private StoreRepository.StoreSearchResult searchNearby(BigDecimal latitude, BigDecimal longitude, int size) {
+        return storeQueryDslRepository.searchStores(
+                null,
+                latitude,
+                longitude,
+                10.0,
+                null,
+                false,
+                null,
+                "distance",
+                0,
+                size
+        );
+    }
+
+    private long countStatements(Runnable action) {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private StoreCategoryJpaEntity createStoreCategory(Long storeId, Long categoryId, int displayOrder) {
+        return StoreCategoryJpaEntity.builder()
+                .storeId(storeId)
+                .categoryId(categoryId)
+                .displayOrder(displayOrder)
+                .build();
+    }
+
     private StoreJpaEntity createStore(String name, String externalId, BigDecimal latitude, BigDecimal longitude) {
         LocalDateTime now = LocalDateTime.now();
         return StoreJpaEntity.builder()
@@ -133,8 +200,14 @@ class StoreQueryDslRepositoryIntegrationTest {
         }
 
         @Bean
-        StoreQueryDslRepository storeQueryDslRepository(JPAQueryFactory queryFactory) {
-            return new StoreQueryDslRepository(queryFactory);
+        StoreCategoryHydrator storeCategoryHydrator(StoreCategoryJpaRepository storeCategoryJpaRepository) {
+            return new StoreCategoryHydrator(storeCategoryJpaRepository);
+        }
+
+        @Bean
+        StoreQueryDslRepository storeQueryDslRepository(JPAQueryFactory queryFactory,
+                                                        StoreCategoryHydrator storeCategoryHydrator) {
+            return new StoreQueryDslRepository(queryFactory, storeCategoryHydrator);
         }
     }
 }
@@ -5,11 +5,15 @@ import com.stdev.smartmealtable.domain.store.StoreType;
 import com.stdev.smartmealtable.domain.store.StoreRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.math.BigDecimal;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -33,6 +37,9 @@ class StoreRepositoryImplTest {
     @Mock
     private StoreTemporaryClosureJpaRepository temporaryClosureJpaRepository;
 
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
     private StoreRepositoryImpl repository;
 
     @BeforeEach
@@ -43,7 +50,10 @@ class StoreRepositoryImplTest {
                 storeCategoryJpaRepository,
                 queryDslRepository,
                 openingHourJpaRepository,
-                temporaryClosureJpaRepository
+                temporaryClosureJpaRepository,
+                new StoreCategoryHydrator(storeCategoryJpaRepository),
+                new StoreGeoIndex(),
+                jdbcTemplate
         );
     }
 
@@ -153,4 +163,40 @@ class StoreRepositoryImplTest {
 
         repository.softDelete(storeId);
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void incrementViewCounts_sends_one_jdbc_batch() {
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        deltas.put(1L, 3L);
+        deltas.put(2L, 1L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1, 1});
+
+        int updated = repository.incrementViewCounts(deltas);
+
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq("UPDATE store SET view_count = view_count + ?, updated_at = updated_at WHERE store_id = ?"), captor.capture());
+        assertThat(captor.getValue()).containsExactly(new Object[]{3L, 1L}, new Object[]{1L, 2L});
+        assertThat(updated).isEqualTo(2);
+    }
+
+    @Test
+    void incrementViewCounts_skips_empty_deltas() {
+        assertThat(repository.incrementViewCounts(Map.of())).isZero();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void touchUpdatedAt_skips_empty_ids() {
+        assertThat(repository.touchUpdatedAt(List.of())).isZero();
+        verifyNoInteractions(jpaRepository);
+    }
+
+    @Test
+    void touchUpdatedAt_updates_given_stores() {
+        List<Long> storeIds = List.of(1L, 2L);
+        when(jpaRepository.touchUpdatedAt(storeIds)).thenReturn(2);
+
+        assertThat(repository.touchUpdatedAt(storeIds)).isEqualTo(2);
+    }
 }
@@ -0,0 +1,144 @@
+package com.stdev.smartmealtable.support.search.korean.benchmark;
+
+import com.stdev.smartmealtable.support.search.korean.KoreanSearchUtil;
+import com.stdev.smartmealtable.support.search.korean.SearchableName;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한글 검색 유틸리티 벤치마크
+ *
+ * <p>자동완성 Fallback/정렬 경로처럼 후보 N개에 같은 키워드를 비교하는 상황에서 다음을 비교합니다.</p>
+ * <ul>
+ *   <li>legacy*: 최적화 이전 구현 ({@link LegacyKoreanSearchUtil})</li>
+ *   <li>current*: 조회 테이블 + 재사용 버퍼 기반 {@link KoreanSearchUtil}</li>
+ *   <li>precomputedChosung: 후보마다 미리 만든 {@link SearchableName}의 초성으로 비교</li>
+ * </ul>
+ *
+ * <p>실행: {@code ./gradlew :smartmealtable-support:jmh}</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KoreanSearchUtilBenchmark {
+
+    private static final String SYLLABLES = "서울대학교고려연세과기술김치찌개된장볶음밥돈카츠떡볶이";
+    private static final String CHOSUNG_QUERY = "ㄷㅎㄱ";
+    private static final String KEYWORD = "서울대학교";
+
+    @Param({"100", "1000"})
+    private int candidateCount;
+
+    private List<String> names;
+    private List<SearchableName> searchableNames;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(20251121L);
+        names = new ArrayList<>(candidateCount);
+        searchableNames = new ArrayList<>(candidateCount);
+        for (int i = 0; i < candidateCount; i++) {
+            StringBuilder name = new StringBuilder();
+            int length = 3 + random.nextInt(8);
+            for (int j = 0; j < length; j++) {
+                name.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+            }
+            names.add(name.toString());
+            searchableNames.add(SearchableName.of(name.toString()));
+        }
+    }
+
+    @Benchmark
+    public int legacyMatchesChosung() {
+        int matched = 0;
+        for (String name : names) {
+            if (LegacyKoreanSearchUtil.matchesChosung(CHOSUNG_QUERY, name)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public int currentMatchesChosung() {
+        int matched = 0;
+        for (String name : names) {
+            if (KoreanSearchUtil.matchesChosung(CHOSUNG_QUERY, name)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public int precomputedChosung() {
+        int matched = 0;
+        for (SearchableName name : searchableNames) {
+            if (name.containsChosung(CHOSUNG_QUERY)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public int legacyIsChosung() {
+        int matched = 0;
+        for (String name : names) {
+            if (LegacyKoreanSearchUtil.isChosung(name) || LegacyKoreanSearchUtil.isChosung(CHOSUNG_QUERY)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public int currentIsChosung() {
+        int matched = 0;
+        for (String name : names) {
+            if (KoreanSearchUtil.isChosung(name) || KoreanSearchUtil.isChosung(CHOSUNG_QUERY)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public int legacyEditDistance() {
+        int total = 0;
+        for (String name : names) {
+            total += LegacyKoreanSearchUtil.calculateEditDistance(KEYWORD, name);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int currentEditDistance() {
+        int total = 0;
+        for (String name : names) {
+            total += KoreanSearchUtil.calculateEditDistance(KEYWORD, name);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int boundedEditDistance() {
+        int total = 0;
+        for (String name : names) {
+            total += KoreanSearchUtil.calculateBoundedEditDistance(KEYWORD, name, 2);
+        }
+        return total;
+    }
+}
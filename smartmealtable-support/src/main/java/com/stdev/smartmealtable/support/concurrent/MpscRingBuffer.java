@@ -0,0 +1,129 @@
+package com.stdev.smartmealtable.support.concurrent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 고정 크기 다중 생산자-단일 소비자(MPSC) 링 버퍼
+ *
+ * 요청 스레드 여러 개가 이벤트를 넣고, 전용 스레드 하나가 모아서 꺼내는 용도입니다.
+ * 락 없이 슬롯마다 시퀀스 번호를 두어 생산자끼리는 CAS로 자리를 잡고, 소비자는 CAS 없이 읽습니다.
+ *
+ * 특징:
+ * - offer는 버퍼가 가득 차면 기다리지 않고 false를 반환 (호출자가 버릴지 결정)
+ * - drain은 반드시 한 스레드에서만 호출
+ * - 용량은 2의 거듭제곱으로 올림
+ *
+ * @param <E> 원소 타입
+ * @author SmartMealTable Team
+ * @since 2025-11-22
+ */
+public final class MpscRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+
+    /**
+     * 슬롯별 시퀀스
+     * - sequence == position: 생산자가 position에 쓸 수 있음
+     * - sequence == position + 1: 소비자가 position을 읽을 수 있음
+     */
+    private final AtomicLongArray sequences;
+
+    private final AtomicLong producerPosition = new AtomicLong();
+    private final AtomicLong consumerPosition = new AtomicLong();
+
+    /**
+     * @param requestedCapacity 최소 용량 (2의 거듭제곱으로 올림)
+     */
+    public MpscRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2 || requestedCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity must be between 2 and 2^30: " + requestedCapacity);
+        }
+        this.capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 원소 추가 (여러 스레드에서 동시에 호출 가능)
+     *
+     * @param element 추가할 원소 (null 불가)
+     * @return 추가 성공 여부 (버퍼가 가득 차면 false)
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("element must not be null");
+        }
+
+        long position;
+        int index;
+        while (true) {
+            position = producerPosition.get();
+            index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (producerPosition.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (diff < 0) {
+                // 소비자가 아직 한 바퀴 전 원소를 꺼내지 않음 → 가득 참
+                return false;
+            }
+            // diff > 0: 다른 생산자가 먼저 자리를 잡음 → 재시도
+        }
+
+        elements.set(index, element);
+        sequences.set(index, position + 1);
+        return true;
+    }
+
+    /**
+     * 원소를 최대 maxElements개까지 꺼내서 전달 (소비자 스레드 하나에서만 호출)
+     *
+     * @param consumer 꺼낸 원소를 받을 함수
+     * @param maxElements 최대 개수
+     * @return 꺼낸 원소 수
+     */
+    public int drain(Consumer<? super E> consumer, int maxElements) {
+        long position = consumerPosition.get();
+        int drained = 0;
+
+        while (drained < maxElements) {
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                // 비어 있거나 생산자가 아직 쓰는 중
+                break;
+            }
+
+            E element = elements.get(index);
+            elements.set(index, null);
+            sequences.set(index, position + capacity);
+            position++;
+            drained++;
+            consumer.accept(element);
+        }
+
+        consumerPosition.lazySet(position);
+        return drained;
+    }
+
+    /**
+     * 현재 원소 수 (근사값)
+     */
+    public int size() {
+        long size = producerPosition.get() - consumerPosition.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,311 @@
+package com.stdev.smartmealtable.support.search.autocomplete;
+
+import com.stdev.smartmealtable.support.search.korean.KoreanSearchUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인메모리 자동완성 Radix Trie
+ *
+ * 목적:
+ * - 이름(정규화)과 초성을 키로 하는 압축 트라이에서 임의 길이 prefix를 네트워크 왕복 없이 조회
+ * - 노드마다 인기도 상위 K개를 미리 계산해 두어 조회 시 정렬이 필요 없음
+ *
+ * 구조:
+ * - 간선(edge)은 문자열 라벨로 압축 (공통 prefix가 한 노드로 합쳐짐)
+ * - 엔티티는 인기도 내림차순(동점이면 ID 오름차순)으로 번호를 매기므로,
+ *   노드의 상위 K 배열은 작은 번호부터 K개를 담은 정렬된 int 배열
+ *
+ * 조회 비용: O(prefix 길이 × log(자식 수) + limit)
+ *
+ * 생성 후에는 변경되지 않으므로 여러 스레드에서 동시에 조회해도 안전합니다.
+ *
+ * 예시:
+ * - "서울대학교" → 키 "서울대학교", "ㅅㅇㄷㅎㄱ"
+ * - search("서울대", 10), search("ㅅㅇ", 10) 모두 매칭
+ *
+ * @author SmartMealTable Team
+ * @since 2025-11-21
+ */
+public final class AutocompleteTrie {
+
+    private final Node root;
+    private final long[] ids;
+    private final int nodeCount;
+
+    private AutocompleteTrie(Node root, long[] ids, int nodeCount) {
+        this.root = root;
+        this.ids = ids;
+        this.nodeCount = nodeCount;
+    }
+
+    /**
+     * 트라이 빌더 생성
+     *
+     * @param topK 노드별로 미리 계산할 상위 결과 수 (조회 limit의 최대값)
+     */
+    public static Builder builder(int topK) {
+        return new Builder(topK);
+    }
+
+    /**
+     * Prefix로 자동완성 결과 조회
+     *
+     * @param prefix 검색 prefix (공백 무시, 대소문자 무시, 초성 가능)
+     * @param limit 결과 개수 (topK를 넘을 수 없음)
+     * @return Entity ID 목록 (인기도 높은 순)
+     */
+    public List<Long> search(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (limit <= 0 || key.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            Node child = node.child(key.charAt(position));
+            if (child == null) {
+                return Collections.emptyList();
+            }
+
+            // prefix가 간선 중간에서 끝나면 해당 자식 노드의 결과가 정답
+            int length = Math.min(child.label.length(), key.length() - position);
+            if (!key.regionMatches(position, child.label, 0, length)) {
+                return Collections.emptyList();
+            }
+            position += length;
+            node = child;
+        }
+
+        int size = Math.min(limit, node.top.length);
+        List<Long> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(ids[node.top[i]]);
+        }
+        return result;
+    }
+
+    /**
+     * 색인된 엔티티 수
+     */
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * 트라이 노드 수 (메모리 사용량 확인용)
+     */
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * 검색 키 정규화 (공백 제거, 소문자 변환)
+     *
+     * @param text 원본 텍스트
+     * @return 정규화된 키
+     */
+    public static String normalize(String text) {
+        return KoreanSearchUtil.normalize(text);
+    }
+
+    /**
+     * 트라이 노드
+     */
+    private static final class Node {
+
+        private static final char[] NO_CHARS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private final String label;
+        private final char[] childChars;
+        private final Node[] children;
+        private final int[] top;
+
+        private Node(String label, char[] childChars, Node[] children, int[] top) {
+            this.label = label;
+            this.childChars = childChars;
+            this.children = children;
+            this.top = top;
+        }
+
+        private Node child(char ch) {
+            int index = Arrays.binarySearch(childChars, ch);
+            return index >= 0 ? children[index] : null;
+        }
+    }
+
+    /**
+     * 트라이 빌더
+     *
+     * 같은 ID를 여러 번 추가하면 키는 모두 색인되고 인기도는 가장 큰 값을 사용합니다.
+     */
+    public static final class Builder {
+
+        private final int topK;
+        private final Map<Long, Double> popularityById = new HashMap<>();
+        private final List<String> keys = new ArrayList<>();
+        private final List<Long> keyIds = new ArrayList<>();
+
+        private int nodeCount;
+
+        private Builder(int topK) {
+            this.topK = Math.max(topK, 1);
+        }
+
+        /**
+         * 엔티티 추가 (이름과 초성을 모두 키로 등록)
+         *
+         * @param id Entity ID
+         * @param name 이름
+         * @param popularity 인기도 (높을수록 먼저 노출)
+         */
+        public Builder add(long id, String name, double popularity) {
+            String nameKey = normalize(name);
+            if (nameKey.isEmpty()) {
+                return this;
+            }
+
+            popularityById.merge(id, popularity, Math::max);
+            addKey(nameKey, id);
+
+            String chosungKey = KoreanSearchUtil.extractChosung(name);
+            if (!chosungKey.isEmpty() && !chosungKey.equals(nameKey)) {
+                addKey(chosungKey, id);
+            }
+            return this;
+        }
+
+        /**
+         * 트라이 생성
+         */
+        public AutocompleteTrie build() {
+            // 1. 인기도 내림차순(동점이면 ID 오름차순)으로 엔티티 번호 부여
+            Long[] orderedIds = popularityById.keySet().toArray(new Long[0]);
+            Arrays.sort(orderedIds, (a, b) -> {
+                int byPopularity = Double.compare(popularityById.get(b), popularityById.get(a));
+                return byPopularity != 0 ? byPopularity : Long.compare(a, b);
+            });
+
+            long[] ids = new long[orderedIds.length];
+            Map<Long, Integer> entryById = new HashMap<>(orderedIds.length * 2);
+            for (int i = 0; i < orderedIds.length; i++) {
+                ids[i] = orderedIds[i];
+                entryById.put(orderedIds[i], i);
+            }
+
+            // 2. (키, 엔티티 번호)를 키 사전순으로 정렬
+            Integer[] order = new Integer[keys.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> {
+                int byKey = keys.get(a).compareTo(keys.get(b));
+                return byKey != 0 ? byKey : Integer.compare(entryById.get(keyIds.get(a)), entryById.get(keyIds.get(b)));
+            });
+
+            String[] sortedKeys = new String[order.length];
+            int[] sortedEntries = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedKeys[i] = keys.get(order[i]);
+                sortedEntries[i] = entryById.get(keyIds.get(order[i]));
+            }
+
+            // 3. 정렬된 구간을 재귀적으로 나누어 압축 트라이 생성
+            nodeCount = 0;
+            Node root = buildNode(sortedKeys, sortedEntries, 0, sortedKeys.length, 0, false);
+            return new AutocompleteTrie(root, ids, nodeCount);
+        }
+
+        private void addKey(String key, long id) {
+            keys.add(key);
+            keyIds.add(id);
+        }
+
+        /**
+         * keys[from, to) 구간(앞 depth 글자가 모두 같음)에 대한 노드 생성
+         *
+         * @param compress true이면 구간의 공통 prefix까지 간선을 늘림 (루트는 false)
+         */
+        private Node buildNode(String[] sortedKeys, int[] sortedEntries, int from, int to, int depth, boolean compress) {
+            nodeCount++;
+
+            // 정렬되어 있으므로 구간 전체의 공통 prefix = 첫 키와 마지막 키의 공통 prefix
+            int end = compress && to > from
+                    ? commonPrefixLength(sortedKeys[from], sortedKeys[to - 1])
+                    : depth;
+            String label = to > from ? sortedKeys[from].substring(depth, end) : "";
+
+            int[] candidates = new int[0];
+            int candidateCount = 0;
+
+            // 이 노드에서 끝나는 키 (정렬상 구간 앞쪽에 위치)
+            int index = from;
+            while (index < to && sortedKeys[index].length() == end) {
+                candidates = append(candidates, candidateCount++, sortedEntries[index]);
+                index++;
+            }
+
+            List<Node> children = new ArrayList<>();
+            StringBuilder childChars = new StringBuilder();
+            while (index < to) {
+                char ch = sortedKeys[index].charAt(end);
+                int groupEnd = index + 1;
+                while (groupEnd < to && sortedKeys[groupEnd].charAt(end) == ch) {
+                    groupEnd++;
+                }
+
+                Node child = buildNode(sortedKeys, sortedEntries, index, groupEnd, end, true);
+                children.add(child);
+                childChars.append(ch);
+                for (int entry : child.top) {
+                    candidates = append(candidates, candidateCount++, entry);
+                }
+                index = groupEnd;
+            }
+
+            return new Node(
+                    label,
+                    children.isEmpty() ? Node.NO_CHARS : childChars.toString().toCharArray(),
+                    children.isEmpty() ? Node.NO_CHILDREN : children.toArray(new Node[0]),
+                    selectTop(candidates, candidateCount)
+            );
+        }
+
+        /**
+         * 후보 엔티티 번호 중 작은 번호(인기도 높은 순)부터 중복 없이 topK개 선택
+         */
+        private int[] selectTop(int[] candidates, int count) {
+            Arrays.sort(candidates, 0, count);
+            int[] top = new int[Math.min(count, topK)];
+            int size = 0;
+            for (int i = 0; i < count && size < top.length; i++) {
+                if (size == 0 || top[size - 1] != candidates[i]) {
+                    top[size++] = candidates[i];
+                }
+            }
+            return size == top.length ? top : Arrays.copyOf(top, size);
+        }
+
+        private static int[] append(int[] array, int size, int value) {
+            int[] target = size < array.length ? array : Arrays.copyOf(array, Math.max(8, array.length * 2));
+            target[size] = value;
+            return target;
+        }
+
+        private static int commonPrefixLength(String a, String b) {
+            int length = Math.min(a.length(), b.length());
+            int i = 0;
+            while (i < length && a.charAt(i) == b.charAt(i)) {
+                i++;
+            }
+            return i;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.stdev.smartmealtable.support.search.autocomplete;
+
+import com.stdev.smartmealtable.support.search.korean.KoreanSearchUtil;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 오타 허용 검색용 BK-tree 인덱스
+ *
+ * 목적:
+ * - "편집 거리 k 이내의 이름"을 후보 전체 비교 없이 바로 조회
+ * - 이름을 자모 단위로 분해하여 색인하므로 음절 하나의 모음/받침 오타는 거리 1
+ *
+ * 구조:
+ * - 각 노드는 자모 키 하나와 그 키를 가진 엔티티 ID들을 보관
+ * - 자식은 부모 키와의 편집 거리별로 연결 (삼각 부등식으로 조회 범위를 [d - k, d + k]로 제한)
+ * - 노드 비교에는 상한이 있는 편집 거리를 사용하여, 자식을 볼 필요가 없는 노드는 계산을 조기 종료
+ *
+ * 생성 후에는 변경되지 않으므로 여러 스레드에서 동시에 조회해도 안전합니다.
+ *
+ * 예시:
+ * - "김치찌개" 색인 후 search("김치찌게", 2) → 매칭 (ㅐ ↔ ㅔ, 거리 1)
+ *
+ * @author SmartMealTable Team
+ * @since 2025-11-21
+ */
+public final class TypoCandidateIndex {
+
+    private final Node root;
+    private final int size;
+
+    private TypoCandidateIndex(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * 인덱스 빌더 생성
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 편집 거리 maxDistance 이내의 엔티티 조회
+     *
+     * @param keyword 검색 키워드
+     * @param maxDistance 허용 편집 거리 (자모 단위)
+     * @param limit 결과 개수
+     * @return Entity ID 목록 (거리 가까운 순)
+     */
+    public List<Long> search(String keyword, int maxDistance, int limit) {
+        String query = KoreanSearchUtil.decomposeJamo(keyword);
+        if (root == null || query.isEmpty() || limit <= 0 || maxDistance < 0) {
+            return Collections.emptyList();
+        }
+
+        List<List<Long>> idsByDistance = new ArrayList<>(maxDistance + 1);
+        for (int d = 0; d <= maxDistance; d++) {
+            idsByDistance.add(new ArrayList<>());
+        }
+
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+
+            // 자식 간선의 최대 거리까지만 정확히 계산하면 충분 (그보다 멀면 어떤 자식도 범위에 없음)
+            int bound = maxDistance + node.children.length - 1;
+            int distance = KoreanSearchUtil.calculateBoundedEditDistance(query, node.key, Math.max(bound, maxDistance));
+            if (distance <= maxDistance) {
+                for (long id : node.ids) {
+                    idsByDistance.get(distance).add(id);
+                }
+            }
+
+            int from = Math.max(1, distance - maxDistance);
+            int to = Math.min(node.children.length - 1, distance + maxDistance);
+            for (int edge = from; edge <= to; edge++) {
+                if (node.children[edge] != null) {
+                    stack.push(node.children[edge]);
+                }
+            }
+        }
+
+        Set<Long> result = new LinkedHashSet<>();
+        for (List<Long> ids : idsByDistance) {
+            for (Long id : ids) {
+                if (result.size() >= limit) {
+                    return new ArrayList<>(result);
+                }
+                result.add(id);
+            }
+        }
+        return new ArrayList<>(result);
+    }
+
+    /**
+     * 색인된 키(서로 다른 자모 문자열) 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * BK-tree 노드 (children[d] = 이 노드 키와의 거리가 d인 자식)
+     */
+    private static final class Node {
+
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private final String key;
+        private long[] ids;
+        private Node[] children = NO_CHILDREN;
+
+        private Node(String key, long id) {
+            this.key = key;
+            this.ids = new long[]{id};
+        }
+
+        private void addId(long id) {
+            for (long existing : ids) {
+                if (existing == id) {
+                    return;
+                }
+            }
+            ids = Arrays.copyOf(ids, ids.length + 1);
+            ids[ids.length - 1] = id;
+        }
+
+        private Node child(int distance) {
+            return distance < children.length ? children[distance] : null;
+        }
+
+        private void setChild(int distance, Node child) {
+            if (distance >= children.length) {
+                children = Arrays.copyOf(children, distance + 1);
+            }
+            children[distance] = child;
+        }
+    }
+
+    /**
+     * 인덱스 빌더
+     */
+    public static final class Builder {
+
+        private Node root;
+        private int size;
+
+        private Builder() {
+        }
+
+        /**
+         * 엔티티 추가
+         *
+         * @param id Entity ID
+         * @param name 이름
+         */
+        public Builder add(long id, String name) {
+            String key = KoreanSearchUtil.decomposeJamo(name);
+            if (key.isEmpty()) {
+                return this;
+            }
+
+            if (root == null) {
+                root = new Node(key, id);
+                size++;
+                return this;
+            }
+
+            Node node = root;
+            while (true) {
+                int distance = KoreanSearchUtil.calculateBoundedEditDistance(
+                        key, node.key, Math.max(key.length(), node.key.length()));
+                if (distance == 0) {
+                    node.addId(id);
+                    return this;
+                }
+
+                Node child = node.child(distance);
+                if (child == null) {
+                    node.setChild(distance, new Node(key, id));
+                    size++;
+                    return this;
+                }
+                node = child;
+            }
+        }
+
+        /**
+         * 인덱스 생성
+         */
+        public TypoCandidateIndex build() {
+            return new TypoCandidateIndex(root, size);
+        }
+    }
+}
@@ -7,7 +7,13 @@ package com.stdev.smartmealtable.support.search.korean;
  * 1. 한글 초성 추출 (예: "서울대학교" → "ㅅㅇㄷㅎㄱ")
  * 2. 초성 매칭 검증 (예: "ㅅㅇㄷ"가 "서울대학교"와 매칭되는지 확인)
  * 3. 편집 거리 계산 (Levenshtein Distance)
- * 
+ * 4. 자모 분해 및 자모 단위 편집 거리 (오타 허용 검색)
+ *
+ * 성능:
+ * - 자동완성 정렬/필터처럼 반복 호출되는 경로에서 쓰이므로, 초성 판별은 조회 테이블로 처리하고
+ *   편집 거리와 초성 비교는 스레드별로 재사용하는 버퍼(두 행 DP, StringBuilder) 위에서 계산합니다.
+ * - 같은 이름을 여러 번 비교한다면 {@link SearchableName}으로 정규화/초성 형태를 한 번만 계산해 두세요.
+ *
  * @author SmartMealTable Team
  * @since 2025-11-09
  */
@@ -29,6 +35,31 @@ public class KoreanSearchUtil {
     private static final int JONGSUNG_COUNT = 28;
     private static final int JUNGSUNG_JONGSUNG_COUNT = JUNGSUNG_COUNT * JONGSUNG_COUNT; // 588
 
+    // 중성 21개 (호환 자모 'ㅏ' ~ 'ㅣ' 연속 구간)
+    private static final char JUNGSUNG_START = 'ㅏ';
+
+    // 종성 27개 (종성 없음 제외)
+    private static final char[] JONGSUNG = {
+        'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ', 'ㄻ',
+        'ㄼ', 'ㄽ', 'ㄾ', 'ㄿ', 'ㅀ', 'ㅁ', 'ㅂ', 'ㅄ', 'ㅅ', 'ㅆ',
+        'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    // 호환 자모 'ㄱ'(0x3131) ~ 'ㅎ'(0x314E) 구간의 초성 여부 조회 테이블
+    private static final char JAMO_TABLE_START = 'ㄱ';
+    private static final boolean[] CHOSUNG_TABLE = new boolean['ㅎ' - JAMO_TABLE_START + 1];
+
+    // 버퍼를 스레드에 계속 보관할 최대 길이 (이보다 긴 입력은 호출마다 새로 할당)
+    private static final int MAX_RETAINED_BUFFER_LENGTH = 256;
+
+    private static final ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
+    static {
+        for (char chosung : CHOSUNG) {
+            CHOSUNG_TABLE[chosung - JAMO_TABLE_START] = true;
+        }
+    }
+
     private KoreanSearchUtil() {
         // Utility class - 인스턴스화 방지
     }
@@ -44,23 +75,43 @@ public class KoreanSearchUtil {
      * @param text 원본 텍스트
      * @return 초성 문자열 (한글이 아닌 문자는 제외)
      */
-    public static String extractChosung(String text) {
-        if (text == null || text.isEmpty()) {
+    public static String extractChosung(CharSequence text) {
+        if (text == null || text.length() == 0) {
             return "";
         }
-        
-        StringBuilder chosung = new StringBuilder();
-        
-        for (char ch : text.toCharArray()) {
+
+        char[] chosung = new char[text.length()];
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
             if (isKorean(ch)) {
-                int unicode = ch - KOREAN_UNICODE_START;
-                int chosungIndex = unicode / JUNGSUNG_JONGSUNG_COUNT;
-                chosung.append(CHOSUNG[chosungIndex]);
+                chosung[length++] = chosungOf(ch);
             }
             // 한글이 아닌 문자는 무시 (영문, 숫자, 공백 등)
         }
-        
-        return chosung.toString();
+
+        return length == 0 ? "" : new String(chosung, 0, length);
+    }
+
+    /**
+     * 초성을 추출하여 주어진 버퍼 뒤에 추가 (반복 호출 시 버퍼 재사용용)
+     *
+     * @param text 원본 텍스트
+     * @param target 초성을 추가할 버퍼
+     * @return target
+     */
+    public static StringBuilder appendChosung(CharSequence text, StringBuilder target) {
+        if (text == null) {
+            return target;
+        }
+
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (isKorean(ch)) {
+                target.append(chosungOf(ch));
+            }
+        }
+        return target;
     }
 
     /**
@@ -76,15 +127,16 @@ public class KoreanSearchUtil {
      * @param targetText 대상 텍스트 (예: "서울대학교")
      * @return 매칭 여부
      */
-    public static boolean matchesChosung(String chosungQuery, String targetText) {
-        if (chosungQuery == null || chosungQuery.isEmpty()) {
+    public static boolean matchesChosung(CharSequence chosungQuery, CharSequence targetText) {
+        if (chosungQuery == null || chosungQuery.length() == 0) {
             return false;
         }
-        
-        String targetChosung = extractChosung(targetText);
-        
+
+        StringBuilder targetChosung = BUFFERS.get().chosung(targetText == null ? 0 : targetText.length());
+        appendChosung(targetText, targetChosung);
+
         // 부분 매칭 지원: targetChosung이 chosungQuery를 포함하면 true
-        return targetChosung.contains(chosungQuery);
+        return targetChosung.indexOf(chosungQuery.toString()) >= 0;
     }
 
     /**
@@ -98,13 +150,27 @@ public class KoreanSearchUtil {
      * @param targetText 대상 텍스트
      * @return 시작 매칭 여부
      */
-    public static boolean startsWithChosung(String chosungQuery, String targetText) {
-        if (chosungQuery == null || chosungQuery.isEmpty()) {
+    public static boolean startsWithChosung(CharSequence chosungQuery, CharSequence targetText) {
+        if (chosungQuery == null || chosungQuery.length() == 0) {
             return false;
         }
-        
-        String targetChosung = extractChosung(targetText);
-        return targetChosung.startsWith(chosungQuery);
+        if (targetText == null) {
+            return false;
+        }
+
+        // 대상 초성을 만들지 않고 한글 음절을 차례로 비교
+        int matched = 0;
+        for (int i = 0; i < targetText.length() && matched < chosungQuery.length(); i++) {
+            char ch = targetText.charAt(i);
+            if (!isKorean(ch)) {
+                continue;
+            }
+            if (chosungOf(ch) != chosungQuery.charAt(matched)) {
+                return false;
+            }
+            matched++;
+        }
+        return matched == chosungQuery.length();
     }
 
     /**
@@ -123,27 +189,53 @@ public class KoreanSearchUtil {
      * @param text 확인할 문자열
      * @return 초성 여부
      */
-    public static boolean isChosung(String text) {
-        if (text == null || text.isEmpty()) {
+    public static boolean isChosung(CharSequence text) {
+        if (text == null || text.length() == 0) {
             return false;
         }
-        
-        for (char ch : text.toCharArray()) {
-            boolean isChosungChar = false;
-            for (char chosung : CHOSUNG) {
-                if (ch == chosung) {
-                    isChosungChar = true;
-                    break;
-                }
-            }
-            if (!isChosungChar) {
+
+        for (int i = 0; i < text.length(); i++) {
+            if (!isChosungChar(text.charAt(i))) {
                 return false;
             }
         }
-        
+
         return true;
     }
 
+    /**
+     * 문자가 초성(19개 자음) 중 하나인지 확인
+     *
+     * @param ch 확인할 문자
+     * @return 초성 여부
+     */
+    public static boolean isChosungChar(char ch) {
+        int index = ch - JAMO_TABLE_START;
+        return index >= 0 && index < CHOSUNG_TABLE.length && CHOSUNG_TABLE[index];
+    }
+
+    /**
+     * 검색 비교용 정규화 (공백 제거, 소문자 변환)
+     *
+     * @param text 원본 텍스트
+     * @return 정규화된 문자열
+     */
+    public static String normalize(CharSequence text) {
+        if (text == null || text.length() == 0) {
+            return "";
+        }
+
+        char[] normalized = new char[text.length()];
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (!Character.isWhitespace(ch)) {
+                normalized[length++] = Character.toLowerCase(ch);
+            }
+        }
+        return new String(normalized, 0, length);
+    }
+
     /**
      * Levenshtein Distance (편집 거리) 계산
      * 
@@ -158,47 +250,198 @@ public class KoreanSearchUtil {
      * @param s2 문자열 2
      * @return 편집 거리 (0 = 완전 동일)
      */
-    public static int calculateEditDistance(String s1, String s2) {
+    public static int calculateEditDistance(CharSequence s1, CharSequence s2) {
         if (s1 == null || s2 == null) {
             throw new IllegalArgumentException("입력 문자열은 null일 수 없습니다");
         }
-        
-        if (s1.equals(s2)) {
-            return 0;
+
+        // 짧은 문자열을 열로 사용하여 행 버퍼 크기를 줄임
+        if (s1.length() < s2.length()) {
+            CharSequence swap = s1;
+            s1 = s2;
+            s2 = swap;
         }
-        
+
         int len1 = s1.length();
         int len2 = s2.length();
-        
-        if (len1 == 0) return len2;
+
         if (len2 == 0) return len1;
-        
-        // DP 테이블 초기화
-        int[][] dp = new int[len1 + 1][len2 + 1];
-        
-        for (int i = 0; i <= len1; i++) {
-            dp[i][0] = i;
-        }
+
+        // 두 행만 유지하는 DP (스레드별 버퍼 재사용)
+        Buffers buffers = BUFFERS.get();
+        int[] previous = buffers.previousRow(len2 + 1);
+        int[] current = buffers.currentRow(len2 + 1);
+
         for (int j = 0; j <= len2; j++) {
-            dp[0][j] = j;
+            previous[j] = j;
         }
-        
-        // DP 테이블 채우기
+
         for (int i = 1; i <= len1; i++) {
+            current[0] = i;
+            char ch = s1.charAt(i - 1);
             for (int j = 1; j <= len2; j++) {
-                int cost = (s1.charAt(i - 1) == s2.charAt(j - 1)) ? 0 : 1;
-                
-                dp[i][j] = Math.min(
+                int cost = (ch == s2.charAt(j - 1)) ? 0 : 1;
+
+                current[j] = Math.min(
                     Math.min(
-                        dp[i - 1][j] + 1,     // 삭제
-                        dp[i][j - 1] + 1      // 삽입
+                        previous[j] + 1,      // 삭제
+                        current[j - 1] + 1    // 삽입
                     ),
-                    dp[i - 1][j - 1] + cost   // 대체
+                    previous[j - 1] + cost    // 대체
                 );
             }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
         }
-        
-        return dp[len1][len2];
+
+        return previous[len2];
+    }
+
+    /**
+     * 한글 음절을 자모(초성/중성/종성) 단위로 분해
+     *
+     * 공백은 제거하고 영문은 소문자로 변환하며, 한글 음절이 아닌 문자는 그대로 유지합니다.
+     *
+     * 예시:
+     * - decomposeJamo("김치") → "ㄱㅣㅁㅊㅣ"
+     * - decomposeJamo("BBQ 치킨") → "bbqㅊㅣㅋㅣㄴ"
+     *
+     * @param text 원본 텍스트
+     * @return 자모 문자열
+     */
+    public static String decomposeJamo(CharSequence text) {
+        if (text == null || text.length() == 0) {
+            return "";
+        }
+        return appendJamo(text, new StringBuilder(text.length() * 3)).toString();
+    }
+
+    /**
+     * 자모로 분해하여 주어진 버퍼 뒤에 추가 (반복 호출 시 버퍼 재사용용)
+     *
+     * @param text 원본 텍스트
+     * @param target 자모를 추가할 버퍼
+     * @return target
+     */
+    public static StringBuilder appendJamo(CharSequence text, StringBuilder target) {
+        if (text == null) {
+            return target;
+        }
+
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (Character.isWhitespace(ch)) {
+                continue;
+            }
+            if (!isKorean(ch)) {
+                target.append(Character.toLowerCase(ch));
+                continue;
+            }
+
+            int unicode = ch - KOREAN_UNICODE_START;
+            target.append(CHOSUNG[unicode / JUNGSUNG_JONGSUNG_COUNT]);
+            target.append((char) (JUNGSUNG_START + (unicode % JUNGSUNG_JONGSUNG_COUNT) / JONGSUNG_COUNT));
+            int jongsungIndex = unicode % JONGSUNG_COUNT;
+            if (jongsungIndex > 0) {
+                target.append(JONGSUNG[jongsungIndex - 1]);
+            }
+        }
+        return target;
+    }
+
+    /**
+     * 자모 단위 편집 거리 (상한 있음)
+     *
+     * 음절 하나의 모음만 틀린 경우 1로 계산됩니다 (예: "김치" vs "김체" → 1).
+     * 상한을 넘는 것이 확정되면 즉시 maxDistance + 1을 반환합니다.
+     *
+     * @param s1 문자열 1
+     * @param s2 문자열 2
+     * @param maxDistance 허용 편집 거리
+     * @return 편집 거리 (maxDistance를 넘으면 maxDistance + 1)
+     */
+    public static int calculateJamoEditDistance(CharSequence s1, CharSequence s2, int maxDistance) {
+        if (s1 == null || s2 == null) {
+            throw new IllegalArgumentException("입력 문자열은 null일 수 없습니다");
+        }
+
+        Buffers buffers = BUFFERS.get();
+        StringBuilder jamo1 = appendJamo(s1, buffers.jamo1(s1.length() * 3));
+        StringBuilder jamo2 = appendJamo(s2, buffers.jamo2(s2.length() * 3));
+        return calculateBoundedEditDistance(jamo1, jamo2, maxDistance);
+    }
+
+    /**
+     * 상한이 있는 Levenshtein Distance (대각선 띠 계산 + 조기 종료)
+     *
+     * 거리가 maxDistance 이하인 경우 정확한 값을 반환하며, 대각선에서 maxDistance 이내의 칸만 계산합니다.
+     * 한 행의 최소값이 maxDistance를 넘으면 더 계산하지 않습니다. 비용: O(min(n, m) × maxDistance)
+     *
+     * @param s1 문자열 1
+     * @param s2 문자열 2
+     * @param maxDistance 허용 편집 거리
+     * @return 편집 거리 (maxDistance를 넘으면 maxDistance + 1)
+     */
+    public static int calculateBoundedEditDistance(CharSequence s1, CharSequence s2, int maxDistance) {
+        if (s1 == null || s2 == null) {
+            throw new IllegalArgumentException("입력 문자열은 null일 수 없습니다");
+        }
+
+        int len1 = s1.length();
+        int len2 = s2.length();
+        // 편집 거리는 긴 문자열 길이를 넘지 않음 (상한이 너무 크면 오버플로 방지를 위해 줄임)
+        maxDistance = Math.min(maxDistance, Math.max(len1, len2));
+        int exceeded = maxDistance + 1;
+        if (Math.abs(len1 - len2) > maxDistance) {
+            return exceeded;
+        }
+        if (len1 == 0 || len2 == 0) {
+            return Math.max(len1, len2);
+        }
+
+        // 띠 밖의 칸은 exceeded로 취급 (스레드별 버퍼 재사용)
+        Buffers buffers = BUFFERS.get();
+        int[] previous = buffers.previousRow(len2 + 1);
+        int[] current = buffers.currentRow(len2 + 1);
+        for (int j = 0; j <= len2; j++) {
+            previous[j] = j <= maxDistance ? j : exceeded;
+        }
+
+        for (int i = 1; i <= len1; i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(len2, i + maxDistance);
+            current[0] = i <= maxDistance ? i : exceeded;
+            if (from > 1) {
+                current[from - 1] = exceeded;
+            }
+
+            int rowMin = current[0];
+            char ch = s1.charAt(i - 1);
+            for (int j = from; j <= to; j++) {
+                int cost = ch == s2.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(
+                        Math.min(previous[j] + 1, current[j - 1] + 1),
+                        previous[j - 1] + cost
+                );
+                current[j] = Math.min(value, exceeded);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (to < len2) {
+                current[to + 1] = exceeded;
+            }
+
+            if (rowMin > maxDistance) {
+                return exceeded;
+            }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        return Math.min(previous[len2], exceeded);
     }
 
     /**
@@ -209,18 +452,77 @@ public class KoreanSearchUtil {
      * @param maxDistance 허용 편집 거리 (기본값: 2)
      * @return 매칭 여부
      */
-    public static boolean matchesWithTypoTolerance(String query, String target, int maxDistance) {
+    public static boolean matchesWithTypoTolerance(CharSequence query, CharSequence target, int maxDistance) {
         if (query == null || target == null) {
             return false;
         }
         
         // 완전 일치
-        if (target.contains(query)) {
+        if (target.toString().contains(query)) {
             return true;
         }
         
         // 편집 거리 계산
-        int distance = calculateEditDistance(query, target);
-        return distance <= maxDistance;
+        return calculateBoundedEditDistance(query, target, maxDistance) <= maxDistance;
+    }
+
+    private static char chosungOf(char syllable) {
+        return CHOSUNG[(syllable - KOREAN_UNICODE_START) / JUNGSUNG_JONGSUNG_COUNT];
+    }
+
+    /**
+     * 스레드별 재사용 버퍼
+     *
+     * 보관 한도보다 긴 입력은 버퍼를 키우지 않고 호출마다 새로 할당합니다.
+     */
+    private static final class Buffers {
+
+        private int[] previousRow = new int[32];
+        private int[] currentRow = new int[32];
+        private final StringBuilder chosung = new StringBuilder(32);
+        private final StringBuilder jamo1 = new StringBuilder(64);
+        private final StringBuilder jamo2 = new StringBuilder(64);
+
+        private int[] previousRow(int length) {
+            if (length <= previousRow.length) {
+                return previousRow;
+            }
+            int[] row = new int[length];
+            if (length <= MAX_RETAINED_BUFFER_LENGTH) {
+                previousRow = row;
+            }
+            return row;
+        }
+
+        private int[] currentRow(int length) {
+            if (length <= currentRow.length) {
+                return currentRow;
+            }
+            int[] row = new int[length];
+            if (length <= MAX_RETAINED_BUFFER_LENGTH) {
+                currentRow = row;
+            }
+            return row;
+        }
+
+        private StringBuilder chosung(int length) {
+            return reset(chosung, length);
+        }
+
+        private StringBuilder jamo1(int length) {
+            return reset(jamo1, length);
+        }
+
+        private StringBuilder jamo2(int length) {
+            return reset(jamo2, length);
+        }
+
+        private static StringBuilder reset(StringBuilder buffer, int length) {
+            if (length > MAX_RETAINED_BUFFER_LENGTH) {
+                return new StringBuilder(length);
+            }
+            buffer.setLength(0);
+            return buffer;
+        }
     }
 }
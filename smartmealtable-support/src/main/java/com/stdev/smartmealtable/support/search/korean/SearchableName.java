@@ -0,0 +1,50 @@
+package com.stdev.smartmealtable.support.search.korean;
+
+/**
+ * 검색 비교용으로 미리 계산한 이름 형태
+ *
+ * 정렬 비교나 필터처럼 같은 이름을 여러 번 비교하는 경로에서,
+ * 비교할 때마다 정규화/초성 추출을 다시 하지 않도록 후보마다 한 번만 만들어 사용합니다.
+ *
+ * 예시:
+ * - SearchableName.of("서울대학교 본교") → normalized "서울대학교본교", chosung "ㅅㅇㄷㅎㄱㅂㄱ"
+ *
+ * @param original 원본 이름
+ * @param normalized 정규화된 이름 (공백 제거, 소문자)
+ * @param chosung 초성 문자열
+ * @author SmartMealTable Team
+ * @since 2025-11-21
+ */
+public record SearchableName(String original, String normalized, String chosung) {
+
+    /**
+     * 이름으로부터 비교용 형태 생성
+     *
+     * @param name 원본 이름 (null이면 빈 문자열로 취급)
+     * @return 비교용 이름
+     */
+    public static SearchableName of(String name) {
+        String original = name == null ? "" : name;
+        return new SearchableName(original, KoreanSearchUtil.normalize(original), KoreanSearchUtil.extractChosung(original));
+    }
+
+    /**
+     * 초성 부분 매칭 ({@link KoreanSearchUtil#matchesChosung}과 동일한 결과)
+     *
+     * @param chosungQuery 검색 초성
+     * @return 매칭 여부
+     */
+    public boolean containsChosung(String chosungQuery) {
+        return chosungQuery != null && !chosungQuery.isEmpty() && chosung.contains(chosungQuery);
+    }
+
+    /**
+     * 초성 시작 매칭 ({@link KoreanSearchUtil#startsWithChosung}과 동일한 결과)
+     *
+     * @param chosungQuery 검색 초성
+     * @return 매칭 여부
+     */
+    public boolean startsWithChosung(String chosungQuery) {
+        return chosungQuery != null && !chosungQuery.isEmpty() && chosung.startsWith(chosungQuery);
+    }
+}
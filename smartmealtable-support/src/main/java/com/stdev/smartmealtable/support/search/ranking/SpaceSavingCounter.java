@@ -0,0 +1,128 @@
+package com.stdev.smartmealtable.support.search.ranking;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 고정 크기 빈도 상위 키 집계 (Space-Saving 알고리즘)
+ *
+ * 키 종류가 아무리 많아도 capacity개의 카운터만 유지합니다.
+ * 카운터가 가득 찬 상태에서 새 키가 들어오면 가장 작은 카운터를 넘겨받고, 넘겨받은 값을 오차로 기록합니다.
+ *
+ * 보장:
+ * - 실제 누적값이 (전체 누적값 / capacity)보다 큰 키는 반드시 남아 있음
+ * - 남아 있는 키의 실제 누적값은 [count - error, count] 범위
+ *
+ * 스레드 안전하지 않으므로 호출자가 동기화해야 합니다.
+ *
+ * 예시:
+ * - capacity 2, add("김치찌개", 3), add("김밥", 1), add("김치전", 1)
+ *   → "김밥"(1)이 밀려나고 "김치전" count 2, error 1
+ *
+ * @author SmartMealTable Team
+ * @since 2025-11-22
+ */
+public final class SpaceSavingCounter {
+
+    private static final Comparator<Counter> BY_COUNT = Comparator
+            .comparingDouble((Counter counter) -> counter.count)
+            .thenComparing(counter -> counter.key);
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+    private final TreeSet<Counter> ordered = new TreeSet<>(BY_COUNT);
+
+    /**
+     * @param capacity 유지할 최대 카운터 수
+     */
+    public SpaceSavingCounter(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * 키에 가중치 누적
+     *
+     * @param key 키
+     * @param weight 누적할 값 (양수)
+     */
+    public void add(String key, double weight) {
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            ordered.remove(counter);
+            counter.count += weight;
+            ordered.add(counter);
+            return;
+        }
+
+        if (counters.size() < capacity) {
+            counter = new Counter(key, weight, 0);
+        } else {
+            // 가장 작은 카운터를 새 키에 넘겨줌
+            Counter evicted = ordered.pollFirst();
+            counters.remove(evicted.key);
+            counter = new Counter(key, evicted.count + weight, evicted.count);
+        }
+        counters.put(key, counter);
+        ordered.add(counter);
+    }
+
+    /**
+     * 현재 카운터를 모두 꺼내고 비움
+     *
+     * @return 누적값 내림차순 키 목록
+     */
+    public List<HeavyHitter> drain() {
+        List<HeavyHitter> hitters = new ArrayList<>(counters.size());
+        for (Counter counter : ordered.descendingSet()) {
+            hitters.add(new HeavyHitter(counter.key, counter.count, counter.error));
+        }
+        counters.clear();
+        ordered.clear();
+        return hitters;
+    }
+
+    public boolean isEmpty() {
+        return counters.isEmpty();
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    /**
+     * 집계된 키
+     *
+     * @param key 키
+     * @param count 누적값 (실제값 이상)
+     * @param error 최대 과대 추정치 (실제값 ≥ count - error)
+     */
+    public record HeavyHitter(String key, double count, double error) {
+
+        /**
+         * 실제로 누적되었음이 보장되는 값
+         */
+        public double guaranteedCount() {
+            return count - error;
+        }
+    }
+
+    private static final class Counter {
+        private final String key;
+        private double count;
+        private final double error;
+
+        private Counter(String key, double count, double error) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
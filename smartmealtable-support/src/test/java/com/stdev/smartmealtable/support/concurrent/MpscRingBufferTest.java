@@ -0,0 +1,117 @@
+package com.stdev.smartmealtable.support.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * MpscRingBuffer 단위 테스트
+ *
+ * 테스트 범위:
+ * 1. 용량 (2의 거듭제곱 올림, 가득 찼을 때 거부)
+ * 2. FIFO 순서 및 부분 drain
+ * 3. 다중 생산자 동시 offer 시 유실/중복 없음
+ */
+@DisplayName("MpscRingBuffer 단위 테스트")
+class MpscRingBufferTest {
+
+    @Test
+    @DisplayName("용량은 2의 거듭제곱으로 올리고, 가득 차면 offer가 실패한다")
+    void offer_RejectsWhenFull() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(3);
+
+        assertThat(buffer.capacity()).isEqualTo(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("넣은 순서대로 최대 개수만큼 꺼내고, 꺼낸 자리는 다시 쓸 수 있다")
+    void drain_FifoAndReusesSlots() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            buffer.offer(i);
+        }
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drain(drained::add, 3)).isEqualTo(3);
+        assertThat(drained).containsExactly(0, 1, 2);
+
+        assertThat(buffer.offer(4)).isTrue();
+        assertThat(buffer.offer(5)).isTrue();
+        assertThat(buffer.offer(6)).isFalse();
+
+        drained.clear();
+        assertThat(buffer.drain(drained::add, 10)).isEqualTo(3);
+        assertThat(drained).containsExactly(3, 4, 5);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("null은 넣을 수 없다")
+    void offer_RejectsNull() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+
+        assertThatThrownBy(() -> buffer.offer(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 넣어도 꺼낸 원소는 유실/중복 없이 정확하다")
+    void concurrentProducers_NoLossNoDuplicate() throws Exception {
+        int producers = 4;
+        int perProducer = 50_000;
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(1024);
+        BitSet seen = new BitSet(producers * perProducer);
+        AtomicInteger duplicates = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        try {
+            for (int p = 0; p < producers; p++) {
+                int base = p * perProducer;
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        while (!buffer.offer(base + i)) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+
+            int total = producers * perProducer;
+            int received = 0;
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (received < total && System.nanoTime() < deadline) {
+                received += buffer.drain(value -> {
+                    if (seen.get(value)) {
+                        duplicates.incrementAndGet();
+                    }
+                    seen.set(value);
+                }, 256);
+            }
+
+            assertThat(received).isEqualTo(total);
+            assertThat(duplicates.get()).isZero();
+            assertThat(seen.cardinality()).isEqualTo(total);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.stdev.smartmealtable.support.search.autocomplete;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AutocompleteTrie 단위 테스트
+ *
+ * 테스트 범위:
+ * 1. 임의 길이 prefix 조회 (간선 중간에서 끝나는 경우 포함)
+ * 2. 초성 prefix 조회
+ * 3. 인기도 순 상위 K개 선택
+ * 4. 정규화 (공백, 대소문자)
+ */
+@DisplayName("AutocompleteTrie 단위 테스트")
+class AutocompleteTrieTest {
+
+    private final AutocompleteTrie trie = AutocompleteTrie.builder(3)
+            .add(1L, "서울대학교", 100)
+            .add(2L, "서울시립대학교", 200)
+            .add(3L, "서울과학기술대학교", 150)
+            .add(4L, "서강대학교", 50)
+            .add(5L, "고려대학교", 300)
+            .add(6L, "BBQ 치킨", 10)
+            .build();
+
+    @Test
+    @DisplayName("prefix 조회: 인기도 높은 순")
+    void search_ByPrefix() {
+        assertThat(trie.search("서울", 10)).containsExactly(2L, 3L, 1L);
+        assertThat(trie.search("서", 10)).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("prefix 조회: 2글자보다 긴 prefix와 간선 중간에서 끝나는 prefix")
+    void search_LongPrefix() {
+        assertThat(trie.search("서울시립대", 10)).containsExactly(2L);
+        assertThat(trie.search("서울과학기", 10)).containsExactly(3L);
+        assertThat(trie.search("서울대학교병원", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("초성 조회")
+    void search_ByChosung() {
+        assertThat(trie.search("ㅅㅇ", 10)).containsExactly(2L, 3L, 1L);
+        assertThat(trie.search("ㄱㄹㄷ", 10)).containsExactly(5L);
+        assertThat(trie.search("ㅅㄱ", 10)).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("limit과 topK 중 작은 값만큼 반환")
+    void search_RespectsLimitAndTopK() {
+        assertThat(trie.search("서", 1)).containsExactly(2L);
+        assertThat(trie.search("ㅅ", 10)).hasSize(3);
+        assertThat(trie.search("서", 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("정규화: 공백과 대소문자 무시")
+    void search_Normalized() {
+        assertThat(trie.search("bbq치", 10)).containsExactly(6L);
+        assertThat(trie.search("서울 시립", 10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("같은 ID를 여러 번 추가해도 결과는 한 번만 포함")
+    void build_DeduplicatesIds() {
+        AutocompleteTrie duplicated = AutocompleteTrie.builder(10)
+                .add(1L, "김치찌개", 1)
+                .add(1L, "김치찌개", 5)
+                .add(2L, "김치볶음밥", 3)
+                .build();
+
+        assertThat(duplicated.search("김치", 10)).containsExactly(1L, 2L);
+        assertThat(duplicated.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("매칭되는 키가 없으면 빈 목록")
+    void search_NoMatch() {
+        assertThat(trie.search("부산", 10)).isEmpty();
+        assertThat(trie.search("", 10)).isEmpty();
+        assertThat(trie.search(null, 10)).isEmpty();
+    }
+}
@@ -0,0 +1,75 @@
+package com.stdev.smartmealtable.support.search.autocomplete;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TypoCandidateIndex 단위 테스트
+ *
+ * 테스트 범위:
+ * 1. 자모 단위 오타 허용 조회
+ * 2. 거리 가까운 순 정렬
+ * 3. 허용 거리 초과 제외
+ * 4. 같은 키를 가진 엔티티 처리
+ */
+@DisplayName("TypoCandidateIndex 단위 테스트")
+class TypoCandidateIndexTest {
+
+    private final TypoCandidateIndex index = TypoCandidateIndex.builder()
+            .add(1L, "김치찌개")
+            .add(2L, "김치볶음밥")
+            .add(3L, "된장찌개")
+            .add(4L, "닭갈비")
+            .add(5L, "서울대학교")
+            .build();
+
+    @Test
+    @DisplayName("모음 하나 오타는 거리 1로 매칭")
+    void search_VowelTypo() {
+        assertThat(index.search("김치찌게", 2, 10)).containsExactly(1L);
+        assertThat(index.search("닥갈비", 2, 10)).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("거리 가까운 순으로 반환")
+    void search_OrderedByDistance() {
+        TypoCandidateIndex ordered = TypoCandidateIndex.builder()
+                .add(1L, "서울대학")
+                .add(2L, "서울대학교")
+                .build();
+
+        // "서울대학교"와의 거리: 2L = 0, 1L = 2
+        assertThat(ordered.search("서울대학교", 2, 10)).containsExactly(2L, 1L);
+        assertThat(ordered.search("서울대학교", 2, 1)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("허용 거리를 넘으면 제외")
+    void search_ExceedsDistance() {
+        assertThat(index.search("부산대학교", 2, 10)).isEmpty();
+        assertThat(index.search("김치", 2, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 이름의 엔티티는 모두 반환")
+    void search_SameKey() {
+        TypoCandidateIndex duplicated = TypoCandidateIndex.builder()
+                .add(1L, "김밥천국")
+                .add(2L, "김밥 천국")
+                .add(1L, "김밥천국")
+                .build();
+
+        assertThat(duplicated.search("김밥천국", 2, 10)).containsExactly(1L, 2L);
+        assertThat(duplicated.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("빈 인덱스나 빈 키워드는 빈 목록")
+    void search_Empty() {
+        assertThat(TypoCandidateIndex.builder().build().search("김치", 2, 10)).isEmpty();
+        assertThat(index.search("", 2, 10)).isEmpty();
+        assertThat(index.search(null, 2, 10)).isEmpty();
+    }
+}
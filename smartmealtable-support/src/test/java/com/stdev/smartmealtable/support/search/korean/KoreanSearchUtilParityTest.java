@@ -0,0 +1,136 @@
+package com.stdev.smartmealtable.support.search.korean;
+
+import com.stdev.smartmealtable.support.search.korean.benchmark.LegacyKoreanSearchUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * KoreanSearchUtil 결과 일치 테스트
+ *
+ * 무작위 문자열 쌍에 대해 최적화 이전 구현({@link LegacyKoreanSearchUtil})과 결과가 같은지 확인합니다.
+ * 시드를 고정하므로 실패하면 같은 입력으로 재현됩니다.
+ */
+@DisplayName("KoreanSearchUtil 결과 일치 테스트")
+class KoreanSearchUtilParityTest {
+
+    private static final int PAIR_COUNT = 100_000;
+    private static final long SEED = 20251109L;
+
+    // 일치 케이스가 충분히 나오도록 자주 쓰는 음절을 섞음
+    private static final String COMMON_SYLLABLES = "서울대학교김치찌개고려삼성전자맛집한식";
+    private static final String CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String OTHERS = "abcABC123 ㅏㅣㄳ-";
+
+    private final Random random = new Random(SEED);
+
+    @Test
+    @DisplayName("무작위 문자열 쌍에서 이전 구현과 결과가 같다")
+    void matchesLegacyImplementation() {
+        for (int i = 0; i < PAIR_COUNT; i++) {
+            String target = randomText(12);
+            String other = random.nextBoolean() ? mutate(target) : randomText(12);
+            String chosungQuery = chosungQuery(target);
+            int maxDistance = random.nextInt(4);
+
+            assertThat(KoreanSearchUtil.extractChosung(target))
+                    .as("extractChosung(%s)", target)
+                    .isEqualTo(LegacyKoreanSearchUtil.extractChosung(target));
+            assertThat(KoreanSearchUtil.isChosung(chosungQuery))
+                    .as("isChosung(%s)", chosungQuery)
+                    .isEqualTo(LegacyKoreanSearchUtil.isChosung(chosungQuery));
+            assertThat(KoreanSearchUtil.matchesChosung(chosungQuery, target))
+                    .as("matchesChosung(%s, %s)", chosungQuery, target)
+                    .isEqualTo(LegacyKoreanSearchUtil.matchesChosung(chosungQuery, target));
+            assertThat(KoreanSearchUtil.startsWithChosung(chosungQuery, target))
+                    .as("startsWithChosung(%s, %s)", chosungQuery, target)
+                    .isEqualTo(LegacyKoreanSearchUtil.startsWithChosung(chosungQuery, target));
+            assertThat(KoreanSearchUtil.calculateEditDistance(other, target))
+                    .as("calculateEditDistance(%s, %s)", other, target)
+                    .isEqualTo(LegacyKoreanSearchUtil.calculateEditDistance(other, target));
+            assertThat(KoreanSearchUtil.decomposeJamo(target))
+                    .as("decomposeJamo(%s)", target)
+                    .isEqualTo(LegacyKoreanSearchUtil.decomposeJamo(target));
+            assertThat(KoreanSearchUtil.calculateJamoEditDistance(other, target, maxDistance))
+                    .as("calculateJamoEditDistance(%s, %s, %d)", other, target, maxDistance)
+                    .isEqualTo(LegacyKoreanSearchUtil.calculateJamoEditDistance(other, target, maxDistance));
+            assertThat(KoreanSearchUtil.matchesWithTypoTolerance(other, target, maxDistance))
+                    .as("matchesWithTypoTolerance(%s, %s, %d)", other, target, maxDistance)
+                    .isEqualTo(LegacyKoreanSearchUtil.matchesWithTypoTolerance(other, target, maxDistance));
+        }
+    }
+
+    @Test
+    @DisplayName("버퍼 보관 한도보다 긴 입력에서도 이전 구현과 결과가 같다")
+    void matchesLegacyImplementationForLongInput() {
+        for (int i = 0; i < 200; i++) {
+            String target = randomText(400);
+            String other = mutate(target);
+
+            assertThat(KoreanSearchUtil.extractChosung(target))
+                    .isEqualTo(LegacyKoreanSearchUtil.extractChosung(target));
+            assertThat(KoreanSearchUtil.calculateEditDistance(other, target))
+                    .isEqualTo(LegacyKoreanSearchUtil.calculateEditDistance(other, target));
+            assertThat(KoreanSearchUtil.calculateJamoEditDistance(other, target, 3))
+                    .isEqualTo(LegacyKoreanSearchUtil.calculateJamoEditDistance(other, target, 3));
+        }
+    }
+
+    private String randomText(int maxLength) {
+        int length = random.nextInt(maxLength + 1);
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(randomChar());
+        }
+        return text.toString();
+    }
+
+    private char randomChar() {
+        int kind = random.nextInt(10);
+        if (kind < 4) {
+            return COMMON_SYLLABLES.charAt(random.nextInt(COMMON_SYLLABLES.length()));
+        }
+        if (kind < 7) {
+            return (char) (0xAC00 + random.nextInt(0xD7A3 - 0xAC00 + 1));
+        }
+        if (kind < 8) {
+            return CHOSUNG.charAt(random.nextInt(CHOSUNG.length()));
+        }
+        return OTHERS.charAt(random.nextInt(OTHERS.length()));
+    }
+
+    /**
+     * 대상 문자열에 삽입/삭제/대체를 몇 번 적용
+     */
+    private String mutate(String text) {
+        StringBuilder mutated = new StringBuilder(text);
+        int edits = random.nextInt(4);
+        for (int i = 0; i < edits; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || mutated.isEmpty()) {
+                mutated.insert(random.nextInt(mutated.length() + 1), randomChar());
+            } else if (operation == 1) {
+                mutated.deleteCharAt(random.nextInt(mutated.length()));
+            } else {
+                mutated.setCharAt(random.nextInt(mutated.length()), randomChar());
+            }
+        }
+        return mutated.toString();
+    }
+
+    /**
+     * 대상의 초성 일부(매칭 케이스) 또는 무작위 문자열(불일치·비초성 케이스)
+     */
+    private String chosungQuery(String target) {
+        String chosung = LegacyKoreanSearchUtil.extractChosung(target);
+        if (chosung.isEmpty() || random.nextInt(3) == 0) {
+            return randomText(4);
+        }
+        int start = random.nextInt(chosung.length());
+        int end = start + 1 + random.nextInt(chosung.length() - start);
+        return mutate(chosung.substring(start, end));
+    }
+}
@@ -207,6 +207,78 @@ class KoreanSearchUtilTest {
         System.out.printf("✅ 편집 거리 계산 평균 실행 시간: %.2f μs%n", avgTime / 1000.0);
     }
 
+    // ==================== 버퍼 재사용 / 사전 계산 테스트 ====================
+
+    @Test
+    @DisplayName("초성 추출: 주어진 버퍼 뒤에 추가")
+    void appendChosung_ReusesBuffer() {
+        StringBuilder buffer = new StringBuilder("ㅋ");
+        KoreanSearchUtil.appendChosung("서울대", buffer);
+        assertThat(buffer.toString()).isEqualTo("ㅋㅅㅇㄷ");
+    }
+
+    @Test
+    @DisplayName("초성 문자 판별: 19개 초성만 true")
+    void isChosungChar() {
+        assertThat(KoreanSearchUtil.isChosungChar('ㄱ')).isTrue();
+        assertThat(KoreanSearchUtil.isChosungChar('ㅎ')).isTrue();
+        assertThat(KoreanSearchUtil.isChosungChar('ㄳ')).isFalse(); // 종성 전용 자음
+        assertThat(KoreanSearchUtil.isChosungChar('ㅏ')).isFalse();
+        assertThat(KoreanSearchUtil.isChosungChar('가')).isFalse();
+    }
+
+    @Test
+    @DisplayName("정규화: 공백 제거, 소문자 변환")
+    void normalize() {
+        assertThat(KoreanSearchUtil.normalize(" BBQ  치킨 ")).isEqualTo("bbq치킨");
+        assertThat(KoreanSearchUtil.normalize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("SearchableName: 미리 계산한 초성으로 매칭 (KoreanSearchUtil과 동일한 결과)")
+    void searchableName() {
+        SearchableName name = SearchableName.of("서울대학교 본교");
+
+        assertThat(name.normalized()).isEqualTo("서울대학교본교");
+        assertThat(name.chosung()).isEqualTo("ㅅㅇㄷㅎㄱㅂㄱ");
+        assertThat(name.containsChosung("ㄷㅎㄱ")).isEqualTo(KoreanSearchUtil.matchesChosung("ㄷㅎㄱ", "서울대학교 본교"));
+        assertThat(name.startsWithChosung("ㅅㅇ")).isTrue();
+        assertThat(name.startsWithChosung("ㄷㅎ")).isFalse();
+        assertThat(name.containsChosung("")).isFalse();
+    }
+
+    // ==================== 자모 편집 거리 테스트 ====================
+
+    @Test
+    @DisplayName("자모 분해: 초성/중성/종성 분리, 공백 제거, 소문자 변환")
+    void decomposeJamo() {
+        assertThat(KoreanSearchUtil.decomposeJamo("김치")).isEqualTo("ㄱㅣㅁㅊㅣ");
+        assertThat(KoreanSearchUtil.decomposeJamo("닭")).isEqualTo("ㄷㅏㄺ");
+        assertThat(KoreanSearchUtil.decomposeJamo("BBQ 치킨")).isEqualTo("bbqㅊㅣㅋㅣㄴ");
+        assertThat(KoreanSearchUtil.decomposeJamo(null)).isEmpty();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "김치찌개, 김치찌게, 1",     // 모음 하나 오타
+        "닭갈비, 닥갈비, 1",         // 받침 하나 오타
+        "서울대학교, 서울대학, 2",   // 마지막 음절(ㄱ, ㅛ) 누락
+        "카레, 커리, 2"              // 모음 두 개 오타
+    })
+    @DisplayName("자모 편집 거리: 음절 안의 오타는 자모 하나당 1")
+    void calculateJamoEditDistance(String s1, String s2, int expected) {
+        assertThat(KoreanSearchUtil.calculateJamoEditDistance(s1, s2, 2)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("상한 편집 거리: 상한을 넘으면 maxDistance + 1")
+    void calculateBoundedEditDistance_ExceedsBound() {
+        assertThat(KoreanSearchUtil.calculateBoundedEditDistance("abcdef", "abcxyz", 2)).isEqualTo(3);
+        assertThat(KoreanSearchUtil.calculateBoundedEditDistance("ab", "abcdef", 2)).isEqualTo(3);
+        assertThat(KoreanSearchUtil.calculateBoundedEditDistance("abcdef", "abxdef", 2)).isEqualTo(1);
+        assertThat(KoreanSearchUtil.calculateBoundedEditDistance("", "ab", 2)).isEqualTo(2);
+    }
+
     // ==================== 오타 허용 매칭 테스트 ====================
     
     @Test
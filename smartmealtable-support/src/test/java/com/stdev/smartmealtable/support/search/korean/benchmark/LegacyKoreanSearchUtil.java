@@ -0,0 +1,201 @@
+package com.stdev.smartmealtable.support.search.korean.benchmark;
+
+/**
+ * 최적화 이전 KoreanSearchUtil 구현 (벤치마크 비교 기준, 결과 일치 테스트 기준)
+ *
+ * <p>toCharArray + StringBuilder 초성 추출, 초성 배열 선형 탐색, 2차원 DP 편집 거리를 그대로 유지합니다.</p>
+ * <p>jmh 소스셋은 테스트 클래스를 포함하므로(includeTests) 벤치마크와 테스트가 이 클래스를 함께 사용합니다.</p>
+ */
+public final class LegacyKoreanSearchUtil {
+
+    private static final int KOREAN_UNICODE_START = 0xAC00;
+    private static final int KOREAN_UNICODE_END = 0xD7A3;
+
+    private static final char[] CHOSUNG = {
+        'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+        'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private static final int JONGSUNG_COUNT = 28;
+    private static final int JUNGSUNG_JONGSUNG_COUNT = 21 * JONGSUNG_COUNT;
+
+    private static final char JUNGSUNG_START = 'ㅏ';
+
+    private static final char[] JONGSUNG = {
+        'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ', 'ㄻ',
+        'ㄼ', 'ㄽ', 'ㄾ', 'ㄿ', 'ㅀ', 'ㅁ', 'ㅂ', 'ㅄ', 'ㅅ', 'ㅆ',
+        'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private LegacyKoreanSearchUtil() {
+    }
+
+    public static String extractChosung(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder chosung = new StringBuilder();
+        for (char ch : text.toCharArray()) {
+            if (isKorean(ch)) {
+                chosung.append(CHOSUNG[(ch - KOREAN_UNICODE_START) / JUNGSUNG_JONGSUNG_COUNT]);
+            }
+        }
+        return chosung.toString();
+    }
+
+    public static boolean matchesChosung(String chosungQuery, String targetText) {
+        if (chosungQuery == null || chosungQuery.isEmpty()) {
+            return false;
+        }
+        return extractChosung(targetText).contains(chosungQuery);
+    }
+
+    public static boolean startsWithChosung(String chosungQuery, String targetText) {
+        if (chosungQuery == null || chosungQuery.isEmpty()) {
+            return false;
+        }
+        return extractChosung(targetText).startsWith(chosungQuery);
+    }
+
+    public static boolean isChosung(String text) {
+        if (text == null || text.isEmpty()) {
+            return false;
+        }
+
+        for (char ch : text.toCharArray()) {
+            boolean isChosungChar = false;
+            for (char chosung : CHOSUNG) {
+                if (ch == chosung) {
+                    isChosungChar = true;
+                    break;
+                }
+            }
+            if (!isChosungChar) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static int calculateEditDistance(String s1, String s2) {
+        if (s1.equals(s2)) {
+            return 0;
+        }
+
+        int len1 = s1.length();
+        int len2 = s2.length();
+        if (len1 == 0) return len2;
+        if (len2 == 0) return len1;
+
+        int[][] dp = new int[len1 + 1][len2 + 1];
+        for (int i = 0; i <= len1; i++) {
+            dp[i][0] = i;
+        }
+        for (int j = 0; j <= len2; j++) {
+            dp[0][j] = j;
+        }
+
+        for (int i = 1; i <= len1; i++) {
+            for (int j = 1; j <= len2; j++) {
+                int cost = (s1.charAt(i - 1) == s2.charAt(j - 1)) ? 0 : 1;
+                dp[i][j] = Math.min(Math.min(dp[i - 1][j] + 1, dp[i][j - 1] + 1), dp[i - 1][j - 1] + cost);
+            }
+        }
+        return dp[len1][len2];
+    }
+
+    public static String decomposeJamo(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder jamo = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (Character.isWhitespace(ch)) {
+                continue;
+            }
+            if (!isKorean(ch)) {
+                jamo.append(Character.toLowerCase(ch));
+                continue;
+            }
+
+            int unicode = ch - KOREAN_UNICODE_START;
+            jamo.append(CHOSUNG[unicode / JUNGSUNG_JONGSUNG_COUNT]);
+            jamo.append((char) (JUNGSUNG_START + (unicode % JUNGSUNG_JONGSUNG_COUNT) / JONGSUNG_COUNT));
+            int jongsungIndex = unicode % JONGSUNG_COUNT;
+            if (jongsungIndex > 0) {
+                jamo.append(JONGSUNG[jongsungIndex - 1]);
+            }
+        }
+        return jamo.toString();
+    }
+
+    public static int calculateJamoEditDistance(String s1, String s2, int maxDistance) {
+        return calculateBoundedEditDistance(decomposeJamo(s1), decomposeJamo(s2), maxDistance);
+    }
+
+    public static int calculateBoundedEditDistance(String s1, String s2, int maxDistance) {
+        int len1 = s1.length();
+        int len2 = s2.length();
+        int exceeded = maxDistance + 1;
+        if (Math.abs(len1 - len2) > maxDistance) {
+            return exceeded;
+        }
+        if (len1 == 0 || len2 == 0) {
+            return Math.max(len1, len2);
+        }
+
+        int[] previous = new int[len2 + 1];
+        int[] current = new int[len2 + 1];
+        for (int j = 0; j <= len2; j++) {
+            previous[j] = j <= maxDistance ? j : exceeded;
+        }
+
+        for (int i = 1; i <= len1; i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(len2, i + maxDistance);
+            current[0] = i <= maxDistance ? i : exceeded;
+            if (from > 1) {
+                current[from - 1] = exceeded;
+            }
+
+            int rowMin = current[0];
+            char ch = s1.charAt(i - 1);
+            for (int j = from; j <= to; j++) {
+                int cost = ch == s2.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                current[j] = Math.min(value, exceeded);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (to < len2) {
+                current[to + 1] = exceeded;
+            }
+
+            if (rowMin > maxDistance) {
+                return exceeded;
+            }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        return Math.min(previous[len2], exceeded);
+    }
+
+    public static boolean matchesWithTypoTolerance(String query, String target, int maxDistance) {
+        if (query == null || target == null) {
+            return false;
+        }
+        if (target.contains(query)) {
+            return true;
+        }
+        return calculateEditDistance(query, target) <= maxDistance;
+    }
+
+    private static boolean isKorean(char ch) {
+        return ch >= KOREAN_UNICODE_START && ch <= KOREAN_UNICODE_END;
+    }
+}
@@ -0,0 +1,104 @@
+package com.stdev.smartmealtable.support.search.ranking;
+
+import com.stdev.smartmealtable.support.search.ranking.SpaceSavingCounter.HeavyHitter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * SpaceSavingCounter 단위 테스트
+ *
+ * 테스트 범위:
+ * 1. 용량 이내 정확한 누적
+ * 2. 가득 찼을 때 최소 카운터 교체와 오차 기록
+ * 3. 빈도 상위 키 보장 및 오차 범위
+ * 4. drain 후 초기화
+ */
+@DisplayName("SpaceSavingCounter 단위 테스트")
+class SpaceSavingCounterTest {
+
+    @Test
+    @DisplayName("용량 이내에서는 정확하게 누적하고 내림차순으로 반환")
+    void add_ExactWithinCapacity() {
+        SpaceSavingCounter counter = new SpaceSavingCounter(3);
+        counter.add("김치찌개", 1.0);
+        counter.add("김밥", 0.5);
+        counter.add("김치찌개", 2.0);
+
+        assertThat(counter.drain())
+                .extracting(HeavyHitter::key, HeavyHitter::count, HeavyHitter::error)
+                .containsExactly(
+                        tuple("김치찌개", 3.0, 0.0),
+                        tuple("김밥", 0.5, 0.0)
+                );
+    }
+
+    @Test
+    @DisplayName("가득 차면 가장 작은 카운터를 넘겨받고 그 값을 오차로 기록")
+    void add_EvictsMinimum() {
+        SpaceSavingCounter counter = new SpaceSavingCounter(2);
+        counter.add("김치찌개", 3);
+        counter.add("김밥", 1);
+        counter.add("김치전", 1);
+
+        List<HeavyHitter> hitters = counter.drain();
+
+        assertThat(hitters).extracting(HeavyHitter::key).containsExactly("김치찌개", "김치전");
+        HeavyHitter replaced = hitters.get(1);
+        assertThat(replaced.count()).isEqualTo(2.0);
+        assertThat(replaced.error()).isEqualTo(1.0);
+        assertThat(replaced.guaranteedCount()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("긴 꼬리 분포에서도 빈도 상위 키는 남고 실제값은 오차 범위 안에 있음")
+    void add_KeepsHeavyHitters() {
+        SpaceSavingCounter counter = new SpaceSavingCounter(20);
+        Map<String, Double> exact = new HashMap<>();
+        Random random = new Random(7);
+        double total = 0;
+        for (int i = 0; i < 20_000; i++) {
+            // 키 0~4는 자주, 나머지는 긴 꼬리
+            String key = random.nextInt(10) < 6 ? "hot" + random.nextInt(5) : "tail" + random.nextInt(5_000);
+            counter.add(key, 1.0);
+            exact.merge(key, 1.0, Double::sum);
+            total += 1.0;
+        }
+
+        double threshold = total / 20;
+        List<HeavyHitter> hitters = counter.drain();
+        Map<String, HeavyHitter> byKey = new HashMap<>();
+        hitters.forEach(hitter -> byKey.put(hitter.key(), hitter));
+
+        exact.forEach((key, value) -> {
+            if (value > threshold) {
+                assertThat(byKey).containsKey(key);
+            }
+        });
+        for (HeavyHitter hitter : hitters) {
+            double actual = exact.get(hitter.key());
+            assertThat(actual).isBetween(hitter.guaranteedCount(), hitter.count());
+        }
+        assertThat(hitters.subList(0, 5)).extracting(HeavyHitter::key)
+                .containsExactlyInAnyOrder("hot0", "hot1", "hot2", "hot3", "hot4");
+    }
+
+    @Test
+    @DisplayName("drain 후에는 비어 있음")
+    void drain_Resets() {
+        SpaceSavingCounter counter = new SpaceSavingCounter(2);
+        counter.add("김치찌개", 1);
+
+        counter.drain();
+
+        assertThat(counter.isEmpty()).isTrue();
+        assertThat(counter.drain()).isEmpty();
+    }
+}